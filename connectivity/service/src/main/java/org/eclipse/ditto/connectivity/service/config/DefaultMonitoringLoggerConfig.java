@@ -33,6 +33,7 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
 
     private final int successCapacity;
     private final int failureCapacity;
+    private final long nodeCapacityInBytes;
     private final long maxLogSizeInBytes;
     private final Duration logDuration;
     private final Duration loggingActiveCheckInterval;
@@ -41,6 +42,7 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
     private DefaultMonitoringLoggerConfig(final ConfigWithFallback config) {
         successCapacity = config.getNonNegativeIntOrThrow(MonitoringLoggerConfigValue.SUCCESS_CAPACITY);
         failureCapacity = config.getNonNegativeIntOrThrow(MonitoringLoggerConfigValue.FAILURE_CAPACITY);
+        nodeCapacityInBytes = config.getNonNegativeLongOrThrow(MonitoringLoggerConfigValue.NODE_CAPACITY_BYTES);
         maxLogSizeInBytes = config.getNonNegativeLongOrThrow(MonitoringLoggerConfigValue.MAX_LOG_SIZE_BYTES);
         logDuration = config.getNonNegativeAndNonZeroDurationOrThrow(MonitoringLoggerConfigValue.LOG_DURATION);
         loggingActiveCheckInterval =
@@ -70,6 +72,11 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
         return failureCapacity;
     }
 
+    @Override
+    public long nodeCapacityInBytes() {
+        return nodeCapacityInBytes;
+    }
+
     @Override
     public long maxLogSizeInBytes() {
         return maxLogSizeInBytes;
@@ -101,6 +108,7 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
         final DefaultMonitoringLoggerConfig that = (DefaultMonitoringLoggerConfig) o;
         return successCapacity == that.successCapacity &&
                 failureCapacity == that.failureCapacity &&
+                nodeCapacityInBytes == that.nodeCapacityInBytes &&
                 maxLogSizeInBytes == that.maxLogSizeInBytes &&
                 Objects.equals(logDuration, that.logDuration) &&
                 Objects.equals(loggingActiveCheckInterval, that.loggingActiveCheckInterval) &&
@@ -109,7 +117,7 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
 
     @Override
     public int hashCode() {
-        return Objects.hash(successCapacity, failureCapacity, maxLogSizeInBytes, logDuration,
+        return Objects.hash(successCapacity, failureCapacity, nodeCapacityInBytes, maxLogSizeInBytes, logDuration,
                 loggingActiveCheckInterval, loggerPublisherConfig);
     }
 
@@ -118,6 +126,7 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
         return getClass().getSimpleName() + " [" +
                 "successCapacity=" + successCapacity +
                 ", failureCapacity=" + failureCapacity +
+                ", nodeCapacityInBytes=" + nodeCapacityInBytes +
                 ", maxLogSizeInBytes=" + maxLogSizeInBytes +
                 ", logDuration=" + logDuration +
                 ", loggingActiveCheckInterval=" + loggingActiveCheckInterval +
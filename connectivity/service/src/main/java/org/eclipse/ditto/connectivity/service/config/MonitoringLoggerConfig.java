@@ -41,6 +41,15 @@ public interface MonitoringLoggerConfig {
      */
     int failureCapacity();
 
+    /**
+     * Returns the approximate size in bytes of the logs stored on this node for all connections together. Logs
+     * exceeding it are discarded until stored logs are cleared, e.g. because logging of their connection expired.
+     *
+     * @return the node capacity in bytes.
+     * @since 3.2.0
+     */
+    long nodeCapacityInBytes();
+
     /**
      * Returns the maximum length of all log entries JSON representation.
      *
@@ -87,6 +96,11 @@ public interface MonitoringLoggerConfig {
          */
         FAILURE_CAPACITY("failureCapacity", 10),
 
+        /**
+         * The approximate size in bytes of the logs stored on this node for all connections together.
+         */
+        NODE_CAPACITY_BYTES("nodeCapacityBytes", 50_000_000L),
+
         /**
          * The maximum length of aggregated log entries in JSON representation. This is related to maximum-frame-size.
          */
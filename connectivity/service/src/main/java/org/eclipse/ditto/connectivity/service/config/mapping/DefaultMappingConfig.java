@@ -34,6 +34,10 @@ public final class DefaultMappingConfig implements MappingConfig {
     private final int bufferSize;
     private final int parallelism;
     private final int maxPoolSize;
+    private final int maxBatchSize;
+    private final boolean partitioned;
+    private final String inboundPartitionKey;
+    private final String outboundPartitionKey;
     private final boolean publishFailedEnrichments;
     private final JavaScriptConfig javaScriptConfig;
     private final MapperLimitsConfig mapperLimitsConfig;
@@ -42,6 +46,10 @@ public final class DefaultMappingConfig implements MappingConfig {
         bufferSize = config.getNonNegativeIntOrThrow(MappingConfigValue.BUFFER_SIZE);
         parallelism = config.getPositiveIntOrThrow(MappingConfigValue.PARALLELISM);
         maxPoolSize = config.getPositiveIntOrThrow(MappingConfigValue.MAX_POOL_SIZE);
+        maxBatchSize = config.getPositiveIntOrThrow(MappingConfigValue.MAX_BATCH_SIZE);
+        partitioned = config.getBoolean(MappingConfigValue.PARTITIONED.getConfigPath());
+        inboundPartitionKey = config.getString(MappingConfigValue.INBOUND_PARTITION_KEY.getConfigPath());
+        outboundPartitionKey = config.getString(MappingConfigValue.OUTBOUND_PARTITION_KEY.getConfigPath());
         publishFailedEnrichments = config.getBoolean(MappingConfigValue.PUBLISH_FAILED_ENRICHMENTS.getConfigPath());
         mapperLimitsConfig = DefaultMapperLimitsConfig.of(config);
         javaScriptConfig = DefaultJavaScriptConfig.of(config);
@@ -76,6 +84,26 @@ public final class DefaultMappingConfig implements MappingConfig {
         return maxPoolSize;
     }
 
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        return partitioned;
+    }
+
+    @Override
+    public String getInboundPartitionKey() {
+        return inboundPartitionKey;
+    }
+
+    @Override
+    public String getOutboundPartitionKey() {
+        return outboundPartitionKey;
+    }
+
     @Override
     public boolean getPublishFailedEnrichments() {
         return publishFailedEnrichments;
@@ -103,6 +131,10 @@ public final class DefaultMappingConfig implements MappingConfig {
         return bufferSize == that.bufferSize &&
                 parallelism == that.parallelism &&
                 maxPoolSize == that.maxPoolSize &&
+                maxBatchSize == that.maxBatchSize &&
+                partitioned == that.partitioned &&
+                Objects.equals(inboundPartitionKey, that.inboundPartitionKey) &&
+                Objects.equals(outboundPartitionKey, that.outboundPartitionKey) &&
                 publishFailedEnrichments == that.publishFailedEnrichments &&
                 Objects.equals(javaScriptConfig, that.javaScriptConfig) &&
                 Objects.equals(mapperLimitsConfig, that.mapperLimitsConfig);
@@ -110,7 +142,8 @@ public final class DefaultMappingConfig implements MappingConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(bufferSize, parallelism, maxPoolSize, publishFailedEnrichments, javaScriptConfig, mapperLimitsConfig);
+        return Objects.hash(bufferSize, parallelism, maxPoolSize, maxBatchSize, partitioned, inboundPartitionKey,
+                outboundPartitionKey, publishFailedEnrichments, javaScriptConfig, mapperLimitsConfig);
     }
 
     @Override
@@ -119,6 +152,10 @@ public final class DefaultMappingConfig implements MappingConfig {
                 "bufferSize=" + bufferSize +
                 ", parallelism=" + parallelism +
                 ", maxPoolSize=" + maxPoolSize +
+                ", maxBatchSize=" + maxBatchSize +
+                ", partitioned=" + partitioned +
+                ", inboundPartitionKey=" + inboundPartitionKey +
+                ", outboundPartitionKey=" + outboundPartitionKey +
                 ", publishFailedEnrichments=" + publishFailedEnrichments +
                 ", javaScriptConfig=" + javaScriptConfig +
                 ", mapperLimitsConfig=" + mapperLimitsConfig +
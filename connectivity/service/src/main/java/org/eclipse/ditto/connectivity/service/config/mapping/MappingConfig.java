@@ -46,6 +46,44 @@ public interface MappingConfig {
      */
     int getMaxPoolSize();
 
+    /**
+     * Returns the maximum number of messages which are mapped together in one batch. Messages are only batched if
+     * they queue up because all mapping processors are busy.
+     *
+     * @return the max batch size.
+     * @since 3.2.0
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Returns whether messages are mapped in lanes partitioned by a key instead of in one stream preserving the order
+     * of all messages. Each lane preserves the order of its messages, so messages with the same key are mapped in
+     * order. A slow message delays the messages of its own lane first; the other lanes only wait once the buffer in
+     * front of its lane is full.
+     *
+     * @return whether mapping is partitioned.
+     * @since 3.2.0
+     */
+    boolean isPartitioned();
+
+    /**
+     * Returns the placeholder expression resolving the partition key of inbound messages, e.g. a header containing
+     * the device ID. Inbound messages without resolvable key all take the same lane and thus keep their order.
+     *
+     * @return the partition key expression of inbound messages.
+     * @since 3.2.0
+     */
+    String getInboundPartitionKey();
+
+    /**
+     * Returns the placeholder expression resolving the partition key of outbound signals, e.g. the thing ID.
+     * Outbound signals without resolvable key all take the same lane and thus keep their order.
+     *
+     * @return the partition key expression of outbound signals.
+     * @since 3.2.0
+     */
+    String getOutboundPartitionKey();
+
     /**
      * @return whether messages with failed enrichments should be published.
      */
@@ -86,6 +124,26 @@ public interface MappingConfig {
          */
         MAX_POOL_SIZE("max-pool-size", 5),
 
+        /**
+         * The maximum number of messages mapped together in one batch.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 16),
+
+        /**
+         * Whether messages are mapped in lanes partitioned by a key.
+         */
+        PARTITIONED("partitioned", false),
+
+        /**
+         * The placeholder expression resolving the partition key of inbound messages.
+         */
+        INBOUND_PARTITION_KEY("inbound-partition-key", "{{ header:device_id }}"),
+
+        /**
+         * The placeholder expression resolving the partition key of outbound signals.
+         */
+        OUTBOUND_PARTITION_KEY("outbound-partition-key", "{{ thing:id }}"),
+
         /**
          * If messages with failed enrichments should be published.
          */
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.mapping;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Thrown if mapping a batch of messages failed at one of its messages. It carries the results of the messages mapped
+ * before the failing one, so that callers neither have to map them again nor lose state changes a stateful mapper
+ * made while mapping them.
+ *
+ * @since 3.2.0
+ */
+public final class BatchMappingFailedException extends RuntimeException {
+
+    private static final long serialVersionUID = -2958418726014350213L;
+
+    private final int failedIndex;
+    private final transient List<?> results;
+
+    /**
+     * Constructs a new {@code BatchMappingFailedException} object.
+     *
+     * @param failedIndex the index of the message of the batch which could not be mapped.
+     * @param results the mapping results of the messages before {@code failedIndex} in the order of the batch.
+     * @param cause the exception which occurred when mapping the message at {@code failedIndex}.
+     * @throws NullPointerException if {@code results} or {@code cause} is {@code null}.
+     * @throws IllegalArgumentException if {@code results} does not contain exactly {@code failedIndex} elements.
+     */
+    public BatchMappingFailedException(final int failedIndex, final List<?> results, final Throwable cause) {
+        super("Mapping of the message at index <" + failedIndex + "> of the batch failed.", checkNotNull(cause, "cause"));
+        checkNotNull(results, "results");
+        if (results.size() != failedIndex) {
+            throw new IllegalArgumentException("Expected <" + failedIndex + "> results but got <" + results.size() +
+                    ">!");
+        }
+        this.failedIndex = failedIndex;
+        this.results = Collections.unmodifiableList(new ArrayList<>(results));
+    }
+
+    /**
+     * Applies the passed mapping to each of the passed inputs in their order.
+     *
+     * @param inputs the inputs to map.
+     * @param mapping the mapping to apply to each input.
+     * @param <I> the type of the inputs.
+     * @param <O> the type of the outputs.
+     * @return the outputs in the order of the inputs.
+     * @throws BatchMappingFailedException if {@code mapping} threw a RuntimeException for one of the inputs. It
+     * carries the outputs of the inputs before the failing one; the inputs after it are not mapped.
+     */
+    public static <I, O> List<O> mapEach(final List<I> inputs, final Function<? super I, ? extends O> mapping) {
+        final List<O> results = new ArrayList<>(inputs.size());
+        for (final I input : inputs) {
+            try {
+                results.add(mapping.apply(input));
+            } catch (final RuntimeException e) {
+                throw new BatchMappingFailedException(results.size(), results, e);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @return the index of the message of the batch which could not be mapped.
+     */
+    public int getFailedIndex() {
+        return failedIndex;
+    }
+
+    /**
+     * Returns the mapping results of the messages before the failed one in the order of the batch.
+     *
+     * @param <T> the type of the mapping results.
+     * @return the results of the messages mapped before the failed one.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getResults() {
+        return (List<T>) results;
+    }
+
+}
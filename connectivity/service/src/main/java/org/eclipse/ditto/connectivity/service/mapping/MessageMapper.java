@@ -120,6 +120,38 @@ public interface MessageMapper extends DittoExtensionPoint {
      */
     List<ExternalMessage> map(Adaptable adaptable);
 
+    /**
+     * Maps a batch of {@link ExternalMessage}s to {@link Adaptable}s. Mappers which can map several messages at once
+     * cheaper than one by one, e.g. because they have to enter a script context for each call, should override this
+     * method.
+     *
+     * @param messages the ExternalMessages to map
+     * @return for each of the {@code messages} in the same order the mapped Adaptables or an empty List if the
+     * ExternalMessage should not be mapped after all
+     * @throws BatchMappingFailedException if one of the messages can not be mapped. It carries the results of the
+     * messages before the failing one and the cause of the failure; the messages after it are not mapped.
+     * @since 3.2.0
+     */
+    default List<List<Adaptable>> mapBatch(final List<ExternalMessage> messages) {
+        return BatchMappingFailedException.mapEach(messages, this::map);
+    }
+
+    /**
+     * Maps a batch of {@link Adaptable}s to {@link ExternalMessage}s. Mappers which can map several adaptables at once
+     * cheaper than one by one, e.g. because they have to enter a script context for each call, should override this
+     * method.
+     *
+     * @param adaptables the Adaptables to map
+     * @return for each of the {@code adaptables} in the same order the ExternalMessages or an empty List if the
+     * Adaptable should not be mapped after all
+     * @throws BatchMappingFailedException if one of the adaptables can not be mapped. It carries the results of the
+     * adaptables before the failing one and the cause of the failure; the adaptables after it are not mapped.
+     * @since 3.2.0
+     */
+    default List<List<ExternalMessage>> mapAdaptableBatch(final List<Adaptable> adaptables) {
+        return BatchMappingFailedException.mapEach(adaptables, this::map);
+    }
+
     /**
      * @return a map of default options for this mapper
      */
@@ -14,10 +14,12 @@ package org.eclipse.ditto.connectivity.service.mapping;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.UnaryOperator;
 
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
@@ -125,9 +127,56 @@ final class WrappingMessageMapper implements MessageMapper {
         return delegate.getAdditionalInboundHeaders(message);
     }
 
+    @Override
+    public List<List<Adaptable>> mapBatch(final List<ExternalMessage> messages) {
+        try {
+            return checkBatch(delegate.mapBatch(messages), (i, result) ->
+                    checkMaxMappedMessagesLimit(result, inboundMessageLimit, messages.get(i).getInternalHeaders()));
+        } catch (final BatchMappingFailedException e) {
+            final List<List<Adaptable>> checkedResults = checkBatch(e.getResults(), (i, result) ->
+                    checkMaxMappedMessagesLimit(result, inboundMessageLimit, messages.get(i).getInternalHeaders()));
+            throw new BatchMappingFailedException(e.getFailedIndex(), checkedResults, e.getCause());
+        }
+    }
+
     @Override
     public List<ExternalMessage> map(final Adaptable adaptable) {
-        final var externalMessages = delegate.map(adaptable);
+        return checkOutboundMappingResult(adaptable, delegate.map(adaptable));
+    }
+
+    @Override
+    public List<List<ExternalMessage>> mapAdaptableBatch(final List<Adaptable> adaptables) {
+        try {
+            return checkBatch(delegate.mapAdaptableBatch(adaptables),
+                    (i, result) -> checkOutboundMappingResult(adaptables.get(i), result));
+        } catch (final BatchMappingFailedException e) {
+            final List<List<ExternalMessage>> checkedResults = checkBatch(e.getResults(),
+                    (i, result) -> checkOutboundMappingResult(adaptables.get(i), result));
+            throw new BatchMappingFailedException(e.getFailedIndex(), checkedResults, e.getCause());
+        }
+    }
+
+    /**
+     * Checks the mapping results of a batch in their order. If the check of one of them fails, the batch is treated
+     * as having failed at that result so that the checked results before it are kept.
+     */
+    private static <T> List<List<T>> checkBatch(final List<List<T>> mappingResults,
+            final BiFunction<Integer, List<T>, List<T>> check) {
+
+        final List<List<T>> checkedResults = new ArrayList<>(mappingResults.size());
+        for (int i = 0; i < mappingResults.size(); i++) {
+            try {
+                checkedResults.add(check.apply(i, mappingResults.get(i)));
+            } catch (final MessageMappingFailedException e) {
+                throw new BatchMappingFailedException(i, checkedResults, e);
+            }
+        }
+        return checkedResults;
+    }
+
+    private List<ExternalMessage> checkOutboundMappingResult(final Adaptable adaptable,
+            final List<ExternalMessage> externalMessages) {
+
         checkMaxMappedMessagesLimit(externalMessages, outboundMessageLimit, adaptable.getDittoHeaders());
 
         final var isResponse = AbstractMessageMapper.isResponse(adaptable);
@@ -13,15 +13,14 @@
 package org.eclipse.ditto.connectivity.service.mapping.javascript;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.io.Reader;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.nio.file.Path;
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
@@ -39,9 +38,6 @@ import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
-import org.mozilla.javascript.commonjs.module.RequireBuilder;
-import org.mozilla.javascript.commonjs.module.provider.SoftCachingModuleScriptProvider;
-import org.mozilla.javascript.commonjs.module.provider.UrlModuleSourceProvider;
 
 import com.typesafe.config.Config;
 
@@ -54,15 +50,12 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
 
     private static final String PAYLOAD_MAPPER_ALIAS = "JavaScript";
 
-    private static final String WEBJARS_PATH = "/META-INF/resources/webjars";
-
-    private static final String WEBJARS_BYTEBUFFER = WEBJARS_PATH + "/bytebuffer/5.0.1/dist/bytebuffer.js";
-    private static final String WEBJARS_LONG = WEBJARS_PATH + "/long/3.2.0/dist/long.min.js";
-
     static final String DITTO_SCOPE_SCRIPT = "/javascript/ditto-scope.js";
     static final String INCOMING_SCRIPT = "/javascript/incoming-mapping.js";
     static final String OUTGOING_SCRIPT = "/javascript/outgoing-mapping.js";
 
+    private static final Map<String, String> WRAPPER_SCRIPTS = new ConcurrentHashMap<>();
+
     @Nullable private ContextFactory contextFactory;
     @Nullable private JavaScriptMessageMapperConfiguration configuration;
 
@@ -124,20 +117,20 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
                     .build();
         }
 
-        contextFactory = new SandboxingContextFactory(javaScriptConfig.getMaxScriptExecutionTime(),
-                javaScriptConfig.getMaxScriptStackDepth());
-
         try {
-            // create scope once and load the required libraries in order to get best performance:
+            // libraries and compiled scripts are shared, only the scope of the mapping scripts is created per mapper:
+            final JavaScriptScriptCache.LibraryScope libraryScope =
+                    JavaScriptScriptCache.getLibraryScope(new JavaScriptScriptCache.LibraryKey(
+                            javaScriptConfig.isAllowUnsafeStandardObjects(),
+                            javaScriptConfig.getCommonJsModulesPath().orElse(null),
+                            configuration.isLoadLongJS(),
+                            configuration.isLoadBytebufferJS(),
+                            javaScriptConfig.getMaxScriptExecutionTime(),
+                            javaScriptConfig.getMaxScriptStackDepth()));
+            contextFactory = libraryScope.contextFactory();
             contextFactory.call(cx -> {
-                final Scriptable scope;
-                if (javaScriptConfig.isAllowUnsafeStandardObjects()) {
-                    scope = cx.initStandardObjects();
-                } else {
-                    scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
-                }
-                initLibraries(cx, scope, javaScriptConfig.getCommonJsModulesPath().orElse(null));
-                return scope;
+                initMappings(cx, libraryScope.newMapperScope(cx));
+                return null;
             });
         } catch (final RhinoException e) {
             final boolean sourceExists = e.lineSource() != null && !e.lineSource().isEmpty();
@@ -156,6 +149,11 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         return incomingMapping.apply(message);
     }
 
+    @Override
+    public List<List<Adaptable>> mapBatch(final List<ExternalMessage> messages) {
+        return incomingMapping.applyBatch(messages);
+    }
+
     @Override
     public DittoHeaders getAdditionalInboundHeaders(final ExternalMessage message) {
         return DittoHeaders.empty();
@@ -166,38 +164,14 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         return outgoingMapping.apply(adaptable);
     }
 
-    private void initLibraries(final Context cx, final Scriptable scope, @Nullable final Path commonJsModulePath) {
-        if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
-                    WEBJARS_LONG);
-        }
-        if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)),
-                    WEBJARS_BYTEBUFFER);
-        }
+    @Override
+    public List<List<ExternalMessage>> mapAdaptableBatch(final List<Adaptable> adaptables) {
+        return outgoingMapping.applyBatch(adaptables);
+    }
 
-        final List<URI> paths = new ArrayList<>();
-        try {
-            paths.add(getClass().getResource(WEBJARS_LONG).toURI());
-            paths.add(getClass().getResource(WEBJARS_BYTEBUFFER).toURI());
-        } catch (URISyntaxException e) {
-            throw new IllegalStateException("Could not webjars", e);
-        }
-        if (null != commonJsModulePath) {
-            paths.add(commonJsModulePath.toUri());
-        }
-        new RequireBuilder().setModuleScriptProvider(
-                        new SoftCachingModuleScriptProvider(new UrlModuleSourceProvider(paths, null)))
-                .setSandboxed(true)
-                .createRequire(cx, scope)
-                .install(scope);
-
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)),
-                DITTO_SCOPE_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)),
-                INCOMING_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
-                OUTGOING_SCRIPT);
+    private void initMappings(final Context cx, final Scriptable scope) {
+        executeCompiledScript(cx, scope, readScript(INCOMING_SCRIPT), INCOMING_SCRIPT);
+        executeCompiledScript(cx, scope, readScript(OUTGOING_SCRIPT), OUTGOING_SCRIPT);
 
         final String userIncomingScript = getConfiguration()
                 .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
@@ -207,8 +181,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             incomingMapping = DefaultIncomingMapping.get();
         } else {
             incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userIncomingScript,
-                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
+            executeCompiledScript(cx, scope, userIncomingScript,
+                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT);
         }
 
         final String userOutgoingScript = getConfiguration()
@@ -219,11 +193,27 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             outgoingMapping = DefaultOutgoingMapping.get();
         } else {
             outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userOutgoingScript,
-                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
+            executeCompiledScript(cx, scope, userOutgoingScript,
+                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT);
         }
     }
 
+    private static void executeCompiledScript(final Context cx, final Scriptable scope, final String script,
+            final String sourceName) {
+
+        JavaScriptScriptCache.getCompiledScript(cx, script, sourceName).exec(cx, scope);
+    }
+
+    private static String readScript(final String scriptName) {
+        return WRAPPER_SCRIPTS.computeIfAbsent(scriptName, name -> {
+            try (final InputStream inputStream = JavaScriptMessageMapperRhino.class.getResourceAsStream(name)) {
+                return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (final IOException e) {
+                throw new IllegalStateException("Could not load script <" + name + ">", e);
+            }
+        });
+    }
+
     private Optional<JavaScriptMessageMapperConfiguration> getConfiguration() {
         return Optional.ofNullable(configuration);
     }
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.mapping.javascript;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextFactory;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+import org.mozilla.javascript.commonjs.module.ModuleScriptProvider;
+import org.mozilla.javascript.commonjs.module.RequireBuilder;
+import org.mozilla.javascript.commonjs.module.provider.SoftCachingModuleScriptProvider;
+import org.mozilla.javascript.commonjs.module.provider.UrlModuleSourceProvider;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Shares the expensive parts of JavaScript mappers between all mapper instances of this JVM:
+ * <ul>
+ * <li>the library scope containing the standard objects and the loaded libraries, per set of library settings.
+ * The scope and all objects defined by the libraries are sealed, so mappers cannot modify them,</li>
+ * <li>the compiled scripts, per content hash of the script text.</li>
+ * </ul>
+ * Each configured mapper only gets its own small scope on top of the shared library scope in which the compiled
+ * mapping scripts are executed, so global variables of mapping scripts are not shared between mappers.
+ */
+final class JavaScriptScriptCache {
+
+    private static final String WEBJARS_PATH = "/META-INF/resources/webjars";
+    private static final String WEBJARS_BYTEBUFFER = WEBJARS_PATH + "/bytebuffer/5.0.1/dist/bytebuffer.js";
+    private static final String WEBJARS_LONG = WEBJARS_PATH + "/long/3.2.0/dist/long.min.js";
+
+    // library scopes only differ by the JavaScript config and the libraries used, so there are only a few of them
+    private static final int MAX_LIBRARY_SCOPES = 16;
+    private static final int MAX_COMPILED_SCRIPTS = 4096;
+
+    private static final Cache<LibraryKey, LibraryScope> LIBRARY_SCOPES = Caffeine.newBuilder()
+            .maximumSize(MAX_LIBRARY_SCOPES)
+            .softValues()
+            .build();
+    private static final Cache<String, Script> COMPILED_SCRIPTS = Caffeine.newBuilder()
+            .maximumSize(MAX_COMPILED_SCRIPTS)
+            .softValues()
+            .build();
+
+    private JavaScriptScriptCache() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the shared library scope for the passed settings, creating it if no mapper used them before.
+     *
+     * @param libraryKey the settings of the library scope.
+     * @return the shared library scope.
+     * @throws org.mozilla.javascript.RhinoException if a library could not be loaded.
+     */
+    static LibraryScope getLibraryScope(final LibraryKey libraryKey) {
+        return LIBRARY_SCOPES.get(libraryKey, JavaScriptScriptCache::createLibraryScope);
+    }
+
+    /**
+     * Returns the compiled script for the passed script text, compiling it if no mapper used the same text before.
+     *
+     * @param cx the context to compile the script with.
+     * @param script the script text.
+     * @param sourceName the name of the script used in error messages.
+     * @return the compiled script.
+     * @throws org.mozilla.javascript.RhinoException if the script could not be compiled.
+     */
+    static Script getCompiledScript(final Context cx, final String script, final String sourceName) {
+        return COMPILED_SCRIPTS.get(contentHash(sourceName, script),
+                hash -> cx.compileString(script, sourceName, 1, null));
+    }
+
+    /**
+     * Returns the number of currently cached compiled scripts.
+     *
+     * @return the number of compiled scripts.
+     */
+    static long getCompiledScriptCount() {
+        COMPILED_SCRIPTS.cleanUp();
+        return COMPILED_SCRIPTS.estimatedSize();
+    }
+
+    private static LibraryScope createLibraryScope(final LibraryKey key) {
+        final ContextFactory contextFactory =
+                new SandboxingContextFactory(key.maxScriptExecutionTime(), key.maxStackDepth());
+        final ScriptableObject scope = (ScriptableObject) contextFactory.call(cx -> {
+            // standard objects are sealed as they are shared by all mappers using this library scope:
+            final ScriptableObject libraryScope;
+            if (key.allowUnsafeStandardObjects()) {
+                libraryScope = cx.initStandardObjects(null, true);
+            } else {
+                libraryScope = cx.initSafeStandardObjects(null, true); // that one disables "print, exit, quit", etc.
+            }
+            if (key.loadLongJs()) {
+                loadLibrary(cx, libraryScope, WEBJARS_LONG);
+            }
+            if (key.loadBytebufferJs()) {
+                loadLibrary(cx, libraryScope, WEBJARS_BYTEBUFFER);
+            }
+            loadLibrary(cx, libraryScope, JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT);
+            // the objects defined by the libraries (e.g. "Ditto") are shared by all mappers as well
+            sealRecursively(libraryScope);
+            return libraryScope;
+        });
+
+        final List<URI> paths = new ArrayList<>();
+        try {
+            paths.add(JavaScriptScriptCache.class.getResource(WEBJARS_LONG).toURI());
+            paths.add(JavaScriptScriptCache.class.getResource(WEBJARS_BYTEBUFFER).toURI());
+        } catch (final URISyntaxException e) {
+            throw new IllegalStateException("Could not webjars", e);
+        }
+        if (null != key.commonJsModulesPath()) {
+            paths.add(key.commonJsModulesPath().toUri());
+        }
+        final ModuleScriptProvider moduleScriptProvider =
+                new SoftCachingModuleScriptProvider(new UrlModuleSourceProvider(paths, null));
+
+        return new LibraryScope(contextFactory, scope, moduleScriptProvider);
+    }
+
+    private static void loadLibrary(final Context cx, final Scriptable scope, final String libraryName) {
+        try (final Reader reader = new InputStreamReader(JavaScriptScriptCache.class.getResourceAsStream(libraryName),
+                StandardCharsets.UTF_8)) {
+            cx.evaluateReader(scope, reader, libraryName, 1, null);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Could not load script <" + libraryName + ">", e);
+        }
+    }
+
+    /**
+     * Seals the passed object and all objects reachable from it by properties or prototypes, so that no mapper can
+     * modify the objects shared with other mappers. Already sealed objects like the standard objects are skipped.
+     *
+     * @param root the object to seal.
+     */
+    private static void sealRecursively(final ScriptableObject root) {
+        final Set<ScriptableObject> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<ScriptableObject> toSeal = new ArrayDeque<>();
+        toSeal.push(root);
+        while (!toSeal.isEmpty()) {
+            final ScriptableObject object = toSeal.pop();
+            if (visited.add(object)) {
+                for (final Object id : object.getAllIds()) {
+                    final Object value = id instanceof Integer index ? object.get(index, object) :
+                            object.get(String.valueOf(id), object);
+                    pushIfUnsealed(value, toSeal);
+                }
+                pushIfUnsealed(object.getPrototype(), toSeal);
+                object.sealObject();
+            }
+        }
+    }
+
+    private static void pushIfUnsealed(@Nullable final Object value, final Deque<ScriptableObject> toSeal) {
+        if (value instanceof ScriptableObject scriptableObject && !scriptableObject.isSealed()) {
+            toSeal.push(scriptableObject);
+        }
+    }
+
+    private static String contentHash(final String sourceName, final String script) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(sourceName.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return HexFormat.of().formatHex(digest.digest(script.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * The settings determining the content of a library scope.
+     *
+     * @param allowUnsafeStandardObjects whether unsafe standard objects like "print" are available.
+     * @param commonJsModulesPath the path to load additional CommonJS modules from.
+     * @param loadLongJs whether to load the "long.js" library.
+     * @param loadBytebufferJs whether to load the "bytebuffer.js" library.
+     * @param maxScriptExecutionTime the maximum execution time of a mapping script.
+     * @param maxStackDepth the maximum call stack depth of a mapping script.
+     */
+    record LibraryKey(boolean allowUnsafeStandardObjects,
+            @Nullable Path commonJsModulesPath,
+            boolean loadLongJs,
+            boolean loadBytebufferJs,
+            Duration maxScriptExecutionTime,
+            int maxStackDepth) {}
+
+    /**
+     * A sealed scope with loaded libraries together with the context factory to execute scripts in it.
+     *
+     * @param contextFactory the sandboxing context factory.
+     * @param scope the sealed library scope.
+     * @param moduleScriptProvider the provider of CommonJS modules, caching the compiled modules.
+     */
+    record LibraryScope(ContextFactory contextFactory, ScriptableObject scope,
+            ModuleScriptProvider moduleScriptProvider) {
+
+        /**
+         * Creates a new, unsealed scope for one mapper on top of this library scope with its own "require" function.
+         *
+         * @param cx the current context.
+         * @return the new scope.
+         */
+        Scriptable newMapperScope(final Context cx) {
+            final Scriptable mapperScope = cx.newObject(scope);
+            mapperScope.setPrototype(scope);
+            mapperScope.setParentScope(null);
+            new RequireBuilder().setModuleScriptProvider(moduleScriptProvider)
+                    .setSandboxed(true)
+                    .createRequire(cx, mapperScope)
+                    .install(mapperScope);
+            return mapperScope;
+        }
+
+    }
+
+}
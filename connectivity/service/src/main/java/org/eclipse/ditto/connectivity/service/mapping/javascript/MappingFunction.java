@@ -12,10 +12,12 @@
  */
 package org.eclipse.ditto.connectivity.service.mapping.javascript;
 
+import java.util.List;
 import java.util.function.Function;
 
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.connectivity.model.MessageMappingFailedException;
+import org.eclipse.ditto.connectivity.service.mapping.BatchMappingFailedException;
 import org.mozilla.javascript.RhinoException;
 
 /**
@@ -26,6 +28,19 @@ import org.mozilla.javascript.RhinoException;
  */
 public interface MappingFunction<I, O> extends Function<I, O> {
 
+    /**
+     * Applies this function to each of the passed inputs.
+     *
+     * @param inputs the inputs.
+     * @return the outputs in the order of the inputs.
+     * @throws org.eclipse.ditto.connectivity.service.mapping.BatchMappingFailedException if this function failed for
+     * one of the inputs. The inputs after the failing one are not mapped.
+     * @since 3.2.0
+     */
+    default List<O> applyBatch(final List<I> inputs) {
+        return BatchMappingFailedException.mapEach(inputs, this);
+    }
+
     /**
      * Build {@link MessageMappingFailedException} from a {@link RhinoException}.
      * @param e the original exception thrown by the rhino engine
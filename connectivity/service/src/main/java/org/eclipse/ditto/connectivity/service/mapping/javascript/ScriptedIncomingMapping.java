@@ -22,6 +22,7 @@ import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.connectivity.api.ExternalMessage;
 import org.eclipse.ditto.connectivity.model.MessageMappingFailedException;
+import org.eclipse.ditto.connectivity.service.mapping.BatchMappingFailedException;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.protocol.Adaptable;
@@ -59,33 +60,48 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
 
     @Override
     public List<Adaptable> apply(final ExternalMessage message) {
+        return contextFactory.call(cx -> mapInContext(cx, getMappingFunction(), message));
+    }
+
+    @Override
+    public List<List<Adaptable>> applyBatch(final List<ExternalMessage> messages) {
+        // enter the context only once for all messages of the batch
+        return contextFactory.call(cx -> {
+            final org.mozilla.javascript.Function mapToDittoProtocolMsgWrapper = getMappingFunction();
+            return BatchMappingFailedException.mapEach(messages,
+                    message -> mapInContext(cx, mapToDittoProtocolMsgWrapper, message));
+        });
+    }
+
+    private org.mozilla.javascript.Function getMappingFunction() {
+        return (org.mozilla.javascript.Function) scope.get(INCOMING_FUNCTION_NAME, scope);
+    }
+
+    private List<Adaptable> mapInContext(final Context cx,
+            final org.mozilla.javascript.Function mapToDittoProtocolMsgWrapper,
+            final ExternalMessage message) {
+
         try {
-            return contextFactory.call(cx -> {
-                final NativeObject externalMessage = mapExternalMessageToNativeObject(message);
-
-                final org.mozilla.javascript.Function
-                        mapToDittoProtocolMsgWrapper =
-                        (org.mozilla.javascript.Function) scope.get(INCOMING_FUNCTION_NAME, scope);
-                final Object result =
-                        mapToDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{externalMessage});
-
-                if (result == null) {
-                    // return empty list if result is null
-                    return Collections.emptyList();
-                } else if (result instanceof NativeArray nativeArray) {
-                    // array handling
-                    final List<Adaptable> list = new ArrayList<>();
-                    for (Object idxObj : nativeArray.getIds()) {
-                        int index = (Integer) idxObj;
-                        final Object element = nativeArray.get(index, null);
-                        list.add(getAdaptableFromObject(cx, element));
-                    }
-
-                    return list;
+            final NativeObject externalMessage = mapExternalMessageToNativeObject(message);
+            final Object result =
+                    mapToDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{externalMessage});
+
+            if (result == null) {
+                // return empty list if result is null
+                return Collections.emptyList();
+            } else if (result instanceof NativeArray nativeArray) {
+                // array handling
+                final List<Adaptable> list = new ArrayList<>();
+                for (Object idxObj : nativeArray.getIds()) {
+                    int index = (Integer) idxObj;
+                    final Object element = nativeArray.get(index, null);
+                    list.add(getAdaptableFromObject(cx, element));
                 }
 
-                return Collections.singletonList(getAdaptableFromObject(cx, result));
-            });
+                return list;
+            }
+
+            return Collections.singletonList(getAdaptableFromObject(cx, result));
         } catch (final RhinoException e) {
             throw buildMessageMappingFailedException(e, message.findContentType().orElse(""),
                     DittoHeaders.of(message.getHeaders()));
@@ -31,6 +31,7 @@ import org.eclipse.ditto.connectivity.api.ExternalMessage;
 import org.eclipse.ditto.connectivity.api.ExternalMessageBuilder;
 import org.eclipse.ditto.connectivity.api.ExternalMessageFactory;
 import org.eclipse.ditto.connectivity.model.MessageMappingFailedException;
+import org.eclipse.ditto.connectivity.service.mapping.BatchMappingFailedException;
 import org.eclipse.ditto.connectivity.service.mapping.MessageMapper;
 import org.eclipse.ditto.protocol.Adaptable;
 import org.eclipse.ditto.protocol.JsonifiableAdaptable;
@@ -68,32 +69,49 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
 
     @Override
     public List<ExternalMessage> apply(final Adaptable adaptable) {
+        return contextFactory.call(cx -> mapInContext(cx, getMappingFunction(), adaptable));
+    }
+
+    @Override
+    public List<List<ExternalMessage>> applyBatch(final List<Adaptable> adaptables) {
+        // enter the context only once for all adaptables of the batch
+        return contextFactory.call(cx -> {
+            final org.mozilla.javascript.Function mapFromDittoProtocolMsgWrapper = getMappingFunction();
+            return BatchMappingFailedException.mapEach(adaptables,
+                    adaptable -> mapInContext(cx, mapFromDittoProtocolMsgWrapper, adaptable));
+        });
+    }
+
+    private org.mozilla.javascript.Function getMappingFunction() {
+        return (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
+    }
+
+    private List<ExternalMessage> mapInContext(final Context cx,
+            final org.mozilla.javascript.Function mapFromDittoProtocolMsgWrapper,
+            final Adaptable adaptable) {
+
         try {
             final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
-            return contextFactory.call(cx -> {
-                final Object dittoProtocolMessage =
-                        NativeJSON.parse(cx, scope, jsonifiableAdaptable.toJsonString(), new NullCallable());
-
-                final org.mozilla.javascript.Function mapFromDittoProtocolMsgWrapper =
-                        (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
-                final Object result =
-                        mapFromDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{dittoProtocolMessage});
-
-                if (result == null) {
-                    // return empty list if result is null
-                    return Collections.emptyList();
-                } else if (result instanceof NativeArray nativeArray) {
-                    // handle array
-                    final List<ExternalMessage> list = new ArrayList<>();
-                    for (Object idxObj : nativeArray.getIds()) {
-                        int index = (Integer) idxObj;
-                        final Object element = nativeArray.get(index, null);
-                        list.add(getExternalMessageFromObject(adaptable, (NativeObject) element));
-                    }
-                    return list;
+            final Object dittoProtocolMessage =
+                    NativeJSON.parse(cx, scope, jsonifiableAdaptable.toJsonString(), new NullCallable());
+
+            final Object result =
+                    mapFromDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{dittoProtocolMessage});
+
+            if (result == null) {
+                // return empty list if result is null
+                return Collections.emptyList();
+            } else if (result instanceof NativeArray nativeArray) {
+                // handle array
+                final List<ExternalMessage> list = new ArrayList<>();
+                for (Object idxObj : nativeArray.getIds()) {
+                    int index = (Integer) idxObj;
+                    final Object element = nativeArray.get(index, null);
+                    list.add(getExternalMessageFromObject(adaptable, (NativeObject) element));
                 }
-                return Collections.singletonList(getExternalMessageFromObject(adaptable, (NativeObject) result));
-            });
+                return list;
+            }
+            return Collections.singletonList(getExternalMessageFromObject(adaptable, (NativeObject) result));
         } catch (final RhinoException e) {
             throw buildMessageMappingFailedException(e, MessageMapper.findContentType(adaptable).orElse(""),
                     adaptable.getDittoHeaders());
@@ -16,9 +16,11 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -36,6 +38,7 @@ import org.eclipse.ditto.connectivity.model.ConnectionType;
 import org.eclipse.ditto.connectivity.service.config.ConnectivityConfig;
 import org.eclipse.ditto.connectivity.service.mapping.DefaultMessageMapperFactory;
 import org.eclipse.ditto.connectivity.service.mapping.DittoMessageMapper;
+import org.eclipse.ditto.connectivity.service.mapping.BatchMappingFailedException;
 import org.eclipse.ditto.connectivity.service.mapping.MessageMapper;
 import org.eclipse.ditto.connectivity.service.mapping.MessageMapperFactory;
 import org.eclipse.ditto.connectivity.service.mapping.MessageMapperRegistry;
@@ -129,82 +132,187 @@ public final class InboundMappingProcessor
      */
     @Override
     List<MappingOutcome<MappedInboundExternalMessage>> process(final ExternalMessage message) {
-        final var mappers = getMappers(message.getPayloadMapping().orElse(null));
-        logger.withCorrelationId(message.getHeaders().get(DittoHeaderDefinition.CORRELATION_ID.getKey()))
-                .debug("Mappers resolved for message: {}", mappers);
-        final var mappingTimer = MappingTimer.inbound(connectionId, connectionType, message.getHeaders());
-        return mappingTimer.overall(() -> mappers.stream()
-                .flatMap(mapper -> {
-                            final var mappingTimerSpan = mappingTimer.getSpan();
-                            return runMapper(
-                                    mapper,
-                                    message.withHeaders(mappingTimerSpan.propagateContext(message.getHeaders())),
-                                    mappingTimer
-                            );
-                        }
-                )
-                .toList()
-        );
+        return processBatch(List.of(message)).get(0);
+    }
+
+    /**
+     * Processes a batch of {@link ExternalMessage}s. All messages of the batch handled by the same mapper are mapped
+     * with one call of {@link MessageMapper#mapBatch(List)}. If that fails, the messages are mapped one by one in order
+     * to determine the outcome of each message.
+     *
+     * @param messages the inbound {@link ExternalMessage}s to be processed.
+     * @return for each of the {@code messages} in the same order the combined results of all its message mappers.
+     */
+    List<List<MappingOutcome<MappedInboundExternalMessage>>> processBatch(final List<ExternalMessage> messages) {
+        final List<MappingTimer> mappingTimers = new ArrayList<>(messages.size());
+        final List<List<List<MappingOutcome<MappedInboundExternalMessage>>>> outcomes =
+                new ArrayList<>(messages.size());
+        final Map<MessageMapper, List<BatchEntry>> entriesByMapper = new IdentityHashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            final var message = messages.get(i);
+            final var mappers = getMappers(message.getPayloadMapping().orElse(null));
+            logger.withCorrelationId(message.getHeaders().get(DittoHeaderDefinition.CORRELATION_ID.getKey()))
+                    .debug("Mappers resolved for message: {}", mappers);
+            mappingTimers.add(MappingTimer.inbound(connectionId, connectionType, message.getHeaders()));
+            outcomes.add(new ArrayList<>(Collections.nCopies(mappers.size(), null)));
+            for (int j = 0; j < mappers.size(); j++) {
+                entriesByMapper.computeIfAbsent(mappers.get(j), mapper -> new ArrayList<>())
+                        .add(new BatchEntry(i, j));
+            }
+        }
+
+        entriesByMapper.forEach((mapper, entries) -> runMapper(mapper, entries, messages, mappingTimers, outcomes));
+
+        final List<List<MappingOutcome<MappedInboundExternalMessage>>> result = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            final var messageOutcomes = outcomes.get(i);
+            result.add(mappingTimers.get(i).overall(() -> messageOutcomes.stream()
+                    .flatMap(List::stream)
+                    .toList()));
+        }
+        return result;
+    }
+
+    private void runMapper(final MessageMapper mapper,
+            final List<BatchEntry> entries,
+            final List<ExternalMessage> messages,
+            final List<MappingTimer> mappingTimers,
+            final List<List<List<MappingOutcome<MappedInboundExternalMessage>>>> outcomes) {
+
+        final List<BatchEntry> entriesToMap = new ArrayList<>(entries.size());
+        final List<ExternalMessage> messagesToMap = new ArrayList<>(entries.size());
+        for (final BatchEntry entry : entries) {
+            final var originalMessage = messages.get(entry.messageIndex());
+            final var mappingTimerSpan = mappingTimers.get(entry.messageIndex()).getSpan();
+            final var message =
+                    originalMessage.withHeaders(mappingTimerSpan.propagateContext(originalMessage.getHeaders()));
+            try {
+                if (shouldMapMessageByContentType(message, mapper) && shouldMapMessageByConditions(message, mapper)) {
+                    entriesToMap.add(entry);
+                    messagesToMap.add(message);
+                } else {
+                    logger.withCorrelationId(message.getInternalHeaders())
+                            .debug("Not mapping message with mapper <{}> as content-type <{}> was " +
+                                            "blocked or MessageMapper conditions {} were not matched.",
+                                    mapper.getId(), message.findContentType(), mapper.getIncomingConditions());
+                    entry.setOutcomes(outcomes, List.of(MappingOutcome.dropped(mapper.getId(), message)));
+                }
+            } catch (final Exception e) {
+                entry.setOutcomes(outcomes, List.of(mappingError(e, mapper, message)));
+            }
+        }
+
+        if (entriesToMap.size() == 1) {
+            final BatchEntry entry = entriesToMap.get(0);
+            entry.setOutcomes(outcomes,
+                    mapMessage(mapper, messagesToMap.get(0), mappingTimers.get(entry.messageIndex())));
+        } else if (!entriesToMap.isEmpty()) {
+            final List<MappingTimer> batchTimers = entriesToMap.stream()
+                    .map(entry -> mappingTimers.get(entry.messageIndex()))
+                    .toList();
+            List<List<Adaptable>> adaptables;
+            int failedIndex;
+            @Nullable Exception failure = null;
+            try {
+                logger.debug("Mapping batch of <{}> messages using mapper {}.", messagesToMap.size(), mapper.getId());
+                adaptables = MappingTimer.inboundPayloadBatch(batchTimers, mapper.getId(),
+                        () -> mapper.mapBatch(messagesToMap));
+                failedIndex = entriesToMap.size();
+            } catch (final BatchMappingFailedException e) {
+                // keep the results before the failed message: mapping them again would run stateful mappers twice
+                logger.debug("Mapping batch with mapper <{}> failed at message <{}>, mapping the messages after " +
+                        "it one by one: <{}>", mapper.getId(), e.getFailedIndex(), e.getCause().getMessage());
+                adaptables = e.getResults();
+                failedIndex = e.getFailedIndex();
+                failure = e.getCause() instanceof Exception cause ? cause : e;
+            } catch (final Exception e) {
+                logger.debug("Mapping batch with mapper <{}> failed, mapping messages one by one: <{}: {}>",
+                        mapper.getId(), e.getClass().getSimpleName(), e.getMessage());
+                adaptables = List.of();
+                failedIndex = -1;
+            }
+            for (int k = 0; k < entriesToMap.size(); k++) {
+                final var message = messagesToMap.get(k);
+                final var mappingTimer = batchTimers.get(k);
+                final List<MappingOutcome<MappedInboundExternalMessage>> mapperOutcomes;
+                if (k < failedIndex) {
+                    mapperOutcomes = toOutcomes(mapper, message, adaptables.get(k), mappingTimer);
+                } else if (k == failedIndex && null != failure) {
+                    mapperOutcomes = List.of(mappingError(failure, mapper, message));
+                } else {
+                    mapperOutcomes = mapMessage(mapper, message, mappingTimer);
+                }
+                entriesToMap.get(k).setOutcomes(outcomes, mapperOutcomes);
+            }
+        }
     }
 
-    private Stream<MappingOutcome<MappedInboundExternalMessage>> runMapper(final MessageMapper mapper,
+    private List<MappingOutcome<MappedInboundExternalMessage>> mapMessage(final MessageMapper mapper,
             final ExternalMessage message, final MappingTimer timer) {
 
-        checkNotNull(message, "message");
         try {
-            if (shouldMapMessageByContentType(message, mapper) && shouldMapMessageByConditions(message, mapper)) {
-                logger.withCorrelationId(message.getInternalHeaders())
-                        .debug("Mapping message using mapper {}.", mapper.getId());
-                final List<Adaptable> adaptables = timer.inboundPayload(mapper.getId(), () -> mapper.map(message));
+            logger.withCorrelationId(message.getInternalHeaders())
+                    .debug("Mapping message using mapper {}.", mapper.getId());
+            final List<Adaptable> adaptables = timer.inboundPayload(mapper.getId(), () -> mapper.map(message));
+            return toOutcomes(mapper, message, adaptables, timer);
+        } catch (final Exception e) {
+            return List.of(mappingError(e, mapper, message));
+        }
+    }
 
-                if (isNullOrEmpty(adaptables)) {
-                    return Stream.of(MappingOutcome.dropped(mapper.getId(), message));
-                } else {
-                    final DittoHeaders additionalInboundHeaders = mapper.getAdditionalInboundHeaders(message);
-                    final List<MappedInboundExternalMessage> mappedMessages = new ArrayList<>(adaptables.size());
-                    for (final Adaptable adaptable : adaptables) {
-                        try {
-                            final Signal<?> signal =
-                                    timer.inboundProtocol(() -> protocolAdapter.fromAdaptable(adaptable));
-                            final DittoHeaders headersWithMapper = signal.getDittoHeaders().toBuilder()
-                                    .inboundPayloadMapper(mapper.getId())
-                                    .putHeaders(additionalInboundHeaders)
-                                    .build();
-                            dittoHeadersSizeValidator.validate(headersWithMapper).toCompletableFuture().join();
-                            final Signal<?> signalWithMapperHeader = signal.setDittoHeaders(headersWithMapper);
-                            final MappedInboundExternalMessage mappedMessage =
-                                    MappedInboundExternalMessage.of(message, adaptable.getTopicPath(),
-                                            signalWithMapperHeader);
-                            mappedMessages.add(mappedMessage);
-                        } catch (final Exception e) {
-                            logger.withCorrelationId(e instanceof WithDittoHeaders wdh ? wdh.getDittoHeaders() :
-                                            adaptable.getDittoHeaders())
-                                    .info("Exception during inbound adaptable conversion to Signal: <{}: {}>",
-                                            e.getClass().getSimpleName(), e.getMessage());
-                            return Stream.of(MappingOutcome.error(mapper.getId(),
-                                    toDittoRuntimeException(e, mapper, adaptable.getDittoHeaders(), message),
-                                    adaptable.getTopicPath(),
-                                    message
-                            ));
-                        }
+    private List<MappingOutcome<MappedInboundExternalMessage>> toOutcomes(final MessageMapper mapper,
+            final ExternalMessage message, @Nullable final List<Adaptable> adaptables, final MappingTimer timer) {
+
+        checkNotNull(message, "message");
+        try {
+            if (isNullOrEmpty(adaptables)) {
+                return List.of(MappingOutcome.dropped(mapper.getId(), message));
+            } else {
+                final DittoHeaders additionalInboundHeaders = mapper.getAdditionalInboundHeaders(message);
+                final List<MappedInboundExternalMessage> mappedMessages = new ArrayList<>(adaptables.size());
+                for (final Adaptable adaptable : adaptables) {
+                    try {
+                        final Signal<?> signal =
+                                timer.inboundProtocol(() -> protocolAdapter.fromAdaptable(adaptable));
+                        final DittoHeaders headersWithMapper = signal.getDittoHeaders().toBuilder()
+                                .inboundPayloadMapper(mapper.getId())
+                                .putHeaders(additionalInboundHeaders)
+                                .build();
+                        dittoHeadersSizeValidator.validate(headersWithMapper).toCompletableFuture().join();
+                        final Signal<?> signalWithMapperHeader = signal.setDittoHeaders(headersWithMapper);
+                        final MappedInboundExternalMessage mappedMessage =
+                                MappedInboundExternalMessage.of(message, adaptable.getTopicPath(),
+                                        signalWithMapperHeader);
+                        mappedMessages.add(mappedMessage);
+                    } catch (final Exception e) {
+                        logger.withCorrelationId(e instanceof WithDittoHeaders wdh ? wdh.getDittoHeaders() :
+                                        adaptable.getDittoHeaders())
+                                .info("Exception during inbound adaptable conversion to Signal: <{}: {}>",
+                                        e.getClass().getSimpleName(), e.getMessage());
+                        return List.of(MappingOutcome.error(mapper.getId(),
+                                toDittoRuntimeException(e, mapper, adaptable.getDittoHeaders(), message),
+                                adaptable.getTopicPath(),
+                                message
+                        ));
                     }
-                    return mappedMessages.stream()
-                            .map(mapped -> MappingOutcome.mapped(mapper.getId(), mapped, mapped.getTopicPath(),
-                                    message));
                 }
-            } else {
-                logger.withCorrelationId(message.getInternalHeaders())
-                        .debug("Not mapping message with mapper <{}> as content-type <{}> was " +
-                                        "blocked or MessageMapper conditions {} were not matched.",
-                                mapper.getId(), message.findContentType(), mapper.getIncomingConditions());
-                return Stream.of(MappingOutcome.dropped(mapper.getId(), message));
+                return mappedMessages.stream()
+                        .map(mapped -> MappingOutcome.mapped(mapper.getId(), mapped, mapped.getTopicPath(),
+                                message))
+                        .toList();
             }
         } catch (final Exception e) {
-            return Stream.of(MappingOutcome.error(mapper.getId(), toDittoRuntimeException(e, mapper,
-                    resolveDittoHeadersBestEffort(message), message), null, message));
+            return List.of(mappingError(e, mapper, message));
         }
     }
 
+    private MappingOutcome<MappedInboundExternalMessage> mappingError(final Exception error,
+            final MessageMapper mapper, final ExternalMessage message) {
+
+        return MappingOutcome.error(mapper.getId(), toDittoRuntimeException(error, mapper,
+                resolveDittoHeadersBestEffort(message), message), null, message);
+    }
+
     private DittoHeaders resolveDittoHeadersBestEffort(final ExternalMessage message) {
         final DittoHeadersBuilder<?, ?> headersBuilder = DittoHeaders.newBuilder();
         message.getHeaders().forEach((key, value) -> {
@@ -267,4 +375,15 @@ public final class InboundMappingProcessor
         return messages == null || messages.isEmpty();
     }
 
+    /**
+     * Position of a mapper within the mappers of a message of a batch.
+     */
+    private record BatchEntry(int messageIndex, int mapperIndex) {
+
+        private <T> void setOutcomes(final List<List<List<T>>> outcomes, final List<T> mapperOutcomes) {
+            outcomes.get(messageIndex).set(mapperIndex, mapperOutcomes);
+        }
+
+    }
+
 }
@@ -15,14 +15,18 @@ package org.eclipse.ditto.connectivity.service.messaging;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotEmpty;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.base.service.config.ThrottlingConfig;
+import org.eclipse.ditto.connectivity.api.ExternalMessage;
 import org.eclipse.ditto.connectivity.model.ConnectionId;
 import org.eclipse.ditto.connectivity.service.config.mapping.MappingConfig;
 import org.eclipse.ditto.connectivity.service.messaging.mappingoutcome.MappingOutcome;
@@ -45,10 +49,15 @@ public final class InboundMappingSink {
     private final ThreadSafeDittoLogger logger;
 
     private final List<InboundMappingProcessor> inboundMappingProcessors;
+    private final ConnectionId connectionId;
     private final Sink<Object, ?> inboundDispatchingSink;
     @Nullable private final ThrottlingConfig throttlingConfig;
     private final MessageDispatcher messageMappingProcessorDispatcher;
     private final int processorPoolSize;
+    private final int maxBatchSize;
+    private final boolean partitioned;
+    private final String partitionKey;
+    private final int laneBufferSize;
 
     private InboundMappingSink(final List<InboundMappingProcessor> inboundMappingProcessors,
             final ConnectionId connectionId,
@@ -59,6 +68,7 @@ public final class InboundMappingSink {
             final MessageDispatcher messageMappingProcessorDispatcher) {
 
         this.inboundMappingProcessors = checkNotEmpty(inboundMappingProcessors, "inboundMappingProcessors");
+        this.connectionId = checkNotNull(connectionId, "connectionId");
         this.inboundDispatchingSink = checkNotNull(inboundDispatchingSink, "inboundDispatchingSink");
         checkNotNull(mappingConfig, "mappingConfig");
         this.throttlingConfig = throttlingConfig;
@@ -69,6 +79,10 @@ public final class InboundMappingSink {
                 .withMdcEntry(ConnectivityMdcEntryKey.CONNECTION_ID, connectionId);
 
         this.processorPoolSize = this.determinePoolSize(processorPoolSize, mappingConfig.getMaxPoolSize());
+        maxBatchSize = Math.max(1, mappingConfig.getMaxBatchSize());
+        partitioned = mappingConfig.isPartitioned();
+        partitionKey = mappingConfig.getInboundPartitionKey();
+        laneBufferSize = mappingConfig.getBufferSize() / Math.max(1, this.processorPoolSize);
     }
 
 
@@ -122,21 +136,24 @@ public final class InboundMappingSink {
     }
 
     private Sink<Object, NotUsed> mapMessage() {
+        final Flow<ExternalMessageWithSender, InboundMappingOutcomes, NotUsed> mappingFlow;
+        if (partitioned) {
+            // messages with the same partition key are mapped in order by the same processor
+            mappingFlow = Flow.fromGraph(PartitionedFlow.of(processorPoolSize, laneBufferSize, this::getPartitionKey,
+                    laneIndex -> Flow.<ExternalMessageWithSender>create()
+                            .batch(maxBatchSize, InboundMappingSink::newBatch, InboundMappingSink::addToBatch)
+                            .mapAsync(1, messages -> mapInboundMessagesAsync(messages, laneIndex))
+                            .mapConcat(outcomes -> outcomes)));
+        } else {
+            mappingFlow = Flow.<ExternalMessageWithSender>create()
+                    // messages queuing up while all processors are busy are mapped together in batches
+                    .batch(maxBatchSize, InboundMappingSink::newBatch, InboundMappingSink::addToBatch)
+                    .zipWithIndex()
+                    .mapAsync(processorPoolSize, pair -> mapInboundMessagesAsync(pair.first(), pair.second()))
+                    .mapConcat(outcomes -> outcomes);
+        }
         final Flow<Object, InboundMappingOutcomes, NotUsed> mapMessageFlow =
-                Flow.fromFunction(ExternalMessageWithSender.class::cast)
-                        .zipWithIndex()
-                        // parallelize potentially CPU-intensive payload mapping on this actor's dispatcher
-                        .mapAsync(processorPoolSize, pair -> CompletableFuture.supplyAsync(
-                                () -> {
-                                    final var message = pair.first();
-                                    final int processorIndex = (int) (pair.second() % inboundMappingProcessors.size());
-                                    final var inboundMappingProcessor = inboundMappingProcessors.get(processorIndex);
-                                    logger.debug("Received inbound Message to map with processor no. <{}>: {}",
-                                            processorIndex, message);
-                                    return mapInboundMessage(message, inboundMappingProcessor);
-                                },
-                                messageMappingProcessorDispatcher)
-                        );
+                Flow.fromFunction(ExternalMessageWithSender.class::cast).via(mappingFlow);
 
         final Flow<Object, InboundMappingOutcomes, NotUsed> flowWithOptionalThrottling;
         if (throttlingConfig != null && throttlingConfig.isEnabled()) {
@@ -165,6 +182,70 @@ public final class InboundMappingSink {
         return connectionPoolSize;
     }
 
+    private Optional<String> getPartitionKey(final ExternalMessageWithSender withSender) {
+        try {
+            return Resolvers.forExternalMessage(withSender.externalMessage(), connectionId)
+                    .resolve(partitionKey)
+                    .findFirst();
+        } catch (final DittoRuntimeException e) {
+            logger.debug("Could not resolve partition key <{}>: {}", partitionKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // parallelize potentially CPU-intensive payload mapping on this actor's dispatcher
+    private CompletionStage<List<InboundMappingOutcomes>> mapInboundMessagesAsync(
+            final List<ExternalMessageWithSender> messages, final long index) {
+
+        return CompletableFuture.supplyAsync(() -> {
+            final int processorIndex = (int) (index % inboundMappingProcessors.size());
+            final var inboundMappingProcessor = inboundMappingProcessors.get(processorIndex);
+            logger.debug("Received <{}> inbound Messages to map with processor no. <{}>: {}",
+                    messages.size(), processorIndex, messages);
+            return mapInboundMessages(messages, inboundMappingProcessor);
+        }, messageMappingProcessorDispatcher);
+    }
+
+    private static List<ExternalMessageWithSender> newBatch(final ExternalMessageWithSender message) {
+        final List<ExternalMessageWithSender> batch = new ArrayList<>();
+        batch.add(message);
+        return batch;
+    }
+
+    private static List<ExternalMessageWithSender> addToBatch(final List<ExternalMessageWithSender> batch,
+            final ExternalMessageWithSender message) {
+
+        batch.add(message);
+        return batch;
+    }
+
+    private List<InboundMappingOutcomes> mapInboundMessages(final List<ExternalMessageWithSender> batch,
+            final InboundMappingProcessor inboundMappingProcessor) {
+
+        if (batch.size() == 1) {
+            return List.of(mapInboundMessage(batch.get(0), inboundMappingProcessor));
+        }
+        try {
+            final List<ExternalMessage> externalMessages = batch.stream()
+                    .map(ExternalMessageWithSender::externalMessage)
+                    .toList();
+            final var outcomes = inboundMappingProcessor.processBatch(externalMessages);
+            final List<InboundMappingOutcomes> result = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                final var withSender = batch.get(i);
+                result.add(InboundMappingOutcomes.of(outcomes.get(i), withSender.externalMessage(),
+                        withSender.sender()));
+            }
+            return result;
+        } catch (final Exception e) {
+            logger.error("Handling exception when mapping batch of <{}> external messages, mapping them one by one: {}",
+                    batch.size(), e.getMessage());
+            return batch.stream()
+                    .map(withSender -> mapInboundMessage(withSender, inboundMappingProcessor))
+                    .toList();
+        }
+    }
+
     private InboundMappingOutcomes mapInboundMessage(final ExternalMessageWithSender withSender,
             final InboundMappingProcessor inboundMappingProcessor) {
 
@@ -12,8 +12,10 @@
  */
 package org.eclipse.ditto.connectivity.service.messaging;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -23,6 +25,7 @@ import org.eclipse.ditto.base.model.signals.Signal;
 import org.eclipse.ditto.connectivity.api.ExternalMessage;
 import org.eclipse.ditto.connectivity.model.ConnectionId;
 import org.eclipse.ditto.connectivity.model.ConnectionType;
+import org.eclipse.ditto.connectivity.service.mapping.BatchMappingFailedException;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.tag.Tag;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
@@ -180,6 +183,96 @@ final class MappingTimer {
         );
     }
 
+    /**
+     * Measures the mapping of a batch of outbound messages with one call of the given supplier. The 'payload' segment
+     * of each passed timer covers the mapping of the whole batch. The span context of each timer is attached to the
+     * external messages mapped from its message.
+     *
+     * @param timers the timers of the messages in the batch.
+     * @param mapper ID of the used mapper.
+     * @param supplier the supplier of the external messages for each message of the batch.
+     * @return the list of mapped external messages for each message of the batch.
+     */
+    static List<List<ExternalMessage>> outboundPayloadBatch(final List<MappingTimer> timers, final String mapper,
+            final Supplier<List<List<ExternalMessage>>> supplier) {
+
+        return timedBatch(timers, mapper, supplier,
+                (span, externalMessage) -> externalMessage.withHeaders(span.propagateContext(
+                        externalMessage.getHeaders())));
+    }
+
+    /**
+     * Measures the mapping of a batch of inbound messages with one call of the given supplier. The 'payload' segment
+     * of each passed timer covers the mapping of the whole batch. The span context of each timer is attached to the
+     * adaptables mapped from its message.
+     *
+     * @param timers the timers of the messages in the batch.
+     * @param mapper ID of the used mapper.
+     * @param supplier the supplier of the adaptables for each message of the batch.
+     * @return the list of mapped adaptables for each message of the batch.
+     */
+    static List<List<Adaptable>> inboundPayloadBatch(final List<MappingTimer> timers, final String mapper,
+            final Supplier<List<List<Adaptable>>> supplier) {
+
+        return timedBatch(timers, mapper, supplier,
+                (span, adaptable) -> adaptable.setDittoHeaders(DittoHeaders.of(span.propagateContext(
+                        adaptable.getDittoHeaders()))));
+    }
+
+    private static <T> List<List<T>> timedBatch(final List<MappingTimer> timers, final String mapper,
+            final Supplier<List<List<T>>> supplier, final BiFunction<StartedSpan, T, T> propagateContext) {
+
+        final List<StartedTimer> startedTimers = new ArrayList<>(timers.size());
+        final List<StartedSpan> startedSpans = new ArrayList<>(timers.size());
+        for (final MappingTimer mappingTimer : timers) {
+            final var startedTimer = mappingTimer.startNewTimerSegment(mapper);
+            mappingTimer.startedSpan = mappingTimer.spawnChildSpanFromStartedTimer(startedTimer);
+            startedTimers.add(startedTimer);
+            startedSpans.add(mappingTimer.startedSpan);
+        }
+        final List<List<T>> results;
+        try {
+            results = supplier.get();
+            if (results.size() != timers.size()) {
+                throw new IllegalStateException("Mapping a batch of <" + timers.size() + "> messages returned <" +
+                        results.size() + "> results.");
+            }
+        } catch (final BatchMappingFailedException e) {
+            final int failedIndex = e.getFailedIndex();
+            final List<List<T>> resultsWithContext =
+                    withContext(e.getResults(), startedTimers, startedSpans, propagateContext);
+            final StartedTimer failedTimer = startedTimers.get(failedIndex);
+            failedTimer.tag(getMappingSuccessTag(false));
+            failedTimer.stop();
+            // the segments of the messages after the failed one stay open; they are replaced by the segments of
+            // mapping those messages one by one and thus are not recorded.
+            throw new BatchMappingFailedException(failedIndex, resultsWithContext, e.getCause());
+        } catch (final RuntimeException e) {
+            startedTimers.forEach(startedTimer -> {
+                startedTimer.tag(getMappingSuccessTag(false));
+                startedTimer.stop();
+            });
+            throw e;
+        }
+        return withContext(results, startedTimers, startedSpans, propagateContext);
+    }
+
+    private static <T> List<List<T>> withContext(final List<List<T>> results, final List<StartedTimer> startedTimers,
+            final List<StartedSpan> startedSpans, final BiFunction<StartedSpan, T, T> propagateContext) {
+
+        final List<List<T>> resultsWithContext = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            final StartedSpan startedSpan = startedSpans.get(i);
+            resultsWithContext.add(results.get(i).stream()
+                    .map(result -> propagateContext.apply(startedSpan, result))
+                    .toList());
+            final StartedTimer startedTimer = startedTimers.get(i);
+            startedTimer.tag(getMappingSuccessTag(true));
+            startedTimer.stop();
+        }
+        return resultsWithContext;
+    }
+
     private Adaptable propagateContextToAdaptable(final Adaptable adaptable) {
         return adaptable.setDittoHeaders(DittoHeaders.of(startedSpan.propagateContext(adaptable.getDittoHeaders())));
     }
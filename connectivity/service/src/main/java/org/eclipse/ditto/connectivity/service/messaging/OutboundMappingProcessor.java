@@ -12,12 +12,14 @@
  */
 package org.eclipse.ditto.connectivity.service.messaging;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -39,6 +41,7 @@ import org.eclipse.ditto.connectivity.model.ConnectivityModelFactory;
 import org.eclipse.ditto.connectivity.model.PayloadMapping;
 import org.eclipse.ditto.connectivity.model.Target;
 import org.eclipse.ditto.connectivity.service.config.ConnectivityConfig;
+import org.eclipse.ditto.connectivity.service.mapping.BatchMappingFailedException;
 import org.eclipse.ditto.connectivity.service.mapping.MessageMapper;
 import org.eclipse.ditto.connectivity.service.mapping.MessageMapperRegistry;
 import org.eclipse.ditto.connectivity.service.messaging.mappingoutcome.MappingOutcome;
@@ -132,7 +135,57 @@ public final class OutboundMappingProcessor extends AbstractMappingProcessor<Out
      */
     @Override
     List<MappingOutcome<OutboundSignal.Mapped>> process(final OutboundSignal outboundSignal) {
-        final List<OutboundSignal.Mappable> mappableSignals;
+        return processBatch(List.of(outboundSignal)).get(0);
+    }
+
+    /**
+     * Processes a batch of {@link OutboundSignal}s. All signals of the batch handled by the same mapper are mapped
+     * with one call of {@link MessageMapper#mapAdaptableBatch(List)}. If that fails, the signals are mapped one by one
+     * in order to determine the outcome of each signal.
+     *
+     * @param outboundSignals the outbound signals to be processed.
+     * @return for each of the {@code outboundSignals} in the same order the list of its mapping outcomes.
+     */
+    List<List<MappingOutcome<OutboundSignal.Mapped>>> processBatch(final List<OutboundSignal> outboundSignals) {
+        final List<MappingTimer> mappingTimers = new ArrayList<>(outboundSignals.size());
+        final List<List<List<MappingOutcome<OutboundSignal.Mapped>>>> outcomes =
+                new ArrayList<>(outboundSignals.size());
+        final Map<MessageMapper, List<BatchEntry>> entriesByMapper = new IdentityHashMap<>();
+        for (int i = 0; i < outboundSignals.size(); i++) {
+            final var outboundSignal = outboundSignals.get(i);
+            final var dittoHeaders = outboundSignal.getSource().getDittoHeaders();
+            final var mappingTimer = MappingTimer.outbound(connectionId, connectionType, dittoHeaders);
+            final var adaptable = toAdaptable(outboundSignal, mappingTimer);
+            final List<BatchEntry> signalEntries = new ArrayList<>();
+            for (final OutboundSignal.Mappable mappableSignal : toMappableSignals(outboundSignal)) {
+                final List<MessageMapper> mappers = getMappers(mappableSignal.getPayloadMapping());
+                logger.withCorrelationId(adaptable)
+                        .debug("Resolved mappers for message {} to targets {}: {}", mappableSignal.getSource(),
+                                mappableSignal.getTargets(), mappers);
+                // convert messages in the order of payload mapping and forward to result handler
+                for (final MessageMapper mapper : mappers) {
+                    final var entry = new BatchEntry(i, signalEntries.size(), mappableSignal, adaptable);
+                    signalEntries.add(entry);
+                    entriesByMapper.computeIfAbsent(mapper, m -> new ArrayList<>()).add(entry);
+                }
+            }
+            mappingTimers.add(mappingTimer);
+            outcomes.add(new ArrayList<>(Collections.nCopies(signalEntries.size(), null)));
+        }
+
+        entriesByMapper.forEach((mapper, entries) -> runMapper(mapper, entries, mappingTimers, outcomes));
+
+        final List<List<MappingOutcome<OutboundSignal.Mapped>>> result = new ArrayList<>(outboundSignals.size());
+        for (int i = 0; i < outboundSignals.size(); i++) {
+            final var signalOutcomes = outcomes.get(i);
+            result.add(mappingTimers.get(i).overall(() -> signalOutcomes.stream()
+                    .flatMap(List::stream)
+                    .toList()));
+        }
+        return result;
+    }
+
+    private List<OutboundSignal.Mappable> toMappableSignals(final OutboundSignal outboundSignal) {
         if (outboundSignal.getTargets().isEmpty()) {
             // responses/errors do not have a target assigned, read mapper used for inbound message from internal header
             final PayloadMapping payloadMapping = outboundSignal.getSource()
@@ -143,10 +196,10 @@ public final class OutboundMappingProcessor extends AbstractMappingProcessor<Out
             final OutboundSignal.Mappable mappableSignal =
                     OutboundSignalFactory.newMappableOutboundSignal(outboundSignal.getSource(),
                             outboundSignal.getTargets(), payloadMapping);
-            mappableSignals = Collections.singletonList(mappableSignal);
+            return Collections.singletonList(mappableSignal);
         } else {
             // group targets with exact same list of mappers together to avoid redundant mappings
-            mappableSignals = outboundSignal.getTargets()
+            return outboundSignal.getTargets()
                     .stream()
                     .collect(Collectors.groupingBy(Target::getPayloadMapping, LinkedHashMap::new, Collectors.toList()))
                     .entrySet()
@@ -155,18 +208,12 @@ public final class OutboundMappingProcessor extends AbstractMappingProcessor<Out
                             e.getKey()))
                     .toList();
         }
-        return processMappableSignals(outboundSignal, mappableSignals);
     }
 
-    private List<MappingOutcome<OutboundSignal.Mapped>> processMappableSignals(
-            final OutboundSignal outboundSignal,
-            final List<OutboundSignal.Mappable> mappableSignals
-    ) {
+    private Adaptable toAdaptable(final OutboundSignal outboundSignal, final MappingTimer mappingTimer) {
         final var outboundSignalSource = outboundSignal.getSource();
         final var dittoHeaders = outboundSignalSource.getDittoHeaders();
 
-        final var mappingTimer = MappingTimer.outbound(connectionId, connectionType, dittoHeaders);
-
         final Signal<?> signalToMap;
         if (dittoHeaders.containsKey(DittoHeaderDefinition.REQUESTED_ACKS.getKey())) {
             final Set<AcknowledgementRequest> publishedAckRequests = dittoHeaders.getAcknowledgementRequests()
@@ -185,28 +232,84 @@ public final class OutboundMappingProcessor extends AbstractMappingProcessor<Out
                 .map(extra -> ProtocolFactory.setExtra(adaptableWithoutExtra, extra))
                 .orElse(adaptableWithoutExtra);
 
-        final var adaptableWithInternalCorrelationId = mappableSignals.stream()
-                .findFirst()
-                .map(signal -> setInternalCorrelationIdToAdaptable(adaptable, signal.getSource()))
-                .orElse(adaptable);
-
-        return mappingTimer.overall(() -> mappableSignals.stream()
-                .flatMap(mappableSignal -> {
-                    final Signal<?> source = mappableSignal.getSource();
-                    final List<Target> targets = mappableSignal.getTargets();
-                    final List<MessageMapper> mappers = getMappers(mappableSignal.getPayloadMapping());
-                    logger.withCorrelationId(adaptableWithInternalCorrelationId)
-                            .debug("Resolved mappers for message {} to targets {}: {}", source, targets, mappers);
-                    // convert messages in the order of payload mapping and forward to result handler
-                    return mappers.stream()
-                            .flatMap(mapper -> runMapper(
-                                    mappableSignal,
-                                    adaptableWithInternalCorrelationId,
-                                    mapper,
-                                    mappingTimer
-                            ));
-                })
-                .toList());
+        return setInternalCorrelationIdToAdaptable(adaptable, outboundSignalSource);
+    }
+
+    private void runMapper(final MessageMapper mapper,
+            final List<BatchEntry> entries,
+            final List<MappingTimer> mappingTimers,
+            final List<List<List<MappingOutcome<OutboundSignal.Mapped>>>> outcomes) {
+
+        final List<BatchEntry> entriesToMap = new ArrayList<>(entries.size());
+        for (final BatchEntry entry : entries) {
+            try {
+                if (shouldMapMessageByConditions(entry.mappableSignal(), mapper)) {
+                    entriesToMap.add(entry);
+                } else {
+                    logger.withCorrelationId(entry.adaptable())
+                            .debug("Not mapping message with mapper <{}> as MessageMapper conditions {} were not matched.",
+                                    mapper.getId(), mapper.getIncomingConditions());
+                    entry.setOutcomes(outcomes, List.of(MappingOutcome.dropped(mapper.getId(), null)));
+                }
+            } catch (final Exception e) {
+                entry.setOutcomes(outcomes, List.of(mappingError(e, mapper, entry.adaptable())));
+            }
+        }
+
+        if (entriesToMap.size() == 1) {
+            final BatchEntry entry = entriesToMap.get(0);
+            entry.setOutcomes(outcomes, mapAdaptable(mapper, entry, mappingTimers.get(entry.signalIndex())));
+        } else if (!entriesToMap.isEmpty()) {
+            final List<MappingTimer> batchTimers = entriesToMap.stream()
+                    .map(entry -> mappingTimers.get(entry.signalIndex()))
+                    .toList();
+            final List<Adaptable> adaptables = entriesToMap.stream().map(BatchEntry::adaptable).toList();
+            List<List<ExternalMessage>> messages;
+            int failedIndex;
+            @Nullable Exception failure = null;
+            try {
+                logger.debug("Mapping batch of <{}> messages using mapper {}.", adaptables.size(), mapper.getId());
+                messages = MappingTimer.outboundPayloadBatch(batchTimers, mapper.getId(),
+                        () -> mapAdaptableBatch(mapper, adaptables));
+                failedIndex = entriesToMap.size();
+            } catch (final BatchMappingFailedException e) {
+                // keep the results before the failed message: mapping them again would run stateful mappers twice
+                logger.debug("Mapping batch with mapper <{}> failed at message <{}>, mapping the messages after " +
+                        "it one by one: <{}>", mapper.getId(), e.getFailedIndex(), e.getCause().getMessage());
+                messages = e.getResults();
+                failedIndex = e.getFailedIndex();
+                failure = e.getCause() instanceof Exception cause ? cause : e;
+            } catch (final Exception e) {
+                logger.debug("Mapping batch with mapper <{}> failed, mapping messages one by one: <{}: {}>",
+                        mapper.getId(), e.getClass().getSimpleName(), e.getMessage());
+                messages = List.of();
+                failedIndex = -1;
+            }
+            for (int k = 0; k < entriesToMap.size(); k++) {
+                final var entry = entriesToMap.get(k);
+                if (k < failedIndex) {
+                    entry.setOutcomes(outcomes, toOutcomes(mapper, entry, messages.get(k)));
+                } else if (k == failedIndex && null != failure) {
+                    entry.setOutcomes(outcomes, List.of(mappingError(failure, mapper, entry.adaptable())));
+                } else {
+                    entry.setOutcomes(outcomes, mapAdaptable(mapper, entry, batchTimers.get(k)));
+                }
+            }
+        }
+    }
+
+    private static List<List<ExternalMessage>> mapAdaptableBatch(final MessageMapper mapper,
+            final List<Adaptable> adaptables) {
+
+        try {
+            return mapper.mapAdaptableBatch(adaptables).stream()
+                    .map(OutboundMappingProcessor::checkForNull)
+                    .toList();
+        } catch (final BatchMappingFailedException e) {
+            final List<List<ExternalMessage>> results = e.getResults();
+            throw new BatchMappingFailedException(e.getFailedIndex(),
+                    results.stream().map(OutboundMappingProcessor::checkForNull).toList(), e.getCause());
+        }
     }
 
     private static Adaptable setInternalCorrelationIdToAdaptable(final Adaptable adaptable,
@@ -218,52 +321,60 @@ public final class OutboundMappingProcessor extends AbstractMappingProcessor<Out
         return result;
     }
 
-    private Stream<MappingOutcome<OutboundSignal.Mapped>> runMapper(final OutboundSignal.Mappable outboundSignal,
-            final Adaptable adaptable,
-            final MessageMapper mapper,
-            final MappingTimer timer) {
+    private List<MappingOutcome<OutboundSignal.Mapped>> mapAdaptable(final MessageMapper mapper,
+            final BatchEntry entry, final MappingTimer timer) {
 
+        final Adaptable adaptable = entry.adaptable();
         try {
-            if (shouldMapMessageByConditions(outboundSignal, mapper)) {
-                logger.withCorrelationId(adaptable)
-                        .debug("Applying mapper <{}> to message <{}>", mapper.getId(), adaptable);
+            logger.withCorrelationId(adaptable)
+                    .debug("Applying mapper <{}> to message <{}>", mapper.getId(), adaptable);
 
-                final List<ExternalMessage> messages =
-                        timer.outboundPayload(mapper.getId(), () -> checkForNull(mapper.map(adaptable)));
+            final List<ExternalMessage> messages =
+                    timer.outboundPayload(mapper.getId(), () -> checkForNull(mapper.map(adaptable)));
+            return toOutcomes(mapper, entry, messages);
+        } catch (final Exception e) {
+            return List.of(mappingError(e, mapper, adaptable));
+        }
+    }
 
-                logger.withCorrelationId(adaptable)
-                        .debug("Mapping <{}> produced <{}> messages.", mapper.getId(), messages.size());
+    private List<MappingOutcome<OutboundSignal.Mapped>> toOutcomes(final MessageMapper mapper,
+            final BatchEntry entry, final List<ExternalMessage> messages) {
 
-                if (messages.isEmpty()) {
-                    return Stream.of(MappingOutcome.dropped(mapper.getId(), null));
-                } else {
-                    return messages.stream()
-                            .map(em -> {
-                                final ExternalMessage externalMessage =
-                                        ExternalMessageFactory.newExternalMessageBuilder(em)
-                                                .withTopicPath(adaptable.getTopicPath())
-                                                .withInternalHeaders(outboundSignal.getSource().getDittoHeaders())
-                                                .build();
-                                final OutboundSignal.Mapped mapped =
-                                        OutboundSignalFactory.newMappedOutboundSignal(outboundSignal, adaptable,
-                                                externalMessage);
-                                return MappingOutcome.mapped(mapper.getId(), mapped, adaptable.getTopicPath(), null);
-                            });
-                }
+        final OutboundSignal.Mappable outboundSignal = entry.mappableSignal();
+        final Adaptable adaptable = entry.adaptable();
+        try {
+            logger.withCorrelationId(adaptable)
+                    .debug("Mapping <{}> produced <{}> messages.", mapper.getId(), messages.size());
+
+            if (messages.isEmpty()) {
+                return List.of(MappingOutcome.dropped(mapper.getId(), null));
             } else {
-                logger.withCorrelationId(adaptable)
-                        .debug("Not mapping message with mapper <{}> as MessageMapper conditions {} were not matched.",
-                                mapper.getId(), mapper.getIncomingConditions());
-                return Stream.of(MappingOutcome.dropped(mapper.getId(), null));
+                return messages.stream()
+                        .map(em -> {
+                            final ExternalMessage externalMessage =
+                                    ExternalMessageFactory.newExternalMessageBuilder(em)
+                                            .withTopicPath(adaptable.getTopicPath())
+                                            .withInternalHeaders(outboundSignal.getSource().getDittoHeaders())
+                                            .build();
+                            final OutboundSignal.Mapped mapped =
+                                    OutboundSignalFactory.newMappedOutboundSignal(outboundSignal, adaptable,
+                                            externalMessage);
+                            return MappingOutcome.mapped(mapper.getId(), mapped, adaptable.getTopicPath(), null);
+                        })
+                        .toList();
             }
         } catch (final Exception e) {
-            return Stream.of(
-                    MappingOutcome.error(mapper.getId(), toDittoRuntimeException(e, mapper, adaptable),
-                            adaptable.getTopicPath(), null)
-            );
+            return List.of(mappingError(e, mapper, adaptable));
         }
     }
 
+    private static MappingOutcome<OutboundSignal.Mapped> mappingError(final Exception error,
+            final MessageMapper mapper, final Adaptable adaptable) {
+
+        return MappingOutcome.error(mapper.getId(), toDittoRuntimeException(error, mapper, adaptable),
+                adaptable.getTopicPath(), null);
+    }
+
     private static DittoRuntimeException toDittoRuntimeException(final Throwable error, final MessageMapper mapper,
             final Adaptable adaptable) {
         return DittoRuntimeException.asDittoRuntimeException(error, e -> {
@@ -283,4 +394,16 @@ public final class OutboundMappingProcessor extends AbstractMappingProcessor<Out
         return messages == null ? List.of() : messages;
     }
 
+    /**
+     * Position of a mapper within the mappers of a signal of a batch.
+     */
+    private record BatchEntry(int signalIndex, int outcomeIndex, OutboundSignal.Mappable mappableSignal,
+            Adaptable adaptable) {
+
+        private <T> void setOutcomes(final List<List<List<T>>> outcomes, final List<T> mapperOutcomes) {
+            outcomes.get(signalIndex).set(outcomeIndex, mapperOutcomes);
+        }
+
+    }
+
 }
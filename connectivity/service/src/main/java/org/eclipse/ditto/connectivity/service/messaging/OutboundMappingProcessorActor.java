@@ -27,6 +27,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -77,6 +78,7 @@ import org.eclipse.ditto.internal.utils.akka.controlflow.AbstractGraphActor;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
+import org.eclipse.ditto.internal.utils.search.RqlCriteriaCache;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonFieldSelector;
@@ -92,9 +94,7 @@ import org.eclipse.ditto.protocol.TopicPath;
 import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
 import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
 import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
-import org.eclipse.ditto.rql.parser.RqlPredicateParser;
 import org.eclipse.ditto.rql.query.criteria.Criteria;
-import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
 import org.eclipse.ditto.things.model.ThingFieldSelector;
 import org.eclipse.ditto.things.model.ThingId;
@@ -147,6 +147,7 @@ public final class OutboundMappingProcessorActor
     private final ConnectionMonitor responseMappedMonitor;
     private final SignalEnrichmentFacade signalEnrichmentFacade;
     private final int processorPoolSize;
+    private final int maxBatchSize;
     private final DittoRuntimeExceptionToErrorResponseFunction toErrorResponseFunction;
     private final List<OutboundMappingProcessor> outboundMappingProcessors;
 
@@ -177,6 +178,7 @@ public final class OutboundMappingProcessorActor
         responseMappedMonitor = connectionMonitorRegistry.forResponseMapped(this.connection);
         signalEnrichmentFacade = ConnectivitySignalEnrichmentProvider.get(system, dittoExtensionConfig).getFacade(this.connection.getId());
         this.processorPoolSize = determinePoolSize(processorPoolSize, mappingConfig.getMaxPoolSize());
+        maxBatchSize = Math.max(1, mappingConfig.getMaxBatchSize());
         toErrorResponseFunction = DittoRuntimeExceptionToErrorResponseFunction.of(DittoHeadersValidator.get(system, dittoExtensionConfig));
     }
 
@@ -361,29 +363,120 @@ public final class OutboundMappingProcessorActor
 
     @Override
     protected Sink<OutboundSignalWithSender, ?> createSink() {
-        // Enrich outbound signals by extra fields if necessary.
-        // Targets attached to the OutboundSignal are pre-selected by authorization, topic and filter sans enrichment.
-        final Flow<OutboundSignalWithSender, OutboundSignal.MultiMapped, ?> flow =
-                Flow.<OutboundSignalWithSender>create()
-                        .zipWithIndex()
-                        .mapAsync(processorPoolSize, outboundPair -> {
-                            final int processorIndex = (int) (outboundPair.second() % outboundMappingProcessors.size());
-                            final var outboundMappingProcessor = outboundMappingProcessors.get(processorIndex);
-                            return toMultiMappedOutboundSignal(
-                                    outboundPair.first(),
-                                    outboundMappingProcessor,
-                                    Source.single(outboundPair.first())
-                                            .via(splitByTargetExtraFieldsFlow())
-                                            .mapAsync(mappingConfig.getParallelism(), this::enrichAndFilterSignal)
-                                            .mapConcat(x -> x)
-                                            .map(outbound -> handleOutboundSignal(outbound, outboundMappingProcessor))
-                                            .flatMapConcat(x -> x)
-                            );
-                        })
-                        .mapConcat(x -> x);
+        final Executor mappingExecutor = getContext().getDispatcher();
+        final Flow<OutboundSignalWithSender, OutboundSignal.MultiMapped, NotUsed> flow;
+        if (mappingConfig.isPartitioned()) {
+            // signals with the same partition key are enriched and mapped in order by the same processor;
+            // each lane enriches one signal at a time and the lanes share the configured enrichment parallelism
+            final int laneBufferSize = mappingConfig.getBufferSize() / Math.max(1, processorPoolSize);
+            final int laneEnrichmentParallelism = Math.max(1, mappingConfig.getParallelism() / processorPoolSize);
+            flow = Flow.fromGraph(PartitionedFlow.of(processorPoolSize, laneBufferSize, this::getPartitionKey,
+                    laneIndex -> enrichmentFlow(1, laneEnrichmentParallelism)
+                            .batch(maxBatchSize, OutboundMappingProcessorActor::newBatch,
+                                    OutboundMappingProcessorActor::addToBatch)
+                            .mapAsync(1, batch -> mapBatchAsync(batch, laneIndex, mappingExecutor))
+                            .mapConcat(x -> x)));
+        } else {
+            flow = enrichmentFlow(processorPoolSize, mappingConfig.getParallelism())
+                    // signals queuing up while all processors are busy are mapped together in batches
+                    .batch(maxBatchSize, OutboundMappingProcessorActor::newBatch,
+                            OutboundMappingProcessorActor::addToBatch)
+                    .zipWithIndex()
+                    .mapAsync(processorPoolSize, batchPair -> mapBatchAsync(batchPair.first(), batchPair.second(),
+                            mappingExecutor))
+                    .mapConcat(x -> x);
+        }
         return flow.to(Sink.foreach(this::forwardToPublisherActor));
     }
 
+    /**
+     * Enrich outbound signals by extra fields if necessary.
+     * Targets attached to the OutboundSignal are pre-selected by authorization, topic and filter sans enrichment.
+     *
+     * @param signalParallelism how many signals are enriched in parallel.
+     * @param targetParallelism how many targets of each signal are enriched in parallel.
+     * @return the enrichment flow.
+     */
+    private Flow<OutboundSignalWithSender, Pair<OutboundSignalWithSender, List<OutboundSignalWithSender>>, NotUsed>
+    enrichmentFlow(final int signalParallelism, final int targetParallelism) {
+
+        return Flow.<OutboundSignalWithSender>create()
+                .mapAsync(signalParallelism, outbound -> Source.single(outbound)
+                        .via(splitByTargetExtraFieldsFlow())
+                        .mapAsync(targetParallelism, this::enrichAndFilterSignal)
+                        .<OutboundSignalWithSender>mapConcat(x -> x)
+                        .runWith(Sink.seq(), materializer)
+                        .thenApply(enriched -> Pair.create(outbound, enriched)));
+    }
+
+    private Optional<String> getPartitionKey(final OutboundSignalWithSender outbound) {
+        final String partitionKey = mappingConfig.getOutboundPartitionKey();
+        try {
+            return Resolvers.forSignal(outbound.getSource(), connection.getId())
+                    .resolve(partitionKey)
+                    .findFirst();
+        } catch (final DittoRuntimeException e) {
+            logger.debug("Could not resolve partition key <{}>: {}", partitionKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private CompletionStage<List<OutboundSignal.MultiMapped>> mapBatchAsync(
+            final List<Pair<OutboundSignalWithSender, List<OutboundSignalWithSender>>> batch, final long index,
+            final Executor mappingExecutor) {
+
+        final int processorIndex = (int) (index % outboundMappingProcessors.size());
+        final var outboundMappingProcessor = outboundMappingProcessors.get(processorIndex);
+        return CompletableFuture.supplyAsync(() -> mapBatch(batch, outboundMappingProcessor), mappingExecutor);
+    }
+
+    private static List<Pair<OutboundSignalWithSender, List<OutboundSignalWithSender>>> newBatch(
+            final Pair<OutboundSignalWithSender, List<OutboundSignalWithSender>> enrichedSignal) {
+
+        final List<Pair<OutboundSignalWithSender, List<OutboundSignalWithSender>>> batch = new ArrayList<>();
+        batch.add(enrichedSignal);
+        return batch;
+    }
+
+    private static List<Pair<OutboundSignalWithSender, List<OutboundSignalWithSender>>> addToBatch(
+            final List<Pair<OutboundSignalWithSender, List<OutboundSignalWithSender>>> batch,
+            final Pair<OutboundSignalWithSender, List<OutboundSignalWithSender>> enrichedSignal) {
+
+        batch.add(enrichedSignal);
+        return batch;
+    }
+
+    /**
+     * Maps the enriched signals of a batch of outbound signals with one call of the mapping processor.
+     *
+     * @param batch pairs of outbound signal and the signals it was split into by enrichment.
+     * @param outboundMappingProcessor the processor to map the batch with.
+     * @return the multi-mapped signals to publish.
+     */
+    private List<OutboundSignal.MultiMapped> mapBatch(
+            final List<Pair<OutboundSignalWithSender, List<OutboundSignalWithSender>>> batch,
+            final OutboundMappingProcessor outboundMappingProcessor) {
+
+        final List<OutboundSignalWithSender> enrichedSignals = batch.stream()
+                .flatMap(pair -> pair.second().stream())
+                .toList();
+        enrichedSignals.forEach(this::logOutboundSignal);
+        final List<List<MappingOutcome<Mapped>>> outcomes =
+                enrichedSignals.isEmpty() ? List.of() : outboundMappingProcessor.processBatch(List.copyOf(enrichedSignals));
+
+        final List<OutboundSignal.MultiMapped> result = new ArrayList<>(batch.size());
+        int enrichedIndex = 0;
+        for (final Pair<OutboundSignalWithSender, List<OutboundSignalWithSender>> pair : batch) {
+            final List<OutboundSignalWithSender> mappedSignals = new ArrayList<>();
+            for (final OutboundSignalWithSender enrichedSignal : pair.second()) {
+                mappedSignals.addAll(mapToExternalMessage(enrichedSignal, outcomes.get(enrichedIndex)));
+                enrichedIndex++;
+            }
+            result.addAll(toMultiMappedOutboundSignal(pair.first(), outboundMappingProcessor, mappedSignals));
+        }
+        return result;
+    }
+
     /**
      * Create a flow that splits 1 outbound signal into many as follows.
      * <ol>
@@ -589,14 +682,11 @@ public final class OutboundMappingProcessorActor
         }
     }
 
-    private Source<OutboundSignalWithSender, ?> handleOutboundSignal(final OutboundSignalWithSender outbound,
-            final OutboundMappingProcessor outboundMappingProcessor) {
-
+    private void logOutboundSignal(final OutboundSignalWithSender outbound) {
         final Signal<?> source = outbound.getSource();
         if (logger.isDebugEnabled()) {
             logger.withCorrelationId(source).debug("Handling outbound signal <{}>.", source);
         }
-        return mapToExternalMessage(outbound, outboundMappingProcessor);
     }
 
     private void forwardToPublisherActor(final OutboundSignal.MultiMapped mappedEnvelop) {
@@ -615,26 +705,26 @@ public final class OutboundMappingProcessorActor
         return OutboundSignalWithSender.of(signal, sender);
     }
 
-    private Source<OutboundSignalWithSender, ?> mapToExternalMessage(final OutboundSignalWithSender outbound,
-            final OutboundMappingProcessor outboundMappingProcessor) {
+    private List<OutboundSignalWithSender> mapToExternalMessage(final OutboundSignalWithSender outbound,
+            final List<MappingOutcome<Mapped>> outcomes) {
 
         final ConnectionMonitor.InfoProvider infoProvider = InfoProviderFactory.forSignal(outbound.getSource());
         final Set<ConnectionMonitor> outboundMapped = getMonitorsForMappedSignal(outbound);
         final Set<ConnectionMonitor> outboundDropped = getMonitorsForDroppedSignal(outbound);
         final Set<ConnectionMonitor> monitorsForOther = getMonitorsForOther(outbound);
 
-        final MappingOutcome.Visitor<Mapped, Source<OutboundSignalWithSender, ?>> visitor =
-                MappingOutcome.<OutboundSignal.Mapped, Source<OutboundSignalWithSender, ?>>newVisitorBuilder()
+        final MappingOutcome.Visitor<Mapped, List<OutboundSignalWithSender>> visitor =
+                MappingOutcome.<OutboundSignal.Mapped, List<OutboundSignalWithSender>>newVisitorBuilder()
                         .onMapped((mapperId, mapped) -> {
                             outboundMapped.forEach(monitor -> monitor.success(infoProvider,
                                     "Mapped outgoing signal with mapper <{0}>", mapperId));
-                            return Source.single(outbound.mapped(mapped));
+                            return List.of(outbound.mapped(mapped));
                         })
                         .onDropped((mapperId, unused) -> {
                             outboundDropped.forEach(monitor -> monitor.success(infoProvider,
                                     "Payload mapping of mapper <{0}> returned null, outgoing message is dropped",
                                     mapperId));
-                            return Source.empty();
+                            return List.<OutboundSignalWithSender>of();
                         })
                         .onError((mapperId, exception, topicPath, unused) -> {
                             if (exception instanceof DittoRuntimeException e) {
@@ -651,14 +741,13 @@ public final class OutboundMappingProcessorActor
                                         .warning("Got unexpected exception during processing Signal <{}>.",
                                                 exception.getMessage());
                             }
-                            return Source.empty();
+                            return List.<OutboundSignalWithSender>of();
                         })
                         .build();
 
-        return outboundMappingProcessor.process(outbound).stream()
-                .<Source<OutboundSignalWithSender, ?>>map(visitor::eval)
-                .reduce(Source::concat)
-                .orElse(Source.empty());
+        return outcomes.stream()
+                .flatMap(outcome -> visitor.eval(outcome).stream())
+                .toList();
     }
 
     private Set<ConnectionMonitor> getMonitorsForDroppedSignal(final OutboundSignal outbound) {
@@ -694,46 +783,43 @@ public final class OutboundMappingProcessorActor
         }
     }
 
-    private <T> CompletionStage<Collection<OutboundSignal.MultiMapped>> toMultiMappedOutboundSignal(
+    private Collection<OutboundSignal.MultiMapped> toMultiMappedOutboundSignal(
             final OutboundSignalWithSender outbound,
             final OutboundMappingProcessor outboundMappingProcessor,
-            final Source<OutboundSignalWithSender, T> source) {
+            final List<OutboundSignalWithSender> outboundSignals) {
 
         final ActorContext context = getContext();
-        return source.runWith(Sink.seq(), materializer)
-                .thenApply(outboundSignals -> {
-                    if (outboundSignals.isEmpty()) {
-                        // signal dropped; issue weak acks for all requested acks belonging to this connection
-                        issueWeakAcknowledgements(outbound.getSource(),
-                                outboundMappingProcessor::isSourceDeclaredOrTargetIssuedAck,
-                                context,
-                                logger);
-                        return List.of();
-                    } else {
-                        final ActorRef sender = outboundSignals.get(0).sender;
-                        final List<Target> targetsToPublishAt = outboundSignals.stream()
-                                .map(OutboundSignal::getTargets)
-                                .flatMap(List::stream)
-                                .toList();
-                        final Predicate<AcknowledgementLabel> willPublish =
-                                ConnectionValidator.getTargetIssuedAcknowledgementLabels(connection.getId(),
-                                                targetsToPublishAt)
-                                        .collect(Collectors.toSet())::contains;
-                        final var signalsWithoutEnrichmentFailures =
-                                filterFailedEnrichments(outboundSignals, willPublish, context, logger);
-                        final List<Mapped> mappedSignals = signalsWithoutEnrichmentFailures
-                                .map(OutboundSignalWithSender::asMapped)
-                                .toList();
-                        issueWeakAcknowledgements(outbound.getSource(),
-                                willPublish.negate().and(outboundMappingProcessor::isTargetIssuedAck),
-                                context,
-                                logger);
-                        if (mappedSignals.isEmpty()) {
-                            return List.of();
-                        }
-                        return List.of(OutboundSignalFactory.newMultiMappedOutboundSignal(mappedSignals, sender));
-                    }
-                });
+        if (outboundSignals.isEmpty()) {
+            // signal dropped; issue weak acks for all requested acks belonging to this connection
+            issueWeakAcknowledgements(outbound.getSource(),
+                    outboundMappingProcessor::isSourceDeclaredOrTargetIssuedAck,
+                    context,
+                    logger);
+            return List.of();
+        } else {
+            final ActorRef sender = outboundSignals.get(0).sender;
+            final List<Target> targetsToPublishAt = outboundSignals.stream()
+                    .map(OutboundSignal::getTargets)
+                    .flatMap(List::stream)
+                    .toList();
+            final Predicate<AcknowledgementLabel> willPublish =
+                    ConnectionValidator.getTargetIssuedAcknowledgementLabels(connection.getId(),
+                                    targetsToPublishAt)
+                            .collect(Collectors.toSet())::contains;
+            final var signalsWithoutEnrichmentFailures =
+                    filterFailedEnrichments(outboundSignals, willPublish, context, logger);
+            final List<Mapped> mappedSignals = signalsWithoutEnrichmentFailures
+                    .map(OutboundSignalWithSender::asMapped)
+                    .toList();
+            issueWeakAcknowledgements(outbound.getSource(),
+                    willPublish.negate().and(outboundMappingProcessor::isTargetIssuedAck),
+                    context,
+                    logger);
+            if (mappedSignals.isEmpty()) {
+                return List.of();
+            }
+            return List.of(OutboundSignalFactory.newMultiMappedOutboundSignal(mappedSignals, sender));
+        }
     }
 
     private static Stream<OutboundSignalWithSender> filterFailedEnrichments(
@@ -777,9 +863,8 @@ public final class OutboundMappingProcessorActor
             final PlaceholderResolver<Object> timePlaceholderResolver = PlaceholderFactory
                     .newPlaceholderResolver(TIME_PLACEHOLDER, new Object());
             final DittoHeaders dittoHeaders = signal.getDittoHeaders();
-            final Criteria criteria = QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(),
-                    topicPathPlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver
-            ).filterCriteria(filter.get(), dittoHeaders);
+            final Criteria criteria = RqlCriteriaCache.getInstance().filterCriteria(filter.get(), dittoHeaders,
+                    topicPathPlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver);
             return outboundSignalWithExtra.getExtra()
                     .flatMap(extra -> ThingEventToThingConverter
                             .mergeThingWithExtraFields(signal, extraFields.get(), extra)
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import akka.NotUsed;
+import akka.stream.FlowShape;
+import akka.stream.Graph;
+import akka.stream.OverflowStrategy;
+import akka.stream.UniformFanInShape;
+import akka.stream.UniformFanOutShape;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.GraphDSL;
+import akka.stream.javadsl.Merge;
+import akka.stream.javadsl.Partition;
+
+/**
+ * A stream processor distributing messages to a fixed number of lanes by a partition key.
+ * <pre>
+ * {@code
+ *                    +-------------+    +--------+   +--------+
+ *                    |             +--->+ buffer +-->+ lane 0 +---+
+ *                    |             |    +--------+   +--------+   |    +-------+
+ *  input +---------->+  Partition  |             ...              +--->+ Merge +-----> output
+ *                    |   by key    |    +--------+   +--------+   |    +-------+
+ *                    |             +--->+ buffer +-->+ lane n +---+
+ *                    +-------------+    +--------+   +--------+
+ * }
+ * </pre>
+ * Messages with the same key always take the same lane and each lane preserves the order of its messages. Messages
+ * of different lanes are not ordered relative to each other. Messages without key all take the first lane, so they
+ * keep their order relative to each other as well.
+ * <p>
+ * A bounded buffer in front of each lane lets the other lanes go on while one lane is busy. Once the buffer of a busy
+ * lane is full, the partition backpressures the whole input until that lane catches up.
+ * </p>
+ */
+final class PartitionedFlow {
+
+    private PartitionedFlow() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Create a flow partitioning messages by key into lanes.
+     *
+     * @param lanes the number of lanes.
+     * @param laneBufferSize the number of messages buffered in front of each lane.
+     * @param keyExtractor extracts the partition key of a message, if any.
+     * @param laneFactory creates the flow of the lane with the given index.
+     * @param <A> type of input messages.
+     * @param <B> type of output messages.
+     * @return the partitioned flow.
+     */
+    static <A, B> Graph<FlowShape<A, B>, NotUsed> of(final int lanes,
+            final int laneBufferSize,
+            final Function<A, Optional<String>> keyExtractor,
+            final IntFunction<Flow<A, B, ?>> laneFactory) {
+
+        if (lanes <= 1) {
+            return Flow.<A>create().via(laneFactory.apply(0));
+        }
+        return GraphDSL.create(builder -> {
+            final UniformFanOutShape<A, A> partition = builder.add(Partition.create(lanes, message ->
+                    getLane(keyExtractor.apply(message), lanes)));
+            final UniformFanInShape<B, B> merge = builder.add(Merge.create(lanes));
+            for (int i = 0; i < lanes; i++) {
+                final FlowShape<A, B> lane = builder.add(Flow.<A>create()
+                        .buffer(Math.max(1, laneBufferSize), OverflowStrategy.backpressure())
+                        .via(laneFactory.apply(i)));
+                builder.from(partition.out(i)).via(lane).toFanIn(merge);
+            }
+            return FlowShape.of(partition.in(), merge.out());
+        });
+    }
+
+    private static int getLane(final Optional<String> key, final int lanes) {
+        return key.map(k -> Math.floorMod(k.hashCode(), lanes)).orElse(0);
+    }
+
+}
@@ -55,6 +55,7 @@ final class ConnectionLoggerFactory {
      * @param logCategory the category of the logger.
      * @param logType the type of the logger.
      * @param address the address of the logger, e.g. a source or target address.
+     * @param budget the budget for the logs retained by the logger, shared with other loggers.
      * @return a new evicting logger.
      * @throws java.lang.NullPointerException if any non-nullable argument is {@code null}.
      * @throws java.lang.AssertionError if {@code logCategory} is invalid.
@@ -62,13 +63,13 @@ final class ConnectionLoggerFactory {
     static ConnectionLogger newEvictingLogger(
             final int successCapacity, final int failureCapacity,
             final LogCategory logCategory, final LogType logType,
-            @Nullable final String address) {
+            @Nullable final String address, final LogEntryBudget budget) {
 
         return switch (logCategory) {
-            case SOURCE -> newSourceLogger(logType, successCapacity, failureCapacity, address);
-            case TARGET -> newTargetLogger(logType, successCapacity, failureCapacity, address);
-            case RESPONSE -> newResponseLogger(logType, successCapacity, failureCapacity, address);
-            case CONNECTION -> newConnectionLogger(logType, successCapacity, failureCapacity, address);
+            case SOURCE -> newSourceLogger(logType, successCapacity, failureCapacity, address, budget);
+            case TARGET -> newTargetLogger(logType, successCapacity, failureCapacity, address, budget);
+            case RESPONSE -> newResponseLogger(logType, successCapacity, failureCapacity, address, budget);
+            case CONNECTION -> newConnectionLogger(logType, successCapacity, failureCapacity, address, budget);
             default -> throw new AssertionError("Missing switch case.");
         };
     }
@@ -152,11 +153,12 @@ final class ConnectionLoggerFactory {
 
     private static ConnectionLogger newSourceLogger(final LogType type, final int successCapacity,
             final int failureCapacity,
-            @Nullable final String address) {
+            @Nullable final String address, final LogEntryBudget budget) {
 
         final EvictingConnectionLogger.Builder builder =
                 EvictingConnectionLogger.newBuilder(successCapacity, failureCapacity, LogCategory.SOURCE, type)
-                        .withAddress(address);
+                        .withAddress(address)
+                        .withBudget(budget);
 
         switch (type) {
             case CONSUMED:
@@ -196,11 +198,12 @@ final class ConnectionLoggerFactory {
 
     private static ConnectionLogger newTargetLogger(final LogType type, final int successCapacity,
             final int failureCapacity,
-            @Nullable final String address) {
+            @Nullable final String address, final LogEntryBudget budget) {
 
         final EvictingConnectionLogger.Builder builder =
                 EvictingConnectionLogger.newBuilder(successCapacity, failureCapacity, LogCategory.TARGET, type)
-                        .withAddress(address);
+                        .withAddress(address)
+                        .withBudget(budget);
 
         switch (type) {
             case DISPATCHED:
@@ -241,11 +244,12 @@ final class ConnectionLoggerFactory {
 
     private static ConnectionLogger newResponseLogger(final LogType type, final int successCapacity,
             final int failureCapacity,
-            @Nullable final String address) {
+            @Nullable final String address, final LogEntryBudget budget) {
 
         final EvictingConnectionLogger.Builder builder =
                 EvictingConnectionLogger.newBuilder(successCapacity, failureCapacity, LogCategory.RESPONSE, type)
-                        .withAddress(address);
+                        .withAddress(address)
+                        .withBudget(budget);
 
         switch (type) {
             case DISPATCHED:
@@ -295,10 +299,11 @@ final class ConnectionLoggerFactory {
     }
 
     private static ConnectionLogger newConnectionLogger(final LogType type, final int successCapacity, final int failureCapacity,
-            @Nullable final String address) {
+            @Nullable final String address, final LogEntryBudget budget) {
 
         return EvictingConnectionLogger.newBuilder(successCapacity, failureCapacity, LogCategory.CONNECTION, type)
                 .withAddress(address)
+                .withBudget(budget)
                 .build();
     }
 
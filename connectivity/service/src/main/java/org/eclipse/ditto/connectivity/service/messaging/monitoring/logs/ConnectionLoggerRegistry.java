@@ -76,10 +76,12 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
     private final int failureCapacity;
     private final TemporalAmount loggingDuration;
     private final long maximumLogSizeInByte;
+    private final LogEntryBudget budget;
     @Nullable private final FluentPublishingConnectionLoggerContext fluentPublishingConnectionLoggerContext;
 
     private ConnectionLoggerRegistry(final int successCapacity,
             final int failureCapacity,
+            final long nodeCapacityInBytes,
             final long maximumLogSizeInByte,
             final Duration loggingDuration,
             final LoggerPublisherConfig loggerPublisherConfig) {
@@ -87,6 +89,8 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
         this.successCapacity = successCapacity;
         this.failureCapacity = failureCapacity;
         this.maximumLogSizeInByte = maximumLogSizeInByte;
+        budget = LogEntryBudget.withCapacity(nodeCapacityInBytes,
+                ConnectionLoggerRegistry::releaseLogsOfExpiredConnections);
         this.loggingDuration = checkNotNull(loggingDuration);
 
         if (loggerPublisherConfig.isEnabled()) {
@@ -113,7 +117,8 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
     public static ConnectionLoggerRegistry fromConfig(final MonitoringLoggerConfig config) {
         checkNotNull(config);
         return new ConnectionLoggerRegistry(config.successCapacity(), config.failureCapacity(),
-                config.maxLogSizeInBytes(), config.logDuration(), config.getLoggerPublisherConfig());
+                config.nodeCapacityInBytes(), config.maxLogSizeInBytes(), config.logDuration(),
+                config.getLoggerPublisherConfig());
     }
 
     /**
@@ -370,6 +375,25 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
                 .forEach(ConnectionLogger::clear);
     }
 
+    /**
+     * Release the logs of connections whose logging expired, including the ones whose client actor stopped or moved
+     * to another node before it could mute their loggers. Called when the budget of a registry is exhausted.
+     */
+    static void releaseLogsOfExpiredConnections() {
+        final Instant now = Instant.now();
+        LOGGERS.keySet().stream()
+                .map(mapKey -> mapKey.connectionId)
+                .distinct()
+                .filter(connectionId -> isLoggingExpired(connectionId, now))
+                .forEach(connectionId -> {
+                    if (isActiveForConnection(connectionId)) {
+                        muteForConnection(connectionId);
+                    } else {
+                        resetForConnectionId(connectionId);
+                    }
+                });
+    }
+
     private LogMetadata refreshMetadata(final EntityId connectionId) {
         return METADATA.compute(connectionId, (c, oldTimings) -> {
             final Instant now = Instant.now();
@@ -519,7 +543,8 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
                 failureCapacity,
                 logCategory,
                 logType,
-                address);
+                address,
+                budget);
         final var muteableLogger = ConnectionLoggerFactory.newMuteableLogger(connectionId, evictingLogger);
         if (isActiveForConnection(connectionId)) {
             muteableLogger.unmute();
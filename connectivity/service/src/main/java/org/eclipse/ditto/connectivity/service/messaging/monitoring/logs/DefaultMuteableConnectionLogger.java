@@ -63,6 +63,7 @@ final class DefaultMuteableConnectionLogger implements MuteableConnectionLogger
     public void mute() {
         logTrace("Muting the logger");
         active = false;
+        clear();
     }
 
     private void logTrace(final String message) {
@@ -16,12 +16,16 @@ package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.connectivity.model.LogCategory;
 import org.eclipse.ditto.connectivity.model.LogEntry;
 import org.eclipse.ditto.connectivity.model.LogLevel;
@@ -35,19 +39,29 @@ import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
 /**
  * Implementation of {@link ConnectionLogger} that
  * has fixed capacity for its success and failure logs and will evict old logs when new logs are added.
+ * Logs are captured as compact snapshots of their correlation ID, timestamp, entity ID, message pattern and arguments,
+ * and are only formatted to {@link LogEntry}s when they are retrieved, because most of them are evicted before anyone
+ * retrieves them. Headers and payload are only captured if they are logged, truncated like all captured texts.
  */
 final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingConnectionLogger.Builder, EvictingConnectionLogger> {
 
     private static final DittoLogger LOGGER = DittoLoggerFactory.getLogger(EvictingConnectionLogger.class);
 
-    private final EvictingQueue<LogEntry> successLogs;
-    private final EvictingQueue<LogEntry> failureLogs;
+    // captured texts longer than this are truncated, which bounds the size of each retained log
+    private static final int MAX_CAPTURED_TEXT_LENGTH = 1024;
+    private static final String TRUNCATION_MARKER = "...";
+
+    // approximate size of a captured log apart from its texts
+    private static final int CAPTURED_LOG_OVERHEAD_BYTES = 128;
+
+    private final LogEntryRing<CapturedLog> successLogs;
+    private final LogEntryRing<CapturedLog> failureLogs;
 
     private EvictingConnectionLogger(final Builder builder) {
         super(builder);
 
-        successLogs = DefaultEvictingQueue.withCapacity(builder.successCapacity);
-        failureLogs = DefaultEvictingQueue.withCapacity(builder.failureCapacity);
+        successLogs = LogEntryRing.withCapacity(builder.successCapacity, builder.budget, CapturedLog::getSize);
+        failureLogs = LogEntryRing.withCapacity(builder.failureCapacity, builder.budget, CapturedLog::getSize);
 
         LOGGER.trace("Successfully built new EvictingConnectionLogger: {}", this);
     }
@@ -76,12 +90,10 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
             final Object... messageArguments) {
 
         final var logTimer = startConnectionLogTimer();
-        final var formattedMessage = formatMessage(infoProvider, message, messageArguments);
-        logTimer.startNewSegment("message_prepared");
-        final var logEntry = getLogEntry(infoProvider, formattedMessage, LogLevel.SUCCESS);
-        logTraceWithCorrelationId(logEntry);
+        final var capturedLog = new LogSnapshot(infoProvider, message, messageArguments, LogLevel.SUCCESS);
+        logTraceWithCorrelationId(capturedLog);
         logTimer.startNewSegment("message_internally_logged");
-        successLogs.add(logEntry);
+        successLogs.add(capturedLog);
         logTimer.stop();
     }
 
@@ -90,8 +102,9 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
         return timer.start();
     }
 
-    private static void logTraceWithCorrelationId(final LogEntry logEntry) {
+    private static void logTraceWithCorrelationId(final CapturedLog capturedLog) {
         if (LOGGER.isTraceEnabled()) {
+            final LogEntry logEntry = capturedLog.get();
             LOGGER.withCorrelationId(logEntry.getCorrelationId())
                     .trace("Saving {} log at <{}> for entity <{}> with message: {}",
                             logEntry.getLogLevel(),
@@ -106,14 +119,12 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
             final String message,
             final Object... messageArguments) {
 
-        logFailureEntry(getLogEntry(infoProvider,
-                formatMessage(infoProvider, message, messageArguments),
-                LogLevel.FAILURE));
+        logFailureEntry(new LogSnapshot(infoProvider, message, messageArguments, LogLevel.FAILURE));
     }
 
-    private void logFailureEntry(final LogEntry logEntry) {
-        logTraceWithCorrelationId(logEntry);
-        failureLogs.add(logEntry);
+    private void logFailureEntry(final CapturedLog capturedLog) {
+        logTraceWithCorrelationId(capturedLog);
+        failureLogs.add(capturedLog);
     }
 
     @Override
@@ -121,22 +132,7 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
             final String message,
             final Object... messageArguments) {
 
-        final var formattedMessage = formatMessage(infoProvider, message, messageArguments);
-        logTraceExceptionWithCorrelationId(infoProvider.getCorrelationId(), infoProvider, formattedMessage);
-        failureLogs.add(getLogEntry(infoProvider, formattedMessage, LogLevel.FAILURE));
-    }
-
-    private static void logTraceExceptionWithCorrelationId(final CharSequence correlationId,
-            final ConnectionMonitor.InfoProvider infoProvider,
-            final String message) {
-
-        if (LOGGER.isTraceEnabled()) {
-            LOGGER.withCorrelationId(correlationId)
-                    .trace("Saving exception log at <{}> for entity <{}> with message: {}",
-                            infoProvider.getTimestamp(),
-                            infoProvider.getEntityId(),
-                            message);
-        }
+        logFailureEntry(new LogSnapshot(infoProvider, message, messageArguments, LogLevel.FAILURE));
     }
 
     @Override
@@ -154,22 +150,25 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
     @Override
     public void logEntry(final LogEntry logEntry) {
         checkNotNull(logEntry, "logEntry");
+        final CapturedLog capturedLog = new RetainedLogEntry(logEntry);
         if (LogLevel.SUCCESS == logEntry.getLogLevel()) {
             final var logTimer = startConnectionLogTimer();
-            logTraceWithCorrelationId(logEntry);
+            logTraceWithCorrelationId(capturedLog);
             logTimer.startNewSegment("message_internally_logged");
-            successLogs.add(logEntry);
+            successLogs.add(capturedLog);
             logTimer.stop();
         } else {
-            logFailureEntry(logEntry);
+            logFailureEntry(capturedLog);
         }
     }
 
     @Override
     public Collection<LogEntry> getLogs() {
-        final Collection<LogEntry> logs = new ArrayList<>(successLogs.size() + failureLogs.size());
-        logs.addAll(successLogs);
-        logs.addAll(failureLogs);
+        final List<CapturedLog> capturedSuccessLogs = successLogs.getEntries();
+        final List<CapturedLog> capturedFailureLogs = failureLogs.getEntries();
+        final Collection<LogEntry> logs = new ArrayList<>(capturedSuccessLogs.size() + capturedFailureLogs.size());
+        capturedSuccessLogs.forEach(capturedLog -> logs.add(capturedLog.get()));
+        capturedFailureLogs.forEach(capturedLog -> logs.add(capturedLog.get()));
 
         LOGGER.trace("Returning logs: {}", logs);
         return logs;
@@ -205,6 +204,135 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
                 "]";
     }
 
+    private static Object[] captureArguments(final Object[] messageArguments) {
+        final Object[] capturedArguments = new Object[messageArguments.length];
+        for (int i = 0; i < messageArguments.length; i++) {
+            final Object argument = messageArguments[i];
+            if (null == argument || argument instanceof Number) {
+                capturedArguments[i] = argument;
+            } else {
+                capturedArguments[i] = truncate(argument.toString());
+            }
+        }
+        return capturedArguments;
+    }
+
+    private static String truncate(final String text) {
+        if (text.length() > MAX_CAPTURED_TEXT_LENGTH) {
+            return text.substring(0, MAX_CAPTURED_TEXT_LENGTH) + TRUNCATION_MARKER;
+        }
+        return text;
+    }
+
+    /**
+     * A log retained by the logger.
+     */
+    private interface CapturedLog extends Supplier<LogEntry> {
+
+        /**
+         * @return the approximate size of the log in bytes.
+         */
+        int getSize();
+
+    }
+
+    /**
+     * A snapshot of a log as it was passed to the logger, formatted only when retrieved. It does not reference the
+     * info provider or non-numeric message arguments, which may hold the whole logged message.
+     */
+    private final class LogSnapshot implements CapturedLog {
+
+        private final String correlationId;
+        private final Instant timestamp;
+        @Nullable private final EntityId entityId;
+        private final String message;
+        private final Object[] messageArguments;
+        private final String headersAndPayloadMessage;
+        private final LogLevel logLevel;
+        private final int size;
+
+        private LogSnapshot(final ConnectionMonitor.InfoProvider infoProvider,
+                final String message,
+                final Object[] messageArguments,
+                final LogLevel logLevel) {
+
+            correlationId = infoProvider.getCorrelationId();
+            timestamp = infoProvider.getTimestamp();
+            entityId = infoProvider.getEntityId();
+            this.message = message;
+            this.messageArguments = captureArguments(messageArguments);
+            headersAndPayloadMessage = truncate(getHeadersAndPayloadMessage(infoProvider));
+            this.logLevel = logLevel;
+            size = computeSize();
+        }
+
+        private int computeSize() {
+            int textLength = correlationId.length() + message.length() + headersAndPayloadMessage.length();
+            for (final Object argument : messageArguments) {
+                if (argument instanceof String text) {
+                    textLength += text.length();
+                }
+            }
+            return CAPTURED_LOG_OVERHEAD_BYTES + textLength;
+        }
+
+        @Override
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public LogEntry get() {
+            return getLogEntry(correlationId, timestamp, entityId,
+                    formatMessage(message, messageArguments) + headersAndPayloadMessage, logLevel);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "correlationId=" + correlationId +
+                    ", timestamp=" + timestamp +
+                    ", entityId=" + entityId +
+                    ", message=" + message +
+                    ", logLevel=" + logLevel +
+                    "]";
+        }
+
+    }
+
+    /**
+     * A log which was passed to the logger as {@link LogEntry}.
+     */
+    private static final class RetainedLogEntry implements CapturedLog {
+
+        private final LogEntry logEntry;
+        private final int size;
+
+        private RetainedLogEntry(final LogEntry logEntry) {
+            this.logEntry = logEntry;
+            size = CAPTURED_LOG_OVERHEAD_BYTES + logEntry.getCorrelationId().length() +
+                    logEntry.getMessage().length();
+        }
+
+        @Override
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public LogEntry get() {
+            return logEntry;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "logEntry=" + logEntry +
+                    "]";
+        }
+
+    }
+
     /**
      * Builder for {@code EvictingConnectionLogger}.
      */
@@ -212,6 +340,7 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
 
         private final int successCapacity;
         private final int failureCapacity;
+        private LogEntryBudget budget = LogEntryBudget.unlimited();
 
         private Builder(final int successCapacity,
                 final int failureCapacity,
@@ -222,6 +351,17 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
             this.failureCapacity = failureCapacity;
         }
 
+        /**
+         * Use the budget for the logs retained by the built {@code EvictingConnectionLogger}.
+         *
+         * @param budget the budget shared with other loggers.
+         * @return the builder for method chaining.
+         */
+        Builder withBudget(final LogEntryBudget budget) {
+            this.budget = checkNotNull(budget, "budget");
+            return this;
+        }
+
         @Override
         public EvictingConnectionLogger build() {
             return new EvictingConnectionLogger(this);
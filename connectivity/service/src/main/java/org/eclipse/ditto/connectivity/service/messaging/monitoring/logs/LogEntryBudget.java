@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Limits the approximate size in bytes of the logs retained by all {@link LogEntryRing}s sharing this budget.
+ * When the budget is exhausted, it runs its reclaimer at most once per reclaim interval to release the share of logs
+ * which are not needed anymore before it discards new logs.
+ */
+@ThreadSafe
+final class LogEntryBudget {
+
+    private static final Duration RECLAIM_INTERVAL = Duration.ofSeconds(1L);
+
+    private final long capacity;
+    private final Runnable reclaimer;
+    private final AtomicLong retained;
+    private final AtomicLong lastReclaimNanos;
+
+    private LogEntryBudget(final long capacity, final Runnable reclaimer) {
+        this.capacity = capacity;
+        this.reclaimer = reclaimer;
+        retained = new AtomicLong();
+        lastReclaimNanos = new AtomicLong(System.nanoTime() - RECLAIM_INTERVAL.toNanos());
+    }
+
+    /**
+     * Create a budget for an unlimited size of logs.
+     *
+     * @return the budget.
+     */
+    static LogEntryBudget unlimited() {
+        return new LogEntryBudget(Long.MAX_VALUE, () -> {});
+    }
+
+    /**
+     * Create a budget for a limited size of logs which discards new logs once it is exhausted.
+     *
+     * @param capacity the approximate size in bytes of logs which may be retained.
+     * @return the budget.
+     */
+    static LogEntryBudget withCapacity(final long capacity) {
+        return new LogEntryBudget(capacity, () -> {});
+    }
+
+    /**
+     * Create a budget for a limited size of logs which runs the reclaimer before it discards new logs.
+     *
+     * @param capacity the approximate size in bytes of logs which may be retained.
+     * @param reclaimer releases the share of logs which are not needed anymore, e.g. by clearing loggers of muted
+     * connections.
+     * @return the budget.
+     */
+    static LogEntryBudget withCapacity(final long capacity, final Runnable reclaimer) {
+        return new LogEntryBudget(capacity, reclaimer);
+    }
+
+    /**
+     * Reserve the budget for a log if the capacity is not reached yet, reclaiming unneeded logs if it is.
+     *
+     * @param size the approximate size of the log in bytes.
+     * @return whether the log may be retained.
+     */
+    boolean tryAcquire(final long size) {
+        return tryAcquireWithoutReclaiming(size) || reclaim() && tryAcquireWithoutReclaiming(size);
+    }
+
+    private boolean tryAcquireWithoutReclaiming(final long size) {
+        long current;
+        do {
+            current = retained.get();
+            if (current + size > capacity) {
+                return false;
+            }
+        } while (!retained.compareAndSet(current, current + size));
+        return true;
+    }
+
+    private boolean reclaim() {
+        final long now = System.nanoTime();
+        final long lastReclaim = lastReclaimNanos.get();
+        if (now - lastReclaim >= RECLAIM_INTERVAL.toNanos() && lastReclaimNanos.compareAndSet(lastReclaim, now)) {
+            reclaimer.run();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reserve the budget for a log regardless of the capacity.
+     *
+     * @param size the approximate size of the log in bytes.
+     */
+    void acquire(final long size) {
+        retained.addAndGet(size);
+    }
+
+    /**
+     * Release the budget of logs which are not retained anymore.
+     *
+     * @param size the approximate size of the released logs in bytes.
+     */
+    void release(final long size) {
+        retained.addAndGet(-size);
+    }
+
+    /**
+     * @return the approximate size in bytes of the currently retained logs.
+     */
+    long getRetained() {
+        return retained.get();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "retained=" + retained +
+                ", capacity=" + capacity +
+                "]";
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Preallocated ring of a fixed number of logs which overwrites the oldest log when a new one is added.
+ * Each retained log holds a share of the {@link LogEntryBudget} according to its approximate size; if the budget
+ * is exhausted, a new log is discarded unless it is not larger than the log it overwrites.
+ * <p>
+ * Adding a log takes no lock. Under concurrent modification, a reader may see a log twice or miss one, and the size
+ * held in the budget may briefly differ from the size of the retained logs.
+ * </p>
+ *
+ * @param <E> type of the logs.
+ */
+@ThreadSafe
+final class LogEntryRing<E> {
+
+    private final AtomicReferenceArray<E> entries;
+    private final AtomicLong writeIndex;
+    private final LogEntryBudget budget;
+    private final ToIntFunction<? super E> sizeFunction;
+
+    private LogEntryRing(final int capacity, final LogEntryBudget budget,
+            final ToIntFunction<? super E> sizeFunction) {
+
+        entries = new AtomicReferenceArray<>(capacity);
+        writeIndex = new AtomicLong();
+        this.budget = budget;
+        this.sizeFunction = sizeFunction;
+    }
+
+    /**
+     * Create a new ring whose logs each take a share of 1 of the budget.
+     *
+     * @param capacity how many logs the ring holds.
+     * @param budget the budget shared with other rings.
+     * @param <E> type of the logs.
+     * @return the ring.
+     */
+    static <E> LogEntryRing<E> withCapacity(final int capacity, final LogEntryBudget budget) {
+        return new LogEntryRing<>(capacity, budget, entry -> 1);
+    }
+
+    /**
+     * Create a new ring.
+     *
+     * @param capacity how many logs the ring holds.
+     * @param budget the budget shared with other rings.
+     * @param sizeFunction computes the approximate size of a log in bytes, which is its share of the budget.
+     * @param <E> type of the logs.
+     * @return the ring.
+     */
+    static <E> LogEntryRing<E> withCapacity(final int capacity, final LogEntryBudget budget,
+            final ToIntFunction<? super E> sizeFunction) {
+
+        return new LogEntryRing<>(capacity, budget, sizeFunction);
+    }
+
+    /**
+     * Add a log, overwriting the oldest one if the ring is full.
+     *
+     * @param entry the log.
+     * @return whether the log was added or discarded because the budget is exhausted.
+     */
+    boolean add(final E entry) {
+        if (entries.length() == 0) {
+            return false;
+        }
+        final int index = (int) (writeIndex.getAndIncrement() % entries.length());
+        final int size = sizeFunction.applyAsInt(entry);
+        final int expectedReplacedSize = sizeOf(entries.get(index));
+        final int acquired = Math.max(0, size - expectedReplacedSize);
+        if (acquired > 0 && !budget.tryAcquire(acquired)) {
+            return false;
+        }
+        final E replaced = entries.getAndSet(index, entry);
+        // the slot may have been filled or cleared concurrently, so settle with the size actually replaced
+        final long remainder = (long) size - sizeOf(replaced) - acquired;
+        if (remainder > 0) {
+            budget.acquire(remainder);
+        } else if (remainder < 0) {
+            budget.release(-remainder);
+        }
+        return true;
+    }
+
+    private int sizeOf(@Nullable final E entry) {
+        return null == entry ? 0 : sizeFunction.applyAsInt(entry);
+    }
+
+    /**
+     * @return the retained logs from the oldest to the newest one.
+     */
+    List<E> getEntries() {
+        final int capacity = entries.length();
+        final List<E> result = new ArrayList<>(capacity);
+        final long start = writeIndex.get();
+        for (long i = start; i < start + capacity; i++) {
+            final E entry = entries.get((int) (i % capacity));
+            if (null != entry) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of retained logs.
+     */
+    int size() {
+        int size = 0;
+        for (int i = 0; i < entries.length(); i++) {
+            if (null != entries.get(i)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Remove all logs and release their share of the budget.
+     */
+    void clear() {
+        long released = 0;
+        for (int i = 0; i < entries.length(); i++) {
+            released += sizeOf(entries.getAndSet(i, null));
+        }
+        budget.release(released);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "capacity=" + entries.length() +
+                ", entries=" + getEntries() +
+                "]";
+    }
+
+}
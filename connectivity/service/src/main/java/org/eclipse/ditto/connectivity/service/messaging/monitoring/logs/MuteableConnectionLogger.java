@@ -19,7 +19,8 @@ package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
 interface MuteableConnectionLogger extends ConnectionLogger {
 
     /**
-     * Mutes the logger. No messages will be stored after muting.
+     * Mutes the logger. No messages will be stored after muting and the stored ones are cleared, since they are not
+     * retrieved from a muted logger.
      */
     void mute();
 
@@ -18,20 +18,20 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 
 /**
- * Simple implementation of a sliding window using a map. Depending on the given parameters
+ * Simple implementation of a sliding window using ring buffers. Depending on the given parameters
  * {@code window} and {@code duration} this implementation holds counter for time slots of size {@code duration} to
- * fill the {@code window}.
+ * fill the {@code window}. Recording windows of the same resolution share one ring buffer of primitive counters which
+ * is sized to hold the largest of these windows, so recording does neither allocate nor need cleaning up.
  */
 public final class SlidingWindowCounter {
 
@@ -43,35 +43,30 @@ public final class SlidingWindowCounter {
     private final MeasurementWindow[] windowsForRecording;
     private final MeasurementWindow[] windowsForReporting;
 
-    private final ConcurrentMap<Long, Long> successMeasurements = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Long> failureMeasurements = new ConcurrentHashMap<>();
+    private final Measurements successMeasurements;
+    private final Measurements failureMeasurements;
 
     private final AtomicLong lastSuccessTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
     private final AtomicLong lastFailureTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
-    private final Duration minResolution;
     private final Counter metricsCounter;
     @Nullable private final MetricsAlert metricsAlert;
     private final long maximumPerSlot;
-    private final boolean cleanUpEnabled;
 
     // allows to override the reported value with a fixed value by checking the last modified timestamp instead of
-    // calculating from the measurement maps (allows more accuracy for the shortest window)
+    // calculating from the measurement slots (allows more accuracy for the shortest window)
     private final Map<MeasurementWindow, Long> lastTimestampOverrides;
 
     private SlidingWindowCounter(final SlidingWindowCounterBuilder builder) {
         metricsCounter = builder.metricsCounter;
         clock = builder.clock;
         metricsAlert = builder.metricsAlert;
-        cleanUpEnabled = builder.cleanUpEnabled;
         windowsForRecording = builder.recordingMeasurementWindows;
         windowsForReporting = builder.reportingMeasurementWindows;
         maximumPerSlot = builder.maximumPerSlot;
         lastTimestampOverrides = builder.lastTimestampOverrides;
 
-        minResolution = Stream.of(windowsForRecording)
-                .map(MeasurementWindow::getResolution)
-                .min(Duration::compareTo)
-                .orElse(Duration.ofMinutes(5));
+        successMeasurements = new Measurements(windowsForRecording, windowsForReporting);
+        failureMeasurements = new Measurements(windowsForRecording, windowsForReporting);
     }
 
     /**
@@ -111,7 +106,7 @@ public final class SlidingWindowCounter {
      * @param success whether to increment success or failure count
      */
     void increment(final boolean success) {
-        increment(success, clock.instant().toEpochMilli());
+        increment(success, clock.millis());
     }
 
     /**
@@ -121,60 +116,36 @@ public final class SlidingWindowCounter {
      * @param ts the timestamp when the operation happened (mostly useful for testing)
      */
     void increment(final boolean success, final long ts) {
-        final long previousTimestamp;
         if (success) {
             metricsCounter.tag("success", true).increment();
-            previousTimestamp = updateTimestampAndReturnPrevious(lastSuccessTimestamp, ts);
+            updateTimestamp(lastSuccessTimestamp, ts);
             incrementMeasurements(ts, successMeasurements);
         } else {
             metricsCounter.tag("success", false).increment();
-            previousTimestamp = updateTimestampAndReturnPrevious(lastFailureTimestamp, ts);
+            updateTimestamp(lastFailureTimestamp, ts);
             incrementMeasurements(ts, failureMeasurements);
         }
-
-        // if diff between current and last timestamp is too large, cleanup old measurements
-        if (cleanUpEnabled && previousTimestamp > ts - minResolution.toMillis()) {
-            cleanUpOldMeasurements();
-        }
     }
 
-    private long updateTimestampAndReturnPrevious(final AtomicLong toUpdate, final long ts) {
-        return toUpdate.getAndUpdate(previous -> Math.max(previous, ts));
+    private static void updateTimestamp(final AtomicLong toUpdate, final long ts) {
+        toUpdate.accumulateAndGet(ts, Math::max);
     }
 
-    private void incrementMeasurements(final long ts, final Map<Long, Long> measurements) {
-        for (final MeasurementWindow window : windowsForRecording) {
-            final long slot = getSlot(ts, window.getResolution().toMillis());
-            final long newValue = measurements.compute(slot, (key, value) -> (value == null) ? 1 : value + 1);
-            if (metricsAlert != null && metricsAlert.evaluateCondition(window, slot, newValue)) {
-                metricsAlert.triggerAction(ts, newValue);
-            }
+    private void incrementMeasurements(final long ts, final Measurements measurements) {
+        final long now = clock.millis();
+        for (final SlotRing ring : measurements.rings) {
+            ring.increment(ts, now);
         }
-    }
-
-    private void cleanUpOldMeasurements() {
-        cleanUpOldMeasurements(successMeasurements);
-        cleanUpOldMeasurements(failureMeasurements);
-    }
-
-    private void cleanUpOldMeasurements(final Map<Long, Long> measurements) {
-        measurements.entrySet().removeIf(e -> isOld(e.getKey()));
-    }
-
-    private boolean isOld(final long slot) {
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windowsForRecording) {
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long windowInMs = window.getWindow().toMillis();
-            // max slot is the current slot for this window
-            final long max = getSlot(now, resolutionInMs);
-            // min slot is current slot minus window size
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            if (slot <= max && slot >= min) {
-                return false;
+        if (metricsAlert != null) {
+            for (final MeasurementWindow window : windowsForRecording) {
+                final SlotRing ring = measurements.ringsByWindow.get(window);
+                final long slot = ring.getSlot(ts);
+                final long newValue = ring.get(slot);
+                if (newValue > 0 && metricsAlert.evaluateCondition(window, slot, newValue)) {
+                    metricsAlert.triggerAction(ts, newValue);
+                }
             }
         }
-        return true;
     }
 
     /**
@@ -193,29 +164,25 @@ public final class SlidingWindowCounter {
     /**
      * Gets counts for all measurement windows given.
      *
-     * @param measurements the measurements map to use
+     * @param measurements the measurements to use
      * @return the counts for all windows
      */
-    private Map<Duration, Long> getCounts(final Map<Long, Long> measurements,
-            final long lastTimestamp) {
+    private Map<Duration, Long> getCounts(final Measurements measurements, final long lastTimestamp) {
         final Map<Duration, Long> result = new HashMap<>();
-        final long now = clock.instant().toEpochMilli();
+        final long now = clock.millis();
         for (final MeasurementWindow window : windowsForReporting) {
-            long sum = 0;
+            final long sum;
             if (lastTimestampOverrides.containsKey(window) && now - window.getWindow().toMillis() < lastTimestamp) {
                 sum = lastTimestampOverrides.get(window);
             } else {
-                // min is where we start to sum up the slots
-                final long windowInMs = window.getWindow().toMillis();
-                final long resolutionInMs = window.getResolution().toMillis();
-                final long min = getSlot(now - windowInMs, resolutionInMs);
-                // max is the current active time slot
-                final long max = getSlot(now, resolutionInMs);
-                for (final Map.Entry<Long, Long> e : measurements.entrySet()) {
-                    final long slot = e.getKey();
-                    if (slot > min && slot <= max) {
-                        sum += Math.min(maximumPerSlot, e.getValue());
-                    }
+                final SlotRing ring = measurements.ringsByWindow.get(window);
+                if (null != ring) {
+                    // min is where we start to sum up the slots, max is the current active time slot
+                    final long min = ring.getSlot(now - window.getWindow().toMillis());
+                    final long max = ring.getSlot(now);
+                    sum = ring.sum(min, max, maximumPerSlot);
+                } else {
+                    sum = 0L;
                 }
             }
             result.put(window.getWindow(), sum);
@@ -227,16 +194,8 @@ public final class SlidingWindowCounter {
      * Reset all counts.
      */
     void reset() {
-        reset(successMeasurements);
-        reset(failureMeasurements);
-    }
-
-    private void reset(final Map<Long, Long> measurements) {
-        measurements.clear();
-    }
-
-    private long getSlot(final long ts, final long resolutionInMs) {
-        return ts / resolutionInMs;
+        successMeasurements.reset();
+        failureMeasurements.reset();
     }
 
     /**
@@ -247,7 +206,6 @@ public final class SlidingWindowCounter {
         private final Counter metricsCounter;
         private Clock clock = Clock.systemUTC();
         private MetricsAlert metricsAlert = null;
-        private boolean cleanUpEnabled = true;
         private MeasurementWindow[] recordingMeasurementWindows;
         private MeasurementWindow[] reportingMeasurementWindows;
         private long maximumPerSlot = Long.MAX_VALUE;
@@ -267,11 +225,6 @@ public final class SlidingWindowCounter {
             return this;
         }
 
-        SlidingWindowCounterBuilder cleanUpEnabled(final boolean cleanUpEnabled) {
-            this.cleanUpEnabled = cleanUpEnabled;
-            return this;
-        }
-
         SlidingWindowCounterBuilder recordingMeasurementWindows(
                 final MeasurementWindow... recordingMeasurementWindows) {
             this.recordingMeasurementWindows = recordingMeasurementWindows;
@@ -317,12 +270,148 @@ public final class SlidingWindowCounter {
                 ", failureMeasurements=" + failureMeasurements +
                 ", lastSuccessTimestamp=" + lastSuccessTimestamp +
                 ", lastFailureTimestamp=" + lastFailureTimestamp +
-                ", minResolution=" + minResolution +
                 ", metricsCounter=" + metricsCounter +
                 ", metricsAlert=" + metricsAlert +
                 ", maximumPerSlot=" + maximumPerSlot +
-                ", cleanUpEnabled=" + cleanUpEnabled +
                 ", lastTimestampOverrides=" + lastTimestampOverrides +
                 "]";
     }
+
+    /**
+     * The ring buffers of either success or failure measurements, one per resolution of the recording windows.
+     */
+    private static final class Measurements {
+
+        private final SlotRing[] rings;
+        private final Map<MeasurementWindow, SlotRing> ringsByWindow;
+
+        private Measurements(final MeasurementWindow[] windowsForRecording,
+                final MeasurementWindow[] windowsForReporting) {
+
+            final Map<Duration, Long> slotsPerResolution = new LinkedHashMap<>();
+            for (final MeasurementWindow window : windowsForRecording) {
+                final long slots = window.getWindow().toMillis() / window.getResolution().toMillis();
+                slotsPerResolution.merge(window.getResolution(), slots, Math::max);
+            }
+            final Map<Duration, SlotRing> ringsByResolution = new LinkedHashMap<>();
+            slotsPerResolution.forEach((resolution, slots) ->
+                    ringsByResolution.put(resolution, new SlotRing(resolution.toMillis(), slots)));
+            rings = ringsByResolution.values().toArray(SlotRing[]::new);
+
+            // reporting windows read the slots recorded with their resolution
+            ringsByWindow = new EnumMap<>(MeasurementWindow.class);
+            for (final MeasurementWindow window : windowsForRecording) {
+                ringsByWindow.put(window, ringsByResolution.get(window.getResolution()));
+            }
+            for (final MeasurementWindow window : windowsForReporting) {
+                final SlotRing ring = ringsByResolution.get(window.getResolution());
+                if (null != ring) {
+                    ringsByWindow.put(window, ring);
+                }
+            }
+        }
+
+        private void reset() {
+            for (final SlotRing ring : rings) {
+                ring.reset();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(rings);
+        }
+
+    }
+
+    /**
+     * Fixed number of counters for consecutive time slots of one resolution. The counter of a slot is reused for a
+     * later slot as soon as the former dropped out of the largest window of this resolution.
+     */
+    private static final class SlotRing {
+
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private final long resolutionInMs;
+        private final AtomicLongArray slots;
+        private final AtomicLongArray counts;
+
+        private SlotRing(final long resolutionInMs, final long slotsInWindow) {
+            this.resolutionInMs = resolutionInMs;
+            // the window's slots, the currently active one and one slot ahead to tolerate clock differences
+            final int length = Math.toIntExact(slotsInWindow + 2);
+            slots = new AtomicLongArray(length);
+            counts = new AtomicLongArray(length);
+            for (int i = 0; i < length; i++) {
+                slots.set(i, EMPTY);
+            }
+        }
+
+        private long getSlot(final long ts) {
+            return ts / resolutionInMs;
+        }
+
+        private int index(final long slot) {
+            return (int) Math.floorMod(slot, (long) slots.length());
+        }
+
+        private void increment(final long ts, final long now) {
+            final long slot = getSlot(ts);
+            if (slot > getSlot(now) + 1) {
+                // would overwrite slots which are still part of the window
+                return;
+            }
+            final int index = index(slot);
+            final long current = slots.get(index);
+            if (current != slot && !advance(index, slot)) {
+                // slot is older than all slots the ring holds
+                return;
+            }
+            counts.incrementAndGet(index);
+        }
+
+        private synchronized boolean advance(final int index, final long slot) {
+            final long current = slots.get(index);
+            if (current < slot) {
+                // the count must be reset before the slot is published to concurrent increments
+                counts.set(index, 0L);
+                slots.set(index, slot);
+            }
+            return current <= slot;
+        }
+
+        private long get(final long slot) {
+            final int index = index(slot);
+            return slots.get(index) == slot ? counts.get(index) : 0L;
+        }
+
+        private long sum(final long minExclusive, final long maxInclusive, final long maximumPerSlot) {
+            long sum = 0L;
+            for (int i = 0; i < slots.length(); i++) {
+                final long slot = slots.get(i);
+                if (slot > minExclusive && slot <= maxInclusive) {
+                    sum += Math.min(maximumPerSlot, counts.get(i));
+                }
+            }
+            return sum;
+        }
+
+        private synchronized void reset() {
+            for (int i = 0; i < slots.length(); i++) {
+                slots.set(i, EMPTY);
+                counts.set(i, 0L);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "resolutionInMs=" + resolutionInMs +
+                    ", slots=" + slots +
+                    ", counts=" + counts +
+                    "]";
+        }
+
+    }
+
 }
@@ -62,7 +62,8 @@ public final class DefaultMappingConfigTest {
 
         softly.assertThat(underTest.toString())
                 .contains(underTest.getClass().getSimpleName())
-                .contains("javaScriptConfig", "mapperLimitsConfig", "publishFailedEnrichments", "bufferSize", "parallelism", "maxPoolSize");
+                .contains("javaScriptConfig", "mapperLimitsConfig", "publishFailedEnrichments", "bufferSize", "parallelism", "maxPoolSize",
+                        "maxBatchSize", "partitioned", "inboundPartitionKey", "outboundPartitionKey");
     }
 
     @Test
@@ -81,6 +82,22 @@ public final class DefaultMappingConfigTest {
                 .describedAs(MappingConfig.MappingConfigValue.MAX_POOL_SIZE.getConfigPath())
                 .isEqualTo(37);
 
+        softly.assertThat(underTest.getMaxBatchSize())
+                .describedAs(MappingConfig.MappingConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(42);
+
+        softly.assertThat(underTest.isPartitioned())
+                .describedAs(MappingConfig.MappingConfigValue.PARTITIONED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getInboundPartitionKey())
+                .describedAs(MappingConfig.MappingConfigValue.INBOUND_PARTITION_KEY.getConfigPath())
+                .isEqualTo("{{ header:content-type }}");
+
+        softly.assertThat(underTest.getOutboundPartitionKey())
+                .describedAs(MappingConfig.MappingConfigValue.OUTBOUND_PARTITION_KEY.getConfigPath())
+                .isEqualTo("{{ entity:id }}");
+
         softly.assertThat(underTest.getPublishFailedEnrichments())
                 .describedAs(MappingConfig.MappingConfigValue.PUBLISH_FAILED_ENRICHMENTS.getConfigPath())
                 .isEqualTo(true);
@@ -1234,6 +1234,83 @@ public final class JavaScriptMessageMapperRhinoTest {
         assertThat(rawMessageOpt).isEmpty();
     }
 
+    @Test
+    public void mappersWithIdenticalScriptsShareCompiledScriptsButNotGlobalVariables() {
+        final String incomingScript = "// " + UUID.randomUUID() + "\n" +
+                "let counter = 0;\n" +
+                "function mapToDittoProtocolMsg(headers, textPayload, bytePayload, contentType) {\n" +
+                "    counter++;\n" +
+                "    return Ditto.buildDittoProtocolMsg(\"org.eclipse.ditto\", \"counter\", \"things\", " +
+                "\"twin\", \"commands\", \"modify\", \"/attributes/counter\", {}, counter);\n" +
+                "}";
+        final long compiledScriptsBefore = JavaScriptScriptCache.getCompiledScriptCount();
+        final MessageMapper firstMapper = createCountingMapper(incomingScript);
+        final long compiledScriptsAfterFirstMapper = JavaScriptScriptCache.getCompiledScriptCount();
+        final MessageMapper secondMapper = createCountingMapper(incomingScript);
+
+        assertThat(compiledScriptsAfterFirstMapper).isEqualTo(compiledScriptsBefore + 1);
+        assertThat(JavaScriptScriptCache.getCompiledScriptCount()).isEqualTo(compiledScriptsAfterFirstMapper);
+
+        final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(Map.of())
+                .withText(MAPPING_INCOMING_PAYLOAD_STRING)
+                .build();
+        firstMapper.map(message);
+        final List<Adaptable> firstMapperAdaptables = firstMapper.map(message);
+        final List<Adaptable> secondMapperAdaptables = secondMapper.map(message);
+
+        assertThat(firstMapperAdaptables).hasSize(1);
+        assertThat(firstMapperAdaptables.get(0).getPayload().getValue()).contains(JsonValue.of(2));
+        assertThat(secondMapperAdaptables).hasSize(1);
+        assertThat(secondMapperAdaptables.get(0).getPayload().getValue()).contains(JsonValue.of(1));
+    }
+
+    @Test
+    public void mappersCannotModifyTheSharedLibraryObjects() {
+        final String tamperingScript = "function mapToDittoProtocolMsg(headers, textPayload, bytePayload, " +
+                "contentType) {\n" +
+                "    try { Ditto.buildDittoProtocolMsg = function() { return null; }; } catch (e) {}\n" +
+                "    try { Ditto.tampered = true; } catch (e) {}\n" +
+                "    try { Ditto.buildExternalMsg.prototype.tampered = true; } catch (e) {}\n" +
+                "    return Ditto.buildDittoProtocolMsg(\"org.eclipse.ditto\", \"tampering\", \"things\", " +
+                "\"twin\", \"commands\", \"modify\", \"/attributes/tampered\", {}, " +
+                "Ditto.tampered === true || Ditto.buildExternalMsg.prototype.tampered === true);\n" +
+                "}";
+        final String regularScript = "function mapToDittoProtocolMsg(headers, textPayload, bytePayload, " +
+                "contentType) {\n" +
+                "    return Ditto.buildDittoProtocolMsg(\"org.eclipse.ditto\", \"regular\", \"things\", " +
+                "\"twin\", \"commands\", \"modify\", \"/attributes/tampered\", {}, " +
+                "Ditto.tampered === true);\n" +
+                "}";
+        final MessageMapper tamperingMapper = createCountingMapper(tamperingScript);
+        final MessageMapper regularMapper = createCountingMapper(regularScript);
+        final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(Map.of())
+                .withText(MAPPING_INCOMING_PAYLOAD_STRING)
+                .build();
+
+        final List<Adaptable> tamperingMapperAdaptables = tamperingMapper.map(message);
+        final List<Adaptable> regularMapperAdaptables = regularMapper.map(message);
+
+        assertThat(tamperingMapperAdaptables).hasSize(1);
+        assertThat(tamperingMapperAdaptables.get(0).getPayload().getValue()).contains(JsonValue.of(false));
+        assertThat(regularMapperAdaptables).hasSize(1);
+        assertThat(regularMapperAdaptables.get(0).getTopicPath().getEntityName()).isEqualTo("regular");
+        assertThat(regularMapperAdaptables.get(0).getPayload().getValue()).contains(JsonValue.of(false));
+    }
+
+    private static MessageMapper createCountingMapper(final String incomingScript) {
+        final MessageMapper mapper = JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+        mapper.configure(CONNECTION,
+                CONNECTIVITY_CONFIG,
+                JavaScriptMessageMapperFactory
+                        .createJavaScriptMessageMapperConfigurationBuilder("counting", Collections.emptyMap())
+                        .incomingScript(incomingScript)
+                        .outgoingScript("")
+                        .build(),
+                actorSystem
+        );
+        return mapper;
+    }
+
     @Test
     public void testBinaryJavascriptIncomingMapping() {
         final String correlationId = UUID.randomUUID().toString();
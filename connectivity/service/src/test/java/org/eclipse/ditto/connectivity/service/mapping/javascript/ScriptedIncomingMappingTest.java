@@ -13,6 +13,7 @@
 package org.eclipse.ditto.connectivity.service.mapping.javascript;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.io.InputStreamReader;
 import java.nio.ByteBuffer;
@@ -23,6 +24,8 @@ import java.util.function.Consumer;
 
 import org.eclipse.ditto.connectivity.api.ExternalMessage;
 import org.eclipse.ditto.connectivity.api.ExternalMessageFactory;
+import org.eclipse.ditto.connectivity.model.MessageMappingFailedException;
+import org.eclipse.ditto.connectivity.service.mapping.BatchMappingFailedException;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.protocol.Adaptable;
 import org.junit.Test;
@@ -35,6 +38,20 @@ public class ScriptedIncomingMappingTest {
     private static final String PAYLOAD = "payload";
     private static final byte[] BYTES = PAYLOAD.getBytes();
 
+    /**
+     * Maps the text payload to a command whose value is the payload suffixed with the number of invocations of the
+     * script; fails for the text payload "fail".
+     */
+    private static final String COUNTING_SCRIPT = "var invocations = 0;\n" +
+            "function mapToDittoProtocolMsg(headers, textPayload, bytePayload, contentType) {\n" +
+            "  invocations++;\n" +
+            "  if (textPayload === 'fail') {\n" +
+            "    throw new Error('mapping failed');\n" +
+            "  }\n" +
+            "  return Ditto.buildDittoProtocolMsg('org.eclipse.ditto', 'thing-1', 'things', 'twin', 'commands',\n" +
+            "      'modify', '/attributes/test', headers, textPayload + '-' + invocations);\n" +
+            "}\n";
+
     @Test
     public void mapExternalMessage() {
         mapExternalMessage(ByteBuffer.wrap(BYTES));
@@ -113,7 +130,58 @@ public class ScriptedIncomingMappingTest {
                 });
     }
 
+    @Test
+    public void mapBatchOfExternalMessagesInOrder() {
+        withIncomingMapping(COUNTING_SCRIPT, incomingMapping -> {
+            final List<List<Adaptable>> results =
+                    incomingMapping.applyBatch(List.of(textMessage("a"), textMessage("b"), textMessage("c")));
+
+            assertThat(results).hasSize(3).allSatisfy(adaptables -> assertThat(adaptables).hasSize(1));
+            assertThat(results).extracting(adaptables -> adaptables.get(0).getPayload().getValue().orElseThrow())
+                    .containsExactly(JsonValue.of("a-1"), JsonValue.of("b-2"), JsonValue.of("c-3"));
+        });
+    }
+
+    @Test
+    public void failedBatchCarriesResultsOfMessagesBeforeTheFailingOne() {
+        withIncomingMapping(COUNTING_SCRIPT, incomingMapping -> {
+            final List<ExternalMessage> batch =
+                    List.of(textMessage("a"), textMessage("fail"), textMessage("c"));
+
+            assertThatExceptionOfType(BatchMappingFailedException.class)
+                    .isThrownBy(() -> incomingMapping.applyBatch(batch))
+                    .satisfies(e -> {
+                        assertThat(e.getFailedIndex()).isEqualTo(1);
+                        assertThat(e.getCause()).isInstanceOf(MessageMappingFailedException.class);
+                        final List<List<Adaptable>> results = e.getResults();
+                        assertThat(results).hasSize(1);
+                        assertThat(results.get(0).get(0).getPayload().getValue()).contains(JsonValue.of("a-1"));
+                    });
+
+            // the message after the failing one was not mapped: the script runs for the 3rd time only now
+            assertThat(incomingMapping.apply(textMessage("d")).get(0).getPayload().getValue())
+                    .contains(JsonValue.of("d-3"));
+        });
+    }
+
+    private static ExternalMessage textMessage(final String text) {
+        return ExternalMessageFactory.newExternalMessageBuilder(new HashMap<>())
+                .withText(text)
+                .build();
+    }
+
     private void testJavascript(final String scriptToTest, final Consumer<List<Adaptable>> mappedAdaptables) {
+        withIncomingMapping(scriptToTest, incomingMapping -> {
+            final ExternalMessage externalMessage = ExternalMessageFactory
+                    .newExternalMessageBuilder(new HashMap<>())
+                    .withText(PAYLOAD)
+                    .build();
+            final List<Adaptable> adaptables = incomingMapping.apply(externalMessage);
+            mappedAdaptables.accept(adaptables);
+        });
+    }
+
+    private void withIncomingMapping(final String scriptToTest, final Consumer<ScriptedIncomingMapping> test) {
         final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10);
         contextFactory.call(cx -> {
             final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
@@ -131,12 +199,7 @@ public class ScriptedIncomingMappingTest {
             cx.evaluateString(scope, scriptToTest,
                     JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
 
-            final ExternalMessage externalMessage = ExternalMessageFactory
-                    .newExternalMessageBuilder(new HashMap<>())
-                    .withText(PAYLOAD)
-                    .build();
-            final List<Adaptable> adaptables = incomingMapping.apply(externalMessage);
-            mappedAdaptables.accept(adaptables);
+            test.accept(incomingMapping);
 
             return scope;
         });
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.mapping.javascript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.InputStreamReader;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.ditto.connectivity.api.ExternalMessage;
+import org.eclipse.ditto.connectivity.model.MessageMappingFailedException;
+import org.eclipse.ditto.connectivity.service.mapping.BatchMappingFailedException;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.junit.Test;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Tests {@link ScriptedOutgoingMapping}.
+ */
+public final class ScriptedOutgoingMappingTest {
+
+    /**
+     * Maps the value of the adaptable to a text payload suffixed with the number of invocations of the script; fails
+     * for the value "fail".
+     */
+    private static final String COUNTING_SCRIPT = "var invocations = 0;\n" +
+            "function mapFromDittoProtocolMsg(namespace, name, group, channel, criterion, action, path,\n" +
+            "    dittoHeaders, value, status, extra) {\n" +
+            "  invocations++;\n" +
+            "  if (value === 'fail') {\n" +
+            "    throw new Error('mapping failed');\n" +
+            "  }\n" +
+            "  return Ditto.buildExternalMsg({}, value + '-' + invocations, null, 'text/plain');\n" +
+            "}\n";
+
+    @Test
+    public void mapBatchOfAdaptablesInOrder() {
+        withOutgoingMapping(outgoingMapping -> {
+            final List<List<ExternalMessage>> results =
+                    outgoingMapping.applyBatch(List.of(modifyAttribute("a"), modifyAttribute("b"),
+                            modifyAttribute("c")));
+
+            assertThat(results).hasSize(3).allSatisfy(messages -> assertThat(messages).hasSize(1));
+            assertThat(results).extracting(messages -> messages.get(0).getTextPayload().orElseThrow())
+                    .containsExactly("a-1", "b-2", "c-3");
+        });
+    }
+
+    @Test
+    public void failedBatchCarriesResultsOfAdaptablesBeforeTheFailingOne() {
+        withOutgoingMapping(outgoingMapping -> {
+            final List<Adaptable> batch = List.of(modifyAttribute("a"), modifyAttribute("fail"), modifyAttribute("c"));
+
+            assertThatExceptionOfType(BatchMappingFailedException.class)
+                    .isThrownBy(() -> outgoingMapping.applyBatch(batch))
+                    .satisfies(e -> {
+                        assertThat(e.getFailedIndex()).isEqualTo(1);
+                        assertThat(e.getCause()).isInstanceOf(MessageMappingFailedException.class);
+                        final List<List<ExternalMessage>> results = e.getResults();
+                        assertThat(results).hasSize(1);
+                        assertThat(results.get(0).get(0).getTextPayload()).contains("a-1");
+                    });
+
+            // the adaptable after the failing one was not mapped: the script runs for the 3rd time only now
+            assertThat(outgoingMapping.apply(modifyAttribute("d")).get(0).getTextPayload()).contains("d-3");
+        });
+    }
+
+    private static Adaptable modifyAttribute(final String value) {
+        return ProtocolFactory.jsonifiableAdaptableFromJson(JsonObject.newBuilder()
+                .set("topic", "org.eclipse.ditto/thing-1/things/twin/commands/modify")
+                .set("path", "/attributes/test")
+                .set("headers", JsonObject.empty())
+                .set("value", value)
+                .build());
+    }
+
+    private void withOutgoingMapping(final Consumer<ScriptedOutgoingMapping> test) {
+        final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10);
+        contextFactory.call(cx -> {
+            final Scriptable scope = cx.initSafeStandardObjects();
+            JavaScriptMessageMapperRhino.loadJavascriptLibrary(cx, scope, new InputStreamReader(
+                            getClass().getResourceAsStream(JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT)),
+                    JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT);
+            JavaScriptMessageMapperRhino.loadJavascriptLibrary(cx, scope,
+                    new InputStreamReader(getClass().getResourceAsStream(JavaScriptMessageMapperRhino.OUTGOING_SCRIPT)),
+                    JavaScriptMessageMapperRhino.OUTGOING_SCRIPT);
+
+            final ScriptedOutgoingMapping outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
+            cx.evaluateString(scope, COUNTING_SCRIPT,
+                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
+
+            test.accept(outgoingMapping);
+
+            return scope;
+        });
+    }
+
+}
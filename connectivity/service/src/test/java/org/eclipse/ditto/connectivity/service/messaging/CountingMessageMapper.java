@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.connectivity.api.ExternalMessage;
+import org.eclipse.ditto.connectivity.model.Connection;
+import org.eclipse.ditto.connectivity.model.ConnectivityModelFactory;
+import org.eclipse.ditto.connectivity.model.MappingContext;
+import org.eclipse.ditto.connectivity.service.config.mapping.MappingConfig;
+import org.eclipse.ditto.connectivity.service.mapping.AbstractMessageMapper;
+import org.eclipse.ditto.connectivity.service.mapping.DittoMessageMapper;
+import org.eclipse.ditto.connectivity.service.mapping.MessageMapper;
+import org.eclipse.ditto.connectivity.service.mapping.MessageMapperConfiguration;
+import org.eclipse.ditto.protocol.Adaptable;
+
+import com.typesafe.config.Config;
+
+import akka.actor.ActorSystem;
+
+/**
+ * Implementation of {@link org.eclipse.ditto.connectivity.service.mapping.MessageMapper} that counts how often it is
+ * invoked. It maps like the {@link DittoMessageMapper} but fails for messages whose correlation ID starts with
+ * {@value #FAILING_CORRELATION_ID_PREFIX}.
+ */
+public final class CountingMessageMapper extends AbstractMessageMapper {
+
+    static final String ALIAS = "Counting";
+
+    static final String FAILING_CORRELATION_ID_PREFIX = "fail-";
+
+    /**
+     * The context representing this mapper
+     */
+    static final MappingContext CONTEXT = ConnectivityModelFactory.newMappingContext(ALIAS, Collections.emptyMap());
+
+    static final AtomicInteger INBOUND_INVOCATIONS = new AtomicInteger();
+    static final AtomicInteger OUTBOUND_INVOCATIONS = new AtomicInteger();
+
+    private final MessageMapper delegate;
+
+    CountingMessageMapper(final ActorSystem actorSystem, final Config config) {
+        super(actorSystem, config);
+        delegate = new DittoMessageMapper(actorSystem, config);
+    }
+
+    private CountingMessageMapper(final CountingMessageMapper copyFromMapper) {
+        super(copyFromMapper);
+        delegate = copyFromMapper.delegate;
+    }
+
+    @Override
+    public void doConfigure(final Connection connection, final MappingConfig mappingConfig,
+            final MessageMapperConfiguration configuration) {
+        // ignore
+    }
+
+    @Override
+    public String getAlias() {
+        return ALIAS;
+    }
+
+    @Override
+    public boolean isConfigurationMandatory() {
+        return false;
+    }
+
+    @Override
+    public MessageMapper createNewMapperInstance() {
+        return new CountingMessageMapper(this);
+    }
+
+    @Override
+    public List<Adaptable> map(final ExternalMessage message) {
+        INBOUND_INVOCATIONS.incrementAndGet();
+        final String correlationId =
+                message.getHeaders().getOrDefault(DittoHeaderDefinition.CORRELATION_ID.getKey(), "");
+        if (correlationId.startsWith(FAILING_CORRELATION_ID_PREFIX)) {
+            throw new IllegalStateException("inbound mapping failed");
+        }
+        return delegate.map(message);
+    }
+
+    @Override
+    public DittoHeaders getAdditionalInboundHeaders(final ExternalMessage message) {
+        return DittoHeaders.empty();
+    }
+
+    @Override
+    public List<ExternalMessage> map(final Adaptable adaptable) {
+        OUTBOUND_INVOCATIONS.incrementAndGet();
+        if (adaptable.getDittoHeaders().getCorrelationId()
+                .filter(correlationId -> correlationId.startsWith(FAILING_CORRELATION_ID_PREFIX))
+                .isPresent()) {
+            throw new IllegalStateException("outbound mapping failed");
+        }
+        return delegate.map(adaptable);
+    }
+
+}
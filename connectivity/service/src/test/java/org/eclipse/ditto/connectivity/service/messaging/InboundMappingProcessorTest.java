@@ -19,6 +19,7 @@ import static org.mockito.Mockito.verify;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
@@ -75,6 +76,7 @@ public final class InboundMappingProcessorTest {
     private static final String DROPPING_MAPPER = "dropping";
     private static final String FAILING_MAPPER = "faulty";
     private static final String DUPLICATING_MAPPER = "duplicating";
+    private static final String COUNTING_MAPPER = "counting";
 
     private static ProtocolAdapterProvider protocolAdapterProvider;
     private static ThreadSafeDittoLoggingAdapter logger;
@@ -99,6 +101,7 @@ public final class InboundMappingProcessorTest {
         mappings.put(DITTO_MAPPER_CUSTOM_HEADER_BLOCKLIST, dittoCustomMappingContext);
         mappings.put(FAILING_MAPPER, FaultyMessageMapper.CONTEXT);
         mappings.put(DROPPING_MAPPER, DroppingMessageMapper.CONTEXT);
+        mappings.put(COUNTING_MAPPER, CountingMessageMapper.CONTEXT);
 
         final Map<String, String> duplicatingMapperHeaders = new HashMap<>();
         duplicatingMapperHeaders.put(
@@ -205,6 +208,58 @@ public final class InboundMappingProcessorTest {
         testInbound(message, 0, 1, 0);
     }
 
+    @Test
+    public void testInboundMessagesMappedInBatch() {
+        final ExternalMessage dropped = newModifyThingMessage(DROPPING_MAPPER, DITTO_MAPPER);
+        final ExternalMessage duplicated = newModifyThingMessage(DUPLICATING_MAPPER);
+        final ExternalMessage failed = newModifyThingMessage(FAILING_MAPPER, DITTO_MAPPER);
+
+        final List<List<MappingOutcome<MappedInboundExternalMessage>>> outcomes =
+                underTest.processBatch(List.of(dropped, duplicated, failed));
+
+        // outcomes are returned per message in the order of its mappers
+        assertThat(outcomes).hasSize(3);
+        assertThat(outcomes.get(0)).extracting(MappingOutcome::wasSuccessfullyMapped).containsExactly(false, true);
+        assertThat(outcomes.get(1)).extracting(MappingOutcome::wasSuccessfullyMapped).containsExactly(true, true);
+        assertThat(outcomes.get(2)).extracting(MappingOutcome::wasSuccessfullyMapped).containsExactly(false, true);
+    }
+
+    @Test
+    public void testInboundBatchFailureKeepsMessagesMappedBeforeFailingOne() {
+        CountingMessageMapper.INBOUND_INVOCATIONS.set(0);
+        final ExternalMessage first = newCorrelatedModifyThingMessage("first", COUNTING_MAPPER);
+        final ExternalMessage failing = newCorrelatedModifyThingMessage(
+                CountingMessageMapper.FAILING_CORRELATION_ID_PREFIX + "second", COUNTING_MAPPER);
+        final ExternalMessage third = newCorrelatedModifyThingMessage("third", COUNTING_MAPPER);
+        final ExternalMessage fourth = newCorrelatedModifyThingMessage("fourth", COUNTING_MAPPER);
+
+        final List<List<MappingOutcome<MappedInboundExternalMessage>>> outcomes =
+                underTest.processBatch(List.of(first, failing, third, fourth));
+
+        assertThat(outcomes).hasSize(4);
+        assertThat(outcomes.get(0)).extracting(MappingOutcome::wasSuccessfullyMapped).containsExactly(true);
+        assertThat(outcomes.get(1)).extracting(MappingOutcome::wasSuccessfullyMapped).containsExactly(false);
+        assertThat(outcomes.get(2)).extracting(MappingOutcome::wasSuccessfullyMapped).containsExactly(true);
+        assertThat(outcomes.get(3)).extracting(MappingOutcome::wasSuccessfullyMapped).containsExactly(true);
+        // each message was mapped exactly once: neither the first nor the failing one were mapped again
+        assertThat(CountingMessageMapper.INBOUND_INVOCATIONS.get()).isEqualTo(4);
+    }
+
+    private static ExternalMessage newCorrelatedModifyThingMessage(final String correlationId, final String mapper) {
+        return ExternalMessageFactory.newExternalMessageBuilder(
+                        Map.of(DittoHeaderDefinition.CORRELATION_ID.getKey(), correlationId))
+                .withText(TestConstants.modifyThing())
+                .withPayloadMapping(ConnectivityModelFactory.newPayloadMapping(mapper))
+                .build();
+    }
+
+    private static ExternalMessage newModifyThingMessage(final String... mappers) {
+        return ExternalMessageFactory.newExternalMessageBuilder(Collections.emptyMap())
+                .withText(TestConstants.modifyThing())
+                .withPayloadMapping(ConnectivityModelFactory.newPayloadMapping(mappers))
+                .build();
+    }
+
     private void testInbound(final int mapped, final int dropped, final int failed, final String... mappers) {
         final ExternalMessage externalMessage = ExternalMessageFactory
                 .newExternalMessageBuilder(Collections.emptyMap())
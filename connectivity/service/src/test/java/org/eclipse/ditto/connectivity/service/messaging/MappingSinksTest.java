@@ -15,6 +15,7 @@ package org.eclipse.ditto.connectivity.service.messaging;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
@@ -26,14 +27,17 @@ import org.eclipse.ditto.base.service.config.ThrottlingConfig;
 import org.eclipse.ditto.connectivity.api.ExternalMessage;
 import org.eclipse.ditto.connectivity.api.ExternalMessageFactory;
 import org.eclipse.ditto.connectivity.api.MappedInboundExternalMessage;
+import org.eclipse.ditto.connectivity.api.OutboundSignal;
 import org.eclipse.ditto.connectivity.api.OutboundSignalFactory;
 import org.eclipse.ditto.connectivity.model.Connection;
 import org.eclipse.ditto.connectivity.model.ConnectivityModelFactory;
 import org.eclipse.ditto.connectivity.model.MappingContext;
+import org.eclipse.ditto.connectivity.service.config.DittoConnectivityConfig;
 import org.eclipse.ditto.connectivity.service.config.mapping.DefaultMappingConfig;
 import org.eclipse.ditto.connectivity.service.config.mapping.MappingConfig;
 import org.eclipse.ditto.connectivity.service.messaging.mappingoutcome.MappingOutcome;
 import org.eclipse.ditto.internal.utils.akka.ActorSystemResource;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.internal.utils.protocol.DittoProtocolAdapterProvider;
 import org.eclipse.ditto.internal.utils.protocol.config.DefaultProtocolConfig;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracingInitResource;
@@ -50,6 +54,7 @@ import org.junit.Test;
 
 import com.typesafe.config.ConfigFactory;
 
+import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.dispatch.MessageDispatcher;
@@ -69,6 +74,22 @@ public final class MappingSinksTest {
 
     private static final String NOOP_OUTBOUND_SCRIPT = "function mapFromDittoProtocolMsg(){return null;}";
     private static final String NOOP_INBOUND_SCRIPT = "function mapToDittoProtocolMsg(){return null;}";
+    private static final String SLEEP_FUNCTION = "function sleep(millis) {\n" +
+            "    var start = new Date();\n" +
+            "    var now = new Date();\n" +
+            "    while(now - start < millis) now = new Date();\n" +
+            "}\n";
+    private static final String SLEEPING_INBOUND_SCRIPT = SLEEP_FUNCTION +
+            "function mapToDittoProtocolMsg(headers,textPayload,bytePayload,contentType) {\n" +
+            "    sleep(parseInt(headers['sleep'], 10));\n" +
+            "    return Ditto.buildDittoProtocolMsg('ns','thing','things','twin','commands','modify'," +
+            "        '/attributes/i',{'correlation-id': textPayload},textPayload);\n" +
+            "}";
+    private static final String SLEEPING_OUTBOUND_SCRIPT = SLEEP_FUNCTION +
+            "function mapFromDittoProtocolMsg(ns,name,g,ch,cr,a,p,h,value,s,e) {\n" +
+            "    sleep(parseInt(h['sleep'], 10));\n" +
+            "    return Ditto.buildExternalMsg(h, h['i'], null, 'text/plain');\n" +
+            "}";
 
     @Rule
     public final ActorSystemResource resource = ActorSystemResource.newInstance(ConfigFactory.load("test"));
@@ -184,6 +205,183 @@ public final class MappingSinksTest {
         }};
     }
 
+    @Test
+    public void inboundPartitionedMappingKeepsOrderPerKey() {
+        new TestKit(resource.getActorSystem()) {{
+            // GIVEN: 3 lanes; device "a" takes lane 1, device "b" lane 2 and messages without device ID lane 0
+            final int processorPoolSize = 3;
+            final var underTest = getPartitionedInboundSink(processorPoolSize, "{{ header:device_id }}", this);
+
+            // WHEN: the first message of device "a" takes long to map
+            final List<Object> messages = List.of(
+                    inboundMessage("a-1", "a", 2000),
+                    inboundMessage("a-2", "a", 0),
+                    inboundMessage("b-1", "b", 0),
+                    inboundMessage("x-1", null, 0),
+                    inboundMessage("b-2", "b", 0),
+                    inboundMessage("x-2", null, 0),
+                    inboundMessage("b-3", "b", 0));
+            Source.from(messages).to(underTest).run(resource.getActorSystem());
+
+            // THEN: the messages of the other lanes overtake the slow one, but each key keeps its order
+            final List<String> mappedValues = IntStream.range(0, messages.size())
+                    .mapToObj(i -> getMappedValue(
+                            expectMsgClass(FiniteDuration.apply(30, "s"), InboundMappingOutcomes.class)))
+                    .toList();
+            assertThat(mappedValues.subList(0, 5)).containsExactlyInAnyOrder("b-1", "b-2", "b-3", "x-1", "x-2");
+            assertThat(mappedValues.subList(5, 7)).containsExactly("a-1", "a-2");
+            assertThat(mappedValues).filteredOn(value -> value.startsWith("b-")).containsExactly("b-1", "b-2", "b-3");
+            assertThat(mappedValues).filteredOn(value -> value.startsWith("x-")).containsExactly("x-1", "x-2");
+        }};
+    }
+
+    @Test
+    public void inboundPartitionedMappingKeepsOrderOfMessagesWithoutKey() {
+        new TestKit(resource.getActorSystem()) {{
+            // GIVEN: the partition key expression resolves for none of the messages
+            final int processorPoolSize = 3;
+            final var underTest = getPartitionedInboundSink(processorPoolSize, "{{ header:device_id }}", this);
+
+            // WHEN: the first message takes long to map
+            final List<Object> messages = List.of(
+                    inboundMessage("x-1", null, 1000),
+                    inboundMessage("x-2", null, 0),
+                    inboundMessage("x-3", null, 0),
+                    inboundMessage("x-4", null, 0));
+            Source.from(messages).to(underTest).run(resource.getActorSystem());
+
+            // THEN: messages without key all take the same lane and are not overtaken
+            final List<String> mappedValues = IntStream.range(0, messages.size())
+                    .mapToObj(i -> getMappedValue(
+                            expectMsgClass(FiniteDuration.apply(30, "s"), InboundMappingOutcomes.class)))
+                    .toList();
+            assertThat(mappedValues).containsExactly("x-1", "x-2", "x-3", "x-4");
+        }};
+    }
+
+    @Test
+    public void outboundPartitionedMappingKeepsOrderPerThing() {
+        new TestKit(resource.getActorSystem()) {{
+            // GIVEN: 3 lanes; thing "ns:a" and thing "ns:b" take different lanes
+            final int processorPoolSize = 3;
+            final ActorRef underTest =
+                    getPartitionedOutboundActor(processorPoolSize, "{{ thing:id }}", this);
+
+            // WHEN: the first signal of thing "ns:a" takes long to map
+            underTest.tell(outboundSignal("a", "a-1", 2000), testActor());
+            underTest.tell(outboundSignal("a", "a-2", 0), testActor());
+            underTest.tell(outboundSignal("b", "b-1", 0), testActor());
+            underTest.tell(outboundSignal("b", "b-2", 0), testActor());
+
+            // THEN: the signals of thing "ns:b" overtake the slow one, but each thing keeps its order
+            final List<String> payloads = IntStream.range(0, 4)
+                    .mapToObj(i -> getTextPayload(expectMsgClass(FiniteDuration.apply(30, "s"),
+                            BaseClientActor.PublishMappedMessage.class)))
+                    .toList();
+            assertThat(payloads).containsExactly("b-1", "b-2", "a-1", "a-2");
+        }};
+    }
+
+    @Test
+    public void outboundPartitionedMappingKeepsOrderOfSignalsWithoutKey() {
+        new TestKit(resource.getActorSystem()) {{
+            // GIVEN: the partition key expression resolves for none of the signals
+            final int processorPoolSize = 3;
+            final ActorRef underTest =
+                    getPartitionedOutboundActor(processorPoolSize, "{{ header:partition }}", this);
+
+            // WHEN: the first signal takes long to map
+            underTest.tell(outboundSignal("a", "a-1", 1000), testActor());
+            underTest.tell(outboundSignal("b", "b-1", 0), testActor());
+            underTest.tell(outboundSignal("c", "c-1", 0), testActor());
+
+            // THEN: signals without key all take the same lane and are not overtaken
+            final List<String> payloads = IntStream.range(0, 3)
+                    .mapToObj(i -> getTextPayload(expectMsgClass(FiniteDuration.apply(30, "s"),
+                            BaseClientActor.PublishMappedMessage.class)))
+                    .toList();
+            assertThat(payloads).containsExactly("a-1", "b-1", "c-1");
+        }};
+    }
+
+    private Sink<Object, NotUsed> getPartitionedInboundSink(final int processorPoolSize, final String partitionKey,
+            final TestKit testKit) {
+
+        final var connection = getConnection(SLEEPING_INBOUND_SCRIPT, NOOP_OUTBOUND_SCRIPT, processorPoolSize);
+        final var processors = IntStream.range(0, processorPoolSize)
+                .mapToObj(i -> getInboundMappingProcessor(connection))
+                .toList();
+        final var sink = Sink.foreach(o -> testKit.testActor().tell(o, ActorRef.noSender()));
+        final var mappingConfig = DefaultMappingConfig.of(ConfigFactory.parseString(
+                "mapping { partitioned = true, inbound-partition-key = \"" + partitionKey + "\" }"));
+        return InboundMappingSink.createSink(processors, connection.getId(), processorPoolSize, sink, mappingConfig,
+                ThrottlingConfig.of(ConfigFactory.empty()),
+                (MessageDispatcher) resource.getActorSystem().getDispatcher());
+    }
+
+    private ActorRef getPartitionedOutboundActor(final int processorPoolSize, final String partitionKey,
+            final TestKit testKit) {
+
+        final var connection = getConnection(NOOP_INBOUND_SCRIPT, SLEEPING_OUTBOUND_SCRIPT, processorPoolSize);
+        final var processors = IntStream.range(0, processorPoolSize)
+                .mapToObj(i -> getOutboundMappingProcessor(connection))
+                .toList();
+        final var connectivityConfig = DittoConnectivityConfig.of(DefaultScopedConfig.dittoScoped(
+                ConfigFactory.parseString("ditto.connectivity.mapping { partitioned = true, " +
+                                "outbound-partition-key = \"" + partitionKey + "\" }")
+                        .withFallback(TestConstants.CONFIG)));
+        return testKit.childActorOf(OutboundMappingProcessorActor.props(testKit.testActor(), processors, connection,
+                connectivityConfig, processorPoolSize));
+    }
+
+    private ExternalMessageWithSender inboundMessage(final String text, @Nullable final String deviceId,
+            final int sleepMillis) {
+
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("content-type", "text/plain");
+        headers.put("sleep", String.valueOf(sleepMillis));
+        if (null != deviceId) {
+            headers.put("device_id", deviceId);
+        }
+        final var message = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withText(text)
+                .withPayloadMapping(ConnectivityModelFactory.newPayloadMapping("javascript"))
+                .build();
+        return new ExternalMessageWithSender(message, ActorRef.noSender());
+    }
+
+    private static OutboundSignal outboundSignal(final String thingName, final String text, final int sleepMillis) {
+        final var headers = DittoHeaders.of(Map.of("i", text, "sleep", String.valueOf(sleepMillis)));
+        final var signal = AttributeModified.of(ThingId.of("ns:" + thingName),
+                JsonPointer.of("/attributes/i"), JsonValue.of(text), 1L, null, headers, null);
+        return OutboundSignalFactory.newOutboundSignal(signal, List.of(ConnectivityModelFactory.newTargetBuilder(
+                        TestConstants.Targets.TWIN_TARGET)
+                .payloadMapping(ConnectivityModelFactory.newPayloadMapping("javascript"))
+                .build()));
+    }
+
+    private static String getMappedValue(final InboundMappingOutcomes outcomes) {
+        assertThat(outcomes.getOutcomes()).hasSize(1);
+        return outcomes.getOutcomes().get(0).accept(MappingOutcome.<MappedInboundExternalMessage, String>
+                        newVisitorBuilder()
+                .onMapped((mapperId, mapped) ->
+                        ((ModifyAttribute) mapped.getSignal()).getAttributeValue().asString())
+                .onDropped((mapperId, dropped) -> {
+                    throw new AssertionError("Not expecting dropped: " + dropped);
+                })
+                .onError((mapperId, error, topicPath, externalMessage) -> {
+                    throw new AssertionError("Not expecting error: " + externalMessage, error);
+                })
+                .build());
+    }
+
+    private static String getTextPayload(final BaseClientActor.PublishMappedMessage publish) {
+        assertThat(publish.getOutboundSignal().getMappedOutboundSignals()).hasSize(1);
+        return publish.getOutboundSignal().getMappedOutboundSignals().get(0).getExternalMessage()
+                .getTextPayload()
+                .orElseThrow();
+    }
+
     private static Map<String, MappingContext> getJavascriptMappings(final String inboundScript,
             final String outboundScript) {
         return Map.of("javascript", ConnectivityModelFactory.newMappingContext("JavaScript",
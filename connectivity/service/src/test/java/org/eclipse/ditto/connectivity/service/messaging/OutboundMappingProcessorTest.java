@@ -100,6 +100,7 @@ public final class OutboundMappingProcessorTest {
     private static final String DROPPING_MAPPER = "dropping";
     private static final String FAILING_MAPPER = "faulty";
     private static final String DUPLICATING_MAPPER = "duplicating";
+    private static final String COUNTING_MAPPER = "counting";
 
     private static ProtocolAdapterProvider protocolAdapterProvider;
     private static ThreadSafeDittoLoggingAdapter logger;
@@ -135,6 +136,7 @@ public final class OutboundMappingProcessorTest {
         mappings.put(DITTO_MAPPER_CUSTOM_HEADER_BLOCKLIST, dittoCustomMappingContext);
         mappings.put(FAILING_MAPPER, FaultyMessageMapper.CONTEXT);
         mappings.put(DROPPING_MAPPER, DroppingMessageMapper.CONTEXT);
+        mappings.put(COUNTING_MAPPER, CountingMessageMapper.CONTEXT);
 
         final Map<String, String> duplicatingMapperHeaders = new HashMap<>();
         duplicatingMapperHeaders.put(
@@ -330,6 +332,60 @@ public final class OutboundMappingProcessorTest {
                 targetWithMapping(DROPPING_MAPPER, FAILING_MAPPER, DITTO_MAPPER, DUPLICATING_MAPPER));
     }
 
+    @Test
+    public void testOutboundSignalsMappedInBatch() {
+        final Target target = targetWithMapping(DROPPING_MAPPER, DUPLICATING_MAPPER);
+        final List<OutboundSignal> outboundSignals = Stream.of("first", "second", "third")
+                .map(OutboundMappingProcessorTest::thingModifiedWithCorrelationId)
+                .map(signal -> OutboundSignalFactory.newOutboundSignal(signal, List.of(target)))
+                .toList();
+
+        final List<List<MappingOutcome<OutboundSignal.Mapped>>> outcomes = underTest.processBatch(outboundSignals);
+
+        // outcomes are returned per signal in the order of its mappers
+        assertThat(outcomes).hasSize(3).allSatisfy(signalOutcomes -> assertThat(signalOutcomes)
+                .extracting(MappingOutcome::wasSuccessfullyMapped)
+                .containsExactly(false, true, true));
+        final MappingOutcome.Visitor<OutboundSignal.Mapped, String> correlationIdOfMapped =
+                MappingOutcome.<OutboundSignal.Mapped, String>newVisitorBuilder()
+                        .onMapped((mapperId, mapped) ->
+                                mapped.getAdaptable().getDittoHeaders().getCorrelationId().orElseThrow())
+                        .onDropped((mapperId, dropped) -> null)
+                        .onError((mapperId, error, topicPath, externalMessage) -> null)
+                        .build();
+        assertThat(outcomes).extracting(signalOutcomes -> signalOutcomes.get(1).accept(correlationIdOfMapped))
+                .containsExactly("first", "second", "third");
+    }
+
+    @Test
+    public void testOutboundBatchFailureKeepsSignalsMappedBeforeFailingOne() {
+        CountingMessageMapper.OUTBOUND_INVOCATIONS.set(0);
+        final Target target = targetWithMapping(COUNTING_MAPPER);
+        final List<OutboundSignal> outboundSignals =
+                Stream.of("first", CountingMessageMapper.FAILING_CORRELATION_ID_PREFIX + "second", "third", "fourth")
+                        .map(OutboundMappingProcessorTest::thingModifiedWithCorrelationId)
+                        .map(signal -> OutboundSignalFactory.newOutboundSignal(signal, List.of(target)))
+                        .toList();
+
+        final List<List<MappingOutcome<OutboundSignal.Mapped>>> outcomes = underTest.processBatch(outboundSignals);
+
+        assertThat(outcomes).hasSize(4);
+        assertThat(outcomes.get(0)).extracting(MappingOutcome::wasSuccessfullyMapped).containsExactly(true);
+        assertThat(outcomes.get(1)).extracting(MappingOutcome::wasSuccessfullyMapped).containsExactly(false);
+        assertThat(outcomes.get(2)).extracting(MappingOutcome::wasSuccessfullyMapped).containsExactly(true);
+        assertThat(outcomes.get(3)).extracting(MappingOutcome::wasSuccessfullyMapped).containsExactly(true);
+        // each signal was mapped exactly once: neither the first nor the failing one were mapped again
+        assertThat(CountingMessageMapper.OUTBOUND_INVOCATIONS.get()).isEqualTo(4);
+    }
+
+    private static ThingModifiedEvent<?> thingModifiedWithCorrelationId(final String correlationId) {
+        final ThingModifiedEvent<?> thingModified = TestConstants.thingModified(Collections.emptyList());
+        return (ThingModifiedEvent<?>) thingModified.setDittoHeaders(thingModified.getDittoHeaders()
+                .toBuilder()
+                .correlationId(correlationId)
+                .build());
+    }
+
     private static Target targetWithMapping(final String... mappings) {
         return ConnectivityModelFactory.newTargetBuilder(TestConstants.Targets.TWIN_TARGET)
                 .address(UUID.randomUUID().toString())
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.internal.utils.akka.ActorSystemResource;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import akka.japi.Pair;
+import akka.pattern.Patterns;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Tests {@link PartitionedFlow}.
+ */
+public final class PartitionedFlowTest {
+
+    @ClassRule
+    public static final ActorSystemResource ACTOR_SYSTEM_RESOURCE = ActorSystemResource.newInstance();
+
+    @Test
+    public void preservesOrderOfMessagesWithSameKey() throws Exception {
+        final List<Pair<String, Integer>> messages = IntStream.range(0, 100)
+                .mapToObj(i -> Pair.create("key" + i % 7, i))
+                .toList();
+
+        final List<Pair<String, Integer>> result = Source.from(messages)
+                .via(PartitionedFlow.of(4, 8, (Pair<String, Integer> message) -> Optional.of(message.first()),
+                        laneIndex -> Flow.<Pair<String, Integer>>create()
+                                // delay the messages of one lane to let the others overtake it
+                                .mapAsync(1, message -> laneIndex == 0
+                                        ? Patterns.after(Duration.ofMillis(5),
+                                        ACTOR_SYSTEM_RESOURCE.getActorSystem().getScheduler(),
+                                        ACTOR_SYSTEM_RESOURCE.getActorSystem().getDispatcher(),
+                                        () -> CompletableFuture.completedFuture(message))
+                                        : CompletableFuture.completedFuture(message))))
+                .runWith(Sink.seq(), ACTOR_SYSTEM_RESOURCE.getMaterializer())
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(result).containsExactlyInAnyOrderElementsOf(messages);
+        IntStream.range(0, 7).mapToObj(i -> "key" + i).forEach(key ->
+                assertThat(result.stream().filter(message -> message.first().equals(key)).toList())
+                        .isEqualTo(messages.stream().filter(message -> message.first().equals(key)).toList()));
+    }
+
+    @Test
+    public void sendsMessagesWithoutKeyToTheFirstLaneInOrder() throws Exception {
+        final List<Pair<Integer, Integer>> result = Source.range(1, 7)
+                .via(PartitionedFlow.of(3, 8, (Integer message) -> Optional.<String>empty(),
+                        laneIndex -> Flow.<Integer>create().map(message -> Pair.create(laneIndex, message))))
+                .runWith(Sink.seq(), ACTOR_SYSTEM_RESOURCE.getMaterializer())
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(result).extracting(Pair::first).containsOnly(0);
+        assertThat(result).extracting(Pair::second).containsExactly(1, 2, 3, 4, 5, 6, 7);
+    }
+
+}
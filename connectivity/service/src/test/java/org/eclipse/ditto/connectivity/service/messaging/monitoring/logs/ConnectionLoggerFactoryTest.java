@@ -33,7 +33,8 @@ public final class ConnectionLoggerFactoryTest {
         Arrays.stream(LogCategory.values())
                 .forEach(category -> {
                     Arrays.stream(LogType.values())
-                            .forEach(type -> ConnectionLoggerFactory.newEvictingLogger(1, 1, category, type, "1"));
+                            .forEach(type -> ConnectionLoggerFactory.newEvictingLogger(1, 1, category, type, "1",
+                                    LogEntryBudget.unlimited()));
                 });
     }
 
@@ -136,6 +136,34 @@ public final class ConnectionLoggerRegistryTest {
         assertThat(before.getLogs()).isEmpty();
     }
 
+    @Test
+    public void releasesLogsOfExpiredConnectionsWhenBudgetIsExhausted() throws InterruptedException {
+        // room for a few logs, which expire quickly
+        final ConnectionLoggerRegistry registry =
+                ConnectionLoggerRegistry.fromConfig(configWithNodeCapacity(1_000L, "100ms"));
+        final ConnectionLoggerRegistry longLivedRegistry = ConnectionLoggerRegistry.fromConfig(
+                configWithNodeCapacity(1_000L, "1d"));
+        final ConnectionId expiredConnectionId = connectionId();
+        final ConnectionId activeConnectionId = connectionId();
+        final ConnectionLogger expiredLogger = registry.forConnection(expiredConnectionId);
+        final ConnectionLogger activeLogger = registry.forConnection(activeConnectionId);
+        registry.unmuteForConnection(expiredConnectionId);
+        longLivedRegistry.unmuteForConnection(activeConnectionId);
+
+        logNtimes(10, expiredLogger::success);
+        activeLogger.success(randomInfoProvider());
+
+        assertThat(activeLogger.getLogs()).isEmpty();
+
+        // wait until logging of the first connection expired and the budget may be reclaimed again
+        TimeUnit.MILLISECONDS.sleep(1_100L);
+        activeLogger.success(randomInfoProvider());
+
+        assertThat(activeLogger.getLogs()).hasSize(1);
+        assertThat(expiredLogger.getLogs()).isEmpty();
+        assertThat(registry.isActiveForConnection(expiredConnectionId)).isFalse();
+    }
+
     @Test
     public void isActiveForConnection() {
         final ConnectionId connectionId = connectionId();
@@ -348,6 +376,15 @@ public final class ConnectionLoggerRegistryTest {
                 .forEach(i -> logger.accept(randomInfoProvider()));
     }
 
+    private MonitoringLoggerConfig configWithNodeCapacity(final long nodeCapacityBytes, final String logDuration) {
+        final Map<String, Object> loggerEntries = new HashMap<>();
+        loggerEntries.put("successCapacity", 10);
+        loggerEntries.put("nodeCapacityBytes", nodeCapacityBytes);
+        loggerEntries.put("logDuration", logDuration);
+
+        return DefaultMonitoringLoggerConfig.of(ConfigFactory.parseMap(Map.of("logger", loggerEntries)));
+    }
+
     private MonitoringLoggerConfig configWithCapacities(final int successCapacity,
             final int failureCapacity) {
         final Map<String, Object> loggerEntries = new HashMap<>();
@@ -409,7 +446,9 @@ public final class ConnectionLoggerRegistryTest {
         final Fluency red = new FluencyBuilderForFluentd().build();
         final Fluency black = new FluencyBuilderForFluentd().build("localhost", 9999);
 
-        forClass(ConnectionLoggerRegistry.class).withPrefabValues(Fluency.class, red, black).verify();
+        forClass(ConnectionLoggerRegistry.class).withPrefabValues(Fluency.class, red, black)
+                .withIgnoredFields("budget")
+                .verify();
     }
 
     private ConnectionId connectionId() {
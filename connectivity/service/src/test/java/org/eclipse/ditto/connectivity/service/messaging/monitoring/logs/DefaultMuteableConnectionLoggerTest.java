@@ -81,6 +81,7 @@ public final class DefaultMuteableConnectionLoggerTest {
         underTest.mute();
 
         assertThat(underTest.isMuted()).isTrue();
+        verify(delegate).clear();
     }
 
     @Test
@@ -119,7 +120,8 @@ public final class DefaultMuteableConnectionLoggerTest {
         underTest.exception(INFO_PROVIDER, MESSAGE, MESSAGE_ARGUMENTS);
         underTest.getLogs();
 
-        Mockito.verifyNoInteractions(delegate);
+        verify(delegate).clear();
+        Mockito.verifyNoMoreInteractions(delegate);
     }
 
     @Test
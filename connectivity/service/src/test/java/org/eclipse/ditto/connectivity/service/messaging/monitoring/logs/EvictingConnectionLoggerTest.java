@@ -185,6 +185,34 @@ public final class EvictingConnectionLoggerTest {
                 .hasMessageContainingHeaderValues(info.getHeaders());
     }
 
+    @Test
+    public void truncatesLoggedPayload() {
+        final var logger = builder.logHeadersAndPayload().build();
+
+        final var textPayload = "x".repeat(10_000);
+        final var info = infoProviderWithPayloadDebugLogging(textPayload);
+
+        logger.success(info);
+        final var entry = getFirstAndOnlyEntry(logger);
+
+        assertThat(entry.getMessage())
+                .contains(" - Message payload: xxx")
+                .endsWith("...")
+                .hasSizeLessThan(2_000);
+    }
+
+    @Test
+    public void capturesMessageArgumentsWhenLogging() {
+        final var logger = builder.build();
+        final var argument = new StringBuilder("before");
+
+        logger.success(getInfoProvider(), "Message was {0}", argument);
+        argument.replace(0, argument.length(), "after");
+
+        LogEntryAssertions.assertThat(getFirstAndOnlyEntry(logger))
+                .hasMessage("Message was before");
+    }
+
     @Test
     public void defaultMessagesAreUsedForEntries() {
         final var defaultSuccessMessage = "this is a success";
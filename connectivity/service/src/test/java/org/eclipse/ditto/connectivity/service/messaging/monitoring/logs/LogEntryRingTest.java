@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LogEntryRing}.
+ */
+public final class LogEntryRingTest {
+
+    private static final int CAPACITY = 6;
+
+    @Test
+    public void verifyEvictionInInsertionOrder() {
+        final LogEntryRing<Integer> ring = LogEntryRing.withCapacity(CAPACITY, LogEntryBudget.unlimited());
+
+        IntStream.range(0, 13).forEach(ring::add);
+
+        assertThat(ring.getEntries()).containsExactly(7, 8, 9, 10, 11, 12);
+        assertThat(ring.size()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    public void verifyEvictionUnderHighLoad() {
+        final LogEntryBudget budget = LogEntryBudget.unlimited();
+        final LogEntryRing<Integer> ring = LogEntryRing.withCapacity(CAPACITY, budget);
+
+        IntStream.range(0, 100000).parallel().forEach(ring::add);
+
+        assertThat(ring.getEntries()).hasSize(CAPACITY);
+        assertThat(budget.getRetained()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    public void sharedBudgetLimitsRetainedLogs() {
+        final LogEntryBudget budget = LogEntryBudget.withCapacity(8L);
+        final LogEntryRing<Integer> first = LogEntryRing.withCapacity(CAPACITY, budget);
+        final LogEntryRing<Integer> second = LogEntryRing.withCapacity(CAPACITY, budget);
+
+        IntStream.range(0, CAPACITY).forEach(first::add);
+        final List<Boolean> added = IntStream.range(0, CAPACITY).mapToObj(second::add).toList();
+
+        assertThat(added).containsExactly(true, true, false, false, false, false);
+        assertThat(second.getEntries()).containsExactly(0, 1);
+
+        // overwriting retained logs needs no further budget
+        assertThat(first.add(CAPACITY)).isTrue();
+        assertThat(budget.getRetained()).isEqualTo(8L);
+
+        first.clear();
+
+        assertThat(first.getEntries()).isEmpty();
+        assertThat(budget.getRetained()).isEqualTo(2L);
+        assertThat(second.add(CAPACITY)).isTrue();
+    }
+
+    @Test
+    public void logsTakeTheirSizeFromTheBudget() {
+        final LogEntryBudget budget = LogEntryBudget.withCapacity(10L);
+        final LogEntryRing<String> ring = LogEntryRing.withCapacity(3, budget, String::length);
+
+        assertThat(ring.add("aaaa")).isTrue();
+        assertThat(ring.add("bbbbbbb")).isFalse();
+        assertThat(ring.add("bbbbbb")).isTrue();
+        assertThat(budget.getRetained()).isEqualTo(10L);
+
+        // overwriting a log with a smaller one releases the difference
+        assertThat(ring.add("cc")).isTrue();
+        assertThat(budget.getRetained()).isEqualTo(8L);
+        assertThat(ring.getEntries()).containsExactly("bbbbbb", "cc");
+
+        ring.clear();
+
+        assertThat(budget.getRetained()).isZero();
+    }
+
+    @Test
+    public void exhaustedBudgetRunsReclaimerBeforeDiscardingLogs() {
+        final AtomicReference<LogEntryRing<Integer>> reclaimable = new AtomicReference<>();
+        final LogEntryBudget budget = LogEntryBudget.withCapacity(CAPACITY, () -> reclaimable.get().clear());
+        final LogEntryRing<Integer> reclaimed = LogEntryRing.withCapacity(CAPACITY, budget);
+        final LogEntryRing<Integer> ring = LogEntryRing.withCapacity(CAPACITY, budget);
+        reclaimable.set(reclaimed);
+
+        IntStream.range(0, CAPACITY).forEach(reclaimed::add);
+
+        assertThat(ring.add(0)).isTrue();
+        assertThat(reclaimed.getEntries()).isEmpty();
+        assertThat(budget.getRetained()).isEqualTo(1L);
+    }
+
+}
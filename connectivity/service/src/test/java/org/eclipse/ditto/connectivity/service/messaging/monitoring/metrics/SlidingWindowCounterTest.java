@@ -22,7 +22,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Map;
 
 import org.eclipse.ditto.connectivity.model.MetricType;
@@ -100,7 +103,6 @@ public class SlidingWindowCounterTest {
                 .recordingMeasurementWindows(ONE_DAY_WITH_ONE_MINUTE_RESOLUTION)
                 .reportingMeasurementWindows(ONE_MINUTE_WITH_ONE_MINUTE_RESOLUTION, ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION,
                         ONE_DAY_WITH_ONE_MINUTE_RESOLUTION)
-                .cleanUpEnabled(false)
                 .build();
 
         final long ts = System.currentTimeMillis() +
@@ -139,16 +141,15 @@ public class SlidingWindowCounterTest {
                 .metricsAlert(new ThrottledMetricsAlert(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION, threshold,
                         () -> new DummyConnectionMetricsCounter(throttledCounter)))
                 .measurementWindows(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION, ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION)
-                .cleanUpEnabled(false) // better testability
                 .build();
 
         // add some measurements
         final long now = System.currentTimeMillis();
-        increment(consumedInboundCounter, 3, now); //above threshold
-        increment(consumedInboundCounter, 1, now - Duration.ofMinutes(1).toMillis()); // below threshold
-        increment(consumedInboundCounter, 1, now - Duration.ofMinutes(2).toMillis()); // below threshold
-        increment(consumedInboundCounter, 4, now - Duration.ofMinutes(3).toMillis()); // above threshold
         increment(consumedInboundCounter, 5, now - Duration.ofMinutes(4).toMillis()); // above threshold
+        increment(consumedInboundCounter, 4, now - Duration.ofMinutes(3).toMillis()); // above threshold
+        increment(consumedInboundCounter, 1, now - Duration.ofMinutes(2).toMillis()); // below threshold
+        increment(consumedInboundCounter, 1, now - Duration.ofMinutes(1).toMillis()); // below threshold
+        increment(consumedInboundCounter, 3, now); //above threshold
 
         // verify measurements of the observed counter is correct
         final Map<Duration, Long> success = consumedInboundCounter.getCounts(true);
@@ -165,6 +166,31 @@ public class SlidingWindowCounterTest {
                 .containsEntry(ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION.getWindow(), 3L);
     }
 
+    @Test
+    public void testSlotsAreReusedAfterLeavingTheWindow() {
+        // last millisecond of a slot to have a completely filled current slot
+        final long now = Instant.parse("2026-01-01T00:00:09.999Z").toEpochMilli();
+        final SlidingWindowCounter counter = SlidingWindowCounter.newBuilder(metricsCounter)
+                .clock(Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC))
+                .measurementWindows(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION)
+                .build();
+
+        // the slots of the first minute are overwritten by the slots of the second minute
+        final long start = now - Duration.ofMinutes(2).toMillis();
+        for (long i = start; i <= now; i += 1000) {
+            counter.increment(true, i);
+        }
+        // neither too old nor too far in the future measurements are counted
+        counter.increment(true, start);
+        counter.increment(true, now + Duration.ofMinutes(1).toMillis());
+
+        assertThat(counter.getCounts(true)).containsEntry(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getWindow(), 60L);
+
+        counter.reset();
+
+        assertThat(counter.getCounts(true)).containsEntry(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getWindow(), 0L);
+    }
+
     private void increment(final SlidingWindowCounter counter, final int count, final long ts) {
         for (int i = 0; i < count; i++) {
             counter.increment(true, ts);
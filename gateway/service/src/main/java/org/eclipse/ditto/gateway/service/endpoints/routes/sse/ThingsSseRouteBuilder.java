@@ -62,6 +62,7 @@ import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
+import org.eclipse.ditto.internal.utils.search.RqlCriteriaCache;
 import org.eclipse.ditto.internal.utils.search.SearchSource;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFactory;
@@ -77,8 +78,6 @@ import org.eclipse.ditto.messages.model.signals.commands.MessageCommand;
 import org.eclipse.ditto.placeholders.TimePlaceholder;
 import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
 import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
-import org.eclipse.ditto.rql.parser.RqlPredicateParser;
-import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingFieldSelector;
 import org.eclipse.ditto.things.model.ThingId;
@@ -152,7 +151,6 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
 
     private final ActorRef streamingActor;
     private final StreamingConfig streamingConfig;
-    private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
     private final ActorRef pubSubMediator;
     private SseConnectionSupervisor sseConnectionSupervisor;
     private SseEventSniffer eventSniffer;
@@ -163,12 +161,10 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
     private ThingsSseRouteBuilder(final ActorSystem actorSystem,
             final ActorRef streamingActor,
             final StreamingConfig streamingConfig,
-            final QueryFilterCriteriaFactory queryFilterCriteriaFactory,
             final ActorRef pubSubMediator) {
 
         this.streamingActor = streamingActor;
         this.streamingConfig = streamingConfig;
-        this.queryFilterCriteriaFactory = queryFilterCriteriaFactory;
         this.pubSubMediator = pubSubMediator;
 
         final Config config = actorSystem.settings().config();
@@ -195,13 +191,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
             final ActorRef pubSubMediator) {
 
         checkNotNull(streamingActor, "streamingActor");
-        final var queryFilterCriteriaFactory =
-                QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(),
-                        TopicPathPlaceholder.getInstance(), ResourcePlaceholder.getInstance(),
-                        TimePlaceholder.getInstance());
-
-        return new ThingsSseRouteBuilder(actorSystem, streamingActor, streamingConfig, queryFilterCriteriaFactory,
-                pubSubMediator);
+        return new ThingsSseRouteBuilder(actorSystem, streamingActor, streamingConfig, pubSubMediator);
     }
 
     @Override
@@ -365,7 +355,9 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                 dittoHeaders -> sseAuthorizationEnforcer.checkAuthorization(ctx, dittoHeaders).thenApply(unused -> {
                     if (filterString != null) {
                         // will throw an InvalidRqlExpressionException if the RQL expression was not valid:
-                        queryFilterCriteriaFactory.filterCriteria(filterString, dittoHeaders);
+                        RqlCriteriaCache.getInstance().filterCriteria(filterString, dittoHeaders,
+                                TopicPathPlaceholder.getInstance(), ResourcePlaceholder.getInstance(),
+                                TimePlaceholder.getInstance());
                     }
 
                     final String connectionCorrelationId = dittoHeaders.getCorrelationId()
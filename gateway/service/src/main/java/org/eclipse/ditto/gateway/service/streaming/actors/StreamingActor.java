@@ -59,6 +59,8 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
     private final DittoProtocolSub dittoProtocolSub;
     private final ActorRef commandRouter;
     private final Gauge streamingSessionsCounter;
+    private final Gauge streamingFiltersCounter;
+    private final StreamingFilterIndex filterIndex;
     private final JwtValidator jwtValidator;
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
     private final Props subscriptionManagerProps;
@@ -95,6 +97,8 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
         this.streamingConfig = streamingConfig;
         this.headerTranslator = headerTranslator;
         streamingSessionsCounter = DittoMetrics.gauge("streaming_sessions_count");
+        streamingFiltersCounter = DittoMetrics.gauge("streaming_filters_count");
+        filterIndex = new StreamingFilterIndex();
         final ActorSelection commandForwarderSelection = ActorSelection.apply(commandForwarder, "");
         final Materializer materializer = Materializer.createMaterializer(getContext());
         subscriptionManagerProps =
@@ -155,7 +159,7 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
                             StreamingSessionActor.props(connect, dittoProtocolSub,
                                     commandRouter, streamingConfig, headerTranslator,
                                     subscriptionManagerProps, streamingSubscriptionManagerProps,
-                                    jwtValidator, jwtAuthenticationResultProvider),
+                                    jwtValidator, jwtAuthenticationResultProvider, filterIndex),
                             sessionActorName);
                     getSender().tell(streamingSessionActor, ActorRef.noSender());
                 })
@@ -196,6 +200,7 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
         if (getContext() != null) {
             streamingSessionsCounter.set(
                     StreamSupport.stream(getContext().getChildren().spliterator(), false).count());
+            streamingFiltersCounter.set((long) filterIndex.size());
         }
     }
 
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Index of the filters of all streaming sessions of a gateway node.
+ * <p>
+ * Sessions with equal filter criteria share one compiled filter. The results of the shared filters are shared as
+ * well: a twin event is matched against each distinct filter at most once, no matter how many sessions of this node
+ * receive the event. Filters with an equality condition such as {@code eq(attributes/type,"sensor")} are grouped by
+ * their field: the field is read once per event and filters expecting another constant are rejected without being
+ * evaluated.
+ * </p>
+ * <p>
+ * Results may only be shared if the filtered thing is derived from the event alone. Sessions with extra fields must
+ * therefore not register their filter.
+ * </p>
+ */
+@ThreadSafe
+final class StreamingFilterIndex {
+
+    private static final long MAX_EVENTS = 10_000L;
+    private static final Duration EVENT_EXPIRY = Duration.ofMinutes(1L);
+
+    private final Map<Criteria, SharedFilter> filters;
+    private final Cache<EventKey, EventMatches> eventMatches;
+
+    StreamingFilterIndex() {
+        filters = new ConcurrentHashMap<>();
+        eventMatches = Caffeine.newBuilder()
+                .maximumSize(MAX_EVENTS)
+                .expireAfterWrite(EVENT_EXPIRY)
+                .build();
+    }
+
+    /**
+     * Register the filter of a session. Sessions with equal criteria share the returned filter.
+     *
+     * @param criteria the filter criteria of the session.
+     * @return the shared filter.
+     */
+    SharedFilter register(final Criteria criteria) {
+        return filters.compute(criteria, (key, existing) -> {
+            final SharedFilter filter = existing != null ? existing : new SharedFilter(key);
+            filter.sessions++;
+            return filter;
+        });
+    }
+
+    /**
+     * Unregister the filter of a session. The filter is removed from the index when no session uses it anymore.
+     *
+     * @param filter the filter returned by {@link #register(Criteria)}.
+     */
+    void unregister(final SharedFilter filter) {
+        filters.computeIfPresent(filter.criteria, (key, existing) -> {
+            if (existing == filter && --existing.sessions <= 0) {
+                return null;
+            }
+            return existing;
+        });
+    }
+
+    /**
+     * @return the number of distinct filters of the sessions of this node.
+     */
+    int size() {
+        return filters.size();
+    }
+
+    /**
+     * Test whether the thing of a signal matches a shared filter. The result is computed only once for all sessions
+     * if the signal is a twin event.
+     *
+     * @param filter the shared filter.
+     * @param thing the thing derived from the signal without extra fields.
+     * @param signal the signal.
+     * @return whether the thing matches the filter.
+     */
+    boolean matches(final SharedFilter filter, final Thing thing, final Signal<?> signal) {
+        final EventKey eventKey = EventKey.of(signal);
+        if (eventKey == null) {
+            return filter.predicate.test(thing, StreamingSession.getPlaceholderResolvers(signal));
+        }
+        return eventMatches.get(eventKey, key -> new EventMatches(thing, signal)).matches(filter);
+    }
+
+    /**
+     * Filter criteria compiled once for all sessions subscribing with them.
+     */
+    static final class SharedFilter {
+
+        private final Criteria criteria;
+        private final CompiledThingPredicate predicate;
+        @Nullable private final CompiledThingPredicate.EqualityCondition equalityCondition;
+        private int sessions = 0; // guarded by the index entry of the criteria
+
+        private SharedFilter(final Criteria criteria) {
+            this.criteria = criteria;
+            predicate = CompiledThingPredicate.of(criteria);
+            equalityCondition = predicate.getEqualityCondition().orElse(null);
+        }
+    }
+
+    /**
+     * Twin events are identified by thing ID and revision; live signals do not have a unique revision.
+     */
+    private record EventKey(ThingId thingId, long revision) {
+
+        @Nullable
+        private static EventKey of(final Signal<?> signal) {
+            if (signal instanceof ThingEvent<?> thingEvent && !StreamingType.isLiveSignal(signal)) {
+                return new EventKey(thingEvent.getEntityId(), thingEvent.getRevision());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Results of the shared filters for one event.
+     */
+    private static final class EventMatches {
+
+        private final Thing thing;
+        private final Signal<?> signal;
+        private final Map<SharedFilter, Boolean> results = new ConcurrentHashMap<>();
+        private final Map<JsonPointer, Optional<String>> indexValues = new ConcurrentHashMap<>();
+        @Nullable private volatile JsonObject thingJson;
+
+        private EventMatches(final Thing thing, final Signal<?> signal) {
+            this.thing = thing;
+            this.signal = signal;
+        }
+
+        private boolean matches(final SharedFilter filter) {
+            return results.computeIfAbsent(filter, this::evaluate);
+        }
+
+        private boolean evaluate(final SharedFilter filter) {
+            final CompiledThingPredicate.EqualityCondition condition = filter.equalityCondition;
+            if (condition != null && !getIndexValue(condition).filter(condition.getIndexValue()::equals).isPresent()) {
+                return false;
+            }
+            return filter.predicate.test(thing, StreamingSession.getPlaceholderResolvers(signal));
+        }
+
+        private Optional<String> getIndexValue(final CompiledThingPredicate.EqualityCondition condition) {
+            return indexValues.computeIfAbsent(condition.getField(),
+                    field -> condition.getIndexValue(getThingJson()));
+        }
+
+        private JsonObject getThingJson() {
+            JsonObject result = thingJson;
+            if (result == null) {
+                result = thing.toJson(field -> true);
+                thingJson = result;
+            }
+            return result;
+        }
+    }
+
+}
@@ -24,12 +24,13 @@ import org.eclipse.ditto.edge.service.placeholders.EntityIdPlaceholder;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
 import org.eclipse.ditto.placeholders.TimePlaceholder;
 import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
 import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
 import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
 import org.eclipse.ditto.rql.query.criteria.Criteria;
-import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingFieldSelector;
 import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
@@ -50,35 +51,59 @@ public final class StreamingSession {
 
     private final List<String> namespaces;
     private final BiPredicate<Thing, Signal<?>> thingPredicate;
+    @Nullable private final StreamingFilterIndex.SharedFilter sharedFilter;
+    private final StreamingFilterIndex filterIndex;
     @Nullable private final ThingFieldSelector extraFields;
     private final ActorRef streamingSessionActor;
     private final ThreadSafeDittoLoggingAdapter logger;
 
     private StreamingSession(final List<String> namespaces, @Nullable final Criteria filterCriteria,
-            @Nullable final ThingFieldSelector extraFields, final ActorRef streamingSessionActor,
-            final ThreadSafeDittoLoggingAdapter logger) {
+            @Nullable final ThingFieldSelector extraFields, final StreamingFilterIndex filterIndex,
+            final ActorRef streamingSessionActor, final ThreadSafeDittoLoggingAdapter logger) {
         this.namespaces = namespaces;
-        thingPredicate = filterCriteria == null
-                ? (thing, signal) -> true
-                : (thing, signal) -> ThingPredicateVisitor.apply(filterCriteria,
-                        PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER,
-                                PROTOCOL_ADAPTER.toTopicPath(signal)),
-                        PlaceholderFactory.newPlaceholderResolver(ENTITY_ID_PLACEHOLDER,
-                                        ((WithEntityId) signal).getEntityId()),
-                        PlaceholderFactory.newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal),
-                        PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object())
-                )
-                .test(thing);
+        this.filterIndex = filterIndex;
+        if (filterCriteria == null) {
+            sharedFilter = null;
+            thingPredicate = (thing, signal) -> true;
+        } else if (extraFields == null) {
+            // the filtered thing only depends on the signal: share the filter with the other sessions of this node
+            final StreamingFilterIndex.SharedFilter filter = filterIndex.register(filterCriteria);
+            sharedFilter = filter;
+            thingPredicate = (thing, signal) -> filterIndex.matches(filter, thing, signal);
+        } else {
+            // compile once per session, only the placeholder resolvers depend on the signal
+            sharedFilter = null;
+            final CompiledThingPredicate compiledPredicate = CompiledThingPredicate.of(filterCriteria);
+            thingPredicate = (thing, signal) -> compiledPredicate.test(thing, getPlaceholderResolvers(signal));
+        }
         this.extraFields = extraFields;
         this.streamingSessionActor = streamingSessionActor;
         this.logger = logger;
     }
 
     static StreamingSession of(final List<String> namespaces, @Nullable final Criteria filterCriteria,
-            @Nullable final ThingFieldSelector extraFields, final ActorRef streamingSessionActor,
-            final ThreadSafeDittoLoggingAdapter logger) {
+            @Nullable final ThingFieldSelector extraFields, final StreamingFilterIndex filterIndex,
+            final ActorRef streamingSessionActor, final ThreadSafeDittoLoggingAdapter logger) {
 
-        return new StreamingSession(namespaces, filterCriteria, extraFields, streamingSessionActor, logger);
+        return new StreamingSession(namespaces, filterCriteria, extraFields, filterIndex, streamingSessionActor,
+                logger);
+    }
+
+    /**
+     * Create the resolvers of the placeholders a filter may use for a signal.
+     *
+     * @param signal the signal.
+     * @return the placeholder resolvers.
+     */
+    static List<PlaceholderResolver<?>> getPlaceholderResolvers(final Signal<?> signal) {
+        return List.of(
+                PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER,
+                        PROTOCOL_ADAPTER.toTopicPath(signal)),
+                PlaceholderFactory.newPlaceholderResolver(ENTITY_ID_PLACEHOLDER,
+                        ((WithEntityId) signal).getEntityId()),
+                PlaceholderFactory.newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal),
+                PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object())
+        );
     }
 
     /**
@@ -120,6 +145,15 @@ public final class StreamingSession {
         return thingPredicate.test(thing, signal);
     }
 
+    /**
+     * Remove the filter of this session from the filter index of this node. To be called when the session ends.
+     */
+    void unregisterFilter() {
+        if (sharedFilter != null) {
+            filterIndex.unregister(sharedFilter);
+        }
+    }
+
     public ActorRef getStreamingSessionActor() {
         return streamingSessionActor;
     }
@@ -73,6 +73,7 @@ import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
 import org.eclipse.ditto.internal.utils.pubsubthings.DittoProtocolSub;
+import org.eclipse.ditto.internal.utils.search.RqlCriteriaCache;
 import org.eclipse.ditto.internal.utils.search.SubscriptionManager;
 import org.eclipse.ditto.jwt.model.ImmutableJsonWebToken;
 import org.eclipse.ditto.messages.model.signals.commands.MessageCommand;
@@ -80,9 +81,7 @@ import org.eclipse.ditto.placeholders.TimePlaceholder;
 import org.eclipse.ditto.policies.model.signals.announcements.PolicyAnnouncement;
 import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
 import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
-import org.eclipse.ditto.rql.parser.RqlPredicateParser;
 import org.eclipse.ditto.rql.query.criteria.Criteria;
-import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.thingsearch.model.signals.commands.ThingSearchCommand;
 import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionEvent;
 
@@ -131,6 +130,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     private final ActorRef streamingSubscriptionManager;
     private final Set<StreamingType> outstandingSubscriptionAcks;
     private final Map<StreamingType, StreamingSession> streamingSessions;
+    private final StreamingFilterIndex filterIndex;
     private final JwtValidator jwtValidator;
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
     private final AcknowledgementAggregatorActorStarter ackregatorStarter;
@@ -150,7 +150,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
             final Props subscriptionManagerProps,
             final Props streamingSubscriptionManagerProps,
             final JwtValidator jwtValidator,
-            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider) {
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider,
+            final StreamingFilterIndex filterIndex) {
 
         jsonSchemaVersion = connect.getJsonSchemaVersion();
         connectionCorrelationId = connect.getConnectionCorrelationId();
@@ -165,6 +166,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         authorizationContext = connect.getConnectionAuthContext();
         killSwitch = connect.getKillSwitch().orElse(null);
         streamingSessions = new EnumMap<>(StreamingType.class);
+        this.filterIndex = filterIndex;
         ackregatorStarter = AcknowledgementAggregatorActorStarter.of(getContext(),
                 streamingConfig.getAcknowledgementConfig(),
                 headerTranslator,
@@ -200,6 +202,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
      * @param streamingSubscriptionManagerProps Props of the subscription manager for streaming subscription commands.
      * @param jwtValidator validator of JWT tokens.
      * @param jwtAuthenticationResultProvider provider of JWT authentication results.
+     * @param filterIndex the index of the filters of all streaming sessions of this node.
      * @return the Akka configuration Props object.
      */
     static Props props(final Connect connect,
@@ -210,7 +213,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
             final Props subscriptionManagerProps,
             final Props streamingSubscriptionManagerProps,
             final JwtValidator jwtValidator,
-            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider) {
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider,
+            final StreamingFilterIndex filterIndex) {
 
         return Props.create(StreamingSessionActor.class,
                 connect,
@@ -221,7 +225,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                 subscriptionManagerProps,
                 streamingSubscriptionManagerProps,
                 jwtValidator,
-                jwtAuthenticationResultProvider);
+                jwtAuthenticationResultProvider,
+                filterIndex);
     }
 
     @Override
@@ -245,6 +250,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         logger.info("Closing <{}> streaming session.", type);
         cancellableShutdownTask.cancel();
         cancelSessionTimeout();
+        streamingSessions.values().forEach(StreamingSession::unregisterFilter);
         eventAndResponsePublisher.complete();
     }
 
@@ -339,9 +345,10 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                                     List.of(nsEid.getNamespace()) : List.of(),
                             null,
                             null,
+                            filterIndex,
                             getSelf(),
                             logger);
-                    streamingSessions.put(StreamingType.EVENTS, session);
+                    putStreamingSession(StreamingType.EVENTS, session);
 
                     Patterns.ask(commandForwarder, streamPersistedEvents, streamPersistedEvents.getDittoHeaders()
                                     .getTimeout()
@@ -387,8 +394,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                         return;
                     }
                     final var session = StreamingSession.of(startStreaming.getNamespaces(), criteria,
-                            startStreaming.getExtraFields().orElse(null), getSelf(), logger);
-                    streamingSessions.put(startStreaming.getStreamingType(), session);
+                            startStreaming.getExtraFields().orElse(null), filterIndex, getSelf(), logger);
+                    putStreamingSession(startStreaming.getStreamingType(), session);
 
                     logger.debug("Got 'StartStreaming' message in <{}> session, subscribing for <{}> in Cluster ...",
                             type, startStreaming.getStreamingType().name());
@@ -424,7 +431,10 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                     logger.debug("Got 'StopStreaming' message in <{}> session, unsubscribing from <{}> in Cluster ...",
                             type, stopStreaming.getStreamingType().name());
 
-                    streamingSessions.remove(stopStreaming.getStreamingType());
+                    @Nullable final var stoppedSession = streamingSessions.remove(stopStreaming.getStreamingType());
+                    if (stoppedSession != null) {
+                        stoppedSession.unregisterFilter();
+                    }
 
                     // In Cluster: Unsubscribe
                     final var unsubscribeConfirmation = new ConfirmUnsubscription(stopStreaming.getStreamingType());
@@ -634,6 +644,13 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         }
     }
 
+    private void putStreamingSession(final StreamingType streamingType, final StreamingSession session) {
+        @Nullable final var replacedSession = streamingSessions.put(streamingType, session);
+        if (replacedSession != null) {
+            replacedSession.unregisterFilter();
+        }
+    }
+
     private void startSessionTimeout(final Instant sessionExpirationTime) {
         final var sessionTimeout = Duration.between(Instant.now(), sessionExpirationTime);
         if (sessionTimeout.isNegative() || sessionTimeout.isZero()) {
@@ -772,15 +789,12 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     }
 
     private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
-        final var queryFilterCriteriaFactory = QueryFilterCriteriaFactory.modelBased(
-                RqlPredicateParser.getInstance(),
+        return RqlCriteriaCache.getInstance().filterCriteria(filter, dittoHeaders,
                 TopicPathPlaceholder.getInstance(),
                 EntityIdPlaceholder.getInstance(),
                 ResourcePlaceholder.getInstance(),
                 TimePlaceholder.getInstance()
         );
-
-        return queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
     }
 
     private void confirmSubscription(final StreamingType streamingType) {
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.TopicPath;
+import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link StreamingFilterIndex}.
+ */
+public final class StreamingFilterIndexTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "index");
+    private static final JsonPointer TYPE = JsonPointer.of("type");
+
+    private StreamingFilterIndex underTest;
+
+    @Before
+    public void setUp() {
+        underTest = new StreamingFilterIndex();
+    }
+
+    @Test
+    public void sessionsWithEqualCriteriaShareOneFilter() {
+        final StreamingFilterIndex.SharedFilter first = underTest.register(criteria("eq(attributes/type,\"sensor\")"));
+        final StreamingFilterIndex.SharedFilter second = underTest.register(criteria("eq(attributes/type,\"sensor\")"));
+        final StreamingFilterIndex.SharedFilter other = underTest.register(criteria("exists(attributes/type)"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(underTest.size()).isEqualTo(2);
+
+        underTest.unregister(first);
+        assertThat(underTest.size()).isEqualTo(2);
+        underTest.unregister(second);
+        underTest.unregister(other);
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void twinEventIsMatchedOncePerFilter() {
+        final StreamingFilterIndex.SharedFilter filter = underTest.register(criteria("eq(attributes/type,\"sensor\")"));
+        final AttributeModified event = attributeModified(1L, DittoHeaders.empty());
+
+        assertThat(underTest.matches(filter, thing("sensor"), event)).isTrue();
+        // the result of the first session receiving the event is reused
+        assertThat(underTest.matches(filter, thing("actuator"), event)).isTrue();
+        assertThat(underTest.matches(filter, thing("actuator"), attributeModified(2L, DittoHeaders.empty())))
+                .isFalse();
+    }
+
+    @Test
+    public void rejectsOtherConstantsAndEvaluatesTheRemainingConditions() {
+        final StreamingFilterIndex.SharedFilter sensor =
+                underTest.register(criteria("and(eq(attributes/type,\"sensor\"),eq(topic:action,\"modified\"))"));
+        final StreamingFilterIndex.SharedFilter actuator =
+                underTest.register(criteria("and(eq(attributes/type,\"actuator\"),eq(topic:action,\"modified\"))"));
+        final StreamingFilterIndex.SharedFilter created =
+                underTest.register(criteria("and(eq(attributes/type,\"sensor\"),eq(topic:action,\"created\"))"));
+        final AttributeModified event = attributeModified(1L, DittoHeaders.empty());
+
+        assertThat(underTest.matches(sensor, thing("sensor"), event)).isTrue();
+        assertThat(underTest.matches(actuator, thing("sensor"), event)).isFalse();
+        assertThat(underTest.matches(created, thing("sensor"), event)).isFalse();
+    }
+
+    @Test
+    public void liveSignalsAreEvaluatedPerSession() {
+        final StreamingFilterIndex.SharedFilter filter = underTest.register(criteria("eq(attributes/type,\"sensor\")"));
+        final AttributeModified liveEvent = attributeModified(1L,
+                DittoHeaders.newBuilder().channel(TopicPath.Channel.LIVE.getName()).build());
+
+        assertThat(underTest.matches(filter, thing("sensor"), liveEvent)).isTrue();
+        assertThat(underTest.matches(filter, thing("actuator"), liveEvent)).isFalse();
+    }
+
+    private static Criteria criteria(final String filter) {
+        return QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(),
+                        TopicPathPlaceholder.getInstance())
+                .filterCriteria(filter, DittoHeaders.empty());
+    }
+
+    private static Thing thing(final String type) {
+        return Thing.newBuilder().setId(THING_ID).setAttribute(TYPE, JsonValue.of(type)).build();
+    }
+
+    private static AttributeModified attributeModified(final long revision, final DittoHeaders dittoHeaders) {
+        return AttributeModified.of(THING_ID, TYPE, JsonValue.of("any"), revision, null, dittoHeaders, null);
+    }
+
+}
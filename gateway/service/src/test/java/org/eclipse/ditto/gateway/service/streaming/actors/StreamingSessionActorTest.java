@@ -399,7 +399,8 @@ public final class StreamingSessionActorTest {
                 Props.create(Actor.class, () -> new TestActor(new LinkedBlockingDeque<>())),
                 Props.create(Actor.class, () -> new TestActor(new LinkedBlockingDeque<>())),
                 mockValidator,
-                mockAuthenticationResultProvider);
+                mockAuthenticationResultProvider,
+                new StreamingFilterIndex());
     }
 
     private void onDeclareAckLabels(final CompletionStage<Void> answer) {
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks CBOR serialization and deserialization of things via {@link JacksonCborFactory}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CborBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int featureCount;
+
+    @Param({"10"})
+    public int propertyCount;
+
+    private JacksonCborFactory cborFactory;
+    private JsonObject thingJson;
+    private byte[] thingCbor;
+
+    @Setup
+    public void setup() throws IOException {
+        cborFactory = new JacksonCborFactory();
+        thingJson = ThingJsonFixtures.thingJson(featureCount, propertyCount);
+        thingCbor = cborFactory.toByteArray(thingJson);
+    }
+
+    @Benchmark
+    public byte[] serializeModifiedObject() throws IOException {
+        // modifying the object drops the cached CBOR representation of the root object
+        return cborFactory.toByteArray(thingJson.setValue("_revision", featureCount));
+    }
+
+    @Benchmark
+    public JsonValue deserialize() {
+        return cborFactory.readFrom(ByteBuffer.wrap(thingCbor));
+    }
+
+    @Benchmark
+    public JsonValue deserializeLazily() {
+        return cborFactory.readLazilyFrom(ByteBuffer.wrap(thingCbor));
+    }
+
+    @Benchmark
+    public byte[] roundTrip() throws IOException {
+        return cborFactory.toByteArray(cborFactory.readFrom(ByteBuffer.wrap(thingCbor)));
+    }
+
+    @Benchmark
+    public byte[] lazyRoundTrip() throws IOException {
+        return cborFactory.toByteArray(cborFactory.readLazilyFrom(ByteBuffer.wrap(thingCbor)));
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonMergePatch;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseOptions;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the hot paths of ditto-json for things of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    private static final JsonParseOptions FIELD_SELECTOR_PARSE_OPTIONS =
+            JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build();
+
+    @Param({"1", "10", "100"})
+    public int featureCount;
+
+    @Param({"10"})
+    public int propertyCount;
+
+    private JsonObject thingJson;
+    private String thingJsonString;
+    private byte[] thingJsonBytes;
+    private JsonPointer leafPointer;
+    private JsonMergePatch smallMergePatch;
+    private String fieldSelectorString;
+
+    @Setup
+    public void setup() {
+        thingJson = ThingJsonFixtures.thingJson(featureCount, propertyCount);
+        thingJsonString = thingJson.toString();
+        thingJsonBytes = thingJsonString.getBytes(StandardCharsets.UTF_8);
+        leafPointer = ThingJsonFixtures.lastFeaturePropertyPointer(featureCount);
+        smallMergePatch = JsonMergePatch.of(ThingJsonFixtures.smallMergePatch(featureCount));
+        fieldSelectorString = "thingId,attributes," + leafPointer;
+    }
+
+    @Benchmark
+    public JsonValue readFromString() {
+        return JsonFactory.readFrom(thingJsonString);
+    }
+
+    @Benchmark
+    public JsonValue readFromBytes() {
+        return JsonFactory.readFrom(thingJsonBytes);
+    }
+
+    @Benchmark
+    public String toStringOfModifiedObject() {
+        // modifying the object drops the cached string representation of the root object
+        return thingJson.setValue("_revision", featureCount).toString();
+    }
+
+    @Benchmark
+    public JsonObject getByPointer() {
+        return thingJson.get(leafPointer);
+    }
+
+    @Benchmark
+    public JsonValue getValueByPointer() {
+        return thingJson.getValue(leafPointer).orElseThrow();
+    }
+
+    @Benchmark
+    public JsonObject getByFieldSelectorString() {
+        // like a GET request with a "fields" query parameter
+        return thingJson.get(JsonFactory.newFieldSelector(fieldSelectorString, FIELD_SELECTOR_PARSE_OPTIONS));
+    }
+
+    @Benchmark
+    public JsonValue applySmallMergePatch() {
+        return smallMergePatch.applyOn(thingJson);
+    }
+
+}
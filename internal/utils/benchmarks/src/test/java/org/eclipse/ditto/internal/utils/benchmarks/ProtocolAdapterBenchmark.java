@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.JsonifiableAdaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.commands.modify.MergeThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyThing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the adaptation of thing commands between signals and the Ditto Protocol.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtocolAdapterBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int featureCount;
+
+    @Param({"10"})
+    public int propertyCount;
+
+    private DittoProtocolAdapter protocolAdapter;
+    private ModifyThing modifyThing;
+    private MergeThing mergeThing;
+    private Adaptable modifyThingAdaptable;
+    private String modifyThingProtocolMessage;
+
+    @Setup
+    public void setup() {
+        protocolAdapter = DittoProtocolAdapter.newInstance();
+        final ThingId thingId = ThingId.of(ThingJsonFixtures.THING_ID);
+        final Thing thing =
+                ThingsModelFactory.newThing(ThingJsonFixtures.thingJson(featureCount, propertyCount));
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId("benchmark-correlation-id")
+                .contentType("application/json")
+                .build();
+        modifyThing = ModifyThing.of(thingId, thing, null, dittoHeaders);
+        mergeThing = MergeThing.of(thingId, ThingJsonFixtures.lastFeaturePropertyPointer(featureCount),
+                JsonValue.of(42.0), dittoHeaders);
+        modifyThingAdaptable = protocolAdapter.toAdaptable(modifyThing);
+        modifyThingProtocolMessage = ProtocolFactory.wrapAsJsonifiableAdaptable(modifyThingAdaptable)
+                .toJsonString();
+    }
+
+    @Benchmark
+    public Adaptable modifyThingToAdaptable() {
+        return protocolAdapter.toAdaptable(modifyThing);
+    }
+
+    @Benchmark
+    public Adaptable mergeThingToAdaptable() {
+        return protocolAdapter.toAdaptable(mergeThing);
+    }
+
+    @Benchmark
+    public Signal<?> modifyThingFromAdaptable() {
+        return protocolAdapter.fromAdaptable(modifyThingAdaptable);
+    }
+
+    @Benchmark
+    public Signal<?> modifyThingFromProtocolMessage() {
+        final JsonifiableAdaptable jsonifiableAdaptable =
+                ProtocolFactory.jsonifiableAdaptableFromJson(
+                        JsonObject.of(modifyThingProtocolMessage));
+        return protocolAdapter.fromAdaptable(jsonifiableAdaptable);
+    }
+
+}
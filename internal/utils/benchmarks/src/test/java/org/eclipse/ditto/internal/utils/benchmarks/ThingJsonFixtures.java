@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.benchmarks;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+
+/**
+ * Creates JSON representations of things of realistic shape and configurable size for the benchmarks.
+ */
+final class ThingJsonFixtures {
+
+    static final String THING_ID = "org.eclipse.ditto.benchmark:thing-1";
+
+    private ThingJsonFixtures() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates the JSON of a thing with the given amount of features, each having the given amount of properties.
+     *
+     * @param featureCount the number of features of the thing.
+     * @param propertyCount the number of properties of each feature.
+     * @return the thing JSON.
+     */
+    static JsonObject thingJson(final int featureCount, final int propertyCount) {
+        final JsonObjectBuilder features = JsonObject.newBuilder();
+        for (int f = 0; f < featureCount; f++) {
+            features.set("feature-" + f, JsonObject.newBuilder()
+                    .set("definition", JsonArray.newBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                    .set("properties", propertiesJson(propertyCount, f))
+                    .build());
+        }
+        return JsonObject.newBuilder()
+                .set("thingId", THING_ID)
+                .set("policyId", THING_ID)
+                .set("definition", "org.eclipse.ditto:benchmark-thing:1.0.0")
+                .set("attributes", JsonObject.newBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("serialNumber", "4711-0815")
+                        .set("location", JsonObject.newBuilder()
+                                .set("latitude", 47.682170)
+                                .set("longitude", 9.386372)
+                                .build())
+                        .set("tags", JsonArray.newBuilder().add("outdoor", "battery", "lte").build())
+                        .build())
+                .set("features", features.build())
+                .build();
+    }
+
+    private static JsonObject propertiesJson(final int propertyCount, final int seed) {
+        final JsonObjectBuilder properties = JsonObject.newBuilder();
+        for (int p = 0; p < propertyCount; p++) {
+            switch (p % 4) {
+                case 0:
+                    properties.set("value-" + p, seed * 1.5 + p);
+                    break;
+                case 1:
+                    properties.set("count-" + p, seed * 1000L + p);
+                    break;
+                case 2:
+                    properties.set("status-" + p, "status of property " + p + " is \"ok\"");
+                    break;
+                default:
+                    properties.set("nested-" + p, JsonObject.newBuilder()
+                            .set("enabled", p % 2 == 0)
+                            .set("threshold", p)
+                            .build());
+            }
+        }
+        return properties.build();
+    }
+
+    /**
+     * Returns a pointer to a leaf property of the last feature of a thing created by
+     * {@link #thingJson(int, int)}.
+     *
+     * @param featureCount the number of features of the thing.
+     * @return the pointer.
+     */
+    static JsonPointer lastFeaturePropertyPointer(final int featureCount) {
+        return JsonPointer.of("/features/feature-" + (featureCount - 1) + "/properties/value-0");
+    }
+
+    /**
+     * Creates a merge patch which modifies a single leaf property and removes another one of the last feature.
+     *
+     * @param featureCount the number of features of the thing the patch is applied to.
+     * @return the merge patch.
+     */
+    static JsonObject smallMergePatch(final int featureCount) {
+        return JsonObject.newBuilder()
+                .set(JsonPointer.of("/features/feature-" + (featureCount - 1) + "/properties/value-0"), 42.0)
+                .set(JsonPointer.of("/features/feature-" + (featureCount - 1) + "/properties/count-1"),
+                        JsonFactory.nullObject())
+                .build();
+    }
+
+}
@@ -0,0 +1,4 @@
+package org.eclipse.ditto.internal.utils.benchmarks.jmh_generated;
+public class CborBenchmark_jmhType extends CborBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.eclipse.ditto.internal.utils.benchmarks.jmh_generated;
+public class JsonBenchmark_jmhType extends JsonBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.eclipse.ditto.internal.utils.benchmarks.jmh_generated;
+public class ProtocolAdapterBenchmark_jmhType extends ProtocolAdapterBenchmark_jmhType_B3 {
+}
+
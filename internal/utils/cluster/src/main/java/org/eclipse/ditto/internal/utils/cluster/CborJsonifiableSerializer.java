@@ -49,7 +49,8 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
 
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
-        return cborFactory.readFrom(byteBuffer);
+        // nested objects (e.g. payloads which are only forwarded) are decoded when they are accessed
+        return cborFactory.readLazilyFrom(byteBuffer);
     }
 
 }
@@ -47,7 +47,6 @@ public final class JsonJsonifiableSerializer extends AbstractJsonifiableWithDitt
 
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
-        String json = CHARSET.decode(byteBuffer).toString();
-        return JsonFactory.readFrom(json);
+        return JsonFactory.readFrom(byteBuffer);
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static scala.compat.java8.FutureConverters.toScala;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultJournalBatchingConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.JournalBatchingConfig;
+
+import com.typesafe.config.Config;
+
+import akka.actor.ActorRef;
+import akka.actor.Cancellable;
+import akka.contrib.persistence.mongodb.MongoJournal;
+import akka.japi.pf.ReceiveBuilder;
+import akka.persistence.AtomicWrite;
+import scala.PartialFunction;
+import scala.collection.immutable.Seq;
+import scala.concurrent.Future;
+import scala.runtime.BoxedUnit;
+import scala.util.Try;
+
+/**
+ * MongoDB event journal which combines the events persisted by different entities of one node within a short window
+ * into one bulk write. This reduces the number of round-trips to MongoDB if many entities persist events at the same
+ * time, e.g. during fleet-wide updates.
+ * <p>
+ * The events of each entity are written in the order they were persisted in and each entity is only acknowledged
+ * after its events were written. If a bulk write fails, the writes of each entity which were not stored before the
+ * failure are retried on their own, so that only the entities whose writes fail again are informed about the failure.
+ * </p>
+ * The batching is configured at {@code batching} of the journal plugin config and disabled by default.
+ *
+ * @since 3.2.0
+ */
+public final class BatchingMongoJournal extends MongoJournal {
+
+    private final JournalBatchingConfig batchingConfig;
+    private final JournalWriteBatch batch;
+    @Nullable private Cancellable flushTimer;
+
+    /**
+     * Constructs the journal. Called by Akka persistence with the config of the journal plugin.
+     *
+     * @param config the config of the journal plugin.
+     */
+    public BatchingMongoJournal(final Config config) {
+        super(config);
+        batchingConfig = DefaultJournalBatchingConfig.of(config);
+        // retries are executed by this actor, like all other calls of the underlying journal
+        batch = new JournalWriteBatch(super::asyncWriteMessages, super::asyncReadHighestSequenceNr,
+                retry -> self().tell(new Retry(retry), ActorRef.noSender()));
+        flushTimer = null;
+    }
+
+    @Override
+    public Future<Seq<Try<BoxedUnit>>> asyncWriteMessages(final Seq<AtomicWrite> messages) {
+        if (!batchingConfig.isEnabled()) {
+            return super.asyncWriteMessages(messages);
+        }
+        final var result = batch.add(messages);
+        if (batch.getPendingWriteCount() >= batchingConfig.getMaxSize()) {
+            flush();
+        } else if (null == flushTimer) {
+            flushTimer = context().system()
+                    .scheduler()
+                    .scheduleOnce(batchingConfig.getWindow(), self(), Control.FLUSH, context().dispatcher(),
+                            ActorRef.noSender());
+        }
+        return toScala(result);
+    }
+
+    @Override
+    public PartialFunction<Object, BoxedUnit> receivePluginInternal() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.FLUSH, flush -> flush())
+                .match(Retry.class, retry -> retry.retry().run())
+                .build()
+                .onMessage()
+                .orElse(super.receivePluginInternal());
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        flush();
+        super.postStop();
+    }
+
+    private void flush() {
+        if (null != flushTimer) {
+            flushTimer.cancel();
+            flushTimer = null;
+        }
+        batch.flush();
+    }
+
+    private record Retry(Runnable retry) {}
+
+    private enum Control {
+        FLUSH
+    }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static scala.compat.java8.FutureConverters.toJava;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import akka.persistence.AtomicWrite;
+import scala.collection.immutable.Seq;
+import scala.concurrent.Future;
+import scala.jdk.javaapi.CollectionConverters;
+import scala.runtime.BoxedUnit;
+import scala.util.Success;
+import scala.util.Try;
+
+/**
+ * Collects the writes of a {@link BatchingMongoJournal} and hands them to the underlying journal with one call.
+ * If that call fails or returns results which cannot be attributed to the collected writes, each write is retried on
+ * its own, so that a failing write only fails the entity which persisted it.
+ * <p>
+ * The underlying journal writes the combined call as ordered bulk write, which stores all atomic writes before a
+ * failing one. Before retrying, the highest stored sequence number of each entity is read, and atomic writes which
+ * were already stored succeed without being written again.
+ * </p>
+ */
+@NotThreadSafe
+final class JournalWriteBatch {
+
+    private static final Try<BoxedUnit> SUCCESS = new Success<>(BoxedUnit.UNIT);
+
+    private final Function<Seq<AtomicWrite>, Future<Seq<Try<BoxedUnit>>>> journal;
+    private final BiFunction<String, Long, Future<Object>> highestSequenceNr;
+    private final Executor retryExecutor;
+    private final List<PendingWrite> pendingWrites;
+    private int pendingWriteCount;
+
+    /**
+     * Create an empty batch.
+     *
+     * @param journal writes atomic writes with the underlying journal.
+     * @param highestSequenceNr reads the highest stored sequence number of an entity from the underlying journal
+     * given its persistence ID and the sequence number to start from.
+     * @param retryExecutor executes the retries of single writes, e.g. in the journal actor.
+     */
+    JournalWriteBatch(final Function<Seq<AtomicWrite>, Future<Seq<Try<BoxedUnit>>>> journal,
+            final BiFunction<String, Long, Future<Object>> highestSequenceNr,
+            final Executor retryExecutor) {
+
+        this.journal = journal;
+        this.highestSequenceNr = highestSequenceNr;
+        this.retryExecutor = retryExecutor;
+        pendingWrites = new ArrayList<>();
+        pendingWriteCount = 0;
+    }
+
+    /**
+     * Add the atomic writes of one call of {@code asyncWriteMessages} to the batch.
+     *
+     * @param messages the atomic writes.
+     * @return the future results of the atomic writes, completed after the batch was flushed.
+     */
+    CompletionStage<Seq<Try<BoxedUnit>>> add(final Seq<AtomicWrite> messages) {
+        final var pendingWrite = new PendingWrite(messages, new CompletableFuture<>());
+        pendingWrites.add(pendingWrite);
+        pendingWriteCount += messages.size();
+        return pendingWrite.result();
+    }
+
+    /**
+     * @return the number of atomic writes in the batch.
+     */
+    int getPendingWriteCount() {
+        return pendingWriteCount;
+    }
+
+    /**
+     * Write all atomic writes in the batch with one call of the underlying journal and empty the batch.
+     */
+    void flush() {
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+        final List<PendingWrite> batch = new ArrayList<>(pendingWrites);
+        pendingWrites.clear();
+        pendingWriteCount = 0;
+
+        if (1 == batch.size()) {
+            writeOnItsOwn(batch.get(0));
+        } else {
+            writeCombined(batch);
+        }
+    }
+
+    private void writeCombined(final List<PendingWrite> batch) {
+        final List<AtomicWrite> messages = new ArrayList<>();
+        batch.forEach(pendingWrite -> messages.addAll(CollectionConverters.asJava(pendingWrite.messages())));
+        write(toSeq(messages)).whenComplete((results, error) -> {
+            // an empty result signals that all writes succeeded
+            if (null == error && (results.isEmpty() || results.size() == messages.size())) {
+                completeWithResults(batch, CollectionConverters.asJava(results));
+            } else {
+                retryExecutor.execute(() -> batch.forEach(this::retryOnItsOwn));
+            }
+        });
+    }
+
+    private void retryOnItsOwn(final PendingWrite pendingWrite) {
+        final List<AtomicWrite> messages = CollectionConverters.asJava(pendingWrite.messages());
+        readHighestSequenceNrs(messages).whenComplete((highestSequenceNrs, error) -> {
+            if (null != error) {
+                pendingWrite.result().completeExceptionally(error);
+            } else {
+                retryExecutor.execute(() -> writeUnstored(pendingWrite, messages, highestSequenceNrs));
+            }
+        });
+    }
+
+    private CompletionStage<Map<String, Long>> readHighestSequenceNrs(final List<AtomicWrite> messages) {
+        final Map<String, Long> highestSequenceNrs = new HashMap<>();
+        CompletionStage<Map<String, Long>> result = CompletableFuture.completedFuture(highestSequenceNrs);
+        for (final String persistenceId : messages.stream().map(AtomicWrite::persistenceId).distinct().toList()) {
+            final CompletionStage<Object> read;
+            try {
+                read = toJava(highestSequenceNr.apply(persistenceId, 0L));
+            } catch (final RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            result = result.thenCombine(read, (sequenceNrs, sequenceNr) -> {
+                sequenceNrs.put(persistenceId, (Long) sequenceNr);
+                return sequenceNrs;
+            });
+        }
+        return result;
+    }
+
+    private void writeUnstored(final PendingWrite pendingWrite, final List<AtomicWrite> messages,
+            final Map<String, Long> highestSequenceNrs) {
+
+        final List<AtomicWrite> unstored = messages.stream()
+                .filter(message -> message.highestSequenceNr() > highestSequenceNrs.get(message.persistenceId()))
+                .toList();
+        if (unstored.isEmpty()) {
+            pendingWrite.result().complete(toSeq(messages.stream().map(message -> SUCCESS).toList()));
+            return;
+        }
+        write(toSeq(unstored)).whenComplete((results, error) -> {
+            if (null != error) {
+                pendingWrite.result().completeExceptionally(error);
+            } else if (results.isEmpty() || unstored.size() == messages.size()) {
+                // an empty result signals that all writes succeeded
+                pendingWrite.result().complete(results);
+            } else {
+                // the results of the atomic writes written again, in between successes of the stored ones
+                final Iterator<Try<BoxedUnit>> writeResults = CollectionConverters.asJava(results).iterator();
+                pendingWrite.result().complete(toSeq(messages.stream()
+                        .map(message -> unstored.contains(message) ? writeResults.next() : SUCCESS)
+                        .toList()));
+            }
+        });
+    }
+
+    private void writeOnItsOwn(final PendingWrite pendingWrite) {
+        write(pendingWrite.messages()).whenComplete((results, error) -> {
+            if (null != error) {
+                pendingWrite.result().completeExceptionally(error);
+            } else {
+                pendingWrite.result().complete(results);
+            }
+        });
+    }
+
+    private CompletionStage<Seq<Try<BoxedUnit>>> write(final Seq<AtomicWrite> messages) {
+        try {
+            return toJava(journal.apply(messages));
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static void completeWithResults(final List<PendingWrite> batch, final List<Try<BoxedUnit>> results) {
+        int offset = 0;
+        for (final PendingWrite pendingWrite : batch) {
+            final int size = pendingWrite.messages().size();
+            final List<Try<BoxedUnit>> writeResults =
+                    results.isEmpty() ? List.of() : results.subList(offset, offset + size);
+            pendingWrite.result().complete(toSeq(writeResults));
+            offset += size;
+        }
+    }
+
+    private static <T> Seq<T> toSeq(final List<T> list) {
+        return CollectionConverters.asScala(list).toList();
+    }
+
+    private record PendingWrite(Seq<AtomicWrite> messages, CompletableFuture<Seq<Try<BoxedUnit>>> result) {}
+
+}
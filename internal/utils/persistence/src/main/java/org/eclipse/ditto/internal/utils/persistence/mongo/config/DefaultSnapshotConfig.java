@@ -32,10 +32,16 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
 
     private final Duration interval;
     private final long threshold;
+    private final boolean adaptive;
+    private final Duration minReplayCost;
+    private final boolean snapshotOnPassivation;
 
     private DefaultSnapshotConfig(final ScopedConfig config) {
         interval = config.getNonNegativeAndNonZeroDurationOrThrow(SnapshotConfigValue.INTERVAL);
         threshold = config.getPositiveLongOrThrow((SnapshotConfigValue.THRESHOLD));
+        adaptive = config.getBoolean(SnapshotConfigValue.ADAPTIVE.getConfigPath());
+        minReplayCost = config.getNonNegativeDurationOrThrow(SnapshotConfigValue.MIN_REPLAY_COST);
+        snapshotOnPassivation = config.getBoolean(SnapshotConfigValue.SNAPSHOT_ON_PASSIVATION.getConfigPath());
     }
 
     /**
@@ -60,6 +66,21 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return threshold;
     }
 
+    @Override
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    @Override
+    public Duration getMinReplayCost() {
+        return minReplayCost;
+    }
+
+    @Override
+    public boolean isSnapshotOnPassivation() {
+        return snapshotOnPassivation;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -69,12 +90,16 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
             return false;
         }
         final DefaultSnapshotConfig that = (DefaultSnapshotConfig) o;
-        return threshold == that.threshold && Objects.equals(interval, that.interval);
+        return threshold == that.threshold &&
+                adaptive == that.adaptive &&
+                snapshotOnPassivation == that.snapshotOnPassivation &&
+                Objects.equals(interval, that.interval) &&
+                Objects.equals(minReplayCost, that.minReplayCost);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(interval, threshold);
+        return Objects.hash(interval, threshold, adaptive, minReplayCost, snapshotOnPassivation);
     }
 
     @Override
@@ -82,6 +107,9 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return getClass().getSimpleName() + " [" +
                 "interval=" + interval +
                 ", threshold=" + threshold +
+                ", adaptive=" + adaptive +
+                ", minReplayCost=" + minReplayCost +
+                ", snapshotOnPassivation=" + snapshotOnPassivation +
                 "]";
     }
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for combining the events persisted by different entities of one node into bulk
+ * writes to the event journal.
+ *
+ * @since 3.2.0
+ */
+@Immutable
+public interface JournalBatchingConfig {
+
+    /**
+     * Indicates whether events persisted by different entities are combined into bulk writes.
+     *
+     * @return {@code true} if events are combined into bulk writes.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how long to wait for further events before writing the collected ones.
+     *
+     * @return the window.
+     */
+    Duration getWindow();
+
+    /**
+     * Returns the number of collected events after which they are written without waiting for the window to pass.
+     *
+     * @return the maximum number of events per bulk write.
+     */
+    int getMaxSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code JournalBatchingConfig}.
+     */
+    enum JournalBatchingConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether events persisted by different entities are combined into bulk writes.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * How long to wait for further events before writing the collected ones.
+         */
+        WINDOW("window", Duration.ofMillis(5L)),
+
+        /**
+         * The number of collected events after which they are written without waiting for the window to pass.
+         */
+        MAX_SIZE("max-size", 500);
+
+        private final String path;
+        private final Object defaultValue;
+
+        JournalBatchingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -38,6 +38,32 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Indicates whether snapshots are taken based on the measured recovery cost of an entity instead of the interval.
+     * The threshold still limits the number of events to replay.
+     *
+     * @return {@code true} if snapshots are taken adaptively.
+     * @since 3.2.0
+     */
+    boolean isAdaptive();
+
+    /**
+     * Returns the estimated cost of replaying the events since the last snapshot below which no snapshot is taken
+     * if snapshots are taken adaptively.
+     *
+     * @return the minimum replay cost.
+     * @since 3.2.0
+     */
+    Duration getMinReplayCost();
+
+    /**
+     * Indicates whether to take a snapshot of an entity with changes since its last snapshot before it is passivated.
+     *
+     * @return {@code true} if a snapshot is taken before passivation.
+     * @since 3.2.0
+     */
+    boolean isSnapshotOnPassivation();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +78,22 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * Whether snapshots are taken based on the measured recovery cost of an entity.
+         */
+        ADAPTIVE("adaptive", false),
+
+        /**
+         * The estimated replay cost below which no snapshot is taken if snapshots are taken adaptively.
+         */
+        MIN_REPLAY_COST("min-replay-cost", Duration.ofMillis(1L)),
+
+        /**
+         * Whether to take a snapshot of an entity with changes since its last snapshot before it is passivated.
+         */
+        SNAPSHOT_ON_PASSIVATION("snapshot-on-passivation", false);
 
         private final String path;
         private final Object defaultValue;
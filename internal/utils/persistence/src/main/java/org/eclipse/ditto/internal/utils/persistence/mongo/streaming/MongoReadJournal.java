@@ -14,6 +14,7 @@ package org.eclipse.ditto.internal.utils.persistence.mongo.streaming;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -26,6 +27,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
@@ -130,6 +133,11 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
      * Document field of the highest event sequence number in journals.
      */
     private static final String J_TO = JournallingFieldNames$.MODULE$.TO();
+
+    /**
+     * Document field of the lowest event sequence number in journals.
+     */
+    private static final String J_FROM = JournallingFieldNames$.MODULE$.FROM();
     private static final String J_TAGS = JournallingFieldNames$.MODULE$.TAGS();
 
     /**
@@ -158,6 +166,12 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
     public static final String J_EVENT_PID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
     public static final String J_EVENT_MANIFEST = JournallingFieldNames$.MODULE$.MANIFEST();
     private static final String J_EVENT_SN = JournallingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+    private static final String J_EVENT_PAYLOAD = JournallingFieldNames$.MODULE$.PayloadKey();
+
+    /**
+     * Field of the event timestamp inside serialized Ditto events, see {@code Event.JsonFields.TIMESTAMP}.
+     */
+    private static final String EVENT_TIMESTAMP = "_timestamp";
 
     private static final Duration MAX_BACK_OFF_DURATION = Duration.ofSeconds(128L);
 
@@ -452,6 +466,61 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
         )).map(document -> document.getLong(S_SN));
     }
 
+    /**
+     * Retrieve the serialized payloads of the events of a PID within a range of sequence numbers and timestamps.
+     * In contrast to {@link #currentEventsByPersistenceId(String, long, long)}, the events are selected by the
+     * database, so that journal entries and events outside the timestamp range are neither transferred nor
+     * deserialized.
+     * The timestamp bounds are applied with a precision of seconds and include events without timestamp; callers
+     * needing the exact bounds have to filter the deserialized events again.
+     *
+     * @param pid the PID to retrieve the events for.
+     * @param fromSequenceNr the minimum sequence number (inclusive).
+     * @param toSequenceNr the maximum sequence number (inclusive).
+     * @param fromTimestamp the optional lower bound of the event timestamps.
+     * @param toTimestamp the optional upper bound of the event timestamps.
+     * @param batchSize how many events to read from the database at once.
+     * @return source of the event payloads ordered by sequence number.
+     * @since 3.2.0
+     */
+    public Source<BsonDocument, NotUsed> getEventPayloads(final String pid,
+            final long fromSequenceNr,
+            final long toSequenceNr,
+            @Nullable final Instant fromTimestamp,
+            @Nullable final Instant toTimestamp,
+            final int batchSize) {
+
+        final List<Bson> pipeline = new ArrayList<>(6);
+        // journal entries may contain multiple events; select the entries overlapping the range first to use the index
+        pipeline.add(Aggregates.match(Filters.and(
+                Filters.eq(J_PROCESSOR_ID, pid),
+                Filters.gte(J_TO, fromSequenceNr),
+                Filters.lte(J_FROM, toSequenceNr)
+        )));
+        pipeline.add(Aggregates.sort(Sorts.ascending(J_TO)));
+        pipeline.add(Aggregates.unwind("$" + J_EVENT));
+        final String eventSn = J_EVENT + "." + J_EVENT_SN;
+        final List<Bson> eventFilters = new ArrayList<>(3);
+        eventFilters.add(Filters.gte(eventSn, fromSequenceNr));
+        eventFilters.add(Filters.lte(eventSn, toSequenceNr));
+        final String eventTimestamp = J_EVENT + "." + J_EVENT_PAYLOAD + "." + EVENT_TIMESTAMP;
+        if (null != fromTimestamp) {
+            eventFilters.add(Filters.or(Filters.exists(eventTimestamp, false),
+                    Filters.gte(eventTimestamp, toTimestampPrefix(fromTimestamp.truncatedTo(ChronoUnit.SECONDS)))));
+        }
+        if (null != toTimestamp) {
+            eventFilters.add(Filters.or(Filters.exists(eventTimestamp, false),
+                    Filters.lt(eventTimestamp, toTimestampPrefix(ceilToSeconds(toTimestamp)))));
+        }
+        pipeline.add(Aggregates.match(Filters.and(eventFilters)));
+        pipeline.add(Aggregates.replaceRoot("$" + J_EVENT + "." + J_EVENT_PAYLOAD));
+
+        return getJournal()
+                .flatMapConcat(journal -> Source.fromPublisher(
+                        journal.aggregate(pipeline, BsonDocument.class).batchSize(batchSize)
+                ));
+    }
+
     /**
      * Retrieve all latest snapshots with unique PIDs in snapshot store above a lower bound.
      * Does not limit database access in any way.
@@ -918,6 +987,20 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
         return Stream.concat(snFieldStream, snapshotFieldStream).toList();
     }
 
+    /**
+     * Serialized timestamps are ISO-8601 strings with a variable number of fractional digits. Their lexical order
+     * matches the temporal order only when comparing against a prefix of full seconds without zone designator.
+     */
+    private static String toTimestampPrefix(final Instant fullSeconds) {
+        final String iso = fullSeconds.toString();
+        return iso.substring(0, iso.length() - 1);
+    }
+
+    private static Instant ceilToSeconds(final Instant instant) {
+        final Instant truncated = instant.truncatedTo(ChronoUnit.SECONDS);
+        return truncated.equals(instant) ? truncated : truncated.plusSeconds(1L);
+    }
+
     private Source<MongoCollection<Document>, NotUsed> getJournal() {
         return Source.single(mongoClient.getDefaultDatabase().getCollection(journalCollection));
     }
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.persistence.AtomicWrite;
+import akka.persistence.PersistentRepr$;
+import scala.collection.immutable.Seq;
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.Future;
+import scala.jdk.javaapi.CollectionConverters;
+import scala.runtime.BoxedUnit;
+import scala.util.Failure;
+import scala.util.Success;
+import scala.util.Try;
+
+/**
+ * Unit test for {@link JournalWriteBatch}.
+ */
+public final class JournalWriteBatchTest {
+
+    private static final Try<BoxedUnit> SUCCESS = new Success<>(BoxedUnit.UNIT);
+    private static final Try<BoxedUnit> REJECTION = new Failure<>(new IllegalArgumentException("rejected"));
+
+    private List<List<String>> journalCalls;
+    private Map<String, Long> storedSequenceNrs;
+    private Function<List<String>, Future<Seq<Try<BoxedUnit>>>> journalBehaviour;
+    private JournalWriteBatch underTest;
+
+    @Before
+    public void setUp() {
+        journalCalls = new ArrayList<>();
+        storedSequenceNrs = new HashMap<>();
+        journalBehaviour = persistenceIds -> Future.successful(results());
+        underTest = new JournalWriteBatch(this::writeToJournal, this::readHighestSequenceNr, Runnable::run);
+    }
+
+    @Test
+    public void flushWritesAllCollectedWritesWithOneCall() throws Exception {
+        final var first = underTest.add(atomicWrites("thing:a"));
+        final var second = underTest.add(atomicWrites("thing:b", "thing:c"));
+
+        assertThat(underTest.getPendingWriteCount()).isEqualTo(3);
+        assertThat(journalCalls).isEmpty();
+
+        underTest.flush();
+
+        assertThat(journalCalls).containsExactly(List.of("thing:a", "thing:b", "thing:c"));
+        assertThat(underTest.getPendingWriteCount()).isZero();
+        assertThat(await(first)).isEmpty();
+        assertThat(await(second)).isEmpty();
+    }
+
+    @Test
+    public void flushWithoutWritesDoesNotCallJournal() {
+        underTest.flush();
+
+        assertThat(journalCalls).isEmpty();
+    }
+
+    @Test
+    public void splitsResultsAmongWrites() throws Exception {
+        journalBehaviour = persistenceIds -> Future.successful(results(SUCCESS, REJECTION, SUCCESS));
+        final var first = underTest.add(atomicWrites("thing:a"));
+        final var second = underTest.add(atomicWrites("thing:b", "thing:c"));
+
+        underTest.flush();
+
+        assertThat(await(first)).containsExactly(SUCCESS);
+        assertThat(await(second)).containsExactly(REJECTION, SUCCESS);
+    }
+
+    @Test
+    public void retriesEachWriteOnItsOwnIfCombinedWriteFails() throws Exception {
+        final var error = new IllegalStateException("duplicate key");
+        journalBehaviour = persistenceIds -> persistenceIds.contains("thing:bad")
+                ? failed(error)
+                : Future.successful(results(persistenceIds.stream().map(persistenceId -> SUCCESS)));
+        final var first = underTest.add(atomicWrites("thing:a"));
+        final var failing = underTest.add(atomicWrites("thing:bad"));
+        final var third = underTest.add(atomicWrites("thing:b", "thing:c"));
+
+        underTest.flush();
+
+        assertThat(await(first)).containsExactly(SUCCESS);
+        assertThat(await(third)).containsExactly(SUCCESS, SUCCESS);
+        assertThat(failing.toCompletableFuture())
+                .failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCause(error);
+        assertThat(journalCalls).containsExactly(
+                List.of("thing:a", "thing:bad", "thing:b", "thing:c"),
+                List.of("thing:a"),
+                List.of("thing:bad"),
+                List.of("thing:b", "thing:c"));
+    }
+
+    @Test
+    public void doesNotRetryWritesStoredBeforeTheCombinedWriteFailed() throws Exception {
+        final var error = new IllegalStateException("duplicate key");
+        journalBehaviour = persistenceIds -> {
+            if (persistenceIds.size() > 1) {
+                // the ordered bulk write stores the writes before the failing one
+                storedSequenceNrs.put("thing:a", 1L);
+                storedSequenceNrs.put("thing:b", 1L);
+            }
+            return persistenceIds.contains("thing:bad")
+                    ? failed(error)
+                    : Future.successful(results(persistenceIds.stream().map(persistenceId -> SUCCESS)));
+        };
+        final var first = underTest.add(atomicWrites("thing:a"));
+        final var partlyStored = underTest.add(atomicWrites("thing:b", "thing:c"));
+        final var failing = underTest.add(atomicWrites("thing:bad"));
+
+        underTest.flush();
+
+        assertThat(await(first)).containsExactly(SUCCESS);
+        assertThat(await(partlyStored)).containsExactly(SUCCESS, SUCCESS);
+        assertThat(failing.toCompletableFuture())
+                .failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCause(error);
+        assertThat(journalCalls).containsExactly(
+                List.of("thing:a", "thing:b", "thing:c", "thing:bad"),
+                List.of("thing:c"),
+                List.of("thing:bad"));
+    }
+
+    @Test
+    public void retriesEachWriteOnItsOwnIfResultsDoNotMatchWrites() throws Exception {
+        journalBehaviour = persistenceIds -> Future.successful(results(SUCCESS));
+        final var first = underTest.add(atomicWrites("thing:a"));
+        final var second = underTest.add(atomicWrites("thing:b"));
+
+        underTest.flush();
+
+        assertThat(await(first)).containsExactly(SUCCESS);
+        assertThat(await(second)).containsExactly(SUCCESS);
+        assertThat(journalCalls).containsExactly(
+                List.of("thing:a", "thing:b"),
+                List.of("thing:a"),
+                List.of("thing:b"));
+    }
+
+    @Test
+    public void doesNotRetrySingleWrite() {
+        final var error = new IllegalStateException("unavailable");
+        journalBehaviour = persistenceIds -> failed(error);
+        final var write = underTest.add(atomicWrites("thing:a", "thing:b"));
+
+        underTest.flush();
+
+        assertThat(journalCalls).containsExactly(List.of("thing:a", "thing:b"));
+        assertThat(write.toCompletableFuture())
+                .failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCause(error);
+    }
+
+    private Future<Seq<Try<BoxedUnit>>> writeToJournal(final Seq<AtomicWrite> messages) {
+        final List<String> persistenceIds = CollectionConverters.asJava(messages)
+                .stream()
+                .map(AtomicWrite::persistenceId)
+                .toList();
+        journalCalls.add(persistenceIds);
+        return journalBehaviour.apply(persistenceIds);
+    }
+
+    private Future<Object> readHighestSequenceNr(final String persistenceId, final Long fromSequenceNr) {
+        return Future.successful(storedSequenceNrs.getOrDefault(persistenceId, 0L));
+    }
+
+    private static Seq<AtomicWrite> atomicWrites(final String... persistenceIds) {
+        final List<AtomicWrite> atomicWrites = Stream.of(persistenceIds)
+                .map(persistenceId -> AtomicWrite.apply(PersistentRepr$.MODULE$.apply("event", 1L, persistenceId, "",
+                        false, ActorRef.noSender(), "writer")))
+                .toList();
+        return CollectionConverters.asScala(atomicWrites).toList();
+    }
+
+    private static Future<Seq<Try<BoxedUnit>>> failed(final Throwable error) {
+        return FutureConverters.toScala(CompletableFuture.failedFuture(error));
+    }
+
+    @SafeVarargs
+    private static Seq<Try<BoxedUnit>> results(final Try<BoxedUnit>... results) {
+        return results(Stream.of(results));
+    }
+
+    private static Seq<Try<BoxedUnit>> results(final Stream<Try<BoxedUnit>> results) {
+        return CollectionConverters.asScala(results.toList()).toList();
+    }
+
+    private static List<Try<BoxedUnit>> await(final CompletionStage<Seq<Try<BoxedUnit>>> result) throws Exception {
+        return CollectionConverters.asJava(result.toCompletableFuture().get(1, TimeUnit.SECONDS));
+    }
+
+}
@@ -65,6 +65,15 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.isAdaptive())
+                .as(SnapshotConfig.SnapshotConfigValue.ADAPTIVE.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.ADAPTIVE.getDefaultValue());
+        softly.assertThat(underTest.getMinReplayCost())
+                .as(SnapshotConfig.SnapshotConfigValue.MIN_REPLAY_COST.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.MIN_REPLAY_COST.getDefaultValue());
+        softly.assertThat(underTest.isSnapshotOnPassivation())
+                .as(SnapshotConfig.SnapshotConfigValue.SNAPSHOT_ON_PASSIVATION.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.SNAPSHOT_ON_PASSIVATION.getDefaultValue());
     }
 
     @Test
@@ -77,5 +86,14 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(2);
+        softly.assertThat(underTest.isAdaptive())
+                .as(SnapshotConfig.SnapshotConfigValue.ADAPTIVE.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMinReplayCost())
+                .as(SnapshotConfig.SnapshotConfigValue.MIN_REPLAY_COST.getConfigPath())
+                .isEqualTo(Duration.ofMillis(20L));
+        softly.assertThat(underTest.isSnapshotOnPassivation())
+                .as(SnapshotConfig.SnapshotConfigValue.SNAPSHOT_ON_PASSIVATION.getConfigPath())
+                .isTrue();
     }
 }
@@ -23,6 +23,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonInt64;
@@ -634,6 +636,31 @@ public final class MongoReadJournalIT {
         assertThat(pids).containsExactly("pid3", "pid4", "pid6");
     }
 
+    @Test
+    public void streamEventPayloadsWithinRevisionAndTimestampRange() {
+        insert("test_journal", new JournalEntry("pid1").withSn(1L).withPayload(1L, "2026-01-01T10:00:00.5Z")
+                .getDocument());
+        insert("test_journal", new JournalEntry("pid1").withSn(2L).withPayload(2L, "2026-01-01T10:00:01.25Z")
+                .getDocument());
+        insert("test_journal", new JournalEntry("pid1").withSn(3L).withPayload(3L, null).getDocument());
+        insert("test_journal", new JournalEntry("pid1").withSn(4L).withPayload(4L, "2026-01-01T10:00:03Z")
+                .getDocument());
+        insert("test_journal", new JournalEntry("pid1").withSn(5L).withPayload(5L, "2026-01-01T10:00:04Z")
+                .getDocument());
+        insert("test_journal", new JournalEntry("pid2").withSn(2L).withPayload(2L, "2026-01-01T10:00:02Z")
+                .getDocument());
+
+        final List<Long> revisions = readJournal.getEventPayloads("pid1", 2L, 5L,
+                        Instant.parse("2026-01-01T10:00:01.5Z"), Instant.parse("2026-01-01T10:00:03.5Z"), 2)
+                .map(payload -> payload.getInt64("revision").getValue())
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .join();
+
+        // timestamps are selected with a precision of seconds, events without timestamp are always selected
+        assertThat(revisions).containsExactly(2L, 3L, 4L);
+    }
+
     private void insert(final CharSequence collection, final Document... documents) {
         Source.fromPublisher(mongoClient.getCollection(collection).insertMany(Arrays.asList(documents)))
                 .runWith(Sink.ignore(), materializer)
@@ -654,12 +681,23 @@ public final class MongoReadJournalIT {
         }
 
         private JournalEntry withSn(final Long sn) {
+            document.append("from", sn);
             document.append("to", sn);
             final BsonDocument event = (BsonDocument) document.get("events", List.class).get(0);
             event.append("sn", new BsonInt64(sn));
             return this;
         }
 
+        private JournalEntry withPayload(final long revision, @Nullable final String timestamp) {
+            final BsonDocument payload = new BsonDocument().append("revision", new BsonInt64(revision));
+            if (null != timestamp) {
+                payload.append("_timestamp", new BsonString(timestamp));
+            }
+            final BsonDocument event = (BsonDocument) document.get("events", List.class).get(0);
+            event.append("p", payload);
+            return this;
+        }
+
         private JournalEntry withManifest(final String manifest) {
             final BsonDocument event = (BsonDocument) document.get("events", List.class).get(0);
             event.append("manifest", new BsonString(manifest));
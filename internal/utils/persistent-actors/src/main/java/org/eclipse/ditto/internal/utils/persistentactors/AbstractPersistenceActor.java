@@ -101,6 +101,7 @@ public abstract class AbstractPersistenceActor<
     private final Receive handleEvents;
     private final Receive handleCleanups;
     private final MongoReadJournal mongoReadJournal;
+    private final RecoveryCostEstimator recoveryCostEstimator;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
 
@@ -116,6 +117,7 @@ public abstract class AbstractPersistenceActor<
     protected final I entityId;
 
     private long accessCounter = 0L;
+    private boolean snapshotAttemptedForPassivation = false;
     private final BlockedNamespaces blockedNamespaces;
 
     /**
@@ -135,10 +137,14 @@ public abstract class AbstractPersistenceActor<
 
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
+        recoveryCostEstimator = new RecoveryCostEstimator();
 
         handleEvents = ReceiveBuilder.create()
-                .match(getEventClass(), event ->
-                        entity = getEventStrategy().handle((E) event, entity, getRevisionNumber()))
+                .match(getEventClass(), event -> {
+                    final long startNanos = System.nanoTime();
+                    entity = getEventStrategy().handle((E) event, entity, getRevisionNumber());
+                    recoveryCostEstimator.recordEventApplied(System.nanoTime() - startNanos);
+                })
                 .match(EmptyEvent.class, event ->
                         log.withCorrelationId(event).debug("Recovered EmptyEvent: <{}>", event))
                 .build();
@@ -567,8 +573,16 @@ public abstract class AbstractPersistenceActor<
             takeSnapshot("the entity is deleted and has no up-to-date snapshot");
         } else if (accessCounter > message.accessCounter) {
             log.debug("Entity <{}> was accessed since last activity check, preventing Actor shutdown.", entityId);
+            snapshotAttemptedForPassivation = false;
         } else if (isEntityActive() && isEntityAlwaysAlive()) {
             log.debug("Entity <{}> is active and marked as 'always-alive', preventing Actor shutdown.", entityId);
+        } else if (isEntityActive() && getSnapshotConfig().isSnapshotOnPassivation() &&
+                !snapshotAttemptedForPassivation && lastSnapshotRevision < getRevisionNumber()) {
+            // take a snapshot before shutting down at the next activity check, so that the next recovery of the
+            // inactive entity does not have to replay any events; shut down at the next check even if no snapshot
+            // was taken, e.g. because the namespace is blocked
+            snapshotAttemptedForPassivation = true;
+            takeSnapshot("the entity is about to be passivated and has no up-to-date snapshot");
         } else {
             // safe to shutdown after a period of inactivity if:
             // - entity is active (and taking regular snapshots of itself), or
@@ -618,8 +632,13 @@ public abstract class AbstractPersistenceActor<
     }
 
     private void scheduleSnapshot() {
-        final Duration snapshotInterval = getSnapshotConfig().getInterval();
-        timers().startTimerAtFixedRate("takeSnapshot", Control.TAKE_SNAPSHOT, snapshotInterval);
+        final SnapshotConfig snapshotConfig = getSnapshotConfig();
+        if (snapshotConfig.isAdaptive()) {
+            // snapshots are taken whenever the estimated replay cost makes them worthwhile
+            log.debug("Snapshot interval is disabled because snapshots are taken adaptively.");
+        } else {
+            timers().startTimerAtFixedRate("takeSnapshot", Control.TAKE_SNAPSHOT, snapshotConfig.getInterval());
+        }
     }
 
     private void cancelSnapshot() {
@@ -627,7 +646,17 @@ public abstract class AbstractPersistenceActor<
     }
 
     protected void handleByCommandStrategy(final C command) {
-        handleByStrategy(command, entity, getCreatedStrategy());
+        handleByCommandStrategy(command, entity);
+    }
+
+    /**
+     * Handle a command by the strategy for existing entities against the given entity instead of the current one.
+     *
+     * @param command the command.
+     * @param workEntity the entity to handle the command against, e.g. one with modifications not persisted yet.
+     */
+    protected final void handleByCommandStrategy(final C command, @Nullable final S workEntity) {
+        handleByStrategy(command, workEntity, getCreatedStrategy());
     }
 
     @SuppressWarnings("unchecked")
@@ -746,6 +775,8 @@ public abstract class AbstractPersistenceActor<
                     // save a snapshot if there were too many changes since the last snapshot
                     if (snapshotThresholdPassed()) {
                         takeSnapshot("snapshot threshold is reached");
+                    } else if (snapshotWorthTaking()) {
+                        takeSnapshot("replaying the events since the last snapshot became more expensive");
                     }
                 }
         );
@@ -776,7 +807,9 @@ public abstract class AbstractPersistenceActor<
                     revision,
                     reason);
 
+            final long startNanos = System.nanoTime();
             final Object snapshotSubject = snapshotAdapter.toSnapshotStore(entity);
+            recoveryCostEstimator.recordSnapshotConverted(System.nanoTime() - startNanos);
             saveSnapshot(snapshotSubject);
 
             lastSnapshotRevision = revision;
@@ -792,6 +825,12 @@ public abstract class AbstractPersistenceActor<
         return getRevisionNumber() - lastSnapshotRevision >= getSnapshotConfig().getThreshold();
     }
 
+    private boolean snapshotWorthTaking() {
+        final SnapshotConfig snapshotConfig = getSnapshotConfig();
+        return snapshotConfig.isAdaptive() && recoveryCostEstimator.isSnapshotWorthTaking(
+                getRevisionNumber() - lastSnapshotRevision, snapshotConfig.getMinReplayCost());
+    }
+
     private void applyEvent(final E event) {
         final S previousEntity = entity;
         handleEvents.onMessage().apply(event);
@@ -816,7 +855,9 @@ public abstract class AbstractPersistenceActor<
     }
 
     private void recoverFromSnapshotOffer(final SnapshotOffer snapshotOffer) {
+        final long startNanos = System.nanoTime();
         entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
+        recoveryCostEstimator.recordSnapshotConverted(System.nanoTime() - startNanos);
         lastSnapshotRevision = confirmedSnapshotRevision = snapshotOffer.metadata().sequenceNr();
     }
 
@@ -82,7 +82,6 @@ import akka.japi.pf.FI;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.AskTimeoutException;
 import akka.pattern.Patterns;
-import akka.persistence.query.EventEnvelope;
 import akka.stream.javadsl.Source;
 import akka.stream.javadsl.StreamRefs;
 
@@ -117,6 +116,11 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
     private static final String ENFORCEMENT_TIMER_TAG_OUTCOME_FAIL = "fail";
     private static final String ENFORCEMENT_TIMER_TAG_OUTCOME_SUCCESS = "success";
 
+    /**
+     * How many persisted events to read from the journal at once when streaming the history of an entity.
+     */
+    private static final int PERSISTED_EVENTS_BATCH_SIZE = 100;
+
     private static final Counter SUDO_COMMANDS_COUNTER = DittoMetrics.counter("sudo_commands");
     private static final String SUDO_COMMAND_COUNTER_TAG_TYPE = "type";
 
@@ -272,14 +276,18 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
                         sender.tell(dre, getSelf());
                     } else if (null != enforcedStreamPersistedEvents) {
                         final var sourceRef = startRevisionSource
-                                .flatMapConcat(startRevision -> mongoReadJournal.currentEventsByPersistenceId(
+                                .flatMapConcat(startRevision -> mongoReadJournal.getEventPayloads(
                                         persistenceId,
                                         startRevision,
-                                        subscribeForPersistedEvents.getToHistoricalRevision()
+                                        subscribeForPersistedEvents.getToHistoricalRevision(),
+                                        fromHistoricalTimestamp.orElse(null),
+                                        toHistoricalTimestamp.orElse(null),
+                                        PERSISTED_EVENTS_BATCH_SIZE
                                 ))
-                                .map(eventEnvelope ->
+                                .map(eventPayload ->
                                         mapJournalEntryToEvent(
-                                                (SubscribeForPersistedEvents) enforcedStreamPersistedEvents, eventEnvelope))
+                                                (SubscribeForPersistedEvents) enforcedStreamPersistedEvents, eventPayload))
+                                // the journal query only applies the timestamps with a precision of seconds
                                 .filter(event ->
                                         fromHistoricalTimestamp.flatMap(instant ->
                                                 event.getTimestamp().map(eventTs -> eventTs.isAfter(instant))
@@ -301,11 +309,10 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
     }
 
     private Event<?> mapJournalEntryToEvent(final SubscribeForPersistedEvents enforcedSubscribeForPersistedEvents,
-            final EventEnvelope eventEnvelope) {
+            final BsonDocument eventPayload) {
 
-        final BsonDocument event = (BsonDocument) eventEnvelope.event();
         final JsonObject eventAsJsonObject = DittoBsonJson.getInstance()
-                .serialize(event);
+                .serialize(eventPayload);
 
         final DittoHeadersBuilder<?, ?> dittoHeadersBuilder = enforcedSubscribeForPersistedEvents.getDittoHeaders()
                 .toBuilder();
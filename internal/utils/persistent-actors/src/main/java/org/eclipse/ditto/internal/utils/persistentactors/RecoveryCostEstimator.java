@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Estimates the cost of recovering a persistent entity from the measured cost of applying its events and of
+ * converting its snapshots. The conversion cost of a snapshot grows with its size and serves as estimate of the cost
+ * of loading it.
+ */
+@NotThreadSafe
+final class RecoveryCostEstimator {
+
+    /**
+     * Weight of a new measurement in the moving average of the event apply cost.
+     */
+    private static final double SMOOTHING_FACTOR = 0.1;
+
+    private double averageEventApplyNanos = -1.0;
+    private long snapshotNanos = 0L;
+
+    /**
+     * Record the duration of applying an event to the entity.
+     *
+     * @param nanos the duration in nanoseconds.
+     */
+    void recordEventApplied(final long nanos) {
+        if (averageEventApplyNanos < 0.0) {
+            averageEventApplyNanos = nanos;
+        } else {
+            averageEventApplyNanos += SMOOTHING_FACTOR * (nanos - averageEventApplyNanos);
+        }
+    }
+
+    /**
+     * Record the duration of converting the entity from or to a snapshot.
+     *
+     * @param nanos the duration in nanoseconds.
+     */
+    void recordSnapshotConverted(final long nanos) {
+        snapshotNanos = nanos;
+    }
+
+    /**
+     * Estimate the cost of replaying events.
+     *
+     * @param eventCount the number of events to replay.
+     * @return the estimated cost in nanoseconds.
+     */
+    long estimateReplayNanos(final long eventCount) {
+        return Math.max(0L, Math.round(eventCount * averageEventApplyNanos));
+    }
+
+    /**
+     * Check whether a snapshot is worth taking, i.e. if replaying the events since the last snapshot is estimated to
+     * be more expensive than loading a snapshot and more expensive than the given minimum.
+     *
+     * @param eventsSinceSnapshot the number of events since the last snapshot.
+     * @param minReplayCost the replay cost below which a snapshot is never worth taking.
+     * @return whether a snapshot is worth taking.
+     */
+    boolean isSnapshotWorthTaking(final long eventsSinceSnapshot, final Duration minReplayCost) {
+        final long replayNanos = estimateReplayNanos(eventsSinceSnapshot);
+        return eventsSinceSnapshot > 0 && replayNanos >= minReplayCost.toNanos() && replayNanos >= snapshotNanos;
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RecoveryCostEstimator}.
+ */
+public final class RecoveryCostEstimatorTest {
+
+    private static final Duration MIN_REPLAY_COST = Duration.ofNanos(1_000L);
+
+    private RecoveryCostEstimator underTest;
+
+    @Before
+    public void setUp() {
+        underTest = new RecoveryCostEstimator();
+    }
+
+    @Test
+    public void noSnapshotWithoutMeasurements() {
+        assertThat(underTest.estimateReplayNanos(1_000L)).isZero();
+        assertThat(underTest.isSnapshotWorthTaking(1_000L, MIN_REPLAY_COST)).isFalse();
+    }
+
+    @Test
+    public void replayCostIsProportionalToAverageApplyCost() {
+        underTest.recordEventApplied(100L);
+        underTest.recordEventApplied(200L);
+
+        assertThat(underTest.estimateReplayNanos(10L)).isEqualTo(1_100L);
+    }
+
+    @Test
+    public void snapshotIsWorthTakingIfReplayIsMoreExpensiveThanSnapshot() {
+        underTest.recordEventApplied(100L);
+        underTest.recordSnapshotConverted(2_000L);
+
+        assertThat(underTest.isSnapshotWorthTaking(19L, MIN_REPLAY_COST)).isFalse();
+        assertThat(underTest.isSnapshotWorthTaking(20L, MIN_REPLAY_COST)).isTrue();
+    }
+
+    @Test
+    public void snapshotIsNotWorthTakingBelowMinReplayCost() {
+        underTest.recordEventApplied(100L);
+        underTest.recordSnapshotConverted(10L);
+
+        assertThat(underTest.isSnapshotWorthTaking(9L, MIN_REPLAY_COST)).isFalse();
+        assertThat(underTest.isSnapshotWorthTaking(10L, MIN_REPLAY_COST)).isTrue();
+        assertThat(underTest.isSnapshotWorthTaking(0L, Duration.ZERO)).isFalse();
+    }
+
+}
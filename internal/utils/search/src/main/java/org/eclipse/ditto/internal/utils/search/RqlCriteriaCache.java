@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.placeholders.Placeholder;
+import org.eclipse.ditto.rql.parser.JavaRqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Process-wide bounded cache of parsed RQL filter criteria. Streaming sessions, SSE connections and connection targets
+ * of many clients usually share a few distinct filters; a reconnect storm then parses each of them only once.
+ * <p>
+ * Criteria are cached by the filter string and the prefixes of the placeholders accepted as fields, because those
+ * are the only inputs of parsing. Placeholders are resolved when the criteria are evaluated. Invalid filters are
+ * not cached so that their {@link org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException} always
+ * carries the headers of the current request.
+ *
+ * @since 3.2.0
+ */
+public final class RqlCriteriaCache {
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final RqlCriteriaCache INSTANCE = new RqlCriteriaCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final Cache<Key, Criteria> cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final PreparedTimer parseTimer;
+
+    private RqlCriteriaCache(final int maximumSize) {
+        cache = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        hits = DittoMetrics.counter("rql_criteria_cache").tag("result", "hit");
+        misses = DittoMetrics.counter("rql_criteria_cache").tag("result", "miss");
+        parseTimer = DittoMetrics.timer("rql_criteria_parse");
+    }
+
+    /**
+     * Returns the process-wide criteria cache.
+     *
+     * @return the instance.
+     */
+    public static RqlCriteriaCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Create a criteria cache independent of the process-wide one.
+     *
+     * @param maximumSize the maximum number of cached criteria.
+     * @return the criteria cache.
+     */
+    static RqlCriteriaCache of(final int maximumSize) {
+        return new RqlCriteriaCache(maximumSize);
+    }
+
+    /**
+     * Returns the criteria of an RQL filter, parsing it only if it is not cached.
+     *
+     * @param filter the RQL filter or {@code null} for criteria matching everything.
+     * @param dittoHeaders the headers of the request containing the filter.
+     * @param placeholders the placeholders to accept as fields of the filter.
+     * @return the criteria.
+     * @throws org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException if the filter is invalid.
+     */
+    public Criteria filterCriteria(@Nullable final String filter, final DittoHeaders dittoHeaders,
+            final Placeholder<?>... placeholders) {
+
+        if (filter == null) {
+            return newFactory(placeholders).filterCriteria(null, dittoHeaders);
+        }
+        final var key = new Key(filter, Arrays.stream(placeholders)
+                .map(Placeholder::getPrefix)
+                .collect(Collectors.toList()));
+        final Criteria cachedCriteria = cache.getIfPresent(key);
+        if (cachedCriteria != null) {
+            hits.increment();
+            return cachedCriteria;
+        }
+        misses.increment();
+        final StartedTimer timer = parseTimer.start();
+        try {
+            final Criteria criteria = newFactory(placeholders).filterCriteria(filter, dittoHeaders);
+            cache.put(key, criteria);
+            return criteria;
+        } finally {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Returns the number of cached criteria.
+     *
+     * @return the approximate number of cached criteria.
+     */
+    long size() {
+        return cache.estimatedSize();
+    }
+
+    private static QueryFilterCriteriaFactory newFactory(final Placeholder<?>... placeholders) {
+        return QueryFilterCriteriaFactory.modelBased(JavaRqlPredicateParser.getInstance(), placeholders);
+    }
+
+    private record Key(String filter, List<String> placeholderPrefixes) {}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.junit.Test;
+
+/**
+ * Tests {@link RqlCriteriaCache}.
+ */
+public final class RqlCriteriaCacheTest {
+
+    private static final String FILTER = "and(eq(attributes/manufacturer,\"ACME\"),gt(time:now,\"2026\"))";
+
+    private final RqlCriteriaCache underTest = RqlCriteriaCache.of(10);
+
+    @Test
+    public void parsesEachFilterOnlyOnce() {
+        final Criteria criteria = underTest.filterCriteria(FILTER, DittoHeaders.empty(), TimePlaceholder.getInstance());
+        final Criteria cachedCriteria =
+                underTest.filterCriteria(FILTER, DittoHeaders.empty(), TimePlaceholder.getInstance());
+
+        assertThat(cachedCriteria).isSameAs(criteria);
+        assertThat(underTest.size()).isEqualTo(1L);
+    }
+
+    @Test
+    public void distinguishesAcceptedPlaceholders() {
+        final String filter = "eq(time:now,\"2026\")";
+        final Criteria criteria = underTest.filterCriteria(filter, DittoHeaders.empty(), TimePlaceholder.getInstance());
+
+        assertThat(criteria).isNotNull();
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> underTest.filterCriteria(filter, DittoHeaders.empty()));
+    }
+
+    @Test
+    public void doesNotCacheInvalidFilters() {
+        final var dittoHeaders = DittoHeaders.newBuilder().correlationId("invalid-filter").build();
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> underTest.filterCriteria("eq(attributes/x", dittoHeaders))
+                .satisfies(e -> assertThat(e.getDittoHeaders()).isEqualTo(dittoHeaders));
+        assertThat(underTest.size()).isZero();
+    }
+
+}
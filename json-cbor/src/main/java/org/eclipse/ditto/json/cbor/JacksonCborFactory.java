@@ -66,7 +66,7 @@ public final class JacksonCborFactory implements CborFactory {
         final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
         try {
             final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(bytes);
-            return parseValue(parser, byteBuffer);
+            return parseValue(parser, byteBuffer, false);
         } catch (final IOException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
             throw createJsonParseException(byteBuffer, e);
         }
@@ -79,7 +79,7 @@ public final class JacksonCborFactory implements CborFactory {
         final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, offset, length).slice();
         try {
             final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(bytes, offset, length);
-            return parseValue(parser, byteBuffer);
+            return parseValue(parser, byteBuffer, false);
         } catch (final IOException | IllegalArgumentException e) {
             throw createJsonParseException(byteBuffer, e);
         }
@@ -87,12 +87,21 @@ public final class JacksonCborFactory implements CborFactory {
 
     @Override
     public JsonValue readFrom(final ByteBuffer byteBuffer) {
+        return readFrom(byteBuffer, false);
+    }
+
+    @Override
+    public JsonValue readLazilyFrom(final ByteBuffer byteBuffer) {
+        return readFrom(byteBuffer, true);
+    }
+
+    private static JsonValue readFrom(final ByteBuffer byteBuffer, final boolean lazyNestedObjects) {
         // ensure that buffers position is zero so that offsets determined by CBORParser map directly to positions in
         // this buffer.
         final ByteBuffer slicedByteBuffer = byteBuffer.slice();
         try {
             final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(ByteBufferInputStream.of(slicedByteBuffer));
-            return parseValue(parser, slicedByteBuffer);
+            return parseValue(parser, slicedByteBuffer, lazyNestedObjects);
         } catch (final IOException | IllegalArgumentException e) {
             throw createJsonParseException(slicedByteBuffer, e);
         }
@@ -179,21 +188,30 @@ public final class JacksonCborFactory implements CborFactory {
         serializationContext.close();
     }
 
-    private static JsonValue parseValue(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
-        return parseValue(parser, byteBuffer, parser.nextToken());
+    private static JsonValue parseValue(final CBORParser parser, final ByteBuffer byteBuffer,
+            final boolean lazyNestedObjects) throws IOException {
+        return parseValue(parser, byteBuffer, parser.nextToken(), lazyNestedObjects);
+    }
+
+    private static JsonValue parseNestedValue(final CBORParser parser, final ByteBuffer byteBuffer,
+            @Nullable final JsonToken currentToken, final boolean lazyNestedObjects) throws IOException {
+        if (lazyNestedObjects && JsonToken.START_OBJECT == currentToken) {
+            return skipLazyObject(parser, byteBuffer);
+        }
+        return parseValue(parser, byteBuffer, currentToken, lazyNestedObjects);
     }
 
     private static JsonValue parseValue(final CBORParser parser, final ByteBuffer byteBuffer,
-            @Nullable final JsonToken currentToken)
+            @Nullable final JsonToken currentToken, final boolean lazyNestedObjects)
             throws IOException {
         if (currentToken == null) {
             throw new IOException("Unexpected end of input while expecting value.");
         }
         switch (currentToken) {
             case START_OBJECT:
-                return parseObject(parser, byteBuffer);
+                return parseObject(parser, byteBuffer, lazyNestedObjects);
             case START_ARRAY:
-                return parseArray(parser, byteBuffer);
+                return parseArray(parser, byteBuffer, lazyNestedObjects);
             case VALUE_STRING:
                 return JsonValue.of(parser.getValueAsString());
             case VALUE_NUMBER_INT:
@@ -226,23 +244,37 @@ public final class JacksonCborFactory implements CborFactory {
         }
     }
 
-    private static JsonObject parseObject(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
+    private static JsonObject parseObject(final CBORParser parser, final ByteBuffer byteBuffer,
+            final boolean lazyNestedObjects) throws IOException {
+
         final LinkedHashMap<String, JsonField> map = new LinkedHashMap<>();
         final long startOffset = parser.getTokenLocation().getByteOffset();
         while (parser.nextToken() == JsonToken.FIELD_NAME) {
             final String key = parser.currentName();
-            final JsonField jsonField = JsonField.newInstance(key, parseValue(parser, byteBuffer));
-            map.put(key, jsonField);
+            final JsonValue value = parseNestedValue(parser, byteBuffer, parser.nextToken(), lazyNestedObjects);
+            map.put(key, JsonField.newInstance(key, value));
         }
         final long endOffset = parser.getTokenLocation().getByteOffset();
         return JsonFactory.createJsonObject(map, getBytesFromInputSource(startOffset, endOffset, byteBuffer));
     }
 
-    private static JsonArray parseArray(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
+    private static JsonObject skipLazyObject(final CBORParser parser, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        final long startOffset = parser.getTokenLocation().getByteOffset();
+        parser.skipChildren();
+        final long endOffset = parser.getTokenLocation().getByteOffset();
+        return JsonFactory.createLazyJsonObject(getBytesFromInputSource(startOffset, endOffset, byteBuffer));
+    }
+
+    private static JsonArray parseArray(final CBORParser parser, final ByteBuffer byteBuffer,
+            final boolean lazyNestedObjects) throws IOException {
+
         final LinkedList<JsonValue> list = new LinkedList<>();
         final long startOffset = parser.getTokenLocation().getByteOffset();
         while (parser.nextToken() != JsonToken.END_ARRAY) {
-            final JsonValue jsonValue = parseValue(parser, byteBuffer, parser.currentToken());
+            final JsonValue jsonValue = parseNestedValue(parser, byteBuffer, parser.currentToken(),
+                    lazyNestedObjects);
             list.add(jsonValue);
         }
         final long endOffset = parser.getTokenLocation().getByteOffset();
@@ -91,6 +91,12 @@ public final class JacksonCborFactoryTest {
         assertThat(result).isEqualTo(testValue);
     }
 
+    @Test
+    public void readLazilyFromByteBuffer() {
+        final JsonValue result = cborFactory.readLazilyFrom(ByteBuffer.wrap(testBytes));
+        assertThat(result).isEqualTo(testValue);
+    }
+
     @Test
     public void readFromByteBufferWithInaccessibleArray() {
         // ReadOnlyByteBuffers throw an exception when trying to access the backing array directly.
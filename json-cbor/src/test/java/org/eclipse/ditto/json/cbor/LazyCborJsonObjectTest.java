@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Tests the lazy JSON objects created by {@link JacksonCborFactory#readLazilyFrom(ByteBuffer)}.
+ */
+public final class LazyCborJsonObjectTest {
+
+    private static final JsonObject THING = JsonObject.newBuilder()
+            .set("thingId", "org.eclipse.ditto:thing")
+            .set("attributes", JsonObject.newBuilder()
+                    .set("location", JsonObject.newBuilder().set("lat", 44.67).set("lon", 8.26).build())
+                    .set("tags", JsonArray.newBuilder().add(JsonObject.newBuilder().set("a", 1).build()).build())
+                    .build())
+            .set("features", JsonObject.newBuilder()
+                    .set("temperature", JsonObject.newBuilder()
+                            .set("properties", JsonObject.newBuilder().set("value", 23.5).build())
+                            .build())
+                    .build())
+            .build();
+
+    private final JacksonCborFactory underTest = new JacksonCborFactory();
+
+    @Test
+    public void lazilyReadObjectEqualsEagerlyReadObject() throws IOException {
+        final byte[] cbor = CborTestUtils.serializeWithJackson(THING);
+
+        final JsonValue lazy = underTest.readLazilyFrom(ByteBuffer.wrap(cbor));
+
+        assertThat(lazy).isEqualTo(THING);
+        assertThat(lazy.hashCode()).isEqualTo(THING.hashCode());
+        assertThat(lazy.toString()).isEqualTo(THING.toString());
+        assertThat(lazy.asObject().getValue(JsonPointer.of("features/temperature/properties/value")))
+                .contains(JsonValue.of(23.5));
+    }
+
+    @Test
+    public void untouchedLazyObjectIsSerializedWithIdenticalBytes() throws IOException {
+        final byte[] cbor = CborTestUtils.serializeWithJackson(THING);
+
+        final JsonValue lazy = underTest.readLazilyFrom(ByteBuffer.wrap(cbor));
+
+        assertThat(underTest.toByteArray(lazy)).isEqualTo(cbor);
+    }
+
+    @Test
+    public void modifiedLazyObjectIsSerializedCorrectly() throws IOException {
+        final byte[] cbor = CborTestUtils.serializeWithJackson(THING);
+        final JsonObject lazy = underTest.readLazilyFrom(ByteBuffer.wrap(cbor)).asObject();
+
+        final JsonObject modified = lazy.setValue(JsonPointer.of("features/temperature/properties/value"), 42);
+
+        final JsonObject expected = THING.setValue(JsonPointer.of("features/temperature/properties/value"), 42);
+        assertThat(underTest.readFrom(underTest.toByteArray(modified))).isEqualTo(expected);
+    }
+
+    @Test
+    public void lazyObjectCanBeCreatedFromCborRepresentation() throws IOException {
+        final JsonObject nested = THING.getValue("attributes").map(JsonValue::asObject).get();
+
+        final JsonObject lazy = JsonFactory.createLazyJsonObject(CborTestUtils.serializeWithJackson(nested));
+
+        assertThat(lazy).isEqualTo(nested);
+        assertThat(lazy.getSize()).isEqualTo(nested.getSize());
+    }
+
+}
@@ -70,6 +70,26 @@ public interface CborFactory {
      */
     JsonValue readFrom(ByteBuffer byteBuffer);
 
+    /**
+     * Deserializes a {@code JsonValue} by parsing the passed {@code byteBuffer} with CBOR while only decoding the top
+     * level of the value.
+     * Nested JSON objects are returned as lazy JSON objects which are only backed by their CBOR representation and
+     * which decode their fields when they are accessed for the first time. As long as such an object is not accessed,
+     * it can be serialized again by copying its CBOR representation without re-encoding it.
+     * <p>
+     * The default implementation eagerly decodes the whole value.
+     * </p>
+     *
+     * @param byteBuffer the ByteBuffer to parse with CBOR.
+     * @return the parsed JsonValue.
+     * @throws JsonParseException if the structure of {@code byteBuffer} cannot be deserialized to a
+     * {@link JsonValue}.
+     * @since 3.2.0
+     */
+    default JsonValue readLazilyFrom(final ByteBuffer byteBuffer) {
+        return readFrom(byteBuffer);
+    }
+
     /**
      * Serializes a CBOR byte array from the passed {@code jsonValue}.
      *
@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable, insertion ordered map of JSON fields which is the internal storage of {@link ImmutableJsonObject}.
+ * <p>
+ * Keys and fields are stored in two parallel arrays. Up to {@value #LINEAR_PROBE_THRESHOLD} fields are looked up by
+ * a linear scan of the keys array; bigger maps additionally maintain an open addressing hash index into the arrays.
+ * Compared to a {@code LinkedHashMap} this avoids one entry object per field.
+ * </p>
+ * <p>
+ * The {@code with...} methods return a new map and never modify this map. As all fields are immutable, the new map
+ * shares all field instances with this map and only copies the (small) arrays.
+ * </p>
+ */
+@Immutable
+final class CompactJsonFieldMap extends AbstractMap<String, JsonField> {
+
+    /**
+     * Maximum number of fields for which no hash index is created.
+     */
+    static final int LINEAR_PROBE_THRESHOLD = 8;
+
+    private static final CompactJsonFieldMap EMPTY = new CompactJsonFieldMap(new String[0], new JsonField[0], 0);
+
+    private final String[] keys;
+    private final JsonField[] fields;
+    private final int size;
+    @Nullable private final int[] hashIndex;
+
+    private CompactJsonFieldMap(final String[] keys, final JsonField[] fields, final int size) {
+        this(keys, fields, size, size > LINEAR_PROBE_THRESHOLD ? createHashIndex(keys, size) : null);
+    }
+
+    private CompactJsonFieldMap(final String[] keys, final JsonField[] fields, final int size,
+            @Nullable final int[] hashIndex) {
+
+        this.keys = keys;
+        this.fields = fields;
+        this.size = size;
+        this.hashIndex = hashIndex;
+    }
+
+    private static int[] createHashIndex(final String[] keys, final int size) {
+        // table size is a power of two with a load factor of at most 0.5
+        final int[] result = new int[Integer.highestOneBit(size * 2 - 1) << 1];
+        for (int i = 0; i < size; i++) {
+            addToHashIndex(result, keys, i);
+        }
+        return result;
+    }
+
+    private static int[] addToHashIndex(final int[] hashIndex, final String[] keys, final int keyIndex) {
+        int slot = slot(keys[keyIndex], hashIndex.length);
+        while (0 != hashIndex[slot]) {
+            slot = (slot + 1) & (hashIndex.length - 1);
+        }
+        hashIndex[slot] = keyIndex + 1; // 0 marks an empty slot
+        return hashIndex;
+    }
+
+    private static int slot(final String key, final int tableLength) {
+        final int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (tableLength - 1);
+    }
+
+    /**
+     * Returns an empty map.
+     *
+     * @return the empty map.
+     */
+    static CompactJsonFieldMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a map containing the entries of the given map in its iteration order.
+     *
+     * @param fieldMap the map to be copied.
+     * @return the map. If {@code fieldMap} already is a {@code CompactJsonFieldMap} it is returned as is.
+     */
+    static CompactJsonFieldMap of(final Map<String, JsonField> fieldMap) {
+        if (fieldMap instanceof CompactJsonFieldMap) {
+            return (CompactJsonFieldMap) fieldMap;
+        }
+        final int mapSize = fieldMap.size();
+        if (0 == mapSize) {
+            return EMPTY;
+        }
+        final String[] keys = new String[mapSize];
+        final JsonField[] fields = new JsonField[mapSize];
+        int i = 0;
+        for (final Entry<String, JsonField> entry : fieldMap.entrySet()) {
+            keys[i] = entry.getKey();
+            fields[i] = entry.getValue();
+            i++;
+        }
+        return new CompactJsonFieldMap(keys, fields, mapSize);
+    }
+
+    /**
+     * Returns a map containing the given fields keyed by their key names.
+     * If several fields have the same key, the last one wins while keeping the position of the first one.
+     *
+     * @param jsonFields the fields.
+     * @return the map.
+     */
+    static CompactJsonFieldMap of(final Collection<JsonField> jsonFields) {
+        if (jsonFields.isEmpty()) {
+            return EMPTY;
+        }
+        return EMPTY.withAll(jsonFields, jsonFields.size());
+    }
+
+    /**
+     * Returns a new map which associates the given field with the given key. If the key already exists, the field
+     * keeps its position; otherwise it is appended.
+     *
+     * @param key the key.
+     * @param field the field.
+     * @return the new map.
+     */
+    CompactJsonFieldMap with(final String key, final JsonField field) {
+        final int index = indexOf(key);
+        if (index >= 0) {
+            final JsonField[] fieldsCopy = Arrays.copyOf(fields, size);
+            fieldsCopy[index] = field;
+            return new CompactJsonFieldMap(keys, fieldsCopy, size, hashIndex);
+        }
+        final String[] keysCopy = Arrays.copyOf(keys, size + 1);
+        final JsonField[] fieldsCopy = Arrays.copyOf(fields, size + 1);
+        keysCopy[size] = key;
+        fieldsCopy[size] = field;
+        return new CompactJsonFieldMap(keysCopy, fieldsCopy, size + 1);
+    }
+
+    /**
+     * Returns a new map which additionally contains all the given fields keyed by their key names.
+     *
+     * @param jsonFields the fields to be added.
+     * @return the new map.
+     */
+    CompactJsonFieldMap withAll(final Iterable<JsonField> jsonFields) {
+        final int expectedAdditions = jsonFields instanceof Collection ? ((Collection<?>) jsonFields).size() : 4;
+        if (0 == expectedAdditions) {
+            return this;
+        }
+        return withAll(jsonFields, expectedAdditions);
+    }
+
+    private CompactJsonFieldMap withAll(final Iterable<JsonField> jsonFields, final int expectedAdditions) {
+        String[] keysCopy = Arrays.copyOf(keys, size + expectedAdditions);
+        JsonField[] fieldsCopy = Arrays.copyOf(fields, size + expectedAdditions);
+        int newSize = size;
+        int[] index = null != hashIndex ? hashIndex.clone() : null;
+        for (final JsonField jsonField : jsonFields) {
+            final String key = jsonField.getKeyName();
+            final int existingIndex = null != index
+                    ? indexOfHashed(keysCopy, index, key)
+                    : indexOfLinear(keysCopy, newSize, key);
+            if (existingIndex >= 0) {
+                fieldsCopy[existingIndex] = jsonField;
+            } else {
+                if (newSize == keysCopy.length) {
+                    keysCopy = Arrays.copyOf(keysCopy, newSize * 2);
+                    fieldsCopy = Arrays.copyOf(fieldsCopy, newSize * 2);
+                }
+                keysCopy[newSize] = key;
+                fieldsCopy[newSize] = jsonField;
+                newSize++;
+                if (newSize > LINEAR_PROBE_THRESHOLD) {
+                    // keep the load factor of the temporary index at most 0.5
+                    index = null != index && index.length >= newSize * 2
+                            ? addToHashIndex(index, keysCopy, newSize - 1)
+                            : createHashIndex(keysCopy, newSize);
+                }
+            }
+        }
+        if (newSize < keysCopy.length) {
+            keysCopy = Arrays.copyOf(keysCopy, newSize);
+            fieldsCopy = Arrays.copyOf(fieldsCopy, newSize);
+        }
+        return new CompactJsonFieldMap(keysCopy, fieldsCopy, newSize, index);
+    }
+
+    /**
+     * Returns a new map without the given key.
+     *
+     * @param key the key to be removed.
+     * @return the new map or this map if it does not contain {@code key}.
+     */
+    CompactJsonFieldMap without(final String key) {
+        final int index = indexOf(key);
+        if (index < 0) {
+            return this;
+        }
+        if (1 == size) {
+            return EMPTY;
+        }
+        return new CompactJsonFieldMap(removeIndex(keys, index, String[]::new),
+                removeIndex(fields, index, JsonField[]::new), size - 1);
+    }
+
+    /**
+     * Returns a new map without the given keys.
+     *
+     * @param keysToRemove the keys to be removed.
+     * @return the new map or this map if it does not contain any of the keys.
+     */
+    CompactJsonFieldMap withoutAll(final Collection<String> keysToRemove) {
+        if (keysToRemove.isEmpty()) {
+            return this;
+        }
+        if (1 == keysToRemove.size()) {
+            return without(keysToRemove.iterator().next());
+        }
+        final boolean[] removed = new boolean[size];
+        int removedCount = 0;
+        for (final String keyToRemove : keysToRemove) {
+            final int index = indexOf(keyToRemove);
+            if (index >= 0 && !removed[index]) {
+                removed[index] = true;
+                removedCount++;
+            }
+        }
+        if (0 == removedCount) {
+            return this;
+        }
+        final int newSize = size - removedCount;
+        if (0 == newSize) {
+            return EMPTY;
+        }
+        final String[] keysCopy = new String[newSize];
+        final JsonField[] fieldsCopy = new JsonField[newSize];
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            if (!removed[i]) {
+                keysCopy[j] = keys[i];
+                fieldsCopy[j] = fields[i];
+                j++;
+            }
+        }
+        return new CompactJsonFieldMap(keysCopy, fieldsCopy, newSize);
+    }
+
+    private <T> T[] removeIndex(final T[] array, final int index, final IntFunction<T[]> arrayFactory) {
+        final T[] result = arrayFactory.apply(size - 1);
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, size - index - 1);
+        return result;
+    }
+
+    private int indexOf(final Object key) {
+        if (null == hashIndex) {
+            return indexOfLinear(keys, size, key);
+        }
+        return indexOfHashed(keys, hashIndex, (String) key);
+    }
+
+    private static int indexOfHashed(final String[] keys, final int[] hashIndex, final String key) {
+        int slot = slot(key, hashIndex.length);
+        int entry;
+        while (0 != (entry = hashIndex[slot])) {
+            if (keys[entry - 1].equals(key)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & (hashIndex.length - 1);
+        }
+        return -1;
+    }
+
+    private static int indexOfLinear(final String[] keys, final int size, final Object key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && indexOf(key) >= 0;
+    }
+
+    @Override
+    @Nullable
+    public JsonField get(final Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        final int index = indexOf(key);
+        return index >= 0 ? fields[index] : null;
+    }
+
+    @Override
+    public Collection<JsonField> values() {
+        return new AbstractCollection<JsonField>() {
+            @Override
+            public Iterator<JsonField> iterator() {
+                return new ArrayIterator<>(i -> fields[i]);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<String, JsonField>> entrySet() {
+        return new AbstractSet<Entry<String, JsonField>>() {
+            @Override
+            public Iterator<Entry<String, JsonField>> iterator() {
+                return new ArrayIterator<>(i -> new SimpleImmutableEntry<>(keys[i], fields[i]));
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private final class ArrayIterator<T> implements Iterator<T> {
+
+        private final IntFunction<T> elementAtIndex;
+        private int index;
+
+        private ArrayIterator(final IntFunction<T> elementAtIndex) {
+            this.elementAtIndex = elementAtIndex;
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return elementAtIndex.apply(index++);
+        }
+
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Package-private evaluation plan of a {@code JsonFieldSelector}.
+ * <p>
+ * The pointers of the selector are compiled once from a {@link JsonFieldSelectorTrie} into an immutable tree of
+ * JSON keys which also knows at which nodes a pointer ends. Applying the plan walks the JSON object exactly once
+ * along the selected keys; it neither has to check each pointer for existence beforehand nor does it need
+ * intermediate object builders. Values which are selected as a whole are shared with the result.
+ * </p>
+ */
+@Immutable
+final class CompiledJsonFieldSelector {
+
+    private static final CompiledJsonFieldSelector[] NO_CHILDREN = new CompiledJsonFieldSelector[0];
+    private static final JsonKey[] NO_KEYS = new JsonKey[0];
+
+    private final JsonKey[] keys;
+    private final CompiledJsonFieldSelector[] children;
+    private final boolean endOfPointer;
+
+    private CompiledJsonFieldSelector(final JsonKey[] keys, final CompiledJsonFieldSelector[] children,
+            final boolean endOfPointer) {
+
+        this.keys = keys;
+        this.children = children;
+        this.endOfPointer = endOfPointer;
+    }
+
+    /**
+     * Compiles the given JSON pointers into an evaluation plan.
+     *
+     * @param jsonPointers the pointers to be selected.
+     * @return the plan.
+     * @throws NullPointerException if {@code jsonPointers} is {@code null}.
+     */
+    static CompiledJsonFieldSelector of(final Iterable<JsonPointer> jsonPointers) {
+        requireNonNull(jsonPointers, "The JSON pointers must not be null!");
+
+        return compile(JsonFieldSelectorTrie.of(jsonPointers));
+    }
+
+    private static CompiledJsonFieldSelector compile(final JsonFieldSelectorTrie trie) {
+        if (trie.isEmpty()) {
+            return new CompiledJsonFieldSelector(NO_KEYS, NO_CHILDREN, trie.isEndOfPointer());
+        }
+        final Set<JsonKey> childKeys = trie.getKeys();
+        final JsonKey[] keys = childKeys.toArray(NO_KEYS);
+        final CompiledJsonFieldSelector[] children = new CompiledJsonFieldSelector[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            children[i] = compile(trie.descend(keys[i]));
+        }
+        return new CompiledJsonFieldSelector(keys, children, trie.isEndOfPointer());
+    }
+
+    /**
+     * Applies this plan to the given JSON object. The result contains the values of all selected pointers which exist
+     * in {@code jsonObject}.
+     *
+     * @param jsonObject the JSON object to select the fields of.
+     * @return the selected fields; {@code jsonObject} itself if it is empty or an empty JSON object if no selected
+     * pointer exists in {@code jsonObject}.
+     */
+    JsonObject applyTo(final JsonObject jsonObject) {
+        if (jsonObject.isEmpty()) {
+            return jsonObject;
+        }
+        final JsonObject result = select(jsonObject);
+        return null != result ? result : ImmutableJsonObject.empty();
+    }
+
+    /**
+     * @return the selected fields of {@code jsonObject} or {@code null} if none of the pointers below this node
+     * exists in {@code jsonObject}.
+     */
+    @Nullable
+    private JsonObject select(final JsonObject jsonObject) {
+        List<JsonField> selectedFields = null;
+        for (int i = 0; i < keys.length; i++) {
+            final JsonField field = getField(jsonObject, keys[i]);
+            if (null != field) {
+                final JsonField selectedField = children[i].select(field);
+                if (null != selectedField) {
+                    if (null == selectedFields) {
+                        selectedFields = new ArrayList<>(keys.length - i);
+                    }
+                    selectedFields.add(selectedField);
+                }
+            }
+        }
+        return null != selectedFields ? ImmutableJsonObject.of(CompactJsonFieldMap.of(selectedFields)) : null;
+    }
+
+    @Nullable
+    private JsonField select(final JsonField field) {
+        if (endOfPointer) {
+            // a pointer ending here selects the whole value, even if longer pointers with the same prefix exist
+            return field;
+        }
+        final JsonValue value = field.getValue();
+        if (value.isObject()) {
+            final JsonObject selectedValue = select(value.asObject());
+            if (null != selectedValue) {
+                return JsonField.newInstance(field.getKey(), selectedValue, field.getDefinition().orElse(null));
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static JsonField getField(final JsonObject jsonObject, final JsonKey key) {
+        if (jsonObject instanceof ImmutableJsonObject) {
+            return ((ImmutableJsonObject) jsonObject).getFieldForKey(key.toString());
+        }
+        return jsonObject.getField(key).orElse(null);
+    }
+
+}
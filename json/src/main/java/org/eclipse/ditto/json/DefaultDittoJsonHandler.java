@@ -15,9 +15,7 @@ package org.eclipse.ditto.json;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.UnaryOperator;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -181,11 +179,7 @@ final class DefaultDittoJsonHandler extends DittoJsonHandler<List<JsonValue>, Li
             stringBuilder.append('}');
             valueString = stringBuilder.toString();
         }
-        final Map<String, JsonField> fieldMap = new LinkedHashMap<>(jsonFields.size());
-        for (final JsonField jsonField : jsonFields) {
-            fieldMap.put(jsonField.getKeyName(), jsonField);
-        }
-        jsonValue = ImmutableJsonObject.of(fieldMap, valueString);
+        jsonValue = ImmutableJsonObject.of(CompactJsonFieldMap.of(jsonFields), valueString);
     }
 
     @Override
@@ -35,6 +35,7 @@ final class ImmutableJsonFieldSelector implements JsonFieldSelector {
 
     private final Set<JsonPointer> pointers;
     private final String jsonFieldSelectorString;
+    @Nullable private CompiledJsonFieldSelector compiledFieldSelector;
 
     private ImmutableJsonFieldSelector(final Iterable<JsonPointer> thePointers,
             @Nullable final String theJsonFieldSelectorString) {
@@ -48,6 +49,7 @@ final class ImmutableJsonFieldSelector implements JsonFieldSelector {
         pointers = Collections.unmodifiableSet(pointersSet);
         jsonFieldSelectorString = theJsonFieldSelectorString != null ? theJsonFieldSelectorString :
                 calculateFieldSelectorString(pointers);
+        compiledFieldSelector = null;
     }
 
     /**
@@ -90,6 +92,21 @@ final class ImmutableJsonFieldSelector implements JsonFieldSelector {
         return new ImmutableJsonFieldSelector(pointers, fieldSelectorString);
     }
 
+    /**
+     * Returns the evaluation plan of this field selector. The plan is compiled once on first usage.
+     *
+     * @return the plan.
+     */
+    CompiledJsonFieldSelector compile() {
+        CompiledJsonFieldSelector result = compiledFieldSelector;
+        if (null == result) {
+            // the plan is immutable, so it does not matter if it is compiled concurrently more than once
+            result = CompiledJsonFieldSelector.of(pointers);
+            compiledFieldSelector = result;
+        }
+        return result;
+    }
+
     @Override
     public Set<JsonPointer> getPointers() {
         return pointers;
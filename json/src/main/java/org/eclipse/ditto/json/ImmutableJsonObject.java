@@ -16,14 +16,15 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -220,6 +221,22 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return !iterator.hasNext();
     }
 
+    /**
+     * Returns a JSON object which additionally contains the given fields and which does not contain the given keys.
+     * Replaced fields keep their position. In contrast to {@link #setAll(Iterable)} followed by
+     * {@link #remove(CharSequence)} only one new object is created and the keys are not interpreted as pointers.
+     *
+     * @param fieldsToSet the fields to be added or replaced.
+     * @param keysToRemove the names of the keys to be removed.
+     * @return the new JSON object.
+     */
+    JsonObject setAllAndRemove(final Collection<JsonField> fieldsToSet, final Collection<String> keysToRemove) {
+        if (fieldsToSet.isEmpty() && keysToRemove.isEmpty()) {
+            return this;
+        }
+        return new ImmutableJsonObject(fieldMap.putAllAndRemove(fieldsToSet, keysToRemove));
+    }
+
     @Override
     public boolean contains(final CharSequence key) {
         requireNonNull(key, "The key or pointer to check the existence of a value for must not be null!");
@@ -358,42 +375,13 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return this;
         }
 
-        final List<JsonPointer> pointersContainedInThis = fieldSelector.getPointers()
-                .stream()
-                .filter(this::contains)
-                .collect(Collectors.toList());
-
-        if (pointersContainedInThis.isEmpty()) {
-            return empty();
+        final CompiledJsonFieldSelector compiledFieldSelector;
+        if (fieldSelector instanceof ImmutableJsonFieldSelector) {
+            compiledFieldSelector = ((ImmutableJsonFieldSelector) fieldSelector).compile();
         } else {
-            return filterByTrie(this, JsonFieldSelectorTrie.of(pointersContainedInThis));
+            compiledFieldSelector = CompiledJsonFieldSelector.of(fieldSelector.getPointers());
         }
-    }
-
-    @SuppressWarnings({"rawtypes", "java:S3740"})
-    private static JsonObject filterByTrie(final JsonObject self, final JsonFieldSelectorTrie trie) {
-        if (trie.isEmpty()) {
-            return self;
-        }
-
-        final JsonObjectBuilder builder = JsonObject.newBuilder();
-
-        for (final JsonKey key : trie.getKeys()) {
-            self.getField(key).ifPresent(child -> {
-                final JsonValue childValue = child.getValue();
-                final JsonValue filteredChildValue = childValue.isObject()
-                        ? filterByTrie(childValue.asObject(), trie.descend(key))
-                        : childValue;
-                final Optional<JsonFieldDefinition> childFieldDefinition = child.getDefinition();
-                if (childFieldDefinition.isPresent()) {
-                    builder.set(childFieldDefinition.get(), filteredChildValue);
-                } else {
-                    builder.set(key, filteredChildValue);
-                }
-            });
-        }
-
-        return builder.build();
+        return compiledFieldSelector.applyTo(this);
     }
 
     @Override
@@ -469,6 +457,17 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return result;
     }
 
+    /**
+     * Returns the field with the given key without interpreting the key as pointer.
+     *
+     * @param key the name of the key.
+     * @return the field or {@code null} if this object does not contain {@code key}.
+     */
+    @Nullable
+    JsonField getFieldForKey(final String key) {
+        return fieldMap.getOrNull(key);
+    }
+
     @Override
     public boolean isObject() {
         return true;
@@ -555,13 +554,13 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         private String jsonObjectStringRepresentation;
         private byte[] cborObjectRepresentation;
         private int hashCode;
-        private SoftReference<Map<String, JsonField>> fieldsReference;
+        private SoftReference<CompactJsonFieldMap> fieldsReference;
 
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
 
             requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            fieldsReference = new SoftReference<>(CompactJsonFieldMap.of(jsonFieldMap));
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
             if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
@@ -580,8 +579,26 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             hashCode = 0;
         }
 
+        private SoftReferencedFieldMap(final byte[] cborObjectRepresentation) {
+            fieldsReference = new SoftReference<>(null);
+            jsonObjectStringRepresentation = null;
+            this.cborObjectRepresentation = cborObjectRepresentation;
+            hashCode = 0;
+        }
+
         static SoftReferencedFieldMap empty() {
-            return of(Collections.emptyMap(), "{}", new byte[]{(byte) 0xA0});
+            return of(CompactJsonFieldMap.empty(), "{}", new byte[]{(byte) 0xA0});
+        }
+
+        /**
+         * Returns a field map which is only backed by the given CBOR representation. The fields are decoded
+         * when they are accessed for the first time.
+         *
+         * @param cborObjectRepresentation the CBOR representation of a JSON object.
+         * @return the lazy field map.
+         */
+        static SoftReferencedFieldMap lazy(final byte[] cborObjectRepresentation) {
+            return new SoftReferencedFieldMap(cborObjectRepresentation);
         }
 
         static SoftReferencedFieldMap of(final Map<String, JsonField> fieldMap) {
@@ -636,25 +653,20 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         SoftReferencedFieldMap put(final String key, final JsonField value) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.put(key, value);
-            return of(fieldsCopy);
-        }
-
-        private Map<String, JsonField> copyFields() {
-            return new LinkedHashMap<>(fields());
+            return of(fields().with(key, value));
         }
 
         SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
-            return of(fieldsCopy);
+            return of(fields().withAll(jsonFields));
         }
 
         SoftReferencedFieldMap remove(final String key) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.remove(key);
-            return of(fieldsCopy);
+            return of(fields().without(key));
+        }
+
+        SoftReferencedFieldMap putAllAndRemove(final Iterable<JsonField> jsonFields,
+                final Collection<String> keysToRemove) {
+            return of(fields().withAll(jsonFields).withoutAll(keysToRemove));
         }
 
         Stream<JsonField> getStream() {
@@ -665,8 +677,8 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return fields().values().iterator();
         }
 
-        private Map<String, JsonField> fields() {
-            Map<String, JsonField> result = fieldsReference.get();
+        private CompactJsonFieldMap fields() {
+            CompactJsonFieldMap result = fieldsReference.get();
             if (null == result) {
                 result = recoverFields();
                 fieldsReference = new SoftReference<>(result);
@@ -674,7 +686,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return result;
         }
 
-        private Map<String, JsonField> recoverFields() {
+        private CompactJsonFieldMap recoverFields() {
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
                 return parseToMap(cborObjectRepresentation);
             }
@@ -684,19 +696,20 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             throw new IllegalStateException("Fatal cache miss on JsonObject");
         }
 
-        private static Map<String, JsonField> parseToMap(final String jsonObjectString) {
+        private static CompactJsonFieldMap parseToMap(final String jsonObjectString) {
             final FieldMapJsonHandler jsonHandler = new FieldMapJsonHandler();
             JsonValueParser.fromString(jsonHandler).accept(jsonObjectString);
-            return jsonHandler.getValue();
+            return CompactJsonFieldMap.of(jsonHandler.getValue());
         }
 
-        private static Map<String, JsonField> parseToMap(final byte[] cborObjectRepresentation) {
-            final JsonValue jsonObject = CBOR_FACTORY.readFrom(cborObjectRepresentation);
-            final Map<String, JsonField> map = new LinkedHashMap<>();
-            for (final JsonField jsonValue : jsonObject.asObject()) {
-                map.put(jsonValue.getKey().toString(), jsonValue);
+        private static CompactJsonFieldMap parseToMap(final byte[] cborObjectRepresentation) {
+            // only decode the top level; nested objects stay lazy until they are accessed themselves
+            final JsonValue jsonObject = CBOR_FACTORY.readLazilyFrom(ByteBuffer.wrap(cborObjectRepresentation));
+            final List<JsonField> jsonFields = new ArrayList<>(jsonObject.asObject().getSize());
+            for (final JsonField jsonField : jsonObject.asObject()) {
+                jsonFields.add(jsonField);
             }
-            return map;
+            return CompactJsonFieldMap.of(jsonFields);
         }
 
         @Override
@@ -861,11 +874,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             if (null != jsonObjectBuilder) {
                 defaultHandler.endObject(jsonObjectBuilder);
             } else {
-                final Map<String, JsonField> linkedHashMap = new LinkedHashMap<>(jsonFields.size());
-                for (final JsonField jsonField : jsonFields) {
-                    linkedHashMap.put(jsonField.getKeyName(), jsonField);
-                }
-                value = linkedHashMap;
+                value = CompactJsonFieldMap.of(jsonFields);
             }
             level--;
         }
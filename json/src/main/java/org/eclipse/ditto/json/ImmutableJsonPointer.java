@@ -13,7 +13,6 @@
 package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -21,10 +20,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -34,12 +29,10 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class ImmutableJsonPointer implements JsonPointer {
 
-    private static final Pattern DOUBLE_SLASH_PATTERN = Pattern.compile("//");
     private static final String SLASH = "/";
-    private static final String SLASH_REGEX = "/(?!/)"; // a SLASH which is not followed by another slash
-    private static final Pattern SINGLE_SLASH_REGEX_PATTERN = Pattern.compile(SLASH_REGEX);
-    private static final Pattern ESCAPED_TILDE_PATTERN = Pattern.compile("~0");
-    private static final Pattern DECODED_TILDE_PATTERN = Pattern.compile("~");
+    private static final char SLASH_CHAR = '/';
+    private static final String ESCAPED_TILDE = "~0";
+    private static final String DECODED_TILDE = "~";
 
     private static final ImmutableJsonPointer EMPTY = new ImmutableJsonPointer(Collections.emptyList());
 
@@ -80,25 +73,42 @@ final class ImmutableJsonPointer implements JsonPointer {
             result = newInstance(Collections.singletonList(((JsonKey) slashDelimitedCharSequence)));
         } else if (0 == slashDelimitedCharSequence.length()) {
             result = empty();
-        } else if (DOUBLE_SLASH_PATTERN.matcher(slashDelimitedCharSequence).find()) {
-            throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedCharSequence)
-                    .build();
         } else {
-            final List<JsonKey> jsonKeys = Stream.of(SINGLE_SLASH_REGEX_PATTERN.split(slashDelimitedCharSequence))
-                    .filter(keyName -> !keyName.isEmpty()) // ignore empty segments
-                    .map(ImmutableJsonPointer::decodeTilde)
-                    .map(JsonFactory::newKey)
-                    .collect(toList());
-
-            result = newInstance(jsonKeys);
+            result = newInstance(parseJsonKeys(slashDelimitedCharSequence));
         }
 
         return result;
     }
 
-    private static String decodeTilde(final CharSequence keyString) {
-        final Matcher matcher = ESCAPED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(DECODED_TILDE_PATTERN.toString());
+    /*
+     * Splits at single slashes without regular expressions as pointers are parsed very frequently, e.g. for each
+     * field of a field selector. Empty segments (leading and trailing slashes) are ignored.
+     */
+    private static List<JsonKey> parseJsonKeys(final CharSequence slashDelimitedCharSequence) {
+        final String pointerString = slashDelimitedCharSequence.toString();
+        final int length = pointerString.length();
+        final List<JsonKey> result = new ArrayList<>();
+        int segmentStart = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || SLASH_CHAR == pointerString.charAt(i)) {
+                if (i < length && i > 0 && SLASH_CHAR == pointerString.charAt(i - 1)) {
+                    throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedCharSequence)
+                            .build();
+                }
+                if (i > segmentStart) {
+                    result.add(JsonFactory.newKey(decodeTilde(pointerString.substring(segmentStart, i))));
+                }
+                segmentStart = i + 1;
+            }
+        }
+        return result;
+    }
+
+    private static String decodeTilde(final String keyString) {
+        if (keyString.indexOf('~') < 0) {
+            return keyString;
+        }
+        return keyString.replace(ESCAPED_TILDE, DECODED_TILDE);
     }
 
     private static ImmutableJsonPointer newInstance(final List<JsonKey> jsonKeyHierarchy) {
@@ -328,17 +338,20 @@ final class ImmutableJsonPointer implements JsonPointer {
         if (jsonKeyHierarchy.isEmpty()) {
             stringRepresentation = SLASH;
         } else {
-            stringRepresentation = SLASH + jsonKeyHierarchy.stream()
-                    .map(ImmutableJsonPointer::escapeTilde)
-                    .collect(Collectors.joining(SLASH));
+            final StringBuilder stringBuilder = new StringBuilder();
+            for (final JsonKey jsonKey : jsonKeyHierarchy) {
+                stringBuilder.append(SLASH_CHAR).append(escapeTilde(jsonKey.toString()));
+            }
+            stringRepresentation = stringBuilder.toString();
         }
         return stringRepresentation;
     }
 
-    private static String escapeTilde(final JsonKey jsonKey) {
-        final String keyString = jsonKey.toString();
-        final Matcher matcher = DECODED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(ESCAPED_TILDE_PATTERN.toString());
+    private static String escapeTilde(final String keyString) {
+        if (keyString.indexOf('~') < 0) {
+            return keyString;
+        }
+        return keyString.replace(DECODED_TILDE, ESCAPED_TILDE);
     }
 
 }
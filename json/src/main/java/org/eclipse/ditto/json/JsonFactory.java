@@ -14,9 +14,8 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Arrays;
@@ -201,6 +200,50 @@ public final class JsonFactory {
         return JsonValueParser.fromReader().apply(reader);
     }
 
+    /**
+     * Reads the given UTF-8 encoded bytes and creates a JSON value based on the read data.
+     * <p>
+     * The bytes are parsed directly without decoding them to an intermediate String first. Thus this method should be
+     * preferred over {@link #readFrom(String)} whenever the JSON document is already available as bytes.
+     * </p>
+     *
+     * @param jsonData the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document. This value can be a JSON literal, a JSON object and so on.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is empty or if it is no valid JSON.
+     * @since 3.2.0
+     */
+    public static JsonValue readFrom(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        if (0 == jsonData.length) {
+            throw new JsonParseException("The JSON data to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromBytes().apply(jsonData);
+    }
+
+    /**
+     * Reads the remaining UTF-8 encoded bytes of the given buffer and creates a JSON value based on the read data.
+     * The position of the buffer is advanced to its limit.
+     * <p>
+     * The bytes are parsed directly without decoding them to an intermediate String first.
+     * </p>
+     *
+     * @param jsonData the buffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document. This value can be a JSON literal, a JSON object and so on.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} has no remaining bytes or if it is no valid JSON.
+     * @since 3.2.0
+     */
+    public static JsonValue readFrom(final ByteBuffer jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        if (!jsonData.hasRemaining()) {
+            throw new JsonParseException("The JSON data to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromByteBuffer().apply(jsonData);
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
@@ -287,8 +330,7 @@ public final class JsonFactory {
         if (isJsonNullLiteralData(jsonData)) {
             return nullObject();
         } else {
-            final Reader reader = new InputStreamReader(new ByteArrayInputStream(jsonData));
-            final JsonValue jsonValue = JsonValueParser.fromReader().apply(reader);
+            final JsonValue jsonValue = JsonValueParser.fromBytes().apply(jsonData);
             if (!jsonValue.isObject()) {
                 final String msgPattern = "<{0}> is not a valid JSON object!";
                 throw JsonParseException.newBuilder()
@@ -606,9 +648,7 @@ public final class JsonFactory {
         if (null == fieldSelectorString || fieldSelectorString.isEmpty()) {
             result = ImmutableJsonFieldSelector.empty();
         } else {
-            final ImmutableJsonFieldSelectorFactory jsonFieldSelectorFactory =
-                    ImmutableJsonFieldSelectorFactory.newInstance(fieldSelectorString, options);
-            result = jsonFieldSelectorFactory.newJsonFieldSelector();
+            result = JsonFieldSelectorCache.get(fieldSelectorString, options);
         }
 
         return result;
@@ -901,6 +941,25 @@ public final class JsonFactory {
                 ImmutableJsonObject.SoftReferencedFieldMap.of(jsonFieldMap, null, cborObjectRepresentation));
     }
 
+    /**
+     * Creates a lazy {@link JsonObject} which is only backed by the passed CBOR representation.
+     * The fields of the returned object are decoded when they are accessed for the first time; serializing the
+     * object as CBOR copies the passed bytes without re-encoding them.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @param cborObjectRepresentation the CBOR serialized representation of the JsonObject.
+     * @return the created JsonObject.
+     * @throws NullPointerException if {@code cborObjectRepresentation} is {@code null}.
+     * @since 3.2.0
+     */
+    public static JsonObject createLazyJsonObject(final byte[] cborObjectRepresentation) {
+        requireNonNull(cborObjectRepresentation, "The CBOR representation must not be null!");
+        return new ImmutableJsonObject(ImmutableJsonObject.SoftReferencedFieldMap.lazy(cborObjectRepresentation));
+    }
+
     /**
      * Converts the specified char sequence to a {@link JsonPointer} which is guaranteed to be not empty.
      *
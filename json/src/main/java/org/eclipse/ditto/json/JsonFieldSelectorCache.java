@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Package-private cache of parsed field selectors keyed by their string representation and parse options.
+ * <p>
+ * The same few field selector strings (e.g. the {@code fields} query parameter of an HTTP API or the
+ * {@code extraFields} of a subscription) are parsed over and over again. As {@link ImmutableJsonFieldSelector} is
+ * immutable and lazily compiles its evaluation plan, sharing parsed instances also shares the compiled plans.
+ * </p>
+ * <p>
+ * The cache is bounded: when it is full, it is cleared as a whole instead of tracking the usage of entries.
+ * </p>
+ */
+@ThreadSafe
+final class JsonFieldSelectorCache {
+
+    /**
+     * Maximum number of cached field selectors.
+     */
+    static final int MAX_SIZE = 1024;
+
+    /**
+     * Longer field selector strings are not cached.
+     */
+    static final int MAX_FIELD_SELECTOR_LENGTH = 1024;
+
+    private static final Map<CacheKey, JsonFieldSelector> CACHE = new ConcurrentHashMap<>();
+
+    private JsonFieldSelectorCache() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the field selector for the given string and options, parsing it only if it is not cached yet.
+     *
+     * @param fieldSelectorString the non-empty string to be parsed.
+     * @param options the parse options.
+     * @return the field selector.
+     * @throws JsonFieldSelectorInvalidException if {@code fieldSelectorString} is invalid. Invalid field selectors
+     * are not cached.
+     */
+    static JsonFieldSelector get(final String fieldSelectorString, final JsonParseOptions options) {
+        if (fieldSelectorString.length() > MAX_FIELD_SELECTOR_LENGTH) {
+            return parse(fieldSelectorString, options);
+        }
+        final CacheKey cacheKey = new CacheKey(fieldSelectorString, options);
+        JsonFieldSelector result = CACHE.get(cacheKey);
+        if (null == result) {
+            result = parse(fieldSelectorString, options);
+            if (CACHE.size() >= MAX_SIZE) {
+                CACHE.clear();
+            }
+            CACHE.put(cacheKey, result);
+        }
+        return result;
+    }
+
+    private static JsonFieldSelector parse(final String fieldSelectorString, final JsonParseOptions options) {
+        return ImmutableJsonFieldSelectorFactory.newInstance(fieldSelectorString, options).newJsonFieldSelector();
+    }
+
+    @Immutable
+    private static final class CacheKey {
+
+        private final String fieldSelectorString;
+        private final JsonParseOptions options;
+
+        private CacheKey(final String fieldSelectorString, final JsonParseOptions options) {
+            this.fieldSelectorString = fieldSelectorString;
+            this.options = options;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CacheKey that = (CacheKey) o;
+            return fieldSelectorString.equals(that.fieldSelectorString) && options.equals(that.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fieldSelectorString, options);
+        }
+
+    }
+
+}
@@ -58,8 +58,14 @@ final class JsonFieldSelectorTrie {
      */
     private final Map<JsonKey, JsonFieldSelectorTrie> children;
 
+    /**
+     * Whether an added path ends at this trie.
+     */
+    private boolean endOfPointer;
+
     private JsonFieldSelectorTrie() {
         children = new LinkedHashMap<>();
+        endOfPointer = false;
     }
 
     /**
@@ -103,6 +109,8 @@ final class JsonFieldSelectorTrie {
                 final JsonFieldSelectorTrie child = theChild != null ? theChild : new JsonFieldSelectorTrie();
                 return child.addJsonKeyIterator(iterator);
             });
+        } else {
+            endOfPointer = true;
         }
         return this;
     }
@@ -116,6 +124,16 @@ final class JsonFieldSelectorTrie {
         return children.isEmpty();
     }
 
+    /**
+     * Indicates whether a path added to the root of the trie ends at this trie. Such a trie may still have children
+     * if a longer path with the same prefix was added too.
+     *
+     * @return {@code true} if a path ends at this trie, {@code false} else.
+     */
+    boolean isEndOfPointer() {
+        return endOfPointer;
+    }
+
     /**
      * Returns the keys of the children.
      *
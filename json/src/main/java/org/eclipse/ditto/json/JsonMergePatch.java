@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.json;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -129,7 +130,7 @@ public final class JsonMergePatch {
             result = mergeJsonObjects(value1.asObject(), value2.asObject());
         } else {
             if (value1.isObject()) {
-                result = value1.asObject().filter(field -> !field.getValue().isNull());
+                result = withoutNullFields(value1.asObject());
             } else {
                 result = value1;
             }
@@ -138,41 +139,71 @@ public final class JsonMergePatch {
         return result;
     }
 
+    /**
+     * Merges the patch object {@code jsonObject1} into {@code jsonObject2}.
+     * Only the objects along the patched paths are copied: all fields of {@code jsonObject2} which are not affected by
+     * the patch are shared with the result and keep their position. If the patch does not change anything,
+     * {@code jsonObject2} itself is returned.
+     */
     private static JsonObject mergeJsonObjects(final JsonObject jsonObject1, final JsonObject jsonObject2) {
 
         if (jsonObject1.isNull()) {
             return JsonFactory.nullObject();
         }
 
-        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
-        // add fields of jsonObject1
-        jsonObject1.forEach(jsonField -> {
-            final JsonKey key = jsonField.getKey();
-            final JsonValue value1 = jsonField.getValue();
-            final Optional<JsonValue> maybeValue2 = jsonObject2.getValue(key);
-
-            if (value1.isNull()) {
-                return;
-            }
-            if (maybeValue2.isPresent()) {
-                builder.set(key, mergeJsonValues(value1, maybeValue2.get()));
-            } else {
-                if (value1.isObject()) {
-                    builder.set(key, value1.asObject().filter(field -> !field.getValue().isNull()));
-                } else {
-                    builder.set(jsonField);
+        final JsonObject target = jsonObject2.isNull() ? JsonFactory.newObject() : jsonObject2;
+        final List<JsonField> fieldsToSet = new ArrayList<>(jsonObject1.getSize());
+        final List<String> keysToRemove = new ArrayList<>();
+        for (final JsonField patchField : jsonObject1) {
+            final JsonKey key = patchField.getKey();
+            final JsonValue patchValue = patchField.getValue();
+            final Optional<JsonField> existingField = target.getField(key);
+
+            if (patchValue.isNull()) {
+                existingField.ifPresent(field -> keysToRemove.add(key.toString()));
+            } else if (existingField.isPresent()) {
+                final JsonField field = existingField.get();
+                final JsonValue existingValue = field.getValue();
+                final JsonValue mergedValue = mergeJsonValues(patchValue, existingValue);
+                if (!isUnchanged(existingValue, mergedValue)) {
+                    fieldsToSet.add(JsonField.newInstance(key, mergedValue, field.getDefinition().orElse(null)));
                 }
+            } else if (patchValue.isObject()) {
+                fieldsToSet.add(JsonField.newInstance(key, withoutNullFields(patchValue.asObject())));
+            } else {
+                fieldsToSet.add(patchField);
             }
-        });
+        }
 
-        // add fields of jsonObject2 not present in jsonObject1
-        jsonObject2.forEach(jsonField -> {
-            if (!jsonObject1.contains(jsonField.getKey())) {
-                builder.set(jsonField);
-            }
-        });
+        return setAllAndRemove(target, fieldsToSet, keysToRemove);
+    }
 
-        return builder.build();
+    private static JsonObject withoutNullFields(final JsonObject jsonObject) {
+        return jsonObject.filter(field -> !field.getValue().isNull());
+    }
+
+    private static boolean isUnchanged(final JsonValue existingValue, final JsonValue mergedValue) {
+        if (existingValue == mergedValue) {
+            return true;
+        }
+        // comparing containers could be as expensive as copying them, merged objects are only reused if identical
+        return !mergedValue.isObject() && !mergedValue.isArray() && existingValue.equals(mergedValue);
+    }
+
+    private static JsonObject setAllAndRemove(final JsonObject jsonObject, final List<JsonField> fieldsToSet,
+            final List<String> keysToRemove) {
+
+        if (fieldsToSet.isEmpty() && keysToRemove.isEmpty()) {
+            return jsonObject;
+        }
+        if (jsonObject instanceof ImmutableJsonObject) {
+            return ((ImmutableJsonObject) jsonObject).setAllAndRemove(fieldsToSet, keysToRemove);
+        }
+        JsonObject result = jsonObject.setAll(fieldsToSet);
+        for (final String keyToRemove : keysToRemove) {
+            result = result.remove(JsonKey.of(keyToRemove));
+        }
+        return result;
     }
 
     /**
@@ -16,6 +16,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -78,6 +79,49 @@ final class JsonValueParser {
         return JsonValueParser::tryToReadJsonValueFrom;
     }
 
+    /**
+     * Returns a Function for parsing UTF-8 encoded JSON data to an instance of {@link JsonValue}.
+     * The data is parsed by {@link Utf8JsonParser} without decoding it to an intermediate String first.
+     *
+     * @return the function.
+     */
+    public static Function<byte[], JsonValue> fromBytes() {
+        return bytes -> {
+            requireNonNull(bytes, "The JSON data to be parsed must not be null!");
+            return tryToParseUtf8JsonValue(handler -> Utf8JsonParser.parse(handler, bytes, 0, bytes.length));
+        };
+    }
+
+    /**
+     * Returns a Function for parsing the remaining UTF-8 encoded JSON data of a {@code ByteBuffer} to an instance of
+     * {@link JsonValue}.
+     * The data is parsed by {@link Utf8JsonParser} without decoding it to an intermediate String first.
+     *
+     * @return the function.
+     */
+    public static Function<ByteBuffer, JsonValue> fromByteBuffer() {
+        return byteBuffer -> {
+            requireNonNull(byteBuffer, "The JSON data to be parsed must not be null!");
+            return tryToParseUtf8JsonValue(handler -> Utf8JsonParser.parse(handler, byteBuffer));
+        };
+    }
+
+    private static JsonValue tryToParseUtf8JsonValue(final Consumer<DittoJsonHandler<?, ?, ?>> utf8JsonParser) {
+        final DefaultDittoJsonHandler dittoJsonHandler = DefaultDittoJsonHandler.newInstance();
+        try {
+            utf8JsonParser.accept(dittoJsonHandler);
+        } catch (final UnsupportedOperationException | StackOverflowError | IllegalArgumentException | NullPointerException e) {
+            // "ditto-json" library also throws IllegalArgumentException when for example strings which may not be empty
+            // (e.g. keys) are empty
+            // "ditto-json" library also throws NullPointerException when for example non-nullable objects are null
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON value from bytes!")
+                    .cause(e)
+                    .build();
+        }
+        return dittoJsonHandler.getValue();
+    }
+
     private static <T> T tryToParseJsonValue(final String jsonString,
             final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
 
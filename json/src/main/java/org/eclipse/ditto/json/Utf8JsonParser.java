@@ -0,0 +1,520 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A streaming JSON parser which reads UTF-8 encoded JSON directly from a byte array or a {@link ByteBuffer} without
+ * decoding the whole input into an intermediate String first.
+ * Parse events are reported to a {@link DittoJsonHandler} in the same order as the parser of minimal-json does, thus
+ * all existing handlers can be used with this parser.
+ * <p>
+ * Strings consisting only of ASCII characters without escape sequences are created directly from the input bytes.
+ * All other strings are decoded into a per-thread pooled char buffer.
+ * Frequently used object keys of Ditto (like {@code thingId} or {@code features}) are resolved to interned String
+ * instances instead of allocating a new String for each occurrence.
+ * </p>
+ */
+@NotThreadSafe
+final class Utf8JsonParser {
+
+    private static final int INITIAL_CHAR_BUFFER_SIZE = 1024;
+    private static final int MAX_POOLED_CHAR_BUFFER_SIZE = 64 * 1024;
+    private static final ThreadLocal<char[]> CHAR_BUFFER_POOL =
+            ThreadLocal.withInitial(() -> new char[INITIAL_CHAR_BUFFER_SIZE]);
+
+    private final DittoJsonHandler<Object, Object, ?> handler;
+    private final byte[] input;
+    private final int end;
+    private int position;
+    private char[] charBuffer;
+
+    @SuppressWarnings("unchecked")
+    private Utf8JsonParser(final DittoJsonHandler<?, ?, ?> handler, final byte[] input, final int offset,
+            final int length) {
+
+        this.handler = (DittoJsonHandler<Object, Object, ?>) handler;
+        this.input = input;
+        end = offset + length;
+        position = offset;
+        charBuffer = null;
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON data and reports the parse events to the given handler.
+     *
+     * @param handler receives the parse events.
+     * @param bytes the UTF-8 encoded JSON data.
+     * @param offset the index of the first byte to parse.
+     * @param length the number of bytes to parse.
+     * @throws JsonParseException if the data is no valid JSON.
+     */
+    static void parse(final DittoJsonHandler<?, ?, ?> handler, final byte[] bytes, final int offset,
+            final int length) {
+
+        new Utf8JsonParser(handler, bytes, offset, length).parseDocument();
+    }
+
+    /**
+     * Parses the remaining bytes of the given UTF-8 encoded JSON buffer and reports the parse events to the given
+     * handler. The position of the buffer is advanced to its limit.
+     *
+     * @param handler receives the parse events.
+     * @param byteBuffer the buffer containing the UTF-8 encoded JSON data.
+     * @throws JsonParseException if the data is no valid JSON.
+     */
+    static void parse(final DittoJsonHandler<?, ?, ?> handler, final ByteBuffer byteBuffer) {
+        final int length = byteBuffer.remaining();
+        if (byteBuffer.hasArray()) {
+            parse(handler, byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), length);
+            byteBuffer.position(byteBuffer.limit());
+        } else {
+            final byte[] bytes = new byte[length];
+            byteBuffer.get(bytes);
+            parse(handler, bytes, 0, length);
+        }
+    }
+
+    private void parseDocument() {
+        try {
+            skipWhitespace();
+            readValue();
+            skipWhitespace();
+            if (position < end) {
+                throw unexpectedCharacter();
+            }
+        } finally {
+            releaseCharBuffer();
+        }
+    }
+
+    private void readValue() {
+        if (position >= end) {
+            throw unexpectedEndOfInput();
+        }
+        switch (input[position]) {
+            case 'n':
+                handler.startNull();
+                readLiteral("null");
+                handler.endNull();
+                break;
+            case 't':
+                handler.startBoolean();
+                readLiteral("true");
+                handler.endBoolean(true);
+                break;
+            case 'f':
+                handler.startBoolean();
+                readLiteral("false");
+                handler.endBoolean(false);
+                break;
+            case '"':
+                handler.startString();
+                handler.endString(readString(false));
+                break;
+            case '[':
+                readArray();
+                break;
+            case '{':
+                readObject();
+                break;
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                handler.startNumber();
+                handler.endNumber(readNumber());
+                break;
+            default:
+                throw unexpectedCharacter();
+        }
+    }
+
+    private void readLiteral(final String literal) {
+        final int literalLength = literal.length();
+        if (position + literalLength > end) {
+            throw unexpectedEndOfInput();
+        }
+        for (int i = 0; i < literalLength; i++) {
+            if (input[position] != literal.charAt(i)) {
+                throw unexpectedCharacter();
+            }
+            position++;
+        }
+    }
+
+    private void readArray() {
+        final Object array = handler.startArray();
+        position++;
+        skipWhitespace();
+        if (readIf(']')) {
+            handler.endArray(array);
+            return;
+        }
+        do {
+            skipWhitespace();
+            handler.startArrayValue(array);
+            readValue();
+            handler.endArrayValue(array);
+            skipWhitespace();
+        } while (readIf(','));
+        expect(']');
+        handler.endArray(array);
+    }
+
+    private void readObject() {
+        final Object object = handler.startObject();
+        position++;
+        skipWhitespace();
+        if (readIf('}')) {
+            handler.endObject(object);
+            return;
+        }
+        do {
+            skipWhitespace();
+            handler.startObjectName(object);
+            if (position >= end || '"' != input[position]) {
+                throw expected("name");
+            }
+            final String name = readString(true);
+            handler.endObjectName(object, name);
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            handler.startObjectValue(object, name);
+            readValue();
+            handler.endObjectValue(object, name);
+            skipWhitespace();
+        } while (readIf(','));
+        expect('}');
+        handler.endObject(object);
+    }
+
+    private String readString(final boolean isName) {
+        final int start = ++position;
+        while (position < end) {
+            final byte b = input[position];
+            if ('"' == b) {
+                final int length = position - start;
+                position++;
+                return createAsciiString(start, length, isName);
+            } else if ('\\' == b || b < 0x20) {
+                // negative values are non-ASCII bytes of multi-byte UTF-8 sequences
+                return readStringSlow(start);
+            }
+            position++;
+        }
+        throw unexpectedEndOfInput();
+    }
+
+    private String createAsciiString(final int start, final int length, final boolean isName) {
+        if (isName) {
+            final String commonKey = CommonKeys.lookup(input, start, length);
+            if (null != commonKey) {
+                return commonKey;
+            }
+        }
+        return new String(input, start, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private String readStringSlow(final int start) {
+        char[] chars = acquireCharBuffer(position - start + 16);
+        int charCount = 0;
+        for (int i = start; i < position; i++) {
+            chars[charCount++] = (char) input[i];
+        }
+        while (true) {
+            if (position >= end) {
+                throw unexpectedEndOfInput();
+            }
+            if (chars.length - charCount < 2) {
+                chars = growCharBuffer(charCount);
+            }
+            final int b = input[position];
+            if ('"' == b) {
+                position++;
+                return new String(chars, 0, charCount);
+            } else if ('\\' == b) {
+                position++;
+                chars[charCount++] = readEscapedCharacter();
+            } else if (b >= 0x20) {
+                chars[charCount++] = (char) b;
+                position++;
+            } else if (b < 0) {
+                charCount = readMultiByteCharacter(b, chars, charCount);
+            } else {
+                throw expected("valid string character");
+            }
+        }
+    }
+
+    private char readEscapedCharacter() {
+        if (position >= end) {
+            throw unexpectedEndOfInput();
+        }
+        final byte b = input[position++];
+        switch (b) {
+            case '"':
+            case '/':
+            case '\\':
+                return (char) b;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                return readUnicodeEscape();
+            default:
+                position--;
+                throw expected("valid escape sequence");
+        }
+    }
+
+    private char readUnicodeEscape() {
+        if (position + 4 > end) {
+            throw unexpectedEndOfInput();
+        }
+        int result = 0;
+        for (int i = 0; i < 4; i++) {
+            final int digit = Character.digit(input[position], 16);
+            if (digit < 0) {
+                throw expected("hexadecimal digit");
+            }
+            result = (result << 4) | digit;
+            position++;
+        }
+        return (char) result;
+    }
+
+    private int readMultiByteCharacter(final int firstByte, final char[] chars, final int charCount) {
+        final int additionalBytes;
+        int codePoint;
+        if ((firstByte & 0xE0) == 0xC0) {
+            additionalBytes = 1;
+            codePoint = firstByte & 0x1F;
+        } else if ((firstByte & 0xF0) == 0xE0) {
+            additionalBytes = 2;
+            codePoint = firstByte & 0x0F;
+        } else if ((firstByte & 0xF8) == 0xF0) {
+            additionalBytes = 3;
+            codePoint = firstByte & 0x07;
+        } else {
+            throw expected("valid UTF-8 character");
+        }
+        if (position + additionalBytes >= end) {
+            throw unexpectedEndOfInput();
+        }
+        position++;
+        for (int i = 0; i < additionalBytes; i++) {
+            final int continuationByte = input[position];
+            if ((continuationByte & 0xC0) != 0x80) {
+                throw expected("valid UTF-8 character");
+            }
+            codePoint = (codePoint << 6) | (continuationByte & 0x3F);
+            position++;
+        }
+        return charCount + Character.toChars(codePoint, chars, charCount);
+    }
+
+    private String readNumber() {
+        final int start = position;
+        readIf('-');
+        if (!readIf('0')) {
+            if (!readDigits()) {
+                throw expected("digit");
+            }
+        }
+        if (readIf('.') && !readDigits()) {
+            throw expected("digit");
+        }
+        if (readIf('e') || readIf('E')) {
+            if (!readIf('+')) {
+                readIf('-');
+            }
+            if (!readDigits()) {
+                throw expected("digit");
+            }
+        }
+        return new String(input, start, position - start, StandardCharsets.ISO_8859_1);
+    }
+
+    private boolean readDigits() {
+        final int start = position;
+        while (position < end && input[position] >= '0' && input[position] <= '9') {
+            position++;
+        }
+        return position > start;
+    }
+
+    private void skipWhitespace() {
+        while (position < end) {
+            final byte b = input[position];
+            if (' ' != b && '\t' != b && '\n' != b && '\r' != b) {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private boolean readIf(final char expectedChar) {
+        if (position < end && input[position] == expectedChar) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(final char expectedChar) {
+        if (!readIf(expectedChar)) {
+            throw expected("'" + expectedChar + "'");
+        }
+    }
+
+    private char[] acquireCharBuffer(final int minLength) {
+        char[] result = CHAR_BUFFER_POOL.get();
+        if (result.length < minLength) {
+            result = new char[Math.max(minLength, result.length * 2)];
+        }
+        charBuffer = result;
+        return result;
+    }
+
+    private char[] growCharBuffer(final int charCount) {
+        final char[] grown = new char[charBuffer.length * 2];
+        System.arraycopy(charBuffer, 0, grown, 0, charCount);
+        charBuffer = grown;
+        return grown;
+    }
+
+    private void releaseCharBuffer() {
+        if (null != charBuffer && charBuffer.length <= MAX_POOLED_CHAR_BUFFER_SIZE) {
+            CHAR_BUFFER_POOL.set(charBuffer);
+        }
+        charBuffer = null;
+    }
+
+    private JsonParseException unexpectedEndOfInput() {
+        return newParseException("Unexpected end of input at offset <{0}>!");
+    }
+
+    private JsonParseException unexpectedCharacter() {
+        return newParseException("Unexpected character at offset <{0}>!");
+    }
+
+    private JsonParseException expected(final String expectation) {
+        if (position >= end) {
+            return unexpectedEndOfInput();
+        }
+        return newParseException("Expected " + expectation + " at offset <{0}>!");
+    }
+
+    private JsonParseException newParseException(final String messagePattern) {
+        return JsonParseException.newBuilder()
+                .message(MessageFormat.format(messagePattern, String.valueOf(position)))
+                .build();
+    }
+
+    /**
+     * Interned String instances for object keys which occur in nearly every Ditto JSON document.
+     */
+    private static final class CommonKeys {
+
+        private static final String[] KEYS = {
+                "thingId", "policyId", "definition", "attributes", "features", "properties",
+                "desiredProperties", "_revision", "_modified", "_created", "_metadata", "_namespace",
+                "topic", "headers", "path", "value", "status", "extra", "fields",
+                "correlation-id", "content-type", "version", "response-required", "entries", "subjects",
+                "resources", "grant", "revoke", "type"
+        };
+
+        private static final int MAX_KEY_LENGTH;
+        private static final byte[][][] KEY_BYTES_BY_LENGTH;
+        private static final String[][] KEYS_BY_LENGTH;
+
+        static {
+            int maxLength = 0;
+            for (final String key : KEYS) {
+                maxLength = Math.max(maxLength, key.length());
+            }
+            MAX_KEY_LENGTH = maxLength;
+            KEY_BYTES_BY_LENGTH = new byte[maxLength + 1][][];
+            KEYS_BY_LENGTH = new String[maxLength + 1][];
+            for (int length = 1; length <= maxLength; length++) {
+                int count = 0;
+                for (final String key : KEYS) {
+                    if (key.length() == length) {
+                        count++;
+                    }
+                }
+                KEY_BYTES_BY_LENGTH[length] = new byte[count][];
+                KEYS_BY_LENGTH[length] = new String[count];
+                int i = 0;
+                for (final String key : KEYS) {
+                    if (key.length() == length) {
+                        KEY_BYTES_BY_LENGTH[length][i] = key.getBytes(StandardCharsets.US_ASCII);
+                        KEYS_BY_LENGTH[length][i] = key.intern();
+                        i++;
+                    }
+                }
+            }
+        }
+
+        private CommonKeys() {
+            throw new AssertionError();
+        }
+
+        @Nullable
+        static String lookup(final byte[] bytes, final int start, final int length) {
+            if (0 == length || length > MAX_KEY_LENGTH) {
+                return null;
+            }
+            final byte[][] candidates = KEY_BYTES_BY_LENGTH[length];
+            for (int i = 0; i < candidates.length; i++) {
+                if (regionEquals(candidates[i], bytes, start)) {
+                    return KEYS_BY_LENGTH[length][i];
+                }
+            }
+            return null;
+        }
+
+        private static boolean regionEquals(final byte[] candidate, final byte[] bytes, final int start) {
+            for (int i = 0; i < candidate.length; i++) {
+                if (candidate[i] != bytes[start + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompactJsonFieldMap}.
+ */
+public final class CompactJsonFieldMapTest {
+
+    @Test
+    public void smallMapBehavesLikeLinkedHashMap() {
+        assertBehavesLikeLinkedHashMap(CompactJsonFieldMap.LINEAR_PROBE_THRESHOLD);
+    }
+
+    @Test
+    public void hashIndexedMapBehavesLikeLinkedHashMap() {
+        assertBehavesLikeLinkedHashMap(CompactJsonFieldMap.LINEAR_PROBE_THRESHOLD * 20);
+    }
+
+    @Test
+    public void duplicateKeysKeepFirstPositionAndLastValue() {
+        final CompactJsonFieldMap underTest = CompactJsonFieldMap.of(Arrays.asList(
+                field("a", 1), field("b", 2), field("a", 3)));
+
+        assertThat(underTest.keySet()).containsExactly("a", "b");
+        assertThat(underTest.get("a")).isEqualTo(field("a", 3));
+    }
+
+    @Test
+    public void modificationsDoNotAffectOriginal() {
+        final List<JsonField> jsonFields = fields(CompactJsonFieldMap.LINEAR_PROBE_THRESHOLD * 2);
+        final CompactJsonFieldMap original = CompactJsonFieldMap.of(jsonFields);
+
+        final CompactJsonFieldMap replaced = original.with("key0", field("key0", -1));
+        final CompactJsonFieldMap added = original.withAll(Arrays.asList(field("new", 1), field("key1", -1)));
+        final CompactJsonFieldMap removed = original.without("key3");
+
+        assertThat(original.values()).containsExactlyElementsOf(jsonFields);
+        assertThat(replaced.get("key0")).isEqualTo(field("key0", -1));
+        assertThat(added).hasSize(jsonFields.size() + 1);
+        assertThat(added.get("key1")).isEqualTo(field("key1", -1));
+        assertThat(added.get("new")).isEqualTo(field("new", 1));
+        assertThat(removed).hasSize(jsonFields.size() - 1).doesNotContainKey("key3");
+        assertThat(removed.get("key4")).isEqualTo(field("key4", 4));
+    }
+
+    @Test
+    public void removeLastFieldReturnsEmptyMap() {
+        final CompactJsonFieldMap underTest = CompactJsonFieldMap.of(Arrays.asList(field("a", 1)));
+
+        assertThat(underTest.without("a")).isSameAs(CompactJsonFieldMap.empty());
+        assertThat(underTest.without("b")).isSameAs(underTest);
+    }
+
+    private static void assertBehavesLikeLinkedHashMap(final int fieldCount) {
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        CompactJsonFieldMap underTest = CompactJsonFieldMap.empty();
+        for (final JsonField jsonField : fields(fieldCount)) {
+            expected.put(jsonField.getKeyName(), jsonField);
+            underTest = underTest.with(jsonField.getKeyName(), jsonField);
+        }
+
+        assertThat(underTest).isEqualTo(expected).hasSameHashCodeAs(expected);
+        assertThat(underTest.keySet()).containsExactlyElementsOf(expected.keySet());
+        assertThat(underTest.get("key" + (fieldCount - 1))).isEqualTo(expected.get("key" + (fieldCount - 1)));
+        assertThat(underTest.get("missing")).isNull();
+        assertThat(CompactJsonFieldMap.of(expected)).isEqualTo(underTest);
+    }
+
+    private static List<JsonField> fields(final int count) {
+        final List<JsonField> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(field("key" + i, i));
+        }
+        return result;
+    }
+
+    private static JsonField field(final String key, final int value) {
+        return JsonField.newInstance(key, JsonValue.of(value));
+    }
+
+}
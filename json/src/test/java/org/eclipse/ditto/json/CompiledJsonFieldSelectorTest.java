@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompiledJsonFieldSelector}.
+ */
+public final class CompiledJsonFieldSelectorTest {
+
+    private static final JsonObject THING = JsonFactory.newObject("{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"manufacturer\":\"ACME\",\"location\":{\"lat\":1.0,\"lon\":2.0},\"serial\":42}," +
+            "\"features\":{\"temp\":{\"properties\":{\"value\":23.5,\"unit\":\"C\"}},\"lamp\":{\"properties\":{\"on\":true}}}}");
+
+    @Test
+    public void selectNestedPointers() {
+        final JsonObject selected = apply("thingId,attributes/location/lat,features/temp/properties/value");
+
+        assertThat(selected.toString()).isEqualTo("{\"thingId\":\"org.eclipse.ditto:thing\"," +
+                "\"attributes\":{\"location\":{\"lat\":1.0}},\"features\":{\"temp\":{\"properties\":{\"value\":23.5}}}}");
+    }
+
+    @Test
+    public void wholeSelectedValuesAreShared() {
+        final JsonObject selected = apply("attributes/location,features");
+
+        assertThat(selected.getValue("attributes/location")).containsSame(THING.getValue("attributes/location").get());
+        assertThat(selected.getValue("features")).containsSame(THING.getValue("features").get());
+    }
+
+    @Test
+    public void nonExistingPointersAreIgnored() {
+        assertThat(apply("attributes/unknown,attributes/serial/value,thingId/foo,features/lamp/properties/on"))
+                .isEqualTo(JsonFactory.newObject("{\"features\":{\"lamp\":{\"properties\":{\"on\":true}}}}"));
+        assertThat(apply("unknown,attributes/serial/value")).isEqualTo(JsonFactory.newObject());
+    }
+
+    @Test
+    public void resultEqualsResultOfSelectingOnlyExistingPointers() {
+        final String[] fieldSelectorStrings = {
+                "thingId",
+                "attributes",
+                "attributes/location,attributes/location/lat",
+                "attributes/location/lat,attributes/location",
+                "attributes/location/alt,attributes/location",
+                "features/*/properties",
+                "features/temp/properties/value,features/lamp,features/temp/definition",
+                "attributes/manufacturer/name,attributes(serial,location/lon)"
+        };
+        for (final String fieldSelectorString : fieldSelectorStrings) {
+            final JsonFieldSelector fieldSelector = JsonFactory.newFieldSelector(fieldSelectorString,
+                    JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build());
+            JsonObject expected = JsonFactory.newObject();
+            for (final JsonPointer pointer : fieldSelector) {
+                if (THING.contains(pointer)) {
+                    expected = expected.setValue(pointer, THING.getValue(pointer).get());
+                }
+            }
+
+            assertThat(THING.get(fieldSelector)).as(fieldSelectorString).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void fieldSelectorsAreCachedByString() {
+        final JsonParseOptions options = JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build();
+
+        final JsonFieldSelector first = JsonFactory.newFieldSelector("thingId,attributes(serial)", options);
+        final JsonFieldSelector second = JsonFactory.newFieldSelector("thingId,attributes(serial)",
+                JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build());
+
+        assertThat(second).isSameAs(first);
+        assertThat(((ImmutableJsonFieldSelector) second).compile())
+                .isSameAs(((ImmutableJsonFieldSelector) first).compile());
+    }
+
+    private static JsonObject apply(final String fieldSelectorString) {
+        return THING.get(JsonFactory.newFieldSelector(fieldSelectorString,
+                JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build()));
+    }
+
+}
@@ -40,12 +40,18 @@ public final class ImmutableJsonFieldSelectorTest {
         assertInstancesOf(ImmutableJsonFieldSelector.class,
                 areImmutable(),
                 assumingFields("pointers").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
+                assumingFields("compiledFieldSelector").areModifiedAsPartOfAnUnobservableCachingStrategy(),
                 provided(JsonPointer.class).isAlsoImmutable());
     }
 
     @Test
     public void testHashCodeAndEquals() {
-        EqualsVerifier.forClass(ImmutableJsonFieldSelector.class).verify();
+        EqualsVerifier.forClass(ImmutableJsonFieldSelector.class)
+                .withPrefabValues(CompiledJsonFieldSelector.class,
+                        CompiledJsonFieldSelector.of(Collections.singleton(JsonPointer.of("a"))),
+                        CompiledJsonFieldSelector.of(Collections.singleton(JsonPointer.of("b"))))
+                .withIgnoredFields("compiledFieldSelector")
+                .verify();
     }
 
     @Test(expected = NullPointerException.class)
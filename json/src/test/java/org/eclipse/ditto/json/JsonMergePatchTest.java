@@ -447,4 +447,45 @@ public final class JsonMergePatchTest {
         Assertions.assertThat(mergedObject).isEqualTo(expectedObject);
     }
 
+    @Test
+    public void mergeSharesUntouchedSubtreesAndKeepsFieldOrder() {
+        final JsonObject untouched = JsonFactory.newObjectBuilder().set("x", 1).set("y", 2).build();
+        final JsonObject originalObject = JsonFactory.newObjectBuilder()
+                .set("first", untouched)
+                .set("patched", JsonFactory.newObjectBuilder().set("a", 1).set("b", 2).set("c", 3).build())
+                .set("last", "unchanged")
+                .build();
+
+        final JsonObject mergedObject = JsonMergePatch.of(JsonPointer.of("/patched"),
+                        JsonFactory.newObjectBuilder().set("b", 42).set("c", JsonValue.nullLiteral()).set("d", 4).build())
+                .applyOn(originalObject)
+                .asObject();
+
+        Assertions.assertThat(mergedObject.getValue("first")).containsSame(untouched);
+        Assertions.assertThat(mergedObject.toString())
+                .isEqualTo("{\"first\":{\"x\":1,\"y\":2},\"patched\":{\"a\":1,\"b\":42,\"d\":4},\"last\":\"unchanged\"}");
+    }
+
+    @Test
+    public void mergeWithoutChangesReturnsSameObject() {
+        final JsonObject originalObject = JsonFactory.newObjectBuilder()
+                .set("a", JsonFactory.newObjectBuilder().set("b", "c").build())
+                .build();
+
+        final JsonValue mergedObject = JsonMergePatch.of(JsonPointer.of("/a/b"), JsonValue.of("c"))
+                .applyOn(originalObject);
+
+        Assertions.assertThat(mergedObject).isSameAs(originalObject);
+    }
+
+    @Test
+    public void mergeDoesNotInterpretKeysAsPointers() {
+        final JsonObject originalObject = JsonFactory.newObject("{\"a/b\":1,\"a\":{\"b\":2}}");
+        final JsonObject objectToPatch = JsonFactory.newObject("{\"a/b\":null}");
+
+        final JsonValue mergedObject = JsonMergePatch.of(objectToPatch).applyOn(originalObject);
+
+        Assertions.assertThat(mergedObject).isEqualTo(JsonFactory.newObject("{\"a\":{\"b\":2}}"));
+    }
+
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8JsonParser}.
+ */
+public final class Utf8JsonParserTest {
+
+    private static final String THING_JSON = "{\"thingId\":\"org.eclipse.ditto:thing-1\"," +
+            "\"policyId\":\"org.eclipse.ditto:policy-1\"," +
+            "\"attributes\":{\"location\":{\"latitude\":44.673856,\"longitude\":8.261719},\"maker\":\"ACME\"}," +
+            "\"features\":{\"temperature\":{\"properties\":{\"value\":-12.5e-1,\"unit\":\"°C\",\"count\":1234567890123," +
+            "\"active\":true,\"error\":null,\"history\":[1,2,3,[],{}]}}}}";
+
+    @Test
+    public void parseThingLikeObjectEqualsMinimalJsonResult() {
+        assertThat(parse(THING_JSON)).isEqualTo(JsonValueParser.fromString().apply(THING_JSON));
+    }
+
+    @Test
+    public void parsedObjectHasSameStringRepresentation() {
+        assertThat(parse(THING_JSON).toString()).isEqualTo(THING_JSON);
+    }
+
+    @Test
+    public void parseWithInsignificantWhitespace() {
+        final String jsonString = " {\n\t\"foo\" : [ 1 , 2 ] ,\r\n \"bar\" : { } } ";
+
+        assertThat(parse(jsonString)).isEqualTo(JsonValueParser.fromString().apply(jsonString));
+    }
+
+    @Test
+    public void parseLiterals() {
+        assertThat(parse("null")).isEqualTo(JsonValue.nullLiteral());
+        assertThat(parse("true")).isEqualTo(JsonValue.of(true));
+        assertThat(parse("false")).isEqualTo(JsonValue.of(false));
+        assertThat(parse("0")).isEqualTo(JsonValue.of(0));
+        assertThat(parse("-42")).isEqualTo(JsonValue.of(-42));
+        assertThat(parse("9223372036854775807")).isEqualTo(JsonValue.of(Long.MAX_VALUE));
+        assertThat(parse("1.5E3")).isEqualTo(JsonValue.of(1500.0));
+    }
+
+    @Test
+    public void parseStringsWithEscapesAndMultiByteCharacters() {
+        final String jsonString = "[\"a\\\"b\\\\c\\/d\\b\\f\\n\\r\\t\",\"\\u00e4\\u20AC\",\"äöü€\",\"\uD83D\uDE00\"]";
+
+        final JsonValue parsed = parse(jsonString);
+
+        assertThat(parsed).isEqualTo(JsonValueParser.fromString().apply(jsonString));
+        assertThat(parsed.asArray().get(3)).contains(JsonValue.of("\uD83D\uDE00"));
+    }
+
+    @Test
+    public void parseLongStringExceedingPooledBuffer() {
+        final StringBuilder longValueBuilder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            longValueBuilder.append('ä');
+        }
+        final String longValue = longValueBuilder.toString();
+        final String jsonString = "{\"key\":\"" + longValue + "\"}";
+
+        assertThat(parse(jsonString).asObject().getValue("key")).contains(JsonValue.of(longValue));
+    }
+
+    @Test
+    public void commonKeysAreInterned() {
+        final JsonObject first = parse("{\"thingId\":\"a:b\"}").asObject();
+        final JsonObject second = parse("{\"thingId\":\"c:d\"}").asObject();
+
+        assertThat(first.getKeys().get(0).toString()).isSameAs(second.getKeys().get(0).toString());
+    }
+
+    @Test
+    public void parseFromByteBufferAdvancesPosition() {
+        final byte[] bytes = ("xx" + THING_JSON).getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, 2, bytes.length - 2).slice();
+
+        final JsonValue parsed = JsonValueParser.fromByteBuffer().apply(byteBuffer);
+
+        assertThat(parsed).isEqualTo(JsonValueParser.fromString().apply(THING_JSON));
+        assertThat(byteBuffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void parseFromDirectByteBuffer() {
+        final byte[] bytes = THING_JSON.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(bytes.length);
+        byteBuffer.put(bytes).flip();
+
+        assertThat(JsonValueParser.fromByteBuffer().apply(byteBuffer))
+                .isEqualTo(JsonValueParser.fromString().apply(THING_JSON));
+    }
+
+    @Test
+    public void parseInvalidJsonThrowsJsonParseException() {
+        for (final String invalid : new String[]{"{\"foo\":123", "{\"foo\" 1}", "[1,]", "01x", "-", "1.", "1e",
+                "nul", "\"\\x\"", "\"abc", "{\"a\":1} x", "{foo:1}", "\"\t\""}) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(invalid)
+                    .isThrownBy(() -> parse(invalid));
+        }
+    }
+
+    private static JsonValue parse(final String jsonString) {
+        return JsonValueParser.fromBytes().apply(jsonString.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -14,6 +14,9 @@ package org.eclipse.ditto.rql.parser;
 
 import static org.eclipse.ditto.base.model.assertions.DittoBaseAssertions.assertThat;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 import org.eclipse.ditto.rql.model.ParsedPlaceholder;
 import org.eclipse.ditto.rql.model.ParserException;
 import org.eclipse.ditto.rql.model.predicates.PredicateParser;
@@ -23,10 +26,28 @@ import org.eclipse.ditto.rql.model.predicates.ast.MultiComparisonNode;
 import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
 import org.eclipse.ditto.rql.model.predicates.ast.SingleComparisonNode;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
+/**
+ * Tests the RQL predicate parsers against the same inputs to ensure that they accept the same grammar.
+ */
+@RunWith(Parameterized.class)
 public class RqlPredicateParserTest {
 
-    private final PredicateParser parser = RqlPredicateParser.getInstance();
+    private final PredicateParser parser;
+
+    public RqlPredicateParserTest(final String name, final PredicateParser parser) {
+        this.parser = parser;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> parsers() {
+        return Arrays.asList(new Object[][]{
+                {"parboiled", RqlPredicateParser.getInstance()},
+                {"java", JavaRqlPredicateParser.getInstance()}
+        });
+    }
 
     @Test
     public void testComparisonEqualsWithNumberValue() throws ParserException {
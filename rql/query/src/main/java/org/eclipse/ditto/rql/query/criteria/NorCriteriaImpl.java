@@ -51,6 +51,6 @@ final class NorCriteriaImpl implements Criteria {
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), criterias);
+        return Objects.hash(criterias);
     }
 }
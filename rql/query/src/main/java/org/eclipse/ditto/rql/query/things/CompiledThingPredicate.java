@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.things.model.Thing;
+
+/**
+ * RQL criteria compiled for repeated in-memory evaluation against {@link Thing}s, e.g. to filter the events of a
+ * streaming session.
+ * <p>
+ * The criteria are visited only once. Field names are parsed into JSON pointers, literals are converted for
+ * comparison and regular expressions are compiled in advance. Placeholder resolvers are passed per evaluation, so
+ * that a predicate compiled once can be evaluated for many signals. The results are the same as those of
+ * {@link ThingPredicateVisitor}.
+ * </p>
+ *
+ * @since 3.2.0
+ */
+@Immutable
+public final class CompiledThingPredicate {
+
+    private final ThingPredicateCompiler.Node root;
+    @Nullable private final EqualityCondition equalityCondition;
+
+    private CompiledThingPredicate(final ThingPredicateCompiler.Node root,
+            @Nullable final EqualityCondition equalityCondition) {
+
+        this.root = root;
+        this.equalityCondition = equalityCondition;
+    }
+
+    /**
+     * Compile RQL criteria.
+     *
+     * @param criteria the criteria.
+     * @return the compiled predicate.
+     */
+    public static CompiledThingPredicate of(final Criteria criteria) {
+        return new CompiledThingPredicate(criteria.accept(ThingPredicateCompiler.getInstance()),
+                ThingPredicateCompiler.findEqualityCondition(criteria)
+                        .map(fieldAndValue -> new EqualityCondition(fieldAndValue.getKey(), fieldAndValue.getValue()))
+                        .orElse(null));
+    }
+
+    /**
+     * Return the condition that a field of matching things equals a constant. The criteria have such a condition if
+     * they are an {@code eq} of a field and a string, number or boolean constant, or if one of their top-level
+     * conjuncts is. This allows to index many predicates by their constants and to evaluate only those whose
+     * constant has the {@link EqualityCondition#getIndexValue(JsonObject) index value} of the field of a thing.
+     *
+     * @return the equality condition or an empty optional if the criteria do not have one.
+     */
+    public Optional<EqualityCondition> getEqualityCondition() {
+        return Optional.ofNullable(equalityCondition);
+    }
+
+    /**
+     * Test whether a thing matches the criteria.
+     *
+     * @param thing the thing.
+     * @param placeholderResolvers the resolvers of placeholders in the criteria.
+     * @return whether the thing matches.
+     */
+    public boolean test(final Thing thing, final List<PlaceholderResolver<?>> placeholderResolvers) {
+        return root.test(ThingEvaluationContext.of(thing, placeholderResolvers));
+    }
+
+    /**
+     * Test whether the JSON representation of a thing matches the criteria.
+     *
+     * @param thingJson the JSON representation of the thing including all fields to filter by.
+     * @param placeholderResolvers the resolvers of placeholders in the criteria.
+     * @return whether the thing matches.
+     */
+    public boolean test(final JsonObject thingJson, final List<PlaceholderResolver<?>> placeholderResolvers) {
+        return root.test(ThingEvaluationContext.of(thingJson, placeholderResolvers));
+    }
+
+    /**
+     * Bind placeholder resolvers to this predicate.
+     *
+     * @param placeholderResolvers the resolvers of placeholders in the criteria.
+     * @return the predicate of things.
+     */
+    public Predicate<Thing> withPlaceholderResolvers(final Collection<PlaceholderResolver<?>> placeholderResolvers) {
+        final List<PlaceholderResolver<?>> resolvers =
+                Collections.unmodifiableList(new ArrayList<>(placeholderResolvers));
+        return thing -> test(thing, resolvers);
+    }
+
+    /**
+     * Bind placeholder resolvers to this predicate.
+     *
+     * @param placeholderResolvers the resolvers of placeholders in the criteria.
+     * @return the predicate of things.
+     */
+    public Predicate<Thing> withPlaceholderResolvers(final PlaceholderResolver<?>... placeholderResolvers) {
+        return withPlaceholderResolvers(Arrays.asList(placeholderResolvers));
+    }
+
+    /**
+     * Condition of a {@link CompiledThingPredicate} that a field equals a constant.
+     */
+    @Immutable
+    public static final class EqualityCondition {
+
+        private final JsonPointer field;
+        private final String indexValue;
+
+        private EqualityCondition(final JsonPointer field, final String indexValue) {
+            this.field = field;
+            this.indexValue = indexValue;
+        }
+
+        /**
+         * @return the field which must equal the constant.
+         */
+        public JsonPointer getField() {
+            return field;
+        }
+
+        /**
+         * Return the index value of the constant. Values which are equal in the sense of RQL, e.g. the number
+         * {@code 1} and the string {@code "1.0"}, have the same index value.
+         *
+         * @return the index value of the constant.
+         */
+        public String getIndexValue() {
+            return indexValue;
+        }
+
+        /**
+         * Return the index value of the field of a thing. A thing can only match the predicate if this is the index
+         * value of the constant.
+         *
+         * @param thingJson the JSON representation of the thing including hidden fields.
+         * @return the index value or an empty optional if the thing does not have the field or if it cannot equal
+         * any constant.
+         */
+        public Optional<String> getIndexValue(final JsonObject thingJson) {
+            return thingJson.getValue(field).flatMap(ThingPredicateCompiler::getIndexValue);
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final EqualityCondition that = (EqualityCondition) o;
+            return field.equals(that.field) && indexValue.equals(that.indexValue);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, indexValue);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "field=" + field +
+                    ", indexValue=" + indexValue +
+                    "]";
+        }
+    }
+
+}
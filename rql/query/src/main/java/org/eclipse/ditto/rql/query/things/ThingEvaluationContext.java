@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.things.model.Thing;
+
+/**
+ * The state of a single evaluation of a {@link CompiledThingPredicate}: the thing or its JSON representation and the
+ * placeholder resolvers of the evaluated signal. The JSON representations of a thing are computed at most once per
+ * evaluation, no matter how many fields the predicate reads.
+ */
+final class ThingEvaluationContext {
+
+    @Nullable private final Thing thing;
+    private final List<PlaceholderResolver<?>> placeholderResolvers;
+    @Nullable private JsonObject allFieldsJson;
+    @Nullable private JsonObject regularFieldsJson;
+
+    private ThingEvaluationContext(@Nullable final Thing thing, @Nullable final JsonObject thingJson,
+            final List<PlaceholderResolver<?>> placeholderResolvers) {
+
+        this.thing = thing;
+        allFieldsJson = thingJson;
+        regularFieldsJson = thingJson;
+        this.placeholderResolvers = placeholderResolvers;
+    }
+
+    static ThingEvaluationContext of(final Thing thing, final List<PlaceholderResolver<?>> placeholderResolvers) {
+        return new ThingEvaluationContext(thing, null, placeholderResolvers);
+    }
+
+    static ThingEvaluationContext of(final JsonObject thingJson,
+            final List<PlaceholderResolver<?>> placeholderResolvers) {
+
+        return new ThingEvaluationContext(null, thingJson, placeholderResolvers);
+    }
+
+    /**
+     * Read a field of the thing including hidden fields such as {@code _metadata}.
+     */
+    Optional<JsonValue> getValue(final JsonPointer pointer) {
+        if (allFieldsJson == null) {
+            allFieldsJson = thing != null ? thing.toJson(field -> true) : JsonObject.empty();
+        }
+        return allFieldsJson.getValue(pointer);
+    }
+
+    /**
+     * Read a field of the thing excluding hidden fields.
+     */
+    Optional<JsonValue> getRegularValue(final JsonPointer pointer) {
+        if (regularFieldsJson == null) {
+            regularFieldsJson = thing != null ? thing.toJson() : JsonObject.empty();
+        }
+        return regularFieldsJson.getValue(pointer);
+    }
+
+    /**
+     * Resolve a placeholder with the first supporting resolver.
+     */
+    Optional<String> resolvePlaceholder(final String prefix, final String name) {
+        for (final PlaceholderResolver<?> resolver : placeholderResolvers) {
+            if (prefix.equals(resolver.getPrefix()) && resolver.supports(name)) {
+                final List<String> values = resolver.resolveValues(name);
+                if (!values.isEmpty()) {
+                    return Optional.of(values.get(0));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+}
@@ -0,0 +1,630 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.Expression;
+import org.eclipse.ditto.rql.model.ParsedPlaceholder;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.criteria.Predicate;
+import org.eclipse.ditto.rql.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.rql.query.criteria.visitors.PredicateVisitor;
+import org.eclipse.ditto.rql.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.rql.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.rql.query.expression.visitors.ExistsFieldExpressionVisitor;
+import org.eclipse.ditto.rql.query.expression.visitors.FilterFieldExpressionVisitor;
+
+/**
+ * Compiles RQL criteria into a tree of {@link Node}s evaluated against a {@link ThingEvaluationContext}.
+ * Everything that does not depend on the evaluated thing is done once at compile time: field names are parsed into
+ * JSON pointers and placeholder names, literals are converted into their comparable form and regular expressions
+ * are compiled.
+ */
+final class ThingPredicateCompiler implements CriteriaVisitor<ThingPredicateCompiler.Node> {
+
+    private static final ThingPredicateCompiler INSTANCE = new ThingPredicateCompiler();
+
+    private static final Object NULL_LITERAL = new Object();
+
+    private ThingPredicateCompiler() {}
+
+    static ThingPredicateCompiler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Compile the predicate of a field.
+     *
+     * @param predicate the RQL predicate.
+     * @return function from the field name the predicate is applied to the compiled node.
+     */
+    static Function<String, Node> compilePredicate(final Predicate predicate) {
+        return predicate.accept(getPredicateCompiler());
+    }
+
+    /**
+     * @return the visitor compiling predicates of fields.
+     */
+    static PredicateVisitor<Function<String, Node>> getPredicateCompiler() {
+        return PredicateCompiler.INSTANCE;
+    }
+
+    /**
+     * Find the condition of criteria that a field equals a constant.
+     *
+     * @param criteria the criteria.
+     * @return the field and the index value of the constant, if any.
+     */
+    static Optional<Map.Entry<JsonPointer, String>> findEqualityCondition(final Criteria criteria) {
+        return criteria.accept(EqualityConditionFinder.INSTANCE);
+    }
+
+    /**
+     * Compute the index value of a field value. Field values which are equal to the same literals have the same
+     * index value.
+     *
+     * @param fieldValue the field value.
+     * @return the index value or an empty optional if the field value is not equal to any literal.
+     */
+    static Optional<String> getIndexValue(final JsonValue fieldValue) {
+        return indexValueOf(toComparable(fieldValue));
+    }
+
+    @Override
+    public Node visitAnd(final List<Node> conjuncts) {
+        final Node[] nodes = conjuncts.toArray(new Node[0]);
+        return context -> {
+            for (final Node node : nodes) {
+                if (!node.test(context)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    @Override
+    public Node visitAny() {
+        return context -> true;
+    }
+
+    @Override
+    public Node visitExists(final ExistsFieldExpression fieldExpression) {
+        return fieldExpression.acceptExistsVisitor(ExistsCompiler.INSTANCE);
+    }
+
+    @Override
+    public Node visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
+        return compilePredicate(predicate).apply(fieldExpression.acceptFilterVisitor(FieldNameVisitor.INSTANCE));
+    }
+
+    @Override
+    public Node visitNor(final List<Node> negativeDisjoints) {
+        final Node or = visitOr(negativeDisjoints);
+        return context -> !or.test(context);
+    }
+
+    @Override
+    public Node visitOr(final List<Node> disjoints) {
+        final Node[] nodes = disjoints.toArray(new Node[0]);
+        return context -> {
+            for (final Node node : nodes) {
+                if (node.test(context)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * A compiled part of a predicate.
+     */
+    @FunctionalInterface
+    interface Node {
+
+        boolean test(ThingEvaluationContext context);
+    }
+
+    /**
+     * Access to a field of the thing or, if the thing does not have the field, to a placeholder of the same name.
+     */
+    private static final class FieldAccess {
+
+        private final JsonPointer pointer;
+        @Nullable private final String placeholderPrefix;
+        @Nullable private final String placeholderName;
+
+        private FieldAccess(final String fieldName) {
+            pointer = JsonPointer.of(fieldName);
+            final String[] fieldNameSplit = fieldName.split(Expression.SEPARATOR, 2);
+            if (fieldNameSplit.length > 1) {
+                placeholderPrefix = fieldNameSplit[0];
+                placeholderName = fieldNameSplit[1];
+            } else {
+                placeholderPrefix = null;
+                placeholderName = null;
+            }
+        }
+
+        private Optional<JsonValue> get(final ThingEvaluationContext context) {
+            final Optional<JsonValue> value = context.getValue(pointer);
+            if (value.isPresent() || placeholderPrefix == null || placeholderName == null) {
+                return value;
+            }
+            return context.resolvePlaceholder(placeholderPrefix, placeholderName).map(JsonValue::of);
+        }
+
+        private boolean existsRegular(final ThingEvaluationContext context) {
+            return context.getRegularValue(pointer).isPresent() ||
+                    (placeholderPrefix != null && placeholderName != null &&
+                            context.resolvePlaceholder(placeholderPrefix, placeholderName).isPresent());
+        }
+    }
+
+    /**
+     * A literal of a predicate, resolved at compile time unless it is a placeholder.
+     */
+    private static final class Literal {
+
+        @Nullable private final Object constant;
+        @Nullable private final ParsedPlaceholder placeholder;
+
+        private Literal(@Nullable final Object value) {
+            if (value instanceof ParsedPlaceholder) {
+                constant = null;
+                placeholder = (ParsedPlaceholder) value;
+            } else {
+                constant = asNumber(value);
+                placeholder = null;
+            }
+        }
+
+        @Nullable
+        private Object resolve(final ThingEvaluationContext context) {
+            if (placeholder != null) {
+                return context.resolvePlaceholder(placeholder.getPrefix(), placeholder.getName()).orElse(null);
+            }
+            return constant;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Comparison {
+
+        boolean test(@Nullable Object fieldValue, @Nullable Object literal);
+    }
+
+    private static Function<String, Node> compileComparison(@Nullable final Object value,
+            final Comparison comparison) {
+
+        final Literal literal = new Literal(value);
+        return fieldName -> {
+            final FieldAccess field = new FieldAccess(fieldName);
+            return context -> {
+                final Optional<JsonValue> fieldValue = field.get(context);
+                return fieldValue.isPresent() &&
+                        comparison.test(toComparable(fieldValue.get()), literal.resolve(context));
+            };
+        };
+    }
+
+    private static boolean isEqual(@Nullable final Object fieldValue, @Nullable final Object literal) {
+        // special NULL handling
+        if (NULL_LITERAL == fieldValue && null == literal) {
+            return true;
+        } else if (fieldValue instanceof Comparable && literal instanceof Comparable) {
+            return compare((Comparable<?>) literal, (Comparable<?>) fieldValue) == 0;
+        }
+        return false;
+    }
+
+    private static boolean areComparable(@Nullable final Object fieldValue, @Nullable final Object literal) {
+        return fieldValue instanceof Comparable && literal instanceof Comparable;
+    }
+
+    /**
+     * Compare a field value to a literal, both already converted by {@link #asNumber(Object)}.
+     *
+     * @return a negative, zero or positive number if the field value is less than, equal to or greater than the
+     * literal.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked", "java:S3740"})
+    private static int compare(final Comparable value, final Comparable obj) {
+        // best effort try to convert both values to a BigDecimal in order to compare them:
+        if (value instanceof String && obj instanceof BigDecimal) {
+            try {
+                return obj.compareTo(new BigDecimal((String) value));
+            } catch (final NumberFormatException e) {
+                // continue trying
+            }
+        } else if (value instanceof BigDecimal && obj instanceof String) {
+            try {
+                return new BigDecimal((String) obj).compareTo((BigDecimal) value);
+            } catch (final NumberFormatException e) {
+                // continue trying
+            }
+        }
+
+        if (value.getClass().equals(obj.getClass())) {
+            // only compare same classes:
+            return obj.compareTo(value);
+        } else {
+            // as a fallback, for different types, compare by their string representation:
+            return obj.toString().compareTo(value.toString());
+        }
+    }
+
+    @Nullable
+    private static Object asNumber(@Nullable final Object value) {
+        return value instanceof Number ? new BigDecimal(value.toString()) : value;
+    }
+
+    @Nullable
+    private static Object toComparable(final JsonValue jsonValue) {
+        if (jsonValue.isString()) {
+            return jsonValue.asString();
+        } else if (jsonValue.isBoolean()) {
+            return jsonValue.asBoolean();
+        } else if (jsonValue.isNull()) {
+            return NULL_LITERAL;
+        } else if (jsonValue.isNumber()) {
+            if (jsonValue.isLong()) {
+                return BigDecimal.valueOf(jsonValue.asLong());
+            } else {
+                return BigDecimal.valueOf(jsonValue.asDouble());
+            }
+        } else {
+            // filtering arrays and objects is not supported
+            return null;
+        }
+    }
+
+    /**
+     * Compute a canonical string of a comparable value: {@link #compare(Comparable, Comparable)} only considers
+     * values equal if they have the same canonical string. Numbers and numeric strings are compared by their numeric
+     * value, booleans by their string representation.
+     */
+    private static Optional<String> indexValueOf(@Nullable final Object comparable) {
+        if (comparable instanceof BigDecimal) {
+            return Optional.of(canonicalNumber((BigDecimal) comparable));
+        } else if (comparable instanceof String) {
+            try {
+                return Optional.of(canonicalNumber(new BigDecimal((String) comparable)));
+            } catch (final NumberFormatException e) {
+                return Optional.of((String) comparable);
+            }
+        } else if (comparable instanceof Boolean) {
+            return Optional.of(comparable.toString());
+        }
+        return Optional.empty();
+    }
+
+    private static String canonicalNumber(final BigDecimal number) {
+        return number.signum() == 0 ? "0" : number.stripTrailingZeros().toString();
+    }
+
+    private static Function<String, Node> compileLike(@Nullable final String value, final int flags) {
+        if (value == null) {
+            return fieldName -> context -> false;
+        }
+        final Pattern pattern = Pattern.compile(value, flags);
+        return fieldName -> {
+            final FieldAccess field = new FieldAccess(fieldName);
+            return context -> field.get(context)
+                    .filter(JsonValue::isString)
+                    .map(str -> pattern.matcher(str.asString()).matches())
+                    .orElse(false);
+        };
+    }
+
+    private static final class PredicateCompiler implements PredicateVisitor<Function<String, Node>> {
+
+        private static final PredicateCompiler INSTANCE = new PredicateCompiler();
+
+        @Override
+        public Function<String, Node> visitEq(@Nullable final Object value) {
+            return compileComparison(value, ThingPredicateCompiler::isEqual);
+        }
+
+        @Override
+        public Function<String, Node> visitNe(@Nullable final Object value) {
+            final Function<String, Node> eq = visitEq(value);
+            return fieldName -> {
+                final Node node = eq.apply(fieldName);
+                return context -> !node.test(context);
+            };
+        }
+
+        @Override
+        public Function<String, Node> visitGe(@Nullable final Object value) {
+            return compileComparison(value, (fieldValue, literal) -> areComparable(fieldValue, literal) &&
+                    compare((Comparable<?>) literal, (Comparable<?>) fieldValue) >= 0);
+        }
+
+        @Override
+        public Function<String, Node> visitGt(@Nullable final Object value) {
+            return compileComparison(value, (fieldValue, literal) -> areComparable(fieldValue, literal) &&
+                    compare((Comparable<?>) literal, (Comparable<?>) fieldValue) > 0);
+        }
+
+        @Override
+        public Function<String, Node> visitLe(@Nullable final Object value) {
+            return compileComparison(value, (fieldValue, literal) -> areComparable(fieldValue, literal) &&
+                    compare((Comparable<?>) literal, (Comparable<?>) fieldValue) <= 0);
+        }
+
+        @Override
+        public Function<String, Node> visitLt(@Nullable final Object value) {
+            return compileComparison(value, (fieldValue, literal) -> areComparable(fieldValue, literal) &&
+                    compare((Comparable<?>) literal, (Comparable<?>) fieldValue) < 0);
+        }
+
+        @Override
+        public Function<String, Node> visitIn(final List<?> values) {
+            final List<Literal> literals = new ArrayList<>(values.size());
+            for (final Object value : values) {
+                literals.add(new Literal(value));
+            }
+            return fieldName -> {
+                final FieldAccess field = new FieldAccess(fieldName);
+                return context -> {
+                    final Optional<JsonValue> fieldValue = field.get(context);
+                    if (!fieldValue.isPresent()) {
+                        return false;
+                    }
+                    final Object comparable = toComparable(fieldValue.get());
+                    if (!(comparable instanceof Comparable)) {
+                        return false;
+                    }
+                    for (final Literal literal : literals) {
+                        final Object resolved = literal.resolve(context);
+                        if (resolved instanceof Comparable &&
+                                compare((Comparable<?>) resolved, (Comparable<?>) comparable) == 0) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+            };
+        }
+
+        @Override
+        public Function<String, Node> visitLike(@Nullable final String value) {
+            return compileLike(value, 0);
+        }
+
+        @Override
+        public Function<String, Node> visitILike(@Nullable final String value) {
+            return compileLike(value, Pattern.CASE_INSENSITIVE);
+        }
+    }
+
+    private static final class EqualityConditionFinder
+            implements CriteriaVisitor<Optional<Map.Entry<JsonPointer, String>>> {
+
+        private static final EqualityConditionFinder INSTANCE = new EqualityConditionFinder();
+
+        @Override
+        public Optional<Map.Entry<JsonPointer, String>> visitAnd(
+                final List<Optional<Map.Entry<JsonPointer, String>>> conjuncts) {
+
+            for (final Optional<Map.Entry<JsonPointer, String>> conjunct : conjuncts) {
+                if (conjunct.isPresent()) {
+                    return conjunct;
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Map.Entry<JsonPointer, String>> visitAny() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Map.Entry<JsonPointer, String>> visitExists(final ExistsFieldExpression fieldExpression) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Map.Entry<JsonPointer, String>> visitField(final FilterFieldExpression fieldExpression,
+                final Predicate predicate) {
+
+            final String fieldName = fieldExpression.acceptFilterVisitor(FieldNameVisitor.INSTANCE);
+            if (fieldName.contains(Expression.SEPARATOR)) {
+                // the field may be resolved as placeholder
+                return Optional.empty();
+            }
+            return predicate.accept(EqualityConstantFinder.INSTANCE)
+                    .map(indexValue -> new AbstractMap.SimpleImmutableEntry<>(JsonPointer.of(fieldName), indexValue));
+        }
+
+        @Override
+        public Optional<Map.Entry<JsonPointer, String>> visitNor(
+                final List<Optional<Map.Entry<JsonPointer, String>>> negativeDisjoints) {
+
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Map.Entry<JsonPointer, String>> visitOr(
+                final List<Optional<Map.Entry<JsonPointer, String>>> disjoints) {
+
+            return Optional.empty();
+        }
+    }
+
+    private static final class EqualityConstantFinder implements PredicateVisitor<Optional<String>> {
+
+        private static final EqualityConstantFinder INSTANCE = new EqualityConstantFinder();
+
+        @Override
+        public Optional<String> visitEq(@Nullable final Object value) {
+            return value instanceof ParsedPlaceholder ? Optional.empty() : indexValueOf(asNumber(value));
+        }
+
+        @Override
+        public Optional<String> visitGe(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitGt(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitLe(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitLt(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitNe(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitLike(@Nullable final String value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitILike(@Nullable final String value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitIn(final List<?> values) {
+            return Optional.empty();
+        }
+    }
+
+    private static final class FieldNameVisitor implements FilterFieldExpressionVisitor<String> {
+
+        private static final FieldNameVisitor INSTANCE = new FieldNameVisitor();
+
+        @Override
+        public String visitAttribute(final String key) {
+            return "/attributes/" + key;
+        }
+
+        @Override
+        public String visitFeatureDefinition(final String featureId) {
+            return "/features/" + featureId + "/definition";
+        }
+
+        @Override
+        public String visitFeatureIdProperty(final String featureId, final String property) {
+            return "/features/" + featureId + "/properties/" + property;
+        }
+
+        @Override
+        public String visitFeatureIdDesiredProperty(final CharSequence featureId,
+                final CharSequence desiredProperty) {
+
+            return "/features/" + featureId + "/desiredProperties/" + desiredProperty;
+        }
+
+        @Override
+        public String visitSimple(final String fieldName) {
+            return fieldName;
+        }
+
+        @Override
+        public String visitMetadata(final String key) {
+            return "_metadata/" + key;
+        }
+    }
+
+    private static final class ExistsCompiler implements ExistsFieldExpressionVisitor<Node> {
+
+        private static final ExistsCompiler INSTANCE = new ExistsCompiler();
+
+        @Override
+        public Node visitAttribute(final String key) {
+            return exists(JsonPointer.of("/attributes").append(JsonPointer.of(key)));
+        }
+
+        @Override
+        public Node visitFeature(final String featureId) {
+            return exists(featurePointer(featureId));
+        }
+
+        @Override
+        public Node visitFeatureDefinition(final String featureId) {
+            return exists(featurePointer(featureId).addLeaf(JsonKey.of("definition")));
+        }
+
+        @Override
+        public Node visitFeatureProperties(final CharSequence featureId) {
+            return exists(featurePointer(featureId).addLeaf(JsonKey.of("properties")));
+        }
+
+        @Override
+        public Node visitFeatureDesiredProperties(final CharSequence featureId) {
+            return exists(featurePointer(featureId).addLeaf(
+                    JsonKey.of("desiredProperties")));
+        }
+
+        @Override
+        public Node visitFeatureIdProperty(final String featureId, final String property) {
+            return exists(featurePointer(featureId).addLeaf(JsonKey.of("properties"))
+                    .append(JsonPointer.of(property)));
+        }
+
+        @Override
+        public Node visitFeatureIdDesiredProperty(final CharSequence featureId, final CharSequence property) {
+            return exists(featurePointer(featureId).addLeaf(JsonKey.of("desiredProperties"))
+                    .append(JsonPointer.of(property)));
+        }
+
+        @Override
+        public Node visitSimple(final String fieldName) {
+            final FieldAccess field = new FieldAccess(fieldName);
+            return field::existsRegular;
+        }
+
+        @Override
+        public Node visitMetadata(final String key) {
+            return exists(JsonPointer.of("/_metadata").append(JsonPointer.of(key)));
+        }
+
+        private static JsonPointer featurePointer(final CharSequence featureId) {
+            return JsonPointer.of("/features").addLeaf(JsonKey.of(featureId));
+        }
+
+        private static Node exists(final JsonPointer pointer) {
+            return context -> context.getValue(pointer).isPresent();
+        }
+    }
+
+}
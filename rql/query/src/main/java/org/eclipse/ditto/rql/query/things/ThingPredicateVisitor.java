@@ -49,7 +49,7 @@ public final class ThingPredicateVisitor implements CriteriaVisitor<Predicate<Th
      */
     public static Predicate<Thing> apply(final Criteria criteria,
             final Collection<PlaceholderResolver<?>> additionalPlaceholderResolvers) {
-        return criteria.accept(new ThingPredicateVisitor(additionalPlaceholderResolvers));
+        return CompiledThingPredicate.of(criteria).withPlaceholderResolvers(additionalPlaceholderResolvers);
     }
 
     /**
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.Test;
+
+/**
+ * Tests {@link CompiledThingPredicate}.
+ */
+public final class CompiledThingPredicateTest {
+
+    private static final QueryFilterCriteriaFactory CRITERIA_FACTORY =
+            QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance());
+
+    private static final Thing THING = Thing.newBuilder()
+            .setId(ThingId.of("org.eclipse.ditto", "compiled"))
+            .setAttribute(JsonPointer.of("location"), JsonValue.of("LOREM"))
+            .setAttribute(JsonPointer.of("level"), JsonValue.of(42))
+            .build();
+
+    @Test
+    public void evaluatesThingsAndTheirJsonAlike() {
+        final CompiledThingPredicate underTest = compile("and(gt(attributes/level,41.5),exists(attributes/location))");
+        final CompiledThingPredicate notMatching = compile("in(attributes/level,1,2,3)");
+
+        assertThat(underTest.test(THING, Collections.emptyList())).isTrue();
+        assertThat(underTest.test(THING.toJson(), Collections.emptyList())).isTrue();
+        assertThat(notMatching.test(THING, Collections.emptyList())).isFalse();
+        assertThat(notMatching.test(THING.toJson(), Collections.emptyList())).isFalse();
+        assertThat(underTest.test(JsonObject.empty(), Collections.emptyList())).isFalse();
+    }
+
+    @Test
+    public void resolvesPlaceholdersPerEvaluation() {
+        final CompiledThingPredicate underTest = CompiledThingPredicate.of(
+                QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(), resolvers("any").get(0))
+                        .filterCriteria("eq(test:upper,\"LOREM\")", DittoHeaders.empty()));
+
+        assertThat(underTest.test(THING, resolvers("lorem"))).isTrue();
+        assertThat(underTest.test(THING, resolvers("ipsum"))).isFalse();
+        assertThat(underTest.withPlaceholderResolvers(resolvers("lorem")).test(THING)).isTrue();
+    }
+
+    @Test
+    public void matchesThingPredicateVisitor() {
+        final String filter = "or(like(attributes/location,\"LO*\"),ne(attributes/level,42))";
+
+        assertThat(compile(filter).test(THING, Collections.emptyList()))
+                .isEqualTo(ThingPredicateVisitor.apply(CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty()))
+                        .test(THING))
+                .isTrue();
+    }
+
+    @Test
+    public void findsEqualityConditionsMatchingByIndexValue() {
+        final CompiledThingPredicate.EqualityCondition condition =
+                compile("and(exists(thingId),eq(attributes/level,\"42.0\"))").getEqualityCondition().orElseThrow(
+                        IllegalStateException::new);
+
+        assertThat((Object) condition.getField()).isEqualTo(JsonPointer.of("/attributes/level"));
+        assertThat(condition.getIndexValue(THING.toJson())).contains(condition.getIndexValue());
+        assertThat(compile("eq(attributes/location,\"LOREM\")").getEqualityCondition()
+                .flatMap(locationCondition -> locationCondition.getIndexValue(THING.toJson())))
+                .contains("LOREM");
+        assertThat(compile("or(eq(attributes/level,42),exists(thingId))").getEqualityCondition()).isEmpty();
+        assertThat(compile("ne(attributes/level,42)").getEqualityCondition()).isEmpty();
+    }
+
+    private static CompiledThingPredicate compile(final String filter) {
+        return CompiledThingPredicate.of(CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty()));
+    }
+
+    private static List<PlaceholderResolver<?>> resolvers(final String placeholderSource) {
+        return Collections.singletonList(
+                PlaceholderFactory.newPlaceholderResolver(new ThingPredicateTestPlaceholder(), placeholderSource));
+    }
+
+}
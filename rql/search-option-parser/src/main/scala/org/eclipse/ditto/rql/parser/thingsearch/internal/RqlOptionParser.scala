@@ -27,11 +27,14 @@ import scala.util.{Failure, Success}
   * RQL Parser. Parses options in the RQL "standard" according to https://github.com/persvr/rql with the following EBNF:
   * <pre>
   * Options                    = Option, { ',', Option }
-  * Option                     = Sort | Limit
+  * Option                     = Sort | Limit | Cursor | Size | Keyset
   * Sort                       = "sort", '(', SortProperty, { ',', SortProperty }, ')'
   * SortProperty               = SortOrder, PropertyLiteral
   * SortOrder                  = '+' | '-'
   * Limit                      = "limit", '(', IntegerLiteral, ',', IntegerLiteral, ')'
+  * Cursor                     = "cursor", '(', StringLiteral, ')'
+  * Size                       = "size", '(', IntegerLiteral, ')'
+  * Keyset                     = "keyset", '(', ')'
   * </pre>
   */
 private class RqlOptionParser(override val input: ParserInput) extends RqlParserBase(input) {
@@ -51,10 +54,10 @@ private class RqlOptionParser(override val input: ParserInput) extends RqlParser
   }
 
   /**
-    * Option                     = Sort | Limit | Cursor | Size
+    * Option                     = Sort | Limit | Cursor | Size | Keyset
     */
   private def Option: Rule1[model.Option] = rule {
-    Sort | Limit | Cursor | Size
+    Sort | Limit | Cursor | Size | Keyset
   }
 
   /**
@@ -113,6 +116,13 @@ private class RqlOptionParser(override val input: ParserInput) extends RqlParser
       ((size: String) => SearchModelFactory.newSizeOption(java.lang.Integer.valueOf(size)))
   }
 
+  /**
+    * Keyset                      = "keyset", '(', ')'
+    */
+  private def Keyset[KeysetOption] = rule {
+    "keyset" ~ '(' ~ ')' ~ push(SearchModelFactory.newKeysetOption())
+  }
+
   private def CursorString: Rule1[String] = PropertyLiteral
 }
 
@@ -21,6 +21,7 @@ import org.eclipse.ditto.rql.model.ParserException;
 import org.eclipse.ditto.rql.parser.thingsearch.OptionParser;
 import org.eclipse.ditto.rql.parser.thingsearch.RqlOptionParser;
 import org.eclipse.ditto.thingsearch.model.CursorOption;
+import org.eclipse.ditto.thingsearch.model.KeysetOption;
 import org.eclipse.ditto.thingsearch.model.LimitOption;
 import org.eclipse.ditto.thingsearch.model.Option;
 import org.eclipse.ditto.thingsearch.model.SizeOption;
@@ -156,6 +157,19 @@ public final class RqlOptionsParserTest {
         assertThat(sizeOption.getSize()).isEqualTo(463);
     }
 
+    @Test
+    public void parseKeysetOption() throws ParserException {
+        final List<Option> options = parser.parse("size(10),keyset()");
+        assertThat(options).hasSize(2);
+        assertThat(options.get(1)).isInstanceOf(KeysetOption.class);
+        assertThat(RqlOptionParser.unparse(options)).isEqualTo("size(10),keyset()");
+    }
+
+    @Test(expected = ParserException.class)
+    public void keysetWithArgument() throws ParserException {
+        parser.parse("keyset(true)");
+    }
+
     @Test
     public void parseAndUnparseAreInverseOfEachOther() throws ParserException {
         final String input = "limit(0,1),sort(-attributes/username)";
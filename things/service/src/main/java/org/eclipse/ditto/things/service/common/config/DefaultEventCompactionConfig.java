@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.common.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.LikeHelper;
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements {@link EventCompactionConfig}.
+ */
+@Immutable
+public final class DefaultEventCompactionConfig implements EventCompactionConfig {
+
+    private static final String CONFIG_PATH = "event-compaction";
+
+    private final boolean enabled;
+    private final List<String> namespaces;
+    private final List<Pattern> namespacePatterns;
+    private final Duration window;
+    private final int maxEvents;
+
+    private DefaultEventCompactionConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        namespaces = List.copyOf(config.getStringList(ConfigValue.NAMESPACES.getConfigPath()));
+        namespacePatterns = namespaces.stream()
+                .map(namespace -> Pattern.compile(LikeHelper.convertToRegexSyntax(namespace)))
+                .toList();
+        window = config.getNonNegativeDurationOrThrow(ConfigValue.WINDOW);
+        maxEvents = config.getPositiveIntOrThrow(ConfigValue.MAX_EVENTS);
+    }
+
+    /**
+     * Returns an instance of the event compaction config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the event compaction config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultEventCompactionConfig of(final Config config) {
+        return new DefaultEventCompactionConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public List<String> getNamespaces() {
+        return namespaces;
+    }
+
+    @Override
+    public Duration getWindow() {
+        return window;
+    }
+
+    @Override
+    public int getMaxEvents() {
+        return maxEvents;
+    }
+
+    @Override
+    public boolean isEnabledFor(final String namespace) {
+        return enabled && namespacePatterns.stream().anyMatch(pattern -> pattern.matcher(namespace).matches());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultEventCompactionConfig that = (DefaultEventCompactionConfig) o;
+        return enabled == that.enabled &&
+                maxEvents == that.maxEvents &&
+                Objects.equals(namespaces, that.namespaces) &&
+                Objects.equals(window, that.window);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, namespaces, window, maxEvents);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", namespaces=" + namespaces +
+                ", window=" + window +
+                ", maxEvents=" + maxEvents +
+                "]";
+    }
+
+}
@@ -44,6 +44,7 @@ public final class DefaultThingConfig implements ThingConfig {
     private final ActivityCheckConfig activityCheckConfig;
     private final SnapshotConfig snapshotConfig;
     private final EventConfig eventConfig;
+    private final EventCompactionConfig eventCompactionConfig;
     private final CleanupConfig cleanupConfig;
 
     private DefaultThingConfig(final ScopedConfig scopedConfig) {
@@ -52,6 +53,7 @@ public final class DefaultThingConfig implements ThingConfig {
         activityCheckConfig = DefaultActivityCheckConfig.of(scopedConfig);
         snapshotConfig = DefaultSnapshotConfig.of(scopedConfig);
         eventConfig = DefaultEventConfig.of(scopedConfig);
+        eventCompactionConfig = DefaultEventCompactionConfig.of(scopedConfig);
         cleanupConfig = CleanupConfig.of(scopedConfig);
     }
 
@@ -91,6 +93,11 @@ public final class DefaultThingConfig implements ThingConfig {
         return eventConfig;
     }
 
+    @Override
+    public EventCompactionConfig getEventCompactionConfig() {
+        return eventCompactionConfig;
+    }
+
     @Override
     public Duration getShutdownTimeout() {
         return shutdownTimeout;
@@ -109,14 +116,15 @@ public final class DefaultThingConfig implements ThingConfig {
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
                 Objects.equals(snapshotConfig, that.snapshotConfig) &&
                 Objects.equals(eventConfig, that.eventConfig) &&
+                Objects.equals(eventCompactionConfig, that.eventCompactionConfig) &&
                 Objects.equals(cleanupConfig, that.cleanupConfig) &&
                 Objects.equals(shutdownTimeout, that.shutdownTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, eventConfig, cleanupConfig,
-                shutdownTimeout);
+        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, eventConfig,
+                eventCompactionConfig, cleanupConfig, shutdownTimeout);
     }
 
     @Override
@@ -126,6 +134,7 @@ public final class DefaultThingConfig implements ThingConfig {
                 ", activityCheckConfig=" + activityCheckConfig +
                 ", snapshotConfig=" + snapshotConfig +
                 ", eventConfig=" + eventConfig +
+                ", eventCompactionConfig=" + eventCompactionConfig +
                 ", cleanupConfig=" + cleanupConfig +
                 ", shutdownTimeout=" + shutdownTimeout +
                 "]";
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.common.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for folding consecutive attribute and feature property modifications of a thing
+ * into one merged event before persisting it.
+ *
+ * @since 3.2.0
+ */
+@Immutable
+public interface EventCompactionConfig {
+
+    /**
+     * Indicates whether event compaction is enabled.
+     *
+     * @return {@code true} if event compaction is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the namespace patterns of the things whose events are compacted. The wildcards {@code *} and {@code ?}
+     * are supported.
+     *
+     * @return the namespace patterns.
+     */
+    List<String> getNamespaces();
+
+    /**
+     * Returns how long to collect modifications before persisting them as one event.
+     *
+     * @return the compaction window.
+     */
+    Duration getWindow();
+
+    /**
+     * Returns the maximum number of modifications to fold into one event.
+     *
+     * @return the maximum number of modifications per persisted event.
+     */
+    int getMaxEvents();
+
+    /**
+     * Indicates whether the events of things in the given namespace are compacted.
+     *
+     * @param namespace the namespace of a thing.
+     * @return {@code true} if compaction is enabled and the namespace matches one of the namespace patterns.
+     */
+    boolean isEnabledFor(String namespace);
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code EventCompactionConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether event compaction is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The namespace patterns of things whose events are compacted.
+         */
+        NAMESPACES("namespaces", List.of()),
+
+        /**
+         * How long to collect modifications before persisting them.
+         */
+        WINDOW("window", Duration.ofMillis(100L)),
+
+        /**
+         * The maximum number of modifications to fold into one event.
+         */
+        MAX_EVENTS("max-events", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
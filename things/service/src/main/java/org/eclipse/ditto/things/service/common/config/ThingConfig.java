@@ -37,6 +37,14 @@ public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConf
      */
     EventConfig getEventConfig();
 
+    /**
+     * Returns the config of folding consecutive modifications into one persisted event.
+     *
+     * @return the config.
+     * @since 3.2.0
+     */
+    EventCompactionConfig getEventCompactionConfig();
+
     /**
      * Get the timeout waiting for responses and acknowledgements during coordinated shutdown.
      *
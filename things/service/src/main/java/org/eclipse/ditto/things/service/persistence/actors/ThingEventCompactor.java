@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
+import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeatureProperty;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+
+import akka.actor.ActorRef;
+
+/**
+ * Collects consecutive attribute and feature property modifications of a thing in order to persist them as one
+ * {@link ThingMerged} event.
+ * <p>
+ * Only modifications which are equivalent to a JSON merge patch are collected: their values are neither objects nor
+ * {@code null}, they carry no metadata and request no acknowledgement other than {@code twin-persisted}, which is
+ * issued by the response. Their commands are not conditional, so that they may be handled before the collected
+ * modifications are applied to the thing. Collected modifications all have the same revision, the one of the
+ * merged event.
+ * <p>
+ * Only modifications with equal authorization context, originator and read subjects are collected, so that the
+ * merged event is visible to exactly the subjects which may see each collected modification. The correlation IDs of
+ * all collected modifications are listed in the header {@value #COMPACTED_CORRELATION_IDS} of the merged event.
+ */
+@NotThreadSafe
+final class ThingEventCompactor {
+
+    /**
+     * Header of a merged event listing the correlation IDs of the collected modifications as JSON array.
+     */
+    static final String COMPACTED_CORRELATION_IDS = "compacted-correlation-ids";
+
+    private static final List<String> AUTHORIZATION_HEADERS = List.of(
+            DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey(),
+            DittoHeaderDefinition.ORIGINATOR.getKey(),
+            DittoHeaderDefinition.READ_SUBJECTS.getKey(),
+            DittoHeaderDefinition.READ_REVOKED_SUBJECTS.getKey()
+    );
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Check whether a command may be handled while modifications are collected.
+     *
+     * @param command the command.
+     * @return whether the command modifies a single attribute or feature property unconditionally.
+     */
+    static boolean isCompactable(final Command<?> command) {
+        final JsonValue value;
+        if (command instanceof ModifyAttribute modifyAttribute) {
+            value = modifyAttribute.getAttributeValue();
+        } else if (command instanceof ModifyFeatureProperty modifyFeatureProperty) {
+            value = modifyFeatureProperty.getPropertyValue();
+        } else {
+            return false;
+        }
+        return isMergeable(value) && isCompactable(command.getDittoHeaders());
+    }
+
+    /**
+     * Check whether a compactable command modifies a value which already exists. Commands creating a value cause
+     * events which are not collected and must therefore not be handled against the collected modifications.
+     *
+     * @param thing the thing with the collected modifications applied.
+     * @param command the compactable command.
+     * @return whether the attribute or feature property modified by the command exists in the thing.
+     */
+    static boolean modifiesExistingValue(@Nullable final Thing thing, final Command<?> command) {
+        if (thing == null) {
+            return false;
+        } else if (command instanceof ModifyAttribute modifyAttribute) {
+            return thing.getAttributes()
+                    .flatMap(attributes -> attributes.getValue(modifyAttribute.getAttributePointer()))
+                    .isPresent();
+        } else if (command instanceof ModifyFeatureProperty modifyFeatureProperty) {
+            return thing.getFeatures()
+                    .flatMap(features -> features.getFeature(modifyFeatureProperty.getFeatureId()))
+                    .flatMap(feature -> feature.getProperty(modifyFeatureProperty.getPropertyPointer()))
+                    .isPresent();
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Check whether an event may be collected.
+     *
+     * @param event the event.
+     * @return whether the event modifies a single attribute or feature property.
+     */
+    static boolean isCompactable(final ThingEvent<?> event) {
+        final JsonValue value;
+        if (event instanceof AttributeModified attributeModified) {
+            value = attributeModified.getAttributeValue();
+        } else if (event instanceof FeaturePropertyModified featurePropertyModified) {
+            value = featurePropertyModified.getPropertyValue();
+        } else {
+            return false;
+        }
+        return isMergeable(value) && event.getMetadata().isEmpty() && isCompactable(event.getDittoHeaders());
+    }
+
+    /**
+     * Check whether the modification of a command may be merged with the collected ones. Modifications of the same
+     * path replace each other; modifications of a path inside another modified path do not.
+     *
+     * @param command the command.
+     * @return whether the command has the same authorization headers as the collected modifications and modifies a
+     * path which is the same as or disjoint from all collected paths.
+     */
+    boolean canMerge(final Command<?> command) {
+        if (!entries.isEmpty() && !haveEqualAuthorization(entries.get(0).commandHeaders(), command.getDittoHeaders())) {
+            return false;
+        }
+        final String pathString = command.getResourcePath().toString();
+        return entries.stream()
+                .map(entry -> entry.event().getResourcePath().toString())
+                .noneMatch(collectedPath -> !collectedPath.equals(pathString) &&
+                        (collectedPath.startsWith(pathString + "/") || pathString.startsWith(collectedPath + "/")));
+    }
+
+    /**
+     * Collect a modification.
+     *
+     * @param event the event of the modification.
+     * @param commandHeaders headers of the command causing the modification.
+     * @param sender the sender of the command.
+     * @param response the response to send after the merged event was persisted.
+     * @return the number of collected modifications.
+     */
+    int add(final ThingEvent<?> event, final DittoHeaders commandHeaders, final ActorRef sender,
+            final WithDittoHeaders response) {
+
+        entries.add(new Entry(event, commandHeaders, sender, response));
+        return entries.size();
+    }
+
+    /**
+     * @return whether no modifications were collected.
+     */
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Remove all collected modifications.
+     *
+     * @return the collected modifications in their order.
+     */
+    List<Entry> drain() {
+        final List<Entry> drained = List.copyOf(entries);
+        entries.clear();
+        return drained;
+    }
+
+    /**
+     * Merge collected modifications into one event. A single modification is not converted. The merged event has the
+     * headers of the last modification and lists the correlation IDs of all modifications.
+     *
+     * @param entries the collected modifications.
+     * @return the event to persist.
+     */
+    static ThingEvent<?> merge(final List<Entry> entries) {
+        final ThingEvent<?> lastEvent = entries.get(entries.size() - 1).event();
+        if (entries.size() == 1) {
+            return lastEvent;
+        }
+        JsonObject mergePatch = JsonObject.empty();
+        final JsonArrayBuilder correlationIds = JsonFactory.newArrayBuilder();
+        for (final Entry entry : entries) {
+            final ThingEvent<?> event = entry.event();
+            final JsonObject patch = JsonFactory.newObject(event.getResourcePath(), getValue(event));
+            mergePatch = JsonFactory.mergeJsonValues(patch, mergePatch).asObject();
+            event.getDittoHeaders().getCorrelationId().ifPresent(correlationIds::add);
+        }
+        final DittoHeaders headers = lastEvent.getDittoHeaders()
+                .toBuilder()
+                .putHeader(COMPACTED_CORRELATION_IDS, correlationIds.build().toString())
+                .build();
+        return ThingMerged.of(lastEvent.getEntityId(), JsonPointer.empty(), mergePatch, lastEvent.getRevision(),
+                lastEvent.getTimestamp().orElse(null), headers, null);
+    }
+
+    private static boolean haveEqualAuthorization(final DittoHeaders headers, final DittoHeaders otherHeaders) {
+        return AUTHORIZATION_HEADERS.stream()
+                .allMatch(key -> Objects.equals(headers.get(key), otherHeaders.get(key)));
+    }
+
+    private static JsonValue getValue(final ThingEvent<?> event) {
+        if (event instanceof AttributeModified attributeModified) {
+            return attributeModified.getAttributeValue();
+        } else {
+            return ((FeaturePropertyModified) event).getPropertyValue();
+        }
+    }
+
+    private static boolean isMergeable(@Nullable final JsonValue value) {
+        return value != null && !value.isNull() && !value.isObject();
+    }
+
+    private static boolean isCompactable(final DittoHeaders headers) {
+        return !headers.isDryRun() &&
+                headers.getIfMatch().isEmpty() &&
+                headers.getIfNoneMatch().isEmpty() &&
+                headers.getCondition().isEmpty() &&
+                headers.getLiveChannelCondition().isEmpty() &&
+                !headers.containsKey(DittoHeaderDefinition.PUT_METADATA.getKey()) &&
+                !headers.containsKey(DittoHeaderDefinition.DELETE_METADATA.getKey()) &&
+                headers.getAcknowledgementRequests()
+                        .stream()
+                        .map(AcknowledgementRequest::getLabel)
+                        .allMatch(DittoAcknowledgementLabel.TWIN_PERSISTED::equals);
+    }
+
+    /**
+     * A collected modification.
+     *
+     * @param event the event of the modification.
+     * @param commandHeaders headers of the command causing the modification.
+     * @param sender the sender of the command.
+     * @param response the response to the command.
+     */
+    record Entry(ThingEvent<?> event, DittoHeaders commandHeaders, ActorRef sender, WithDittoHeaders response) {}
+
+}
@@ -13,15 +13,19 @@
 package org.eclipse.ditto.things.service.persistence.actors;
 
 import java.time.Instant;
+import java.util.List;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.headers.LiveChannelTimeoutStrategy;
 import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.FeatureToggle;
+import org.eclipse.ditto.base.model.signals.UnsupportedSignalException;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ActivityCheckConfig;
@@ -47,6 +51,7 @@ import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
 import org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommandResponse;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
 import org.eclipse.ditto.things.service.common.config.DittoThingsConfig;
 import org.eclipse.ditto.things.service.common.config.ThingConfig;
 import org.eclipse.ditto.things.service.persistence.actors.strategies.commands.ThingCommandStrategies;
@@ -81,9 +86,18 @@ public final class ThingPersistenceActor
     private static final AckExtractor<ThingEvent<?>> ACK_EXTRACTOR =
             AckExtractor.of(ThingEvent::getEntityId, ThingEvent::getDittoHeaders);
 
+    private static final String FLUSH_COMPACTED_EVENTS_TIMER = "flushCompactedEvents";
+
     private final ThingConfig thingConfig;
     private final DistributedPub<ThingEvent<?>> distributedPub;
     @Nullable private final ActorRef searchShardRegionProxy;
+    private final boolean eventCompactionEnabled;
+    private final ThingEventCompactor eventCompactor;
+
+    /**
+     * The thing with the collected modifications applied, against which further compactable commands are handled.
+     */
+    @Nullable private Thing compactedThing;
 
     @SuppressWarnings("unused")
     private ThingPersistenceActor(final ThingId thingId,
@@ -98,6 +112,8 @@ public final class ThingPersistenceActor
         thingConfig = thingsConfig.getThingConfig();
         this.distributedPub = distributedPub;
         this.searchShardRegionProxy = searchShardRegionProxy;
+        eventCompactionEnabled = isEventCompactionEnabled(thingId, thingConfig);
+        eventCompactor = new ThingEventCompactor();
     }
 
     /**
@@ -132,6 +148,67 @@ public final class ThingPersistenceActor
         super.onQuery(command, response);
     }
 
+    @Override
+    public void onMutation(final Command<?> command, final ThingEvent<?> event, final WithDittoHeaders response,
+            final boolean becomeCreated, final boolean becomeDeleted) {
+
+        if (isCompactionCandidate(command) && ThingEventCompactor.isCompactable(event)) {
+            compactedThing = getEventStrategy().handle(event, eventCompactor.isEmpty() ? entity : compactedThing,
+                    event.getRevision());
+            final int compactedEvents = eventCompactor.add(event, command.getDittoHeaders(), getSender(), response);
+            final var compactionConfig = thingConfig.getEventCompactionConfig();
+            if (compactedEvents >= compactionConfig.getMaxEvents()) {
+                flushCompactedEvents();
+            } else if (compactedEvents == 1) {
+                timers().startSingleTimer(FLUSH_COMPACTED_EVENTS_TIMER, Control.FLUSH_COMPACTED_EVENTS,
+                        compactionConfig.getWindow());
+            }
+        } else {
+            flushCompactedEvents();
+            super.onMutation(command, event, response, becomeCreated, becomeDeleted);
+        }
+    }
+
+    @Override
+    public void onError(final DittoRuntimeException error, final Command<?> errorCausingCommand) {
+        if (eventCompactor.isEmpty()) {
+            super.onError(error, errorCausingCommand);
+        } else {
+            // keep the order of responses to commands handled while modifications were collected
+            flushCompactedEvents();
+            defer(error, deferredError -> super.onError(deferredError, errorCausingCommand));
+        }
+    }
+
+    @Override
+    protected void handleByCommandStrategy(final Command<?> command) {
+        if (eventCompactor.isEmpty()) {
+            super.handleByCommandStrategy(command);
+        } else if (isCompactionCandidate(command) &&
+                ThingEventCompactor.modifiesExistingValue(compactedThing, command)) {
+            // the command must see the collected modifications, e.g. to answer whether it created an attribute
+            handleByCommandStrategy(command, compactedThing);
+        } else {
+            // the command must see the collected modifications; a created value would need its own revision
+            flushCompactedEvents();
+            defer(command, super::handleByCommandStrategy);
+        }
+    }
+
+    @Override
+    protected void passivate() {
+        flushCompactedEvents();
+        super.passivate();
+    }
+
+    @Override
+    protected Receive matchAnyAfterInitialization() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.FLUSH_COMPACTED_EVENTS, control -> flushCompactedEvents())
+                .build()
+                .orElse(super.matchAnyAfterInitialization());
+    }
+
     @Override
     public String persistenceId() {
         return entityId.getEntityType() + ":" + entityId;
@@ -246,6 +323,41 @@ public final class ThingPersistenceActor
         return entity.getImplementedSchemaVersion();
     }
 
+    private boolean isCompactionCandidate(final Command<?> command) {
+        return eventCompactionEnabled &&
+                ThingEventCompactor.isCompactable(command) &&
+                eventCompactor.canMerge(command);
+    }
+
+    private void flushCompactedEvents() {
+        if (!eventCompactor.isEmpty()) {
+            timers().cancel(FLUSH_COMPACTED_EVENTS_TIMER);
+            final List<ThingEventCompactor.Entry> entries = eventCompactor.drain();
+            compactedThing = null;
+            log.debug("Persisting <{}> compacted modifications.", entries.size());
+            persistAndApplyEvent(ThingEventCompactor.merge(entries), (persistedEvent, thing) ->
+                    entries.forEach(entry -> {
+                        if (shouldSendResponse(entry.commandHeaders())) {
+                            notifySender(entry.sender(), entry.response());
+                        }
+                    })
+            );
+        }
+    }
+
+    private boolean isEventCompactionEnabled(final ThingId thingId, final ThingConfig thingConfig) {
+        if (!thingConfig.getEventCompactionConfig().isEnabledFor(thingId.getNamespace())) {
+            return false;
+        }
+        try {
+            FeatureToggle.checkMergeFeatureEnabled(ThingMerged.TYPE, DittoHeaders.empty());
+            return true;
+        } catch (final UnsupportedSignalException e) {
+            log.warning("Event compaction of thing <{}> requires the merge feature, which is disabled.", thingId);
+            return false;
+        }
+    }
+
     private static Thing enhanceThingWithLifecycle(final Thing thing) {
         final ThingBuilder.FromCopy thingBuilder = ThingsModelFactory.newThingBuilder(thing);
         if (thing.getLifecycle().isEmpty()) {
@@ -255,4 +367,8 @@ public final class ThingPersistenceActor
         return thingBuilder.build();
     }
 
+    private enum Control {
+        FLUSH_COMPACTED_EVENTS
+    }
+
 }
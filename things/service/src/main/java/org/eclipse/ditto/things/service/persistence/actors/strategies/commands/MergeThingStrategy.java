@@ -26,11 +26,14 @@ import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultFactory;
+import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonMergePatch;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Feature;
+import org.eclipse.ditto.things.model.FeatureProperties;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.ThingsModelFactory;
@@ -51,6 +54,11 @@ final class MergeThingStrategy extends AbstractThingCommandStrategy<MergeThing>
     private static final ThingResourceMapper<Thing, Optional<EntityTag>> ENTITY_TAG_MAPPER =
             ThingResourceMapper.from(EntityTagCalculator.getInstance());
 
+    private static final JsonKey FEATURES_KEY = Thing.JsonFields.FEATURES.getPointer().getRoot().orElseThrow();
+    private static final JsonKey PROPERTIES_KEY = Feature.JsonFields.PROPERTIES.getPointer().getRoot().orElseThrow();
+    private static final JsonKey DESIRED_PROPERTIES_KEY =
+            Feature.JsonFields.DESIRED_PROPERTIES.getPointer().getRoot().orElseThrow();
+
     /**
      * Constructs a new {@code MergeThingStrategy} object.
      */
@@ -108,6 +116,22 @@ final class MergeThingStrategy extends AbstractThingCommandStrategy<MergeThing>
 
     private Thing mergeThing(final Context<ThingId> context, final MergeThing command, final Thing thing,
             final Instant eventTs, final long nextRevision) {
+        final Optional<Thing> thingWithMergedFeatureProperties = mergeFeatureProperties(context, command, thing);
+        final Thing mergedThing;
+        if (thingWithMergedFeatureProperties.isPresent()) {
+            mergedThing = thingWithMergedFeatureProperties.get().toBuilder()
+                    .setRevision(nextRevision)
+                    .setModified(eventTs)
+                    .build();
+        } else {
+            mergedThing = mergeThingJson(context, command, thing, eventTs, nextRevision);
+        }
+        context.getLog().debug("Thing created from merged JSON: {}", mergedThing);
+        return mergedThing;
+    }
+
+    private static Thing mergeThingJson(final Context<ThingId> context, final MergeThing command, final Thing thing,
+            final Instant eventTs, final long nextRevision) {
         final JsonObject existingThingJson = thing.toJson(FieldType.all());
         final JsonMergePatch jsonMergePatch = JsonMergePatch.of(command.getPath(), command.getValue());
         final JsonObject mergedJson = jsonMergePatch.applyOn(existingThingJson).asObject();
@@ -118,11 +142,71 @@ final class MergeThingStrategy extends AbstractThingCommandStrategy<MergeThing>
                 command::getDittoHeaders);
 
         context.getLog().debug("Result of JSON merge: {}", mergedJson);
-        final Thing mergedThing = ThingsModelFactory.newThingBuilder(mergedJson)
+        return ThingsModelFactory.newThingBuilder(mergedJson)
                 .setRevision(nextRevision)
                 .setModified(eventTs).build();
-        context.getLog().debug("Thing created from merged JSON: {}", mergedThing);
-        return mergedThing;
+    }
+
+    /**
+     * Handles the most frequent kind of merge, a patch of the properties or desired properties of an existing
+     * feature, without re-creating the whole Thing from its merged JSON: only the affected properties are merged and
+     * set on the existing Thing, all other parts of the Thing are shared.
+     *
+     * @return the Thing with the merged feature properties or an empty Optional if the command is not a merge of the
+     * properties of an existing feature.
+     */
+    private static Optional<Thing> mergeFeatureProperties(final Context<ThingId> context, final MergeThing command,
+            final Thing thing) {
+
+        final JsonPointer path = command.getPath();
+        final JsonValue value = command.getValue();
+        if (path.getLevelCount() < 3 || !path.getRoot().filter(FEATURES_KEY::equals).isPresent()) {
+            return Optional.empty();
+        }
+        final String featureId = path.get(1).map(JsonKey::toString).orElseThrow(IllegalStateException::new);
+        final JsonKey propertiesKey = path.get(2).orElseThrow(IllegalStateException::new);
+        final boolean desired = DESIRED_PROPERTIES_KEY.equals(propertiesKey);
+        if (!desired && !PROPERTIES_KEY.equals(propertiesKey)) {
+            return Optional.empty();
+        }
+        final JsonPointer propertiesPath = path.getSubPointer(3).orElseGet(JsonPointer::empty);
+        if (propertiesPath.isEmpty() && !(value.isObject() && !value.isNull())) {
+            // setting or deleting the properties as a whole is not a merge of properties
+            return Optional.empty();
+        }
+        final Optional<Feature> feature = thing.getFeatures().flatMap(features -> features.getFeature(featureId));
+        if (!feature.isPresent()) {
+            return Optional.empty();
+        }
+
+        final JsonObject existingProperties = (desired ? feature.get().getDesiredProperties() :
+                feature.get().getProperties())
+                .map(JsonObject.class::cast)
+                .orElseGet(JsonObject::empty);
+        final JsonMergePatch jsonMergePatch = propertiesPath.isEmpty()
+                ? JsonMergePatch.of(value)
+                : JsonMergePatch.of(propertiesPath, value);
+        final JsonObject mergedProperties = jsonMergePatch.applyOn(existingProperties).asObject();
+        final FeatureProperties featureProperties = ThingsModelFactory.newFeatureProperties(mergedProperties);
+        final Thing mergedThing = desired
+                ? thing.setFeatureDesiredProperties(featureId, featureProperties)
+                : thing.setFeatureProperties(featureId, featureProperties);
+
+        // the merged Thing is serialized at most once, and only if a size limit is configured
+        final JsonObject[] mergedThingJson = new JsonObject[1];
+        final Supplier<JsonObject> mergedThingJsonSupplier = () -> {
+            if (mergedThingJson[0] == null) {
+                mergedThingJson[0] = mergedThing.toJson(FieldType.all());
+            }
+            return mergedThingJson[0];
+        };
+        ThingCommandSizeValidator.getInstance().ensureValidSize(
+                () -> mergedThingJsonSupplier.get().getUpperBoundForStringSize(),
+                () -> mergedThingJsonSupplier.get().toString().length(),
+                command::getDittoHeaders);
+
+        context.getLog().debug("Result of JSON merge of feature <{}>: {}", featureId, mergedProperties);
+        return Optional.of(mergedThing);
     }
 
     @Override
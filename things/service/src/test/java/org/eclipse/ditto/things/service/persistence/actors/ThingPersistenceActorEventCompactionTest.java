@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.test.Retry;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracingInitResource;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingRevision;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeatureProperty;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeaturePropertyResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.model.signals.events.AttributeCreated;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.ThingCreated;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.PoisonPill;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for the event compaction of {@link ThingPersistenceActor}.
+ */
+public final class ThingPersistenceActorEventCompactionTest extends PersistenceActorTestBase {
+
+    @ClassRule
+    public static final DittoTracingInitResource DITTO_TRACING_INIT_RESOURCE =
+            DittoTracingInitResource.disableDittoTracing();
+
+    private static final String EVENT_COMPACTION = "ditto.things.thing.event-compaction.";
+    private static final JsonPointer ATTRIBUTE_POINTER = JsonPointer.of(ATTRIBUTE_KEY);
+    private static final JsonPointer PROPERTY_POINTER = JsonPointer.of(FEATURE_PROPERTY_KEY);
+
+    @Test
+    public void consecutiveModificationsArePersistedAsOneMergedEvent() {
+        setupWithCompactionWindow(Duration.ofMillis(500L));
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            ActorRef underTest = createPersistenceActorFor(thingId);
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(Duration.ofSeconds(10L), CreateThingResponse.class);
+            assertThat(pubSubTestProbe.expectMsgClass(ThingEvent.class)).isInstanceOf(ThingCreated.class);
+
+            underTest.tell(modifyAttribute(thingId, 1), getRef());
+            underTest.tell(modifyAttribute(thingId, 2), getRef());
+            underTest.tell(ModifyFeatureProperty.of(thingId, FEATURE_ID, PROPERTY_POINTER, JsonValue.of(3),
+                    dittoHeadersV2), getRef());
+            expectMsgClass(ModifyAttributeResponse.class);
+            expectMsgClass(ModifyAttributeResponse.class);
+            expectMsgClass(ModifyFeaturePropertyResponse.class);
+
+            final ThingEvent<?> mergedEvent = pubSubTestProbe.expectMsgClass(ThingEvent.class);
+            assertThat(mergedEvent).isInstanceOf(ThingMerged.class);
+            assertThat(mergedEvent.getRevision()).isEqualTo(2L);
+            pubSubTestProbe.expectNoMessage();
+
+            // the merged event is recovered from the journal
+            watch(underTest);
+            underTest.tell(PoisonPill.getInstance(), getRef());
+            expectTerminated(underTest);
+            underTest = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+            underTest.tell(retrieveThing(thingId), getRef());
+            assertModifiedThing(expectMsgClass(RetrieveThingResponse.class).getThing(), 2, 3);
+        }};
+    }
+
+    @Test
+    public void otherCommandsSeeCollectedModifications() {
+        setupWithCompactionWindow(Duration.ofMinutes(1L));
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(Duration.ofSeconds(10L), CreateThingResponse.class);
+
+            underTest.tell(modifyAttribute(thingId, 1), getRef());
+            underTest.tell(modifyAttribute(thingId, 2), getRef());
+            underTest.tell(retrieveThing(thingId), getRef());
+
+            expectMsgClass(ModifyAttributeResponse.class);
+            expectMsgClass(ModifyAttributeResponse.class);
+            assertModifiedThing(expectMsgClass(RetrieveThingResponse.class).getThing(), 2,
+                    JsonValue.of(FEATURE_PROPERTY_VALUE));
+        }};
+    }
+
+    @Test
+    public void compactableCommandsSeeCollectedModifications() {
+        setupWithCompactionWindow(Duration.ofMinutes(1L));
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(Duration.ofSeconds(10L), CreateThingResponse.class);
+
+            final JsonPointer newAttribute = JsonPointer.of("newAttribute");
+            underTest.tell(ModifyAttribute.of(thingId, newAttribute, JsonValue.of(1), dittoHeadersV2), getRef());
+            underTest.tell(ModifyAttribute.of(thingId, newAttribute, JsonValue.of(2), dittoHeadersV2), getRef());
+            underTest.tell(retrieveThing(thingId), getRef());
+
+            assertThat(expectMsgClass(ModifyAttributeResponse.class).getHttpStatus()).isEqualTo(HttpStatus.CREATED);
+            assertThat(expectMsgClass(ModifyAttributeResponse.class).getHttpStatus())
+                    .isEqualTo(HttpStatus.NO_CONTENT);
+            assertThat(expectMsgClass(RetrieveThingResponse.class).getThing()
+                    .getAttributes()
+                    .flatMap(attributes -> attributes.getValue(newAttribute)))
+                    .contains(JsonValue.of(2));
+        }};
+    }
+
+    @Test
+    public void creatingAValueWhileCollectingPersistsItWithItsOwnRevision() {
+        setupWithCompactionWindow(Duration.ofMinutes(1L));
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(Duration.ofSeconds(10L), CreateThingResponse.class);
+            pubSubTestProbe.expectMsgClass(ThingEvent.class);
+
+            final JsonPointer newAttribute = JsonPointer.of("newAttribute");
+            underTest.tell(modifyAttribute(thingId, 1), getRef());
+            underTest.tell(ModifyAttribute.of(thingId, newAttribute, JsonValue.of(2), dittoHeadersV2), getRef());
+            assertThat(expectMsgClass(ModifyAttributeResponse.class).getHttpStatus())
+                    .isEqualTo(HttpStatus.NO_CONTENT);
+            assertThat(expectMsgClass(ModifyAttributeResponse.class).getHttpStatus()).isEqualTo(HttpStatus.CREATED);
+
+            final ThingEvent<?> modifiedEvent = pubSubTestProbe.expectMsgClass(ThingEvent.class);
+            assertThat(modifiedEvent).isInstanceOf(AttributeModified.class);
+            assertThat(modifiedEvent.getRevision()).isEqualTo(2L);
+            final ThingEvent<?> createdEvent = pubSubTestProbe.expectMsgClass(ThingEvent.class);
+            assertThat(createdEvent).isInstanceOf(AttributeCreated.class);
+            assertThat(createdEvent.getRevision()).isEqualTo(3L);
+
+            underTest.tell(retrieveThing(thingId), getRef());
+            assertThat(expectMsgClass(RetrieveThingResponse.class).getThing().getRevision())
+                    .contains(ThingRevision.newInstance(3L));
+        }};
+    }
+
+    @Test
+    public void mergedEventListsCorrelationIdsOfAllModifications() {
+        setupWithCompactionWindow(Duration.ofMillis(500L));
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(Duration.ofSeconds(10L), CreateThingResponse.class);
+            pubSubTestProbe.expectMsgClass(ThingEvent.class);
+
+            underTest.tell(modifyAttribute(thingId, 1, headersWith("first", dittoHeadersV2.getReadGrantedSubjects())),
+                    getRef());
+            underTest.tell(modifyAttribute(thingId, 2, headersWith("second", dittoHeadersV2.getReadGrantedSubjects())),
+                    getRef());
+            assertThat(expectMsgClass(ModifyAttributeResponse.class).getDittoHeaders().getCorrelationId())
+                    .contains("first");
+            assertThat(expectMsgClass(ModifyAttributeResponse.class).getDittoHeaders().getCorrelationId())
+                    .contains("second");
+
+            final ThingEvent<?> mergedEvent = pubSubTestProbe.expectMsgClass(ThingEvent.class);
+            assertThat(mergedEvent).isInstanceOf(ThingMerged.class);
+            assertThat(mergedEvent.getDittoHeaders().get(ThingEventCompactor.COMPACTED_CORRELATION_IDS))
+                    .isEqualTo("[\"first\",\"second\"]");
+        }};
+    }
+
+    @Test
+    public void modificationsWithDifferentReadSubjectsAreNotMerged() {
+        setupWithCompactionWindow(Duration.ofMillis(500L));
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(Duration.ofSeconds(10L), CreateThingResponse.class);
+            pubSubTestProbe.expectMsgClass(ThingEvent.class);
+
+            final List<AuthorizationSubject> firstReaders = List.of(AuthorizationSubject.newInstance("test:first"));
+            final List<AuthorizationSubject> secondReaders = List.of(AuthorizationSubject.newInstance("test:second"));
+            underTest.tell(modifyAttribute(thingId, 1, headersWith("first", firstReaders)), getRef());
+            underTest.tell(modifyAttribute(thingId, 2, headersWith("second", secondReaders)), getRef());
+            underTest.tell(modifyAttribute(thingId, 3, headersWith("third", secondReaders)), getRef());
+            expectMsgClass(ModifyAttributeResponse.class);
+            expectMsgClass(ModifyAttributeResponse.class);
+            expectMsgClass(ModifyAttributeResponse.class);
+
+            final ThingEvent<?> firstEvent = pubSubTestProbe.expectMsgClass(ThingEvent.class);
+            assertThat(firstEvent).isInstanceOf(AttributeModified.class);
+            assertThat(firstEvent.getDittoHeaders().getReadGrantedSubjects()).containsExactlyElementsOf(firstReaders);
+
+            final ThingEvent<?> mergedEvent = pubSubTestProbe.expectMsgClass(ThingEvent.class);
+            assertThat(mergedEvent).isInstanceOf(ThingMerged.class);
+            assertThat(mergedEvent.getDittoHeaders().getReadGrantedSubjects())
+                    .containsExactlyElementsOf(secondReaders);
+            assertThat(mergedEvent.getDittoHeaders().get(ThingEventCompactor.COMPACTED_CORRELATION_IDS))
+                    .isEqualTo("[\"second\",\"third\"]");
+            pubSubTestProbe.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void namespacesWithoutCompactionPersistEachModification() {
+        setup(ConfigFactory.empty()
+                .withValue(EVENT_COMPACTION + "enabled", ConfigValueFactory.fromAnyRef(true))
+                .withValue(EVENT_COMPACTION + "namespaces", ConfigValueFactory.fromIterable(List.of("other.*"))));
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(Duration.ofSeconds(10L), CreateThingResponse.class);
+
+            underTest.tell(modifyAttribute(thingId, 1), getRef());
+            underTest.tell(modifyAttribute(thingId, 2), getRef());
+            expectMsgClass(ModifyAttributeResponse.class);
+            expectMsgClass(ModifyAttributeResponse.class);
+            underTest.tell(retrieveThing(thingId), getRef());
+
+            assertThat(expectMsgClass(RetrieveThingResponse.class).getThing().getRevision())
+                    .contains(ThingRevision.newInstance(3L));
+        }};
+    }
+
+    private void setupWithCompactionWindow(final Duration window) {
+        setup(ConfigFactory.empty()
+                .withValue(EVENT_COMPACTION + "enabled", ConfigValueFactory.fromAnyRef(true))
+                .withValue(EVENT_COMPACTION + "namespaces",
+                        ConfigValueFactory.fromIterable(List.of(THING_ID.getNamespace())))
+                .withValue(EVENT_COMPACTION + "window", ConfigValueFactory.fromAnyRef(window)));
+    }
+
+    private RetrieveThing retrieveThing(final ThingId thingId) {
+        return RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                .withSelectedFields(ALL_FIELDS_SELECTOR)
+                .build();
+    }
+
+    private ModifyAttribute modifyAttribute(final ThingId thingId, final int value) {
+        return modifyAttribute(thingId, value, dittoHeadersV2);
+    }
+
+    private static ModifyAttribute modifyAttribute(final ThingId thingId, final int value,
+            final DittoHeaders dittoHeaders) {
+
+        return ModifyAttribute.of(thingId, ATTRIBUTE_POINTER, JsonValue.of(value), dittoHeaders);
+    }
+
+    private DittoHeaders headersWith(final String correlationId, final Collection<AuthorizationSubject> readers) {
+        return dittoHeadersV2.toBuilder()
+                .correlationId(correlationId)
+                .readGrantedSubjects(readers)
+                .build();
+    }
+
+    private static void assertModifiedThing(final Thing thing, final int attributeValue, final int propertyValue) {
+        assertModifiedThing(thing, attributeValue, JsonValue.of(propertyValue));
+    }
+
+    private static void assertModifiedThing(final Thing thing, final int attributeValue,
+            final JsonValue propertyValue) {
+
+        assertThat(thing.getRevision()).contains(ThingRevision.newInstance(2L));
+        assertThat(thing.getAttributes().flatMap(attributes -> attributes.getValue(ATTRIBUTE_POINTER)))
+                .contains(JsonValue.of(attributeValue));
+        assertThat(thing.getFeatures()
+                .flatMap(features -> features.getFeature(FEATURE_ID))
+                .flatMap(feature -> feature.getProperty(PROPERTY_POINTER)))
+                .contains(propertyValue);
+    }
+
+}
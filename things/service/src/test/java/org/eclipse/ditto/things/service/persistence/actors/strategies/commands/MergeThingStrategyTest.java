@@ -14,6 +14,8 @@ package org.eclipse.ditto.things.service.persistence.actors.strategies.commands;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.things.model.TestConstants.Feature.FLUX_CAPACITOR_ID;
+import static org.eclipse.ditto.things.model.TestConstants.Feature.FLUX_CAPACITOR_PROPERTIES;
 import static org.eclipse.ditto.things.model.TestConstants.Thing.THING_V2;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
@@ -21,10 +23,13 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 import java.util.UUID;
 
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
+import org.eclipse.ditto.json.JsonMergePatch;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.FeatureProperties;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.ThingTooLargeException;
@@ -89,4 +94,45 @@ public final class MergeThingStrategyTest extends AbstractCommandStrategyTest {
                 .isThrownBy(() -> underTest.apply(context, existing, NEXT_REVISION, mergeThing))
                 .satisfies(e -> assertThat(e.getDittoHeaders()).containsAllEntriesOf(dittoHeaders));
     }
+
+    @Test
+    public void mergeFeatureProperties() {
+        final CommandStrategy.Context<ThingId> context = getDefaultContext();
+        final ThingId thingId = context.getState();
+        final Thing existing = THING_V2.toBuilder().setRevision(NEXT_REVISION - 1).build();
+        final JsonPointer path = JsonPointer.of("/features/" + FLUX_CAPACITOR_ID + "/properties");
+        final JsonObject patch = JsonObject.newBuilder()
+                .set("target_year_1", 1985)
+                .set("target_year_2", JsonValue.nullLiteral())
+                .set("new", JsonObject.newBuilder().set("a", 1).set("b", JsonValue.nullLiteral()).build())
+                .build();
+        final FeatureProperties expectedProperties = ThingsModelFactory.newFeatureProperties(
+                JsonMergePatch.of(patch).applyOn(FLUX_CAPACITOR_PROPERTIES).asObject());
+
+        final MergeThing mergeThing = MergeThing.of(thingId, path, patch, DittoHeaders.empty());
+        final MergeThingResponse expectedCommandResponse = MergeThingResponse.of(thingId, path,
+                DittoHeaders.newBuilder().eTag(EntityTag.fromEntity(expectedProperties).orElseThrow()).build());
+
+        assertModificationResult(underTest, existing, mergeThing, ThingMerged.class, expectedCommandResponse);
+        assertThat(expectedProperties).isEqualTo(FeatureProperties.newBuilder()
+                .set("target_year_1", 1985)
+                .set("target_year_3", 1885)
+                .set("new", JsonObject.newBuilder().set("a", 1).build())
+                .build());
+    }
+
+    @Test
+    public void mergeFeaturePropertyWithLargeValueExpectThingTooLargeException() {
+        final CommandStrategy.Context<ThingId> context = getDefaultContext();
+        final ThingId thingId = context.getState();
+        final Thing existing = THING_V2.toBuilder().setRevision(NEXT_REVISION - 1).build();
+        final JsonPointer path = JsonPointer.of("/features/" + FLUX_CAPACITOR_ID + "/properties/large");
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId(UUID.randomUUID().toString()).build();
+        final MergeThing mergeThing = MergeThing.of(thingId, path,
+                JsonValue.of("~".repeat((int) THING_SIZE_LIMIT_BYTES - 150)), dittoHeaders);
+        assertThatExceptionOfType(ThingTooLargeException.class)
+                .isThrownBy(() -> underTest.apply(context, existing, NEXT_REVISION, mergeThing))
+                .satisfies(e -> assertThat(e.getDittoHeaders()).containsAllEntriesOf(dittoHeaders));
+    }
+
 }
@@ -23,6 +23,7 @@ import org.eclipse.ditto.rql.query.SortOption;
 import org.eclipse.ditto.rql.query.expression.FieldExpressionFactory;
 import org.eclipse.ditto.rql.query.expression.SortFieldExpression;
 import org.eclipse.ditto.thingsearch.model.CursorOption;
+import org.eclipse.ditto.thingsearch.model.KeysetOption;
 import org.eclipse.ditto.thingsearch.model.LimitOption;
 import org.eclipse.ditto.thingsearch.model.Option;
 import org.eclipse.ditto.thingsearch.model.OptionVisitor;
@@ -92,6 +93,11 @@ public final class ParameterOptionVisitor implements OptionVisitor {
         queryBuilder.skip(0L).size(sizeOption.getSize());
     }
 
+    @Override
+    public void visit(final KeysetOption keysetOption) {
+        // do nothing; keyset pagination is processed elsewhere
+    }
+
     private SortOption mapSort(final SortOptionEntry entry) {
         return new SortOption(determineSortField(entry.getPropertyPath()), determineSortDirection(entry.getOrder()));
     }
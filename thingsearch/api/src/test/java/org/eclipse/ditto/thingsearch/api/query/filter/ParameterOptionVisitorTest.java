@@ -162,11 +162,12 @@ public final class ParameterOptionVisitorTest {
     }
 
     @Test
-    public void visitCursorAndSizeOptions() {
+    public void visitCursorSizeAndKeysetOptions() {
         final Option cursorOption = SearchModelFactory.newCursorOption("cursor");
         final Option sizeOption = SearchModelFactory.newSizeOption(123);
+        final Option keysetOption = SearchModelFactory.newKeysetOption();
 
-        visitor.visitAll(Arrays.asList(cursorOption, sizeOption));
+        visitor.visitAll(Arrays.asList(cursorOption, sizeOption, keysetOption));
 
         verify(qbMock).skip(0);
         verify(qbMock).size(123);
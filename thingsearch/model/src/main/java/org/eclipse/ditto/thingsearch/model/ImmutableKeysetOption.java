@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.model;
+
+import javax.annotation.concurrent.Immutable;
+
+@Immutable
+final class ImmutableKeysetOption implements KeysetOption {
+
+    private static final ImmutableKeysetOption INSTANCE = new ImmutableKeysetOption();
+
+    private ImmutableKeysetOption() {
+        super();
+    }
+
+    /**
+     * Returns the instance of {@code ImmutableKeysetOption}.
+     *
+     * @return the keyset option.
+     */
+    static ImmutableKeysetOption getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void accept(final OptionVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof ImmutableKeysetOption;
+    }
+
+    @Override
+    public int hashCode() {
+        return ImmutableKeysetOption.class.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "keyset()";
+    }
+}
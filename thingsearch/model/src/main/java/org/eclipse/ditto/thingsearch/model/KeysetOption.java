@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.model;
+
+/**
+ * The "keyset" option requests keyset pagination: each page is read by seeking an index to the position of the
+ * cursor and scanning it in the order of the sort option. Only sort options matching an index are accepted.
+ *
+ * @since 3.2.0
+ */
+public interface KeysetOption extends Option {
+
+    /**
+     * Returns the string representation of this option, which is always {@code "keyset()"}.
+     *
+     * @return the string representation of this option.
+     */
+    @Override
+    String toString();
+
+}
@@ -45,4 +45,15 @@ public interface OptionVisitor {
      */
     void visit(SizeOption sizeOption);
 
+    /**
+     * Is called by a {@link KeysetOption} in its {@link KeysetOption#accept(OptionVisitor)} method. Does nothing by
+     * default.
+     *
+     * @param keysetOption an instance of the {@link KeysetOption}.
+     * @since 3.2.0
+     */
+    default void visit(final KeysetOption keysetOption) {
+        // keyset pagination is not relevant for all visitors
+    }
+
 }
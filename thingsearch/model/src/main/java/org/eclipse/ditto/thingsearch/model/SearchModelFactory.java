@@ -285,4 +285,14 @@ public final class SearchModelFactory {
         return ImmutableCursorOption.of(checkNotNull(cursor, "cursor"));
     }
 
+    /**
+     * Returns the {@link KeysetOption}.
+     *
+     * @return the KeysetOption
+     * @since 3.2.0
+     */
+    public static KeysetOption newKeysetOption() {
+        return ImmutableKeysetOption.getInstance();
+    }
+
 }
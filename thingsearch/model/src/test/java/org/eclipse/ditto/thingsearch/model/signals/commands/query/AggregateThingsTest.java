@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.model.signals.commands.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.thingsearch.model.signals.commands.ThingSearchCommand;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link AggregateThings} and {@link AggregateThingsResponse}.
+ */
+public final class AggregateThingsTest {
+
+    private static final String GROUP_BY = "attributes/location";
+    private static final Map<String, String> AGGREGATIONS = new LinkedHashMap<>();
+
+    static {
+        AGGREGATIONS.put("things", "count()");
+        AGGREGATIONS.put("maxTemperature", "max(features/sensor/properties/temperature)");
+    }
+
+    private static final String JSON_ALL_FIELDS_V2 = JsonFactory.newObjectBuilder()
+            .set(ThingSearchCommand.JsonFields.TYPE, AggregateThings.TYPE)
+            .set(AggregateThings.JSON_FILTER, TestConstants.KNOWN_FILTER_STR)
+            .set(AggregateThings.JSON_NAMESPACES, JsonFactory.newArrayBuilder()
+                    .add(TestConstants.KNOWN_NAMESPACE)
+                    .build())
+            .set(AggregateThings.JSON_GROUP_BY, JsonFactory.newArrayBuilder().add(GROUP_BY).build())
+            .set(AggregateThings.JSON_AGGREGATIONS, JsonFactory.newObjectBuilder()
+                    .set("things", "count()")
+                    .set("maxTemperature", "max(features/sensor/properties/temperature)")
+                    .build())
+            .build().toString();
+
+    private static final String JSON_MINIMAL_V2 = JsonFactory.newObjectBuilder()
+            .set(ThingSearchCommand.JsonFields.TYPE, AggregateThings.TYPE)
+            .build().toString();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(AggregateThings.class, areImmutable(),
+                assumingFields("groupBy", "aggregations")
+                        .areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+        assertInstancesOf(AggregateThingsResponse.class, areImmutable(), provided(JsonArray.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(AggregateThings.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void toJsonWithAllFieldsSetV2() {
+        final AggregateThings command = AggregateThings.of(TestConstants.KNOWN_FILTER_STR,
+                TestConstants.KNOWN_NAMESPACES_SET, Collections.singletonList(GROUP_BY), AGGREGATIONS,
+                DittoHeaders.empty());
+
+        assertThat(command.toJsonString()).isEqualTo(JSON_ALL_FIELDS_V2);
+    }
+
+    @Test
+    public void fromJsonWithAllFieldsSetV2() {
+        final AggregateThings command = AggregateThings.fromJson(JSON_ALL_FIELDS_V2, DittoHeaders.empty());
+
+        assertThat(command.getFilter()).contains(TestConstants.KNOWN_FILTER_STR);
+        assertThat(command.getNamespaces()).contains(TestConstants.KNOWN_NAMESPACES_SET);
+        assertThat(command.getGroupBy()).containsExactly(GROUP_BY);
+        assertThat(command.getAggregations()).containsExactlyEntriesOf(AGGREGATIONS);
+    }
+
+    @Test
+    public void fromJsonWithOnlyRequiredFieldsSetV2() {
+        final AggregateThings command = AggregateThings.fromJson(JSON_MINIMAL_V2, DittoHeaders.empty());
+
+        assertThat(command.getFilter()).isEmpty();
+        assertThat(command.getNamespaces()).isEmpty();
+        assertThat(command.getGroupBy()).isEmpty();
+        assertThat(command.getAggregations()).isEmpty();
+    }
+
+    @Test
+    public void responseJsonRoundTrip() {
+        final JsonArray groups = JsonArray.of(JsonObject.newBuilder()
+                .set("groupBy", JsonObject.newBuilder().set(GROUP_BY, "berlin").build())
+                .set("aggregations", JsonObject.newBuilder().set("things", 3).build())
+                .build());
+        final AggregateThingsResponse response = AggregateThingsResponse.of(groups, DittoHeaders.empty());
+
+        final AggregateThingsResponse deserialized =
+                AggregateThingsResponse.fromJson(response.toJson(), DittoHeaders.empty());
+
+        assertThat(deserialized).isEqualTo(response);
+        assertThat(deserialized.getGroups()).isEqualTo(groups);
+    }
+
+}
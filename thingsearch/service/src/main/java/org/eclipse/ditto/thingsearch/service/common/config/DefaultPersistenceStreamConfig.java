@@ -37,6 +37,8 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
 
     private final Duration ackDelay;
     private final WriteConcern withAcknowledgementsWriteConcern;
+    private final int maxBulkSize;
+    private final Duration targetBulkWriteLatency;
     private final DefaultStreamStageConfig defaultStreamStageConfig;
 
     private DefaultPersistenceStreamConfig(final ConfigWithFallback persistenceStreamScopedConfig,
@@ -52,6 +54,9 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
                                     writeConcernString);
                     return new DittoConfigError(msg);
                 });
+        maxBulkSize = persistenceStreamScopedConfig.getPositiveIntOrThrow(PersistenceStreamConfigValue.MAX_BULK_SIZE);
+        targetBulkWriteLatency = persistenceStreamScopedConfig.getNonNegativeAndNonZeroDurationOrThrow(
+                PersistenceStreamConfigValue.TARGET_BULK_WRITE_LATENCY);
         this.defaultStreamStageConfig = defaultStreamStageConfig;
     }
 
@@ -78,6 +83,16 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return withAcknowledgementsWriteConcern;
     }
 
+    @Override
+    public int getMaxBulkSize() {
+        return maxBulkSize;
+    }
+
+    @Override
+    public Duration getTargetBulkWriteLatency() {
+        return targetBulkWriteLatency;
+    }
+
     @Override
     public int getParallelism() {
         return defaultStreamStageConfig.getParallelism();
@@ -99,12 +114,15 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         final DefaultPersistenceStreamConfig that = (DefaultPersistenceStreamConfig) o;
         return Objects.equals(ackDelay, that.ackDelay) &&
                 Objects.equals(withAcknowledgementsWriteConcern, that.withAcknowledgementsWriteConcern) &&
+                maxBulkSize == that.maxBulkSize &&
+                Objects.equals(targetBulkWriteLatency, that.targetBulkWriteLatency) &&
                 Objects.equals(defaultStreamStageConfig, that.defaultStreamStageConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(ackDelay, withAcknowledgementsWriteConcern, defaultStreamStageConfig);
+        return Objects.hash(ackDelay, withAcknowledgementsWriteConcern, maxBulkSize, targetBulkWriteLatency,
+                defaultStreamStageConfig);
     }
 
     @Override
@@ -112,6 +130,8 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return getClass().getSimpleName() + " [" +
                 "ackDelay=" + ackDelay +
                 ", withAcknowledgementsWriteConcern=" + withAcknowledgementsWriteConcern +
+                ", maxBulkSize=" + maxBulkSize +
+                ", targetBulkWriteLatency=" + targetBulkWriteLatency +
                 ", defaultStreamStageConfig=" + defaultStreamStageConfig +
                 "]";
     }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link SearchCountsConfig}.
+ */
+@Immutable
+public final class DefaultSearchCountsConfig implements SearchCountsConfig {
+
+    private static final String CONFIG_PATH = "counts";
+
+    private final boolean enabled;
+    private final List<String> filters;
+    private final Duration flushInterval;
+    private final Duration reconciliationInterval;
+    private final Duration maxStaleness;
+
+    private DefaultSearchCountsConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        filters = List.copyOf(config.getStringList(ConfigValue.FILTERS.getConfigPath()));
+        flushInterval = config.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.FLUSH_INTERVAL);
+        reconciliationInterval = config.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.RECONCILIATION_INTERVAL);
+        maxStaleness = config.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.MAX_STALENESS);
+        if (maxStaleness.compareTo(reconciliationInterval) <= 0) {
+            throw new DittoConfigError("The max-staleness <" + maxStaleness +
+                    "> of search counts must be greater than the reconciliation-interval <" + reconciliationInterval +
+                    ">.");
+        }
+    }
+
+    /**
+     * Returns an instance of DefaultSearchCountsConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the counts config at {@value CONFIG_PATH}.
+     * @return the instance.
+     * @throws DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultSearchCountsConfig of(final Config config) {
+        return new DefaultSearchCountsConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public List<String> getFilters() {
+        return filters;
+    }
+
+    @Override
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    @Override
+    public Duration getReconciliationInterval() {
+        return reconciliationInterval;
+    }
+
+    @Override
+    public Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultSearchCountsConfig that = (DefaultSearchCountsConfig) o;
+        return enabled == that.enabled &&
+                Objects.equals(filters, that.filters) &&
+                Objects.equals(flushInterval, that.flushInterval) &&
+                Objects.equals(reconciliationInterval, that.reconciliationInterval) &&
+                Objects.equals(maxStaleness, that.maxStaleness);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, filters, flushInterval, reconciliationInterval, maxStaleness);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", filters=" + filters +
+                ", flushInterval=" + flushInterval +
+                ", reconciliationInterval=" + reconciliationInterval +
+                ", maxStaleness=" + maxStaleness +
+                "]";
+    }
+
+}
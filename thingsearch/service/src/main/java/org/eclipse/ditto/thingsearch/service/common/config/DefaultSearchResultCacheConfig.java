@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+/**
+ * This class is the default implementation of {@link SearchResultCacheConfig}.
+ */
+@Immutable
+public final class DefaultSearchResultCacheConfig implements SearchResultCacheConfig {
+
+    private static final String CONFIG_PATH = "result-cache";
+
+    private final boolean enabled;
+    private final Duration invalidationInterval;
+    private final DefaultCacheConfig genericCacheConfig;
+
+    private DefaultSearchResultCacheConfig(final ConfigWithFallback resultCacheScopedConfig,
+            final DefaultCacheConfig genericCacheConfig) {
+
+        enabled = resultCacheScopedConfig.getBoolean(SearchResultCacheConfigValue.ENABLED.getConfigPath());
+        invalidationInterval = resultCacheScopedConfig.getNonNegativeAndNonZeroDurationOrThrow(
+                SearchResultCacheConfigValue.INVALIDATION_INTERVAL);
+        this.genericCacheConfig = genericCacheConfig;
+    }
+
+    /**
+     * Returns an instance of DefaultSearchResultCacheConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the result cache config at {@value CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultSearchResultCacheConfig of(final Config config) {
+        return new DefaultSearchResultCacheConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, SearchResultCacheConfigValue.values()),
+                DefaultCacheConfig.of(config, CONFIG_PATH));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getInvalidationInterval() {
+        return invalidationInterval;
+    }
+
+    @Override
+    public long getMaximumSize() {
+        return genericCacheConfig.getMaximumSize();
+    }
+
+    @Override
+    public Duration getExpireAfterWrite() {
+        return genericCacheConfig.getExpireAfterWrite();
+    }
+
+    @Override
+    public Duration getExpireAfterAccess() {
+        return genericCacheConfig.getExpireAfterAccess();
+    }
+
+    @Override
+    public Duration getExpireAfterCreate() {
+        return genericCacheConfig.getExpireAfterCreate();
+    }
+
+    @Override
+    public Config render() {
+        return ConfigFactory.empty()
+                .withFallback(genericCacheConfig.render())
+                .withValue(SearchResultCacheConfigValue.ENABLED.getConfigPath(),
+                        ConfigValueFactory.fromAnyRef(enabled))
+                .withValue(SearchResultCacheConfigValue.INVALIDATION_INTERVAL.getConfigPath(),
+                        ConfigValueFactory.fromAnyRef(invalidationInterval))
+                .atKey(CONFIG_PATH);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultSearchResultCacheConfig that = (DefaultSearchResultCacheConfig) o;
+        return enabled == that.enabled &&
+                invalidationInterval.equals(that.invalidationInterval) &&
+                genericCacheConfig.equals(that.genericCacheConfig);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, invalidationInterval, genericCacheConfig);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", invalidationInterval=" + invalidationInterval +
+                ", genericCacheConfig=" + genericCacheConfig +
+                "]";
+    }
+
+}
@@ -59,6 +59,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
     private final PersistenceOperationsConfig persistenceOperationsConfig;
     private final MongoDbConfig mongoDbConfig;
     private final SearchPersistenceConfig queryPersistenceConfig;
+    private final SearchCountsConfig countsConfig;
+    private final SearchResultCacheConfig resultCacheConfig;
     private final Map<String, String> simpleFieldMappings;
 
     private DittoSearchConfig(final ScopedConfig dittoScopedConfig) {
@@ -77,6 +79,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 ? configWithFallback.getConfig(QUERY_PATH)
                 : ConfigFactory.empty();
         queryPersistenceConfig = DefaultSearchPersistenceConfig.of(queryConfig);
+        countsConfig = DefaultSearchCountsConfig.of(configWithFallback);
+        resultCacheConfig = DefaultSearchResultCacheConfig.of(configWithFallback);
         simpleFieldMappings =
                 convertToMap(configWithFallback.getConfig(SearchConfigValue.SIMPLE_FIELD_MAPPINGS.getConfigPath()));
     }
@@ -108,6 +112,16 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return queryPersistenceConfig;
     }
 
+    @Override
+    public SearchCountsConfig getCountsConfig() {
+        return countsConfig;
+    }
+
+    @Override
+    public SearchResultCacheConfig getResultCacheConfig() {
+        return resultCacheConfig;
+    }
+
     public Map<String, String> getSimpleFieldMappings() {
         return simpleFieldMappings;
     }
@@ -175,13 +189,16 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 Objects.equals(persistenceOperationsConfig, that.persistenceOperationsConfig) &&
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
                 Objects.equals(queryPersistenceConfig, that.queryPersistenceConfig) &&
+                Objects.equals(countsConfig, that.countsConfig) &&
+                Objects.equals(resultCacheConfig, that.resultCacheConfig) &&
                 Objects.equals(simpleFieldMappings, that.simpleFieldMappings);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(mongoHintsByNamespace, updaterConfig, dittoServiceConfig, healthCheckConfig,
-                indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, queryPersistenceConfig, simpleFieldMappings);
+                indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, queryPersistenceConfig, countsConfig,
+                resultCacheConfig, simpleFieldMappings);
     }
 
     @Override
@@ -195,6 +212,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 ", persistenceOperationsConfig=" + persistenceOperationsConfig +
                 ", mongoDbConfig=" + mongoDbConfig +
                 ", queryPersistenceConfig=" + queryPersistenceConfig +
+                ", countsConfig=" + countsConfig +
+                ", resultCacheConfig=" + resultCacheConfig +
                 ", simpleFieldMappings=" + simpleFieldMappings +
                 "]";
     }
@@ -41,6 +41,20 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     WriteConcern getWithAcknowledgementsWriteConcern();
 
+    /**
+     * Returns the maximum number of write models to combine in one bulk write.
+     *
+     * @return the maximum bulk size.
+     */
+    int getMaxBulkSize();
+
+    /**
+     * Returns the bulk write latency to aim for when adapting the bulk size and the parallelism of bulk writes.
+     *
+     * @return the target bulk write latency.
+     */
+    Duration getTargetBulkWriteLatency();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -57,7 +71,17 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
          * The write concern used for search index updates requiring acknowledgements.
          * See {@link com.mongodb.WriteConcern} for available options.
          */
-        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled");
+        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled"),
+
+        /**
+         * The maximum number of write models to combine in one bulk write.
+         */
+        MAX_BULK_SIZE("max-bulk-size", 250),
+
+        /**
+         * The bulk write latency to aim for: bulk size and parallelism shrink when bulk writes take longer.
+         */
+        TARGET_BULK_WRITE_LATENCY("target-bulk-write-latency", Duration.ofMillis(500L));
 
         private final String configPath;
         private final Object defaultValue;
@@ -49,6 +49,22 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     SearchPersistenceConfig getQueryPersistenceConfig();
 
+    /**
+     * Returns the configuration of the materialized counts of the search index.
+     *
+     * @return the config.
+     * @since 3.2.0
+     */
+    SearchCountsConfig getCountsConfig();
+
+    /**
+     * Returns the configuration of the cache of query results.
+     *
+     * @return the config.
+     * @since 3.2.0
+     */
+    SearchResultCacheConfig getResultCacheConfig();
+
     /**
      * Returns how simple fields are mapped during query parsing.
      *
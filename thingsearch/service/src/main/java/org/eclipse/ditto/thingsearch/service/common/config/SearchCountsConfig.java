@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the materialized counts of the search index.
+ *
+ * @since 3.2.0
+ */
+@Immutable
+public interface SearchCountsConfig {
+
+    /**
+     * Returns whether the number of things per namespace and per registered filter are maintained by the search
+     * updater and used to answer sudo counts and namespace reports.
+     *
+     * @return whether materialized counts are enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the RQL filters whose number of matching things are maintained.
+     *
+     * @return the registered filters.
+     */
+    List<String> getFilters();
+
+    /**
+     * Returns how often the count changes accumulated by the search updater are written to the persistence.
+     *
+     * @return the flush interval.
+     */
+    Duration getFlushInterval();
+
+    /**
+     * Returns how often the materialized counts are recomputed from the search index to remove accumulated drift.
+     *
+     * @return the reconciliation interval.
+     */
+    Duration getReconciliationInterval();
+
+    /**
+     * Returns how long after the last reconciliation the materialized counts may be used. Counts are computed from
+     * the search index if the last reconciliation is older.
+     *
+     * @return the maximum staleness.
+     */
+    Duration getMaxStaleness();
+
+    /**
+     * An enumeration of known config path expressions and their associated default values for
+     * {@code SearchCountsConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether materialized counts are enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The RQL filters whose number of matching things are maintained.
+         */
+        FILTERS("filters", List.of()),
+
+        /**
+         * How often accumulated count changes are written to the persistence.
+         */
+        FLUSH_INTERVAL("flush-interval", Duration.ofSeconds(1L)),
+
+        /**
+         * How often the materialized counts are recomputed from the search index.
+         */
+        RECONCILIATION_INTERVAL("reconciliation-interval", Duration.ofMinutes(5L)),
+
+        /**
+         * How long after the last reconciliation the materialized counts may be used.
+         */
+        MAX_STALENESS("max-staleness", Duration.ofMinutes(15L));
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        ConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the cache of query results of the search service.
+ *
+ * @since 3.2.0
+ */
+@Immutable
+public interface SearchResultCacheConfig extends CacheConfig {
+
+    /**
+     * Returns whether results of identical queries with identical authorization subjects are cached.
+     *
+     * @return whether the result cache is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how often the namespaces of things written by the search updater of a node are published to invalidate
+     * cached results of all nodes.
+     *
+     * @return the invalidation interval.
+     */
+    Duration getInvalidationInterval();
+
+    /**
+     * An enumeration of known config path expressions and their associated default values for
+     * {@code SearchResultCacheConfig}.
+     * This enumeration is a logical extension of {@link CacheConfigValue}.
+     */
+    enum SearchResultCacheConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the result cache is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * How often the namespaces of written things are published.
+         */
+        INVALIDATION_INTERVAL("invalidation-interval", Duration.ofMillis(100L));
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        SearchResultCacheConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
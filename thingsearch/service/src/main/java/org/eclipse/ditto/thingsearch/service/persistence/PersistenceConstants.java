@@ -40,6 +40,11 @@ public final class PersistenceConstants {
      */
     public static final String BACKGROUND_SYNC_COLLECTION_NAME = "searchSync";
 
+    /**
+     * The collection name for the materialized counts of things per namespace and per registered filter.
+     */
+    public static final String COUNTS_COLLECTION_NAME = "searchCounts";
+
     /**
      * Field name for revision.
      */
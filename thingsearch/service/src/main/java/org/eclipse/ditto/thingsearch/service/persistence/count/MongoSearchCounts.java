@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.count;
+
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_COUNT;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_NAMESPACE;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * Access to the materialized counts of things per namespace and per registered filter.
+ * <p>
+ * Each count is a document with the key of the count as ID. A further document records when all counts were last
+ * recomputed from the search index; counts are only returned if this reconciliation is recent enough.
+ * </p>
+ */
+public final class MongoSearchCounts {
+
+    private static final String RECONCILED_ID = "_reconciled";
+    private static final String FIELD_RECONCILED_AT = "at";
+
+    private final MongoCollection<Document> collection;
+
+    private MongoSearchCounts(final MongoCollection<Document> collection) {
+        this.collection = collection;
+    }
+
+    /**
+     * Create access to the materialized counts in a database.
+     *
+     * @param database the database.
+     * @return the materialized counts.
+     */
+    public static MongoSearchCounts of(final MongoDatabase database) {
+        return new MongoSearchCounts(database.getCollection(PersistenceConstants.COUNTS_COLLECTION_NAME));
+    }
+
+    /**
+     * Add count changes to the materialized counts.
+     *
+     * @param deltas the count changes by key.
+     * @return source of a single Done when the changes are written.
+     */
+    public Source<Done, NotUsed> increment(final Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return Source.single(Done.getInstance());
+        }
+        final List<WriteModel<Document>> writeModels = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            final Bson inc = Updates.inc(FIELD_COUNT, delta);
+            final Bson update = SearchCounts.getNamespace(key)
+                    .map(namespace -> Updates.combine(inc, Updates.setOnInsert(FIELD_NAMESPACE, namespace)))
+                    .orElse(inc);
+            writeModels.add(new UpdateOneModel<>(Filters.eq(FIELD_ID, key), update,
+                    new UpdateOptions().upsert(true)));
+        });
+        return Source.fromPublisher(collection.bulkWrite(writeModels, new BulkWriteOptions().ordered(false)))
+                .map(result -> Done.getInstance());
+    }
+
+    /**
+     * Replace all materialized counts by counts computed from the search index and mark them as reconciled.
+     *
+     * @param counts the counts by key.
+     * @param reconciledAt when the counts were computed.
+     * @return source of a single Done when the counts are replaced.
+     */
+    public Source<Done, NotUsed> replaceAll(final Map<String, Long> counts, final Instant reconciledAt) {
+        final List<WriteModel<Document>> writeModels = new ArrayList<>(counts.size() + 1);
+        counts.forEach((key, count) -> {
+            final Document document = new Document(FIELD_ID, key).append(FIELD_COUNT, count);
+            SearchCounts.getNamespace(key).ifPresent(namespace -> document.append(FIELD_NAMESPACE, namespace));
+            writeModels.add(new ReplaceOneModel<>(Filters.eq(FIELD_ID, key), document,
+                    new ReplaceOptions().upsert(true)));
+        });
+        writeModels.add(new ReplaceOneModel<>(Filters.eq(FIELD_ID, RECONCILED_ID),
+                new Document(FIELD_ID, RECONCILED_ID).append(FIELD_RECONCILED_AT, Date.from(reconciledAt)),
+                new ReplaceOptions().upsert(true)));
+        final List<String> keptIds = new ArrayList<>(counts.keySet());
+        keptIds.add(RECONCILED_ID);
+
+        return Source.fromPublisher(collection.bulkWrite(writeModels, new BulkWriteOptions().ordered(false)))
+                .flatMapConcat(writeResult -> Source.fromPublisher(
+                        collection.deleteMany(Filters.nin(FIELD_ID, keptIds))))
+                .map(result -> Done.getInstance());
+    }
+
+    /**
+     * Retrieve a materialized count.
+     *
+     * @param key the key of the count.
+     * @param maxStaleness how long ago the counts may have been reconciled.
+     * @return source of the count, or of an empty optional if the count does not exist or is too stale.
+     */
+    public Source<Optional<Long>, NotUsed> getCount(final String key, final Duration maxStaleness) {
+        return findFreshCounts(Filters.in(FIELD_ID, key, RECONCILED_ID), maxStaleness)
+                .map(counts -> counts.flatMap(map -> Optional.ofNullable(map.get(key))));
+    }
+
+    /**
+     * Retrieve the materialized counts of all namespaces.
+     *
+     * @param maxStaleness how long ago the counts may have been reconciled.
+     * @return source of the counts by namespace, or of an empty optional if the counts are too stale.
+     */
+    public Source<Optional<Map<String, Long>>, NotUsed> getNamespaceCounts(final Duration maxStaleness) {
+        return findFreshCounts(Filters.or(Filters.eq(FIELD_ID, RECONCILED_ID), Filters.exists(FIELD_NAMESPACE)),
+                maxStaleness)
+                .map(counts -> counts.map(map -> {
+                    final Map<String, Long> namespaceCounts = new HashMap<>();
+                    map.forEach((key, count) -> SearchCounts.getNamespace(key)
+                            .filter(namespace -> count > 0L)
+                            .ifPresent(namespace -> namespaceCounts.put(namespace, count)));
+                    return namespaceCounts;
+                }));
+    }
+
+    private Source<Optional<Map<String, Long>>, NotUsed> findFreshCounts(final Bson filter,
+            final Duration maxStaleness) {
+
+        return Source.fromPublisher(collection.find(filter))
+                .fold(new CountDocuments(), CountDocuments::add)
+                .map(countDocuments -> countDocuments.isReconciledAfter(Instant.now().minus(maxStaleness))
+                        ? Optional.of(countDocuments.counts)
+                        : Optional.empty());
+    }
+
+    private static final class CountDocuments {
+
+        private final Map<String, Long> counts = new HashMap<>();
+        @Nullable private Date reconciledAt;
+
+        private CountDocuments add(final Document document) {
+            final String id = String.valueOf(document.get(FIELD_ID));
+            if (RECONCILED_ID.equals(id)) {
+                reconciledAt = document.getDate(FIELD_RECONCILED_AT);
+            } else if (document.get(FIELD_COUNT) instanceof Number count) {
+                counts.put(id, count.longValue());
+            }
+            return this;
+        }
+
+        private boolean isReconciledAfter(final Instant instant) {
+            return reconciledAt != null && reconciledAt.toInstant().isAfter(instant);
+        }
+    }
+
+}
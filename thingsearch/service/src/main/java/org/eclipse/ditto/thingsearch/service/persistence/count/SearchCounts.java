@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.count;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoCountThings;
+import org.eclipse.ditto.thingsearch.service.common.config.SearchCountsConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
+
+/**
+ * Keeps track of the changes of the number of things per namespace and per registered filter caused by confirmed
+ * writes of the search updater.
+ * <p>
+ * The changes accumulate in memory until they are drained and added to the materialized counts of the persistence.
+ * Registered filters are evaluated on the thing as stored in the search index, before and after each write.
+ * </p>
+ */
+@ThreadSafe
+public final class SearchCounts {
+
+    private static final String NAMESPACE_KEY_PREFIX = "namespace:";
+    private static final String FILTER_KEY_PREFIX = "filter:";
+
+    private static final SearchCounts DISABLED = new SearchCounts(false, List.of());
+
+    private final boolean enabled;
+    private final List<CountedFilter> filters;
+    private final Map<String, Long> pendingDeltas;
+
+    private SearchCounts(final boolean enabled, final List<CountedFilter> filters) {
+        this.enabled = enabled;
+        this.filters = filters;
+        pendingDeltas = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return search counts which record nothing.
+     */
+    public static SearchCounts disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Create search counts from config.
+     *
+     * @param config the config of the search counts.
+     * @param queryParser the parser of search queries, to recognize counts with registered filters.
+     * @return the search counts.
+     * @throws org.eclipse.ditto.base.model.exceptions.DittoRuntimeException if a registered filter is invalid.
+     */
+    public static SearchCounts of(final SearchCountsConfig config, final QueryParser queryParser) {
+        checkNotNull(config, "config");
+        checkNotNull(queryParser, "queryParser");
+        if (!config.isEnabled()) {
+            return DISABLED;
+        }
+        final var modelBasedCriteriaFactory = QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance());
+        final var filters = config.getFilters()
+                .stream()
+                .distinct()
+                .map(filter -> {
+                    final Criteria queryCriteria = queryParser.parseSudoCountThings(
+                                    SudoCountThings.of(filter, DittoHeaders.empty()))
+                            .toCompletableFuture()
+                            .join()
+                            .getCriteria();
+                    final Predicate<Thing> predicate = ThingPredicateVisitor.apply(
+                            modelBasedCriteriaFactory.filterCriteria(filter, DittoHeaders.empty()));
+                    return new CountedFilter(FILTER_KEY_PREFIX + filter, queryCriteria, predicate);
+                })
+                .toList();
+        return new SearchCounts(true, filters);
+    }
+
+    /**
+     * Get the key of the count of things in a namespace.
+     *
+     * @param namespace the namespace.
+     * @return the key.
+     */
+    public static String namespaceKey(final String namespace) {
+        return NAMESPACE_KEY_PREFIX + namespace;
+    }
+
+    /**
+     * Get the namespace of a namespace key.
+     *
+     * @param key the key.
+     * @return the namespace if the key is a namespace key.
+     */
+    public static Optional<String> getNamespace(final String key) {
+        return key.startsWith(NAMESPACE_KEY_PREFIX)
+                ? Optional.of(key.substring(NAMESPACE_KEY_PREFIX.length()))
+                : Optional.empty();
+    }
+
+    /**
+     * @return whether counts are maintained.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get the key of the count of a registered filter.
+     *
+     * @param criteria the criteria of a sudo count query.
+     * @return the key if the criteria belong to a registered filter.
+     */
+    public Optional<String> getFilterKey(final Criteria criteria) {
+        return filters.stream()
+                .filter(filter -> filter.queryCriteria().equals(criteria))
+                .map(CountedFilter::key)
+                .findAny();
+    }
+
+    /**
+     * @return the search criteria of all registered filters by their keys.
+     */
+    public Map<String, Criteria> getFilterCriteria() {
+        final Map<String, Criteria> result = new LinkedHashMap<>();
+        filters.forEach(filter -> result.put(filter.key(), filter.queryCriteria()));
+        return result;
+    }
+
+    /**
+     * Record the count changes of a confirmed write of the search index.
+     *
+     * @param previousWriteModel the write model last confirmed before, or {@code null} if unknown.
+     * @param writeModel the confirmed write model.
+     */
+    public void recordWrite(@Nullable final AbstractWriteModel previousWriteModel,
+            final AbstractWriteModel writeModel) {
+
+        if (enabled && previousWriteModel != null) {
+            add(computeDeltas(previousWriteModel, writeModel));
+        }
+    }
+
+    /**
+     * Add count changes, e.g. drained ones which could not be written.
+     *
+     * @param deltas the count changes by key.
+     */
+    public void add(final Map<String, Long> deltas) {
+        deltas.forEach((key, delta) -> pendingDeltas.merge(key, delta, Long::sum));
+    }
+
+    /**
+     * Remove and return all accumulated count changes.
+     *
+     * @return the count changes by key without zero changes.
+     */
+    public Map<String, Long> drainDeltas() {
+        final Map<String, Long> result = new HashMap<>();
+        for (final String key : pendingDeltas.keySet()) {
+            final Long delta = pendingDeltas.remove(key);
+            if (delta != null && delta != 0L) {
+                result.put(key, delta);
+            }
+        }
+        return result;
+    }
+
+    private Map<String, Long> computeDeltas(final AbstractWriteModel previousWriteModel,
+            final AbstractWriteModel writeModel) {
+
+        final var previous = IndexedThing.of(previousWriteModel);
+        final var next = IndexedThing.of(writeModel);
+        final Map<String, Long> deltas = new HashMap<>();
+        final long namespaceDelta = next.countIfIndexed() - previous.countIfIndexed();
+        if (namespaceDelta != 0L) {
+            deltas.put(namespaceKey(writeModel.getMetadata().getThingId().getNamespace()), namespaceDelta);
+        }
+        for (final CountedFilter filter : filters) {
+            final long filterDelta = next.countIfMatching(filter) - previous.countIfMatching(filter);
+            if (filterDelta != 0L) {
+                deltas.put(filter.key(), filterDelta);
+            }
+        }
+        return deltas;
+    }
+
+    private record CountedFilter(String key, Criteria queryCriteria, Predicate<Thing> predicate) {}
+
+    /**
+     * A thing as stored in the search index, converted only if a filter is evaluated on it.
+     */
+    private static final class IndexedThing {
+
+        @Nullable private final BsonDocument thingDocument;
+        @Nullable private Thing thing;
+
+        private IndexedThing(@Nullable final BsonDocument thingDocument) {
+            this.thingDocument = thingDocument;
+        }
+
+        private static IndexedThing of(final AbstractWriteModel writeModel) {
+            return new IndexedThing(writeModel instanceof ThingWriteModel thingWriteModel
+                    ? thingWriteModel.getThingDocument()
+                    : null);
+        }
+
+        private long countIfIndexed() {
+            return thingDocument != null ? 1L : 0L;
+        }
+
+        private long countIfMatching(final CountedFilter filter) {
+            return thingDocument != null && filter.predicate().test(getThing()) ? 1L : 0L;
+        }
+
+        private Thing getThing() {
+            if (thing == null) {
+                final var thingBson = thingDocument.get(PersistenceConstants.FIELD_THING);
+                thing = ThingsModelFactory.newThing(thingBson instanceof BsonDocument bsonDocument
+                        ? DittoBsonJson.getInstance().serialize(bsonDocument)
+                        : JsonObject.empty());
+            }
+            return thing;
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.query;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.rql.query.expression.SortFieldExpression;
+
+/**
+ * An aggregation of the things matching some criteria, parsed from an
+ * {@link org.eclipse.ditto.thingsearch.model.signals.commands.query.AggregateThings} command.
+ *
+ * @param criteria the criteria of the things to aggregate.
+ * @param groupings the fields to group the things by.
+ * @param accumulators the values to compute for each group.
+ * @since 3.2.0
+ */
+public record Aggregation(Criteria criteria, List<Field> groupings, List<Accumulator> accumulators) {
+
+    /**
+     * Create an aggregation.
+     *
+     * @param criteria the criteria of the things to aggregate.
+     * @param groupings the fields to group the things by.
+     * @param accumulators the values to compute for each group.
+     */
+    public Aggregation {
+        groupings = List.copyOf(groupings);
+        accumulators = List.copyOf(accumulators);
+    }
+
+    /**
+     * Returns all fields read by this aggregation, i.e. the grouping fields and the fields of the accumulators.
+     *
+     * @return the fields.
+     */
+    public Stream<Field> fields() {
+        return Stream.concat(groupings.stream(),
+                accumulators.stream().map(Accumulator::field).filter(Objects::nonNull));
+    }
+
+    /**
+     * A field of the indexed things.
+     *
+     * @param path the path of the field as given in the command.
+     * @param sortExpression the expression to read the value of the field.
+     * @param existsExpression the expression to check the existence and visibility of the field.
+     */
+    public record Field(String path, SortFieldExpression sortExpression, ExistsFieldExpression existsExpression) {}
+
+    /**
+     * A value computed for each group.
+     *
+     * @param name the name of the value in the result.
+     * @param operator the operator to compute the value with.
+     * @param field the field the operator is applied to, null for {@link Operator#COUNT}.
+     */
+    public record Accumulator(String name, Operator operator, @Nullable Field field) {}
+
+    /**
+     * The supported operators of accumulators.
+     */
+    public enum Operator {
+
+        /**
+         * Number of things in the group.
+         */
+        COUNT("count"),
+
+        /**
+         * Sum of the numeric values of a field.
+         */
+        SUM("sum"),
+
+        /**
+         * Average of the numeric values of a field.
+         */
+        AVG("avg"),
+
+        /**
+         * Minimum value of a field.
+         */
+        MIN("min"),
+
+        /**
+         * Maximum value of a field.
+         */
+        MAX("max");
+
+        private final String name;
+
+        Operator(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the name of the operator in aggregation expressions.
+         *
+         * @return the name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Find an operator by its name in aggregation expressions.
+         *
+         * @param name the name.
+         * @return the operator, or an empty optional if no operator has the name.
+         */
+        public static Optional<Operator> forName(final String name) {
+            return Stream.of(values()).filter(operator -> operator.name.equals(name)).findAny();
+        }
+    }
+
+}
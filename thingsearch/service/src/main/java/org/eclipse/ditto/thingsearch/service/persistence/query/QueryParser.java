@@ -12,9 +12,14 @@
  */
 package org.eclipse.ditto.thingsearch.service.persistence.query;
 
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.rql.model.ParserException;
@@ -32,6 +37,7 @@ import org.eclipse.ditto.thingsearch.api.commands.sudo.StreamThings;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.thingsearch.api.query.filter.ParameterOptionVisitor;
 import org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.InvalidOptionException;
+import org.eclipse.ditto.thingsearch.model.signals.commands.query.AggregateThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.ThingSearchQueryCommand;
 import org.eclipse.ditto.thingsearch.service.persistence.query.validation.QueryCriteriaValidator;
@@ -41,6 +47,9 @@ import org.eclipse.ditto.thingsearch.service.persistence.query.validation.QueryC
  */
 public final class QueryParser {
 
+    private static final Pattern AGGREGATION_EXPRESSION = Pattern.compile("^(count|sum|avg|min|max)\\(([^()]*)\\)$");
+    private static final String WILDCARD = "*";
+
     private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
     private final ThingsFieldExpressionFactory fieldExpressionFactory;
     private final QueryBuilderFactory queryBuilderFactory;
@@ -100,6 +109,77 @@ public final class QueryParser {
         return queryCriteriaValidator.validateQuery(command, query);
     }
 
+    /**
+     * Parses an aggregation command.
+     *
+     * @param aggregateThings the aggregation command.
+     * @return the aggregation.
+     * @throws InvalidOptionException if a grouping field or an aggregation expression is invalid.
+     * @since 3.2.0
+     */
+    public CompletionStage<Aggregation> parseAggregation(final AggregateThings aggregateThings) {
+        final DittoHeaders headers = aggregateThings.getDittoHeaders();
+        final Criteria criteria = parseCriteria(aggregateThings);
+        final List<Aggregation.Field> groupings = aggregateThings.getGroupBy()
+                .stream()
+                .map(path -> parseAggregationField(path, headers))
+                .toList();
+        final List<Aggregation.Accumulator> accumulators = new ArrayList<>();
+        aggregateThings.getAggregations().forEach((name, expression) ->
+                accumulators.add(parseAccumulator(name, expression, headers)));
+        if (accumulators.isEmpty()) {
+            throw invalidAggregation("At least one aggregation is required.", headers);
+        }
+        final Aggregation aggregation = new Aggregation(criteria, groupings, accumulators);
+        return queryCriteriaValidator.validateQuery(aggregateThings,
+                        queryBuilderFactory.newUnlimitedBuilder(criteria).build())
+                .thenApply(validatedQuery -> aggregation);
+    }
+
+    private Aggregation.Accumulator parseAccumulator(final String name, final String expression,
+            final DittoHeaders headers) {
+
+        final Matcher matcher = AGGREGATION_EXPRESSION.matcher(expression.trim());
+        if (!matcher.matches()) {
+            throw invalidAggregation(MessageFormat.format(
+                    "The aggregation <{0}> is not of the form <operator(field)>.", expression), headers);
+        }
+        final Aggregation.Operator operator = Aggregation.Operator.forName(matcher.group(1)).orElseThrow();
+        final String path = matcher.group(2).trim();
+        if (operator == Aggregation.Operator.COUNT) {
+            if (!path.isEmpty()) {
+                throw invalidAggregation(MessageFormat.format(
+                        "The aggregation <{0}> must not have a field.", expression), headers);
+            }
+            return new Aggregation.Accumulator(name, operator, null);
+        }
+        return new Aggregation.Accumulator(name, operator, parseAggregationField(path, headers));
+    }
+
+    private Aggregation.Field parseAggregationField(final String path, final DittoHeaders headers) {
+        if (path.isEmpty() || path.contains(WILDCARD)) {
+            throw invalidAggregation(MessageFormat.format(
+                    "The field <{0}> can not be aggregated.", path), headers);
+        }
+        try {
+            return new Aggregation.Field(path, fieldExpressionFactory.sortBy(path),
+                    fieldExpressionFactory.existsBy(path));
+        } catch (final IllegalArgumentException e) {
+            throw InvalidOptionException.newBuilder()
+                    .message(e.getMessage())
+                    .cause(e)
+                    .dittoHeaders(headers)
+                    .build();
+        }
+    }
+
+    private static InvalidOptionException invalidAggregation(final String message, final DittoHeaders headers) {
+        return InvalidOptionException.newBuilder()
+                .message(message)
+                .dittoHeaders(headers)
+                .build();
+    }
+
     private Criteria parseCriteria(final ThingSearchQueryCommand<?> command) {
 
         final DittoHeaders headers = command.getDittoHeaders();
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.Index;
+import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.thingsearch.service.persistence.Indices;
+import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.read.expression.visitors.GetSortBsonVisitor;
+
+/**
+ * Query planner for keyset pagination.
+ * <p>
+ * A page of a keyset paginated search is read by seeking an index to the position of the cursor and scanning the index
+ * in the order of the sort options, so that no page requires an in-memory sort or a scan of the preceding pages.
+ * This is only possible if the sort keys are exactly the keys of an ascending index ending with the unique thing ID,
+ * and if all sort directions are equal so that the index is scanned either forward or backward.
+ * </p>
+ */
+final class KeysetHints {
+
+    private static final BsonDocument ID_INDEX_KEYS = new BsonDocument(PersistenceConstants.FIELD_ID, new BsonInt32(1));
+
+    private static final List<BsonDocument> KEYSET_INDEX_KEYS = Stream.concat(Stream.of(ID_INDEX_KEYS),
+                    Indices.all().stream().map(Index::getKeys).filter(KeysetHints::isKeysetIndex))
+            .toList();
+
+    private KeysetHints() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Get the hint of the index to scan for a keyset paginated search.
+     *
+     * @param sortOptions sort options of the search.
+     * @return the keys of the index to scan, or an empty optional if no index supports keyset pagination in the order
+     * of the sort options.
+     */
+    static Optional<Bson> getHint(final List<SortOption> sortOptions) {
+        if (sortOptions.isEmpty() || sortOptions.stream()
+                .anyMatch(sortOption -> sortOption.getSortDirection() != sortOptions.get(0).getSortDirection())) {
+            return Optional.empty();
+        }
+        final List<String> sortKeys = sortOptions.stream()
+                .map(SortOption::getSortExpression)
+                .map(GetSortBsonVisitor::path)
+                .toList();
+        return KEYSET_INDEX_KEYS.stream()
+                .filter(indexKeys -> sortKeys.equals(new ArrayList<>(indexKeys.keySet())))
+                .<Bson>map(indexKeys -> indexKeys)
+                .findAny();
+    }
+
+    private static boolean isKeysetIndex(final BsonDocument indexKeys) {
+        final List<String> keys = new ArrayList<>(indexKeys.keySet());
+        return !keys.isEmpty() &&
+                PersistenceConstants.FIELD_ID.equals(keys.get(keys.size() - 1)) &&
+                indexKeys.values().stream().allMatch(KeysetHints::isAscending);
+    }
+
+    private static boolean isAscending(final BsonValue indexDirection) {
+        return indexDirection.isNumber() && indexDirection.asNumber().intValue() == 1;
+    }
+
+}
@@ -14,11 +14,14 @@ package org.eclipse.ditto.thingsearch.service.persistence.read;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.text.MessageFormat;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
@@ -28,6 +31,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
@@ -37,21 +41,34 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexInitializer;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.policies.api.PolicyTag;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.rql.query.Query;
 import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.criteria.CriteriaFactory;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.api.QueryTimeExceededException;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceReportResult;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceResultEntry;
+import org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.InvalidOptionException;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchPersistenceConfig;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
 import org.eclipse.ditto.thingsearch.service.persistence.Indices;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.count.MongoSearchCounts;
+import org.eclipse.ditto.thingsearch.service.persistence.count.SearchCounts;
+import org.eclipse.ditto.thingsearch.service.persistence.query.Aggregation;
 import org.eclipse.ditto.thingsearch.service.persistence.read.criteria.visitors.CreateBsonVisitor;
+import org.eclipse.ditto.thingsearch.service.persistence.read.expression.visitors.GetExistsBsonVisitor;
 import org.eclipse.ditto.thingsearch.service.persistence.read.expression.visitors.GetSortBsonVisitor;
 import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQuery;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
@@ -62,6 +79,9 @@ import org.mongodb.scala.MongoClient;
 import org.reactivestreams.Publisher;
 
 import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.BsonField;
 import com.mongodb.client.model.CountOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Projections;
@@ -85,12 +105,20 @@ import scala.PartialFunction;
  */
 public final class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
+    private static final String GROUPING_PREFIX = "g";
+    private static final String ACCUMULATOR_PREFIX = "a";
+    private static final String AGGREGATION_GROUP_BY = "groupBy";
+    private static final String AGGREGATION_AGGREGATIONS = "aggregations";
+
     private final MongoCollection<Document> collection;
     private final LoggingAdapter log;
 
     private final IndexInitializer indexInitializer;
     private final Duration maxQueryTime;
     private final MongoHints hints;
+    private final SearchCounts searchCounts;
+    @Nullable private final MongoSearchCounts materializedCounts;
+    private final Duration maxCountStaleness;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -110,6 +138,9 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         indexInitializer = IndexInitializer.of(database, SystemMaterializer.get(actorSystem).materializer());
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         hints = MongoHints.empty();
+        searchCounts = SearchCounts.disabled();
+        materializedCounts = null;
+        maxCountStaleness = Duration.ZERO;
         log.info("Query readConcern=<{}> readPreference=<{}>", readConcern, readPreference);
     }
 
@@ -118,13 +149,19 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
             final LoggingAdapter log,
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
-            final MongoHints hints) {
+            final MongoHints hints,
+            final SearchCounts searchCounts,
+            @Nullable final MongoSearchCounts materializedCounts,
+            final Duration maxCountStaleness) {
 
         this.collection = collection;
         this.log = log;
         this.indexInitializer = indexInitializer;
         this.maxQueryTime = maxQueryTime;
         this.hints = hints;
+        this.searchCounts = searchCounts;
+        this.materializedCounts = materializedCounts;
+        this.maxCountStaleness = maxCountStaleness;
     }
 
     /**
@@ -135,7 +172,26 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints theHints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, theHints);
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, theHints,
+                searchCounts, materializedCounts, maxCountStaleness);
+    }
+
+    /**
+     * Create a copy of this object which answers namespace reports and sudo counts without filter or with a
+     * registered filter from materialized counts, as long as they were reconciled recently enough.
+     *
+     * @param theSearchCounts the registered filters.
+     * @param theMaterializedCounts the materialized counts.
+     * @param theMaxCountStaleness how long ago the materialized counts may have been reconciled.
+     * @return copy of this object with materialized counts.
+     */
+    public MongoThingsSearchPersistence withMaterializedCounts(final SearchCounts theSearchCounts,
+            final MongoSearchCounts theMaterializedCounts, final Duration theMaxCountStaleness) {
+
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints,
+                checkNotNull(theSearchCounts, "theSearchCounts"),
+                checkNotNull(theMaterializedCounts, "theMaterializedCounts"),
+                checkNotNull(theMaxCountStaleness, "theMaxCountStaleness"));
     }
 
     @Override
@@ -149,6 +205,22 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
 
     @Override
     public Source<SearchNamespaceReportResult, NotUsed> generateNamespaceCountReport() {
+        final Source<Map<String, Long>, NotUsed> namespaceCounts;
+        if (materializedCounts == null) {
+            namespaceCounts = countNamespacesFromIndex();
+        } else {
+            namespaceCounts = materializedCounts.getNamespaceCounts(maxCountStaleness)
+                    .flatMapConcat(counts -> counts.map(Source::single).orElseGet(this::countNamespacesFromIndex));
+        }
+        return namespaceCounts.map(MongoThingsSearchPersistence::toNamespaceReport);
+    }
+
+    /**
+     * Count the things of each namespace in the search index, ignoring any materialized counts.
+     *
+     * @return source of the counts by namespace.
+     */
+    public Source<Map<String, Long>, NotUsed> countNamespacesFromIndex() {
         final AggregatePublisher<Document> aggregatePublisher = collection.aggregate(
                 Collections.singletonList(
                         new Document("$group",
@@ -159,18 +231,15 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         );
 
         return Source.fromPublisher(aggregatePublisher)
-                .map(document -> {
+                .fold(new LinkedHashMap<String, Long>(), (map, document) -> {
                     final String namespace = document.get(PersistenceConstants.FIELD_ID) != null
                             ? document.get(PersistenceConstants.FIELD_ID).toString()
                             : "NOT_MIGRATED";
                     final long count = Long.parseLong(document.get(PersistenceConstants.FIELD_COUNT).toString());
-                    return new SearchNamespaceResultEntry(namespace, count);
+                    map.put(namespace, count);
+                    return map;
                 })
-                .fold(new ArrayList<SearchNamespaceResultEntry>(), (list, entry) -> {
-                    list.add(entry);
-                    return list;
-                })
-                .map(SearchNamespaceReportResult::new);
+                .map(Collections::unmodifiableMap);
     }
 
     @Override
@@ -194,7 +263,36 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
 
     @Override
     public Source<Long, NotUsed> sudoCount(final Query query) {
-        return count(query, null);
+        checkNotNull(query, "query");
+        final Source<Optional<Long>, NotUsed> materializedCount;
+        if (materializedCounts == null) {
+            materializedCount = Source.single(Optional.empty());
+        } else if (query.getCriteria().equals(CriteriaFactory.getInstance().any())) {
+            materializedCount = materializedCounts.getNamespaceCounts(maxCountStaleness)
+                    .map(namespaceCounts -> namespaceCounts.map(counts ->
+                            counts.values().stream().mapToLong(Long::longValue).sum()));
+        } else {
+            materializedCount = searchCounts.getFilterKey(query.getCriteria())
+                    .map(key -> materializedCounts.getCount(key, maxCountStaleness))
+                    .orElseGet(() -> Source.single(Optional.empty()));
+        }
+        return materializedCount.flatMapConcat(count -> count
+                .map(c -> Source.single(applySkipAndLimit(c, query)))
+                .orElseGet(() -> count(query, null)));
+    }
+
+    /**
+     * Count the things matching some criteria in the search index, ignoring any materialized counts.
+     *
+     * @param criteria the criteria.
+     * @return source of the count.
+     */
+    public Source<Long, NotUsed> sudoCountFromIndex(final Criteria criteria) {
+        final BsonDocument queryFilter = BsonUtil.toBsonDocument(CreateBsonVisitor.sudoApply(criteria));
+        final CountOptions countOptions = new CountOptions().maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
+
+        return Source.fromPublisher(collection.countDocuments(queryFilter, countOptions))
+                .mapError(handleMongoExecutionTimeExceededException());
     }
 
     @Override
@@ -202,28 +300,53 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
             @Nullable final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces) {
 
-        final int skip = query.getSkip();
-        final int limit = query.getLimit();
-        final int limitPlusOne = limit + 1;
-
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime)
-                .grouped(limitPlusOne)
-                .orElse(Source.single(Collections.emptyList()))
-                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()))
-                .mapError(handleMongoExecutionTimeExceededException())
+        return findAllPaged(query, authorizationSubjectIds, hints.getHint(namespaces).orElse(null))
                 .log("findAll");
     }
 
+    @Override
+    public boolean supportsKeysetPagination(final Query query) {
+        return KeysetHints.getHint(checkNotNull(query, "query").getSortOptions()).isPresent();
+    }
+
+    @Override
+    public Source<ResultList<TimestampedThingId>, NotUsed> findAllByKeyset(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces) {
+
+        checkNotNull(query, "query");
+        final Bson hint = KeysetHints.getHint(query.getSortOptions())
+                .orElseThrow(() -> new IllegalArgumentException("No index supports keyset pagination of " + query));
+
+        return findAllPaged(query, authorizationSubjectIds, hint)
+                .log("findAllByKeyset");
+    }
+
     @Override
     public Source<ThingId, NotUsed> findAllUnlimited(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces) {
 
         final Integer limit = query.getLimit() == Integer.MAX_VALUE ? null : query.getLimit();
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null)
+        return findAllInternal(query, authorizationSubjectIds, hints.getHint(namespaces).orElse(null), limit, null)
                 .map(MongoThingsSearchPersistence::toThingId)
                 .idleTimeout(maxQueryTime);
     }
 
+    private Source<ResultList<TimestampedThingId>, NotUsed> findAllPaged(final Query query,
+            @Nullable final List<String> authorizationSubjectIds,
+            @Nullable final Bson hint) {
+
+        final int skip = query.getSkip();
+        final int limit = query.getLimit();
+        final int limitPlusOne = limit + 1;
+
+        return findAllInternal(query, authorizationSubjectIds, hint, limitPlusOne, maxQueryTime)
+                .grouped(limitPlusOne)
+                .orElse(Source.single(Collections.emptyList()))
+                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()))
+                .mapError(handleMongoExecutionTimeExceededException());
+    }
+
     /**
      * Recover a write model from the persistence.
      *
@@ -243,7 +366,7 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
     }
 
     private Source<Document, NotUsed> findAllInternal(final Query query, final List<String> authorizationSubjectIds,
-            @Nullable final Set<String> namespaces,
+            @Nullable final Bson hint,
             @Nullable final Integer limit,
             @Nullable final Duration maxQueryTime) {
 
@@ -260,7 +383,7 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
         final FindPublisher<Document> findPublisher =
                 collection.find(queryFilter, Document.class)
-                        .hint(hints.getHint(namespaces).orElse(null))
+                        .hint(hint)
                         .sort(sortOptions)
                         .skip(skip)
                         .projection(projection);
@@ -280,6 +403,67 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         return Source.fromPublisher(findPublisherWithMaxQueryTime);
     }
 
+    @Override
+    public Source<JsonArray, NotUsed> aggregate(final Aggregation aggregation,
+            final List<String> authorizationSubjectIds, final int maxGroups) {
+
+        checkNotNull(aggregation, "aggregation");
+
+        final List<Bson> filters = new ArrayList<>();
+        filters.add(CreateBsonVisitor.apply(aggregation.criteria(), authorizationSubjectIds));
+        // a thing is aggregated only if each field is either absent or visible, so that values hidden by the
+        // policy neither show up as groups nor influence the accumulated values
+        aggregation.fields().forEach(field -> filters.add(Filters.or(
+                GetExistsBsonVisitor.apply(field.existsExpression(), authorizationSubjectIds),
+                Filters.nor(GetExistsBsonVisitor.apply(field.existsExpression())))));
+
+        final List<Aggregation.Field> groupings = aggregation.groupings();
+        final Document groupId;
+        if (groupings.isEmpty()) {
+            groupId = null;
+        } else {
+            groupId = new Document();
+            for (int i = 0; i < groupings.size(); i++) {
+                groupId.append(GROUPING_PREFIX + i, "$" + GetSortBsonVisitor.path(groupings.get(i).sortExpression()));
+            }
+        }
+        final List<Aggregation.Accumulator> accumulators = aggregation.accumulators();
+        final List<BsonField> accumulatorFields = new ArrayList<>(accumulators.size());
+        for (int i = 0; i < accumulators.size(); i++) {
+            accumulatorFields.add(toBsonField(ACCUMULATOR_PREFIX + i, accumulators.get(i)));
+        }
+
+        final List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.and(filters)),
+                Aggregates.group(groupId, accumulatorFields),
+                Aggregates.sort(Sorts.ascending(PersistenceConstants.FIELD_ID)),
+                // read one more group than allowed in order to reject aggregations with too many groups
+                Aggregates.limit(maxGroups + 1)
+        );
+        if (log.isDebugEnabled()) {
+            log.debug("aggregate with pipeline <{}>.", pipeline);
+        }
+        final AggregatePublisher<BsonDocument> aggregatePublisher = collection.aggregate(pipeline, BsonDocument.class)
+                .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
+
+        return Source.fromPublisher(aggregatePublisher)
+                .map(document -> toAggregationGroup(aggregation, document))
+                .fold(JsonFactory.newArrayBuilder(), JsonArrayBuilder::add)
+                .map(JsonArrayBuilder::build)
+                .map(groups -> {
+                    if (groups.getSize() > maxGroups) {
+                        throw InvalidOptionException.newBuilder()
+                                .message(MessageFormat.format(
+                                        "The aggregation has more than the maximum of <{0}> groups.", maxGroups))
+                                .description("Narrow down the filter or group by fewer fields.")
+                                .build();
+                    }
+                    return groups;
+                })
+                .mapError(handleMongoExecutionTimeExceededException())
+                .log("aggregate");
+    }
+
     @Override
     public Source<Metadata, NotUsed> sudoStreamMetadata(final EntityId lowerBound) {
         final Bson notDeletedFilter = Filters.exists(PersistenceConstants.FIELD_DELETE_AT, false);
@@ -347,6 +531,55 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         return Optional.empty();
     }
 
+    private static long applySkipAndLimit(final long count, final Query query) {
+        return Math.min(Math.max(0L, count - query.getSkip()), query.getLimit());
+    }
+
+    private static SearchNamespaceReportResult toNamespaceReport(final Map<String, Long> namespaceCounts) {
+        final List<SearchNamespaceResultEntry> entries = new ArrayList<>(namespaceCounts.size());
+        namespaceCounts.forEach((namespace, count) -> entries.add(new SearchNamespaceResultEntry(namespace, count)));
+        return new SearchNamespaceReportResult(entries);
+    }
+
+    private static BsonField toBsonField(final String name, final Aggregation.Accumulator accumulator) {
+        final String fieldValue = Optional.ofNullable(accumulator.field())
+                .map(field -> "$" + GetSortBsonVisitor.path(field.sortExpression()))
+                .orElse(null);
+        return switch (accumulator.operator()) {
+            case COUNT -> Accumulators.sum(name, 1);
+            case SUM -> Accumulators.sum(name, fieldValue);
+            case AVG -> Accumulators.avg(name, fieldValue);
+            case MIN -> Accumulators.min(name, fieldValue);
+            case MAX -> Accumulators.max(name, fieldValue);
+        };
+    }
+
+    private static JsonObject toAggregationGroup(final Aggregation aggregation, final BsonDocument document) {
+        final BsonValue groupId = document.get(PersistenceConstants.FIELD_ID);
+        final JsonObjectBuilder groupBy = JsonFactory.newObjectBuilder();
+        final List<Aggregation.Field> groupings = aggregation.groupings();
+        for (int i = 0; i < groupings.size(); i++) {
+            final BsonValue value = groupId != null && groupId.isDocument()
+                    ? groupId.asDocument().get(GROUPING_PREFIX + i)
+                    : null;
+            groupBy.set(JsonPointer.of(groupings.get(i).path()), toJsonValue(value));
+        }
+        final JsonObjectBuilder accumulated = JsonFactory.newObjectBuilder();
+        final List<Aggregation.Accumulator> accumulators = aggregation.accumulators();
+        for (int i = 0; i < accumulators.size(); i++) {
+            accumulated.set(JsonPointer.of(accumulators.get(i).name()),
+                    toJsonValue(document.get(ACCUMULATOR_PREFIX + i)));
+        }
+        return JsonFactory.newObjectBuilder()
+                .set(AGGREGATION_GROUP_BY, groupBy.build())
+                .set(AGGREGATION_AGGREGATIONS, accumulated.build())
+                .build();
+    }
+
+    private static JsonValue toJsonValue(@Nullable final BsonValue value) {
+        return value == null ? JsonFactory.nullLiteral() : DittoBsonJson.getInstance().serialize(value);
+    }
+
     private static BsonDocument getMongoFilter(final Query query,
             @Nullable final List<String> authorizationSubjectIds) {
 
@@ -19,12 +19,14 @@ import java.util.concurrent.CompletionStage;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.rql.query.Query;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceReportResult;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
+import org.eclipse.ditto.thingsearch.service.persistence.query.Aggregation;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
 
 import akka.NotUsed;
@@ -82,6 +84,31 @@ public interface ThingsSearchPersistence {
     Source<ResultList<TimestampedThingId>, NotUsed> findAll(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
+    /**
+     * Check whether a query can be paged by keyset pagination, i.e. whether the persistence can seek to the position
+     * of a cursor and read the results in the order of the query's sort options without sorting them.
+     *
+     * @param query the query.
+     * @return whether {@link #findAllByKeyset(Query, List, Set)} supports the query.
+     * @since 3.2.0
+     */
+    boolean supportsKeysetPagination(Query query);
+
+    /**
+     * Returns the IDs for all found documents by seeking to the start of the query's results and reading them in the
+     * order of its sort options.
+     *
+     * @param query the query for matching, whose criteria start at the position of a cursor if any.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @return an {@link Source} which emits the IDs.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @throws IllegalArgumentException if the query does not support keyset pagination.
+     * @since 3.2.0
+     */
+    Source<ResultList<TimestampedThingId>, NotUsed> findAllByKeyset(Query query,
+            List<String> authorizationSubjectIds, @Nullable Set<String> namespaces);
+
     /**
      * Stream the IDs for all found documents without result size limit.
      *
@@ -95,6 +122,23 @@ public interface ThingsSearchPersistence {
     Source<ThingId, NotUsed> findAllUnlimited(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
+    /**
+     * Groups the documents matching an aggregation's criteria and computes its accumulators for each group.
+     * Documents in which a field of the aggregation exists but is not visible to the authorization subjects are
+     * excluded.
+     *
+     * @param aggregation the aggregation.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param maxGroups the maximum number of groups to return.
+     * @return an {@link Source} which emits a JSON array of the groups in the order of their grouping values, or
+     * fails with an {@link org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.InvalidOptionException}
+     * without headers if there are more than {@code maxGroups} groups.
+     * @throws NullPointerException if {@code aggregation} is {@code null}.
+     * @since 3.2.0
+     */
+    Source<JsonArray, NotUsed> aggregate(Aggregation aggregation, List<String> authorizationSubjectIds,
+            int maxGroups);
+
     /**
      * Start a stream of metadata of all search index entries not marked for deletion.
      * Do not consider authorization.
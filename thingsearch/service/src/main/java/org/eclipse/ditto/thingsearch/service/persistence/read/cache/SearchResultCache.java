@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.thingsearch.service.common.config.SearchResultCacheConfig;
+import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
+import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
+
+/**
+ * Cache of the results of search queries keyed by the parsed query, the authorization subjects and the queried
+ * namespaces.
+ * <p>
+ * Cached results are invalidated by {@link SearchResultInvalidation}s for all queries which may return things of an
+ * invalidated namespace. Results of queries which were running during an invalidation are not cached.
+ * </p>
+ *
+ * @since 3.2.0
+ */
+@ThreadSafe
+public final class SearchResultCache {
+
+    private static final String CACHE_NAME = "things-search_query_result_cache";
+    private static final SearchResultCache DISABLED = new SearchResultCache(null);
+
+    @Nullable private final Cache<Key, ResultList<TimestampedThingId>> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private SearchResultCache(@Nullable final Cache<Key, ResultList<TimestampedThingId>> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Create a result cache.
+     *
+     * @param config the config of the cache.
+     * @param executor the executor of the cache.
+     * @return the cache, which caches nothing if disabled by the config.
+     */
+    public static SearchResultCache of(final SearchResultCacheConfig config, final Executor executor) {
+        if (!config.isEnabled()) {
+            return DISABLED;
+        }
+        return new SearchResultCache(CacheFactory.createCache(config, CACHE_NAME, executor));
+    }
+
+    /**
+     * Return a cache which caches nothing.
+     *
+     * @return the disabled cache.
+     */
+    public static SearchResultCache disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Check whether results are cached.
+     *
+     * @return whether the cache is enabled.
+     */
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Create the key of the results of a query.
+     *
+     * @param query the parsed query including sorting, skip and limit.
+     * @param subjectIds the authorization subjects of the query.
+     * @param namespaces the queried namespaces, or {@code null} if all namespaces are queried.
+     * @param keyset whether keyset pagination is used.
+     * @return the key.
+     */
+    public Key newKey(final Query query, final List<String> subjectIds, @Nullable final Collection<String> namespaces,
+            final boolean keyset) {
+
+        return new Key(query, Set.copyOf(subjectIds), namespaces == null ? null : Set.copyOf(namespaces), keyset,
+                invalidations.get());
+    }
+
+    /**
+     * Look up the cached results of a query.
+     *
+     * @param key the key of the query.
+     * @return future of the cached results, or of an empty optional if the results are not cached.
+     */
+    public CompletionStage<Optional<ResultList<TimestampedThingId>>> get(final Key key) {
+        if (cache == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Cache the results of a query unless an invalidation happened since its key was created.
+     *
+     * @param key the key of the query.
+     * @param results the results.
+     */
+    public void put(final Key key, final ResultList<TimestampedThingId> results) {
+        if (cache != null && key.invalidationsAtCreation == invalidations.get()) {
+            cache.put(key, results);
+        }
+    }
+
+    /**
+     * Invalidate all cached results which may contain things of the given namespaces.
+     *
+     * @param invalidation the invalidated namespaces.
+     */
+    public void invalidate(final SearchResultInvalidation invalidation) {
+        if (cache != null && !invalidation.namespaces().isEmpty()) {
+            invalidations.incrementAndGet();
+            cache.asMap().keySet().removeIf(key -> key.mayContainAnyOf(invalidation.namespaces()));
+        }
+    }
+
+    /**
+     * Key of cached results. Keys created before and after an invalidation are equal.
+     */
+    public static final class Key {
+
+        private final Query query;
+        private final Set<String> subjectIds;
+        @Nullable private final Set<String> namespaces;
+        private final boolean keyset;
+        private final long invalidationsAtCreation;
+
+        private Key(final Query query, final Set<String> subjectIds, @Nullable final Set<String> namespaces,
+                final boolean keyset, final long invalidationsAtCreation) {
+
+            this.query = query;
+            this.subjectIds = subjectIds;
+            this.namespaces = namespaces;
+            this.keyset = keyset;
+            this.invalidationsAtCreation = invalidationsAtCreation;
+        }
+
+        private boolean mayContainAnyOf(final Set<String> invalidatedNamespaces) {
+            return namespaces == null || invalidatedNamespaces.stream().anyMatch(namespaces::contains);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return keyset == that.keyset &&
+                    query.equals(that.query) &&
+                    subjectIds.equals(that.subjectIds) &&
+                    Objects.equals(namespaces, that.namespaces);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(query, subjectIds, namespaces, keyset);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "query=" + query +
+                    ", subjectIds=" + subjectIds +
+                    ", namespaces=" + namespaces +
+                    ", keyset=" + keyset +
+                    "]";
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read.cache;
+
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.cluster.AkkaJacksonCborSerializable;
+
+/**
+ * Message published by the search updater of each node to invalidate cached query results which may contain things
+ * of the given namespaces.
+ *
+ * @param namespaces the namespaces of the things written since the last invalidation.
+ * @since 3.2.0
+ */
+@Immutable
+public record SearchResultInvalidation(Set<String> namespaces) implements AkkaJacksonCborSerializable {
+
+    /**
+     * Pub-sub topic of the invalidation messages.
+     */
+    public static final String TOPIC = "thing-search:result-invalidation";
+
+    public SearchResultInvalidation {
+        namespaces = Set.copyOf(namespaces);
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Records the namespaces of the things written by the thing updaters of a node until they are published as
+ * {@link SearchResultInvalidation}.
+ *
+ * @since 3.2.0
+ */
+@ThreadSafe
+public final class WrittenNamespaces {
+
+    private static final WrittenNamespaces DISABLED = new WrittenNamespaces(false);
+
+    private final boolean enabled;
+    private final Set<String> namespaces = ConcurrentHashMap.newKeySet();
+
+    private WrittenNamespaces(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Create a recorder of written namespaces.
+     *
+     * @return the recorder.
+     */
+    public static WrittenNamespaces newInstance() {
+        return new WrittenNamespaces(true);
+    }
+
+    /**
+     * Return a recorder which records nothing.
+     *
+     * @return the disabled recorder.
+     */
+    public static WrittenNamespaces disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Record that a thing of a namespace was written.
+     *
+     * @param namespace the namespace.
+     */
+    public void record(final String namespace) {
+        if (enabled) {
+            namespaces.add(namespace);
+        }
+    }
+
+    /**
+     * Remove and return the namespaces recorded so far.
+     *
+     * @return the recorded namespaces.
+     */
+    public Set<String> drain() {
+        final Set<String> drained = new HashSet<>();
+        for (final var iterator = namespaces.iterator(); iterator.hasNext(); ) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+}
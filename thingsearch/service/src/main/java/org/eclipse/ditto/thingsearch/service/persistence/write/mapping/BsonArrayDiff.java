@@ -25,6 +25,8 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import javax.annotation.Nullable;
+
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
@@ -49,6 +51,18 @@ final class BsonArrayDiff {
     private static final String ARRAY_ELEM_AT = "$arrayElemAt";
     private static final String CONCAT_ARRAYS = "$concatArrays";
     private static final String SLICE = "$slice";
+    private static final String LET = "$let";
+    private static final String LET_VARS = "vars";
+    private static final String LET_IN = "in";
+    private static final String MERGE_OBJECTS = "$mergeObjects";
+    private static final String UNSET_FIELD = "$unsetField";
+    private static final String UNSET_FIELD_FIELD = "field";
+    private static final String UNSET_FIELD_INPUT = "input";
+    private static final String LITERAL = "$literal";
+    private static final String DOLLAR = "$";
+    private static final String DOT = ".";
+    private static final String ELEMENT_VAR = "e";
+    private static final String ELEMENT_VAR_EXPR = "$$" + ELEMENT_VAR;
 
     static BsonValue diff(final JsonPointer key,
             final BsonArray minuend,
@@ -119,18 +133,120 @@ final class BsonArrayDiff {
         final BsonString subtrahendExpr = getPathExpr(key);
         final Map<BsonValue, Integer> subtrahendIndexMap = IntStream.range(0, subtrahend.size()).boxed()
                 .collect(Collectors.toMap(subtrahend::get, Function.identity(), (i, j) -> i));
+        final BsonSizeVisitor bsonSizeVisitor = new BsonSizeVisitor();
         final List<Element> result = new ArrayList<>(minuend.size());
-        for (final BsonValue element : minuend) {
+        for (int j = 0; j < minuend.size(); ++j) {
+            final BsonValue element = minuend.get(j);
             final Integer i = subtrahendIndexMap.get(element);
             if (i != null) {
                 result.add(new Pointer(subtrahendExpr, i));
             } else {
-                result.add(new Replace(element));
+                result.add(new Replace(diffElement(subtrahendExpr, element, j, subtrahend, maxWireVersion,
+                        mostSimilarIndex, bsonSizeVisitor)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compute the expression of a new array element. A document element is expressed as changes of the most similar
+     * document of the previous array if that is smaller than the element itself, e.g. when only a property or the
+     * policy of a feature changed.
+     */
+    private static BsonValue diffElement(final BsonString subtrahendExpr,
+            final BsonValue element,
+            final int j,
+            final BsonArray subtrahend,
+            final int maxWireVersion,
+            final BiFunction<BsonDocument, Integer, Integer> mostSimilarIndex,
+            final BsonSizeVisitor bsonSizeVisitor) {
+
+        final BsonValue literalElement = literal(element);
+        if (element.isDocument()) {
+            final int i = mostSimilarIndex.apply(element.asDocument(), j);
+            if (0 <= i && i < subtrahend.size() && subtrahend.get(i).isDocument()) {
+                final BsonValue changes = mergeExpression(ELEMENT_VAR_EXPR, subtrahend.get(i).asDocument(),
+                        element.asDocument(), maxWireVersion, bsonSizeVisitor);
+                if (changes != null) {
+                    final BsonDocument vars =
+                            new BsonDocument().append(ELEMENT_VAR, getSubtrahendElement(subtrahendExpr, i));
+                    final BsonDocument let = new BsonDocument().append(LET,
+                            new BsonDocument().append(LET_VARS, vars).append(LET_IN, changes));
+                    if (bsonSizeVisitor.eval(let) < bsonSizeVisitor.eval(literalElement)) {
+                        return let;
+                    }
+                }
+            }
+        }
+        return literalElement;
+    }
+
+    /**
+     * Create an expression evaluating to the minuend document from the subtrahend document at a field path.
+     *
+     * @return the expression, or {@code null} if the minuend cannot be expressed by changes of the subtrahend.
+     */
+    @Nullable
+    private static BsonValue mergeExpression(final String pathExpr,
+            final BsonDocument subtrahend,
+            final BsonDocument minuend,
+            final int maxWireVersion,
+            final BsonSizeVisitor bsonSizeVisitor) {
+
+        final BsonDocument changes = new BsonDocument();
+        for (final var entry : minuend.entrySet()) {
+            final String key = entry.getKey();
+            final BsonValue value = entry.getValue();
+            final BsonValue previousValue = subtrahend.get(key);
+            if (!isFieldName(key)) {
+                return null;
+            } else if (!value.equals(previousValue)) {
+                final BsonValue literalValue = literal(value);
+                BsonValue change = literalValue;
+                if (previousValue != null && previousValue.isDocument() && value.isDocument() &&
+                        !value.asDocument().isEmpty()) {
+                    final BsonValue nestedChanges = mergeExpression(pathExpr + DOT + key,
+                            previousValue.asDocument(), value.asDocument(), maxWireVersion, bsonSizeVisitor);
+                    if (nestedChanges != null &&
+                            bsonSizeVisitor.eval(nestedChanges) < bsonSizeVisitor.eval(literalValue)) {
+                        change = nestedChanges;
+                    }
+                }
+                changes.append(key, change);
+            }
+        }
+        BsonValue result = changes.isEmpty()
+                ? new BsonString(pathExpr)
+                : new BsonDocument().append(MERGE_OBJECTS, new BsonArray(List.of(new BsonString(pathExpr), changes)));
+        for (final String previousKey : subtrahend.keySet()) {
+            if (!minuend.containsKey(previousKey)) {
+                if (maxWireVersion < MIN_UNSET_WIRE_VERSION || !isFieldName(previousKey)) {
+                    return null;
+                }
+                result = new BsonDocument().append(UNSET_FIELD, new BsonDocument()
+                        .append(UNSET_FIELD_FIELD, new BsonString(previousKey))
+                        .append(UNSET_FIELD_INPUT, result));
             }
         }
         return result;
     }
 
+    private static boolean isFieldName(final String key) {
+        return !key.isEmpty() && !key.startsWith(DOLLAR) && !key.contains(DOT);
+    }
+
+    /**
+     * Protect a value from being evaluated as expression.
+     */
+    private static BsonValue literal(final BsonValue value) {
+        if (value.isDocument() || value.isArray() ||
+                value.isString() && value.asString().getValue().startsWith(DOLLAR)) {
+            return new BsonDocument().append(LITERAL, value);
+        } else {
+            return value;
+        }
+    }
+
     private static BsonDocument getSubtrahendElement(final BsonValue subtrahendExpr, final int i) {
         final BsonArray args = new BsonArray();
         args.add(subtrahendExpr);
@@ -174,7 +290,8 @@ final class BsonArrayDiff {
     /**
      * Array element of an array diff. It is either a pointer or a replacement.
      * A pointer points at a location of the previous array denoted by an expression.
-     * A replacement is a new value not present in the previous array.
+     * A replacement is an expression of a new value not present in the previous array: either the literal value or
+     * the changes of a similar value of the previous array.
      */
     private interface Element {
 
@@ -150,6 +150,15 @@ public final class BsonDiff {
         return diffSize < replacementSize;
     }
 
+    /**
+     * Get the diff size relative to the replacement size.
+     *
+     * @return the diff size in percent of the replacement size.
+     */
+    public long getDiffSizePercentage() {
+        return replacementSize == 0 ? 0L : 100L * diffSize / replacementSize;
+    }
+
     private BsonDocument consumeAndExportSet() {
         final BsonDocument setDocument = new BsonDocument();
         setPointers.forEach(pair -> setDocument.append(getPathString(pair.first()), pair.second()));
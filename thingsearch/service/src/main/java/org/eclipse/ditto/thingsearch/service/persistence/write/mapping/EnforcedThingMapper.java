@@ -77,6 +77,29 @@ public final class EnforcedThingMapper {
             final long policyRevision,
             @Nullable final Metadata oldMetadata, final int maxArraySize) {
 
+        return toWriteModel(thing, ThingPolicyEvaluator.of(policy), referencedPolicies, policyRevision, oldMetadata,
+                maxArraySize);
+    }
+
+    /**
+     * Map a Thing JSON into a search index write model reusing the evaluation of its policy.
+     *
+     * @param thing the Thing in JSON format.
+     * @param policyEvaluator the evaluator of the policy-enforcer of the Thing, shared by all things of the policy.
+     * @param referencedPolicies all policies referenced by the policy.
+     * @param policyRevision revision of the policy for a policy enforcer.
+     * @param oldMetadata the metadata that triggered the search update, possibly containing sender information.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @return BSON document to write into the search index.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if Thing ID or revision is missing.
+     */
+    public static ThingWriteModel toWriteModel(final JsonObject thing,
+            final ThingPolicyEvaluator policyEvaluator,
+            final Set<PolicyTag> referencedPolicies,
+            final long policyRevision,
+            @Nullable final Metadata oldMetadata, final int maxArraySize) {
+
+        final var policy = policyEvaluator.getPolicy();
         final String extractedThing = thing.getValueOrThrow(Thing.JsonFields.ID);
         final var thingId = ThingId.of(extractedThing);
         final long thingRevision = thing.getValueOrThrow(Thing.JsonFields.REVISION);
@@ -108,7 +131,8 @@ public final class EnforcedThingMapper {
                                 .orElse(List.of(UpdateReason.UNKNOWN))
                 );
 
-        return ThingWriteModel.of(metadata, toBsonDocument(thing, policy, metadata, maxArraySize));
+        return ThingWriteModel.of(metadata,
+                toBsonDocument(thing, policyEvaluator.evaluate(thing), metadata, maxArraySize));
     }
 
     static BsonDocument toBsonDocument(final JsonObject thing, final Policy policy, final Metadata metadata) {
@@ -118,13 +142,18 @@ public final class EnforcedThingMapper {
     static BsonDocument toBsonDocument(final JsonObject thing, final Policy policy, final Metadata metadata,
             final int maxArraySize) {
 
+        return toBsonDocument(thing, EvaluatedPolicy.of(policy, thing), metadata, maxArraySize);
+    }
+
+    private static BsonDocument toBsonDocument(final JsonObject thing, final EvaluatedPolicy evaluatedPolicy,
+            final Metadata metadata, final int maxArraySize) {
+
         final var enforced = IndexLengthRestrictionEnforcerVisitor.enforce(thing, maxArraySize);
         final var thingId = metadata.getThingId();
         final var thingRevision = metadata.getThingRevision();
         final var policyRevision =
                 metadata.getThingPolicyTag().map(AbstractEntityIdWithRevision::getRevision).orElse(0L);
         final var thingBson = DittoBsonJson.getInstance().parse(enforced);
-        final var evaluatedPolicy = EvaluatedPolicy.of(policy, thing);
         final var featureArray = getFeatureArray(thing, evaluatedPolicy);
         final BsonArray referencedPolicies = getReferencedPolicies(metadata.getAllReferencedPolicyTags());
 
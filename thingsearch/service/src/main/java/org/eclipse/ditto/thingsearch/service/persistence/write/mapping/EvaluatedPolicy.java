@@ -17,8 +17,10 @@ import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConst
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_GRANTED;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_REVOKED;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -59,19 +61,41 @@ final class EvaluatedPolicy {
     }
 
     static EvaluatedPolicy of(final Policy policy, final JsonObject thing) {
+        return ThingPolicyEvaluator.of(policy).evaluate(thing);
+    }
+
+    /**
+     * Evaluate the given read permissions, which must already be restricted to the paths existing in a thing.
+     *
+     * @param readPermissions the read permissions in the order of the policy entries.
+     * @return the evaluated policy.
+     */
+    static EvaluatedPolicy of(final Iterable<ReadPermission> readPermissions) {
         final Map<JsonPointer, Pair<Set<String>, Set<String>>> thingPermissions = new HashMap<>();
         final Map<String, Map<JsonPointer, Pair<Set<String>, Set<String>>>> featurePermissions = new HashMap<>();
+        for (final var readPermission : readPermissions) {
+            addPathToPermissions(thingPermissions, readPermission.path(), readPermission.isGrant(),
+                    readPermission.subjects());
+            addPathToFeaturePermissions(featurePermissions, readPermission.path(), readPermission.isGrant(),
+                    readPermission.subjects());
+        }
+        return new EvaluatedPolicy(thingPermissions, featurePermissions);
+    }
+
+    /**
+     * Extract the read permissions on thing resources of a policy.
+     *
+     * @param policy the policy.
+     * @return the read permissions in the order of the policy entries.
+     */
+    static List<ReadPermission> getReadPermissions(final Policy policy) {
+        final List<ReadPermission> readPermissions = new ArrayList<>();
         for (final var entry : policy) {
             final Set<String> subjects = getSubjects(entry);
             final Map<JsonPointer, Boolean> paths = getPaths(entry.getResources());
-            paths.forEach((path, isGrant) -> {
-                if (thing.contains(path) || path.isEmpty()) {
-                    addPathToPermissions(thingPermissions, path, isGrant, subjects);
-                    addPathToFeaturePermissions(featurePermissions, path, isGrant, subjects);
-                }
-            });
+            paths.forEach((path, isGrant) -> readPermissions.add(new ReadPermission(path, isGrant, subjects)));
         }
-        return new EvaluatedPolicy(thingPermissions, featurePermissions);
+        return readPermissions;
     }
 
     BsonDocument forThing() {
@@ -214,6 +238,15 @@ final class EvaluatedPolicy {
         }
     }
 
+    /**
+     * Granted or revoked READ permission of a policy entry on a thing resource.
+     *
+     * @param path path of the thing resource.
+     * @param isGrant whether the permission is granted or revoked.
+     * @param subjects the subjects of the policy entry.
+     */
+    record ReadPermission(JsonPointer path, boolean isGrant, Set<String> subjects) {}
+
     private static BsonDocument merge(final BsonDocument b1, final BsonDocument b2) {
         b1.forEach(b2::append);
         return b1;
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.model.Policy;
+
+/**
+ * Evaluates a policy for all things governed by it.
+ * <p>
+ * The evaluated policy of a thing only depends on which of the resource paths of the policy exist in the thing.
+ * Therefore the read permissions are extracted from the policy once, and the evaluated policy is computed once per
+ * combination of existing paths and then shared by all things with the same combination; e.g. all things of a
+ * policy with the same structure reuse a single evaluation. An instance should live as long as the policy revision
+ * it was created for.
+ * </p>
+ */
+@ThreadSafe
+public final class ThingPolicyEvaluator {
+
+    /**
+     * Maximum number of cached evaluations per policy. Things of a policy usually differ in only few combinations
+     * of existing paths.
+     */
+    private static final int MAX_CACHED_EVALUATIONS = 64;
+
+    private final Policy policy;
+    private final List<EvaluatedPolicy.ReadPermission> readPermissions;
+    private final int[] readPermissionPathIndexes;
+    private final JsonPointer[] distinctPaths;
+    private final Map<BitSet, EvaluatedPolicy> evaluatedPolicies;
+
+    private ThingPolicyEvaluator(final Policy policy) {
+        this.policy = policy;
+        readPermissions = EvaluatedPolicy.getReadPermissions(policy);
+        final Map<JsonPointer, Integer> pathIndexes = new LinkedHashMap<>();
+        readPermissionPathIndexes = new int[readPermissions.size()];
+        for (int i = 0; i < readPermissionPathIndexes.length; i++) {
+            final JsonPointer path = readPermissions.get(i).path();
+            readPermissionPathIndexes[i] = pathIndexes.computeIfAbsent(path, p -> pathIndexes.size());
+        }
+        distinctPaths = pathIndexes.keySet().toArray(JsonPointer[]::new);
+        evaluatedPolicies = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Create an evaluator for a policy.
+     *
+     * @param policy the policy.
+     * @return the evaluator.
+     */
+    public static ThingPolicyEvaluator of(final Policy policy) {
+        return new ThingPolicyEvaluator(policy);
+    }
+
+    /**
+     * @return the evaluated policy.
+     */
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Evaluate the policy for a thing.
+     *
+     * @param thing the thing.
+     * @return the evaluated policy, possibly shared with other things.
+     */
+    EvaluatedPolicy evaluate(final JsonObject thing) {
+        final BitSet existingPaths = new BitSet(distinctPaths.length);
+        for (int i = 0; i < distinctPaths.length; i++) {
+            final JsonPointer path = distinctPaths[i];
+            if (path.isEmpty() || thing.contains(path)) {
+                existingPaths.set(i);
+            }
+        }
+        EvaluatedPolicy result = evaluatedPolicies.get(existingPaths);
+        if (result == null) {
+            result = EvaluatedPolicy.of(getReadPermissionsOnPaths(existingPaths));
+            if (evaluatedPolicies.size() < MAX_CACHED_EVALUATIONS) {
+                evaluatedPolicies.putIfAbsent(existingPaths, result);
+            }
+        }
+        return result;
+    }
+
+    private List<EvaluatedPolicy.ReadPermission> getReadPermissionsOnPaths(final BitSet existingPaths) {
+        final List<EvaluatedPolicy.ReadPermission> result = new ArrayList<>(readPermissions.size());
+        for (int i = 0; i < readPermissionPathIndexes.length; i++) {
+            if (existingPaths.get(readPermissionPathIndexes[i])) {
+                result.add(readPermissions.get(i));
+            }
+        }
+        return result;
+    }
+
+}
@@ -39,6 +39,7 @@ import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
 import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.BsonDiff;
 import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
@@ -62,6 +63,8 @@ public final class ThingWriteModel extends AbstractWriteModel {
     private static final Counter PATCH_UPDATE_COUNT = DittoMetrics.counter("wildcard_search_patch_updates");
     private static final Counter PATCH_SKIP_COUNT = DittoMetrics.counter("wildcard_search_patch_skips");
     private static final Counter FULL_UPDATE_COUNT = DittoMetrics.counter("wildcard_search_full_updates");
+    private static final Histogram DIFF_SIZE_PERCENTAGE =
+            DittoMetrics.histogram("wildcard_search_diff_size_percentage");
 
     private final BsonDocument thingDocument;
     private final boolean isPatchUpdate;
@@ -212,6 +215,7 @@ public final class ThingWriteModel extends AbstractWriteModel {
             return Optional.empty();
         }
         final var diff = tryComputeDiff(getThingDocument(), lastWriteModel.getThingDocument(), maxWireVersion);
+        diff.ifPresent(d -> DIFF_SIZE_PERCENTAGE.record(d.getDiffSizePercentage()));
         if (diff.isPresent() && diff.get().isDiffSmaller()) {
             final var aggregationPipeline = diff.get().consumeAndExport();
             if (aggregationPipeline.isEmpty()) {
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.thingsearch.service.persistence.write.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -27,6 +28,7 @@ import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
 import com.mongodb.MongoBulkWriteException;
 import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 
 /**
  * Data structure containing requested write models, write results and errors for reliable search index update.
@@ -148,6 +150,72 @@ public final class WriteResultAndErrors {
         return bulkWriteCorrelationId;
     }
 
+    /**
+     * Extract the result of one write model of the bulk write as if it had been written alone.
+     * <p>
+     * The matched count of a bulk write cannot be attributed to single write models. If the bulk write matched fewer
+     * documents than requested, each patch update is reported as not matched, so that it is retried like when the
+     * patch updates of a bulk write are checked together. Use {@link #forWriteModelAt(int, boolean)} if the patch
+     * updates were checked one by one.
+     * </p>
+     *
+     * @param index index of the write model in the requested write models.
+     * @return the result of the write model.
+     * @throws IndexOutOfBoundsException if {@code index} is not the index of a requested write model.
+     */
+    public WriteResultAndErrors forWriteModelAt(final int index) {
+        return forWriteModelAt(index, !areUpdatesMissing());
+    }
+
+    /**
+     * Extract the result of one write model of the bulk write as if it had been written alone.
+     *
+     * @param index index of the write model in the requested write models.
+     * @param patchUpdateMatched whether the write model matched its document in case it is a patch update.
+     * @return the result of the write model.
+     * @throws IndexOutOfBoundsException if {@code index} is not the index of a requested write model.
+     * @since 3.2.0
+     */
+    public WriteResultAndErrors forWriteModelAt(final int index, final boolean patchUpdateMatched) {
+        final MongoWriteModel writeModel = writeModels.get(index);
+        if (unexpectedError != null || !bulkWriteResult.wasAcknowledged()) {
+            return new WriteResultAndErrors(List.of(writeModel), bulkWriteResult, List.of(), unexpectedError,
+                    bulkWriteCorrelationId);
+        }
+        final List<BulkWriteError> errors = new ArrayList<>(1);
+        for (final BulkWriteError error : bulkWriteErrors) {
+            if (error.getIndex() == index) {
+                errors.add(new BulkWriteError(error.getCode(), error.getMessage(), error.getDetails(), 0));
+            }
+        }
+        final List<BulkWriteUpsert> upserts = new ArrayList<>(1);
+        for (final BulkWriteUpsert upsert : bulkWriteResult.getUpserts()) {
+            if (upsert.getIndex() == index) {
+                upserts.add(new BulkWriteUpsert(0, upsert.getId()));
+            }
+        }
+        final boolean matched = errors.isEmpty() && upserts.isEmpty() &&
+                !(writeModel.getDitto() instanceof ThingDeleteModel) &&
+                !(writeModel.isPatchUpdate() && !patchUpdateMatched);
+        final int matchedCount = matched ? 1 : 0;
+        final var result = BulkWriteResult.acknowledged(0, matchedCount, 0, matchedCount, upserts, List.of());
+        return new WriteResultAndErrors(List.of(writeModel), result, errors, null, bulkWriteCorrelationId);
+    }
+
+    /**
+     * Check whether the bulk write matched fewer documents than it updated, e.g. because a patch update did not find
+     * the document revision it was based on.
+     *
+     * @return whether updates are missing.
+     * @since 3.2.0
+     */
+    public boolean areUpdatesMissing() {
+        final long updateCount = writeModels.stream()
+                .filter(writeModel -> !(writeModel.getDitto() instanceof ThingDeleteModel))
+                .count();
+        return bulkWriteResult.getMatchedCount() + bulkWriteResult.getUpserts().size() < updateCount;
+    }
+
     /**
      * Check if the error is a namespace-blocked exception.
      *
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Sizes bulk writes and limits the number of concurrent bulk writes according to the observed bulk write latency.
+ * <p>
+ * Bulk size and parallelism grow additively while bulk writes finish within the target latency and there is enough
+ * load to use them; they are halved when a bulk write takes longer or fails.
+ * </p>
+ */
+@ThreadSafe
+final class AdaptiveBulkWriteController {
+
+    private static final CompletableFuture<Void> PERMIT = CompletableFuture.completedFuture(null);
+
+    private final int maxBulkSize;
+    private final int maxParallelism;
+    private final Duration targetLatency;
+    private final Deque<CompletableFuture<Void>> waitingForPermit;
+
+    private int bulkSize;
+    private int parallelism;
+    private int bulkWritesInFlight;
+
+    private AdaptiveBulkWriteController(final int maxBulkSize, final int maxParallelism,
+            final Duration targetLatency) {
+
+        this.maxBulkSize = maxBulkSize;
+        this.maxParallelism = maxParallelism;
+        this.targetLatency = targetLatency;
+        waitingForPermit = new ArrayDeque<>();
+        bulkSize = maxBulkSize;
+        parallelism = maxParallelism;
+        bulkWritesInFlight = 0;
+    }
+
+    /**
+     * Create a controller starting with the maximum bulk size and parallelism.
+     *
+     * @param maxBulkSize the maximum bulk size.
+     * @param maxParallelism the maximum number of concurrent bulk writes.
+     * @param targetLatency the bulk write latency to aim for.
+     * @return the controller.
+     */
+    static AdaptiveBulkWriteController of(final int maxBulkSize, final int maxParallelism,
+            final Duration targetLatency) {
+
+        return new AdaptiveBulkWriteController(Math.max(1, maxBulkSize), Math.max(1, maxParallelism),
+                targetLatency);
+    }
+
+    /**
+     * @return the current maximum number of write models of a bulk write.
+     */
+    synchronized int getBulkSize() {
+        return bulkSize;
+    }
+
+    /**
+     * @return the current maximum number of concurrent bulk writes.
+     */
+    synchronized int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Request permission to start a bulk write. Each completed permit must be returned by
+     * {@link #release(int, Duration, boolean)} or, if no bulk write was started, by {@link #releaseUnused()}.
+     *
+     * @return a future completing when the bulk write may start.
+     */
+    CompletionStage<Void> acquire() {
+        synchronized (this) {
+            if (bulkWritesInFlight < parallelism) {
+                ++bulkWritesInFlight;
+                return PERMIT;
+            }
+            final var permit = new CompletableFuture<Void>();
+            waitingForPermit.add(permit);
+            return permit;
+        }
+    }
+
+    /**
+     * Report the end of a bulk write and return its permit.
+     *
+     * @param writeModelCount the number of write models of the bulk write.
+     * @param latency how long the bulk write took.
+     * @param failed whether the bulk write failed as a whole, e.g. due to a timeout.
+     */
+    void release(final int writeModelCount, final Duration latency, final boolean failed) {
+        final List<CompletableFuture<Void>> permits = new ArrayList<>();
+        synchronized (this) {
+            --bulkWritesInFlight;
+            if (failed || latency.compareTo(targetLatency) > 0) {
+                bulkSize = Math.max(1, bulkSize / 2);
+                parallelism = Math.max(1, parallelism / 2);
+            } else {
+                if (writeModelCount >= bulkSize) {
+                    bulkSize = Math.min(maxBulkSize, bulkSize + Math.max(1, bulkSize / 8));
+                }
+                if (!waitingForPermit.isEmpty()) {
+                    parallelism = Math.min(maxParallelism, parallelism + 1);
+                }
+            }
+            handOutPermits(permits);
+        }
+        // complete outside the lock as completion runs dependent stages
+        permits.forEach(permit -> permit.complete(null));
+    }
+
+    /**
+     * Return a permit without starting a bulk write, e.g. because all write models of the bulk were cancelled.
+     * Bulk size and parallelism are not adapted.
+     */
+    void releaseUnused() {
+        final List<CompletableFuture<Void>> permits = new ArrayList<>();
+        synchronized (this) {
+            --bulkWritesInFlight;
+            handOutPermits(permits);
+        }
+        permits.forEach(permit -> permit.complete(null));
+    }
+
+    private void handOutPermits(final List<CompletableFuture<Void>> permits) {
+        while (bulkWritesInFlight < parallelism && !waitingForPermit.isEmpty()) {
+            ++bulkWritesInFlight;
+            permits.add(waitingForPermit.poll());
+        }
+    }
+
+}
@@ -49,6 +49,7 @@ import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.StreamCacheConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.StreamConfig;
 import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.EnforcedThingMapper;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.ThingPolicyEvaluator;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingDeleteModel;
@@ -70,6 +71,8 @@ import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.Source;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 /**
  * Converts Thing changes into write models by retrieving data and applying enforcement via an enforcer cache.
  */
@@ -80,6 +83,7 @@ final class EnforcementFlow {
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final CachingSignalEnrichmentFacade thingsFacade;
     private final Cache<PolicyId, Entry<Pair<Policy, Set<PolicyTag>>>> policyEnforcerCache;
+    private final com.github.benmanes.caffeine.cache.Cache<Policy, ThingPolicyEvaluator> policyEvaluators;
     private final Duration cacheRetryDelay;
     private final SearchUpdateObserver searchUpdateObserver;
     private final int maxArraySize;
@@ -94,6 +98,9 @@ final class EnforcementFlow {
         thingsFacade = createThingsFacade(actorSystem, thingsShardRegion, askWithRetryConfig.getAskTimeout(),
                 thingCacheConfig, thingCacheDispatcher);
         this.policyEnforcerCache = policyEnforcerCache;
+        // policies are identical for all things governed by the same cached policy instance; weak keys compare by
+        // identity and let evaluators vanish together with the policy enforcer cache entries
+        policyEvaluators = Caffeine.newBuilder().weakKeys().build();
         searchUpdateObserver =
                 SearchUpdateObserver.get(actorSystem, ScopedConfig.dittoExtension(actorSystem.settings().config()));
         cacheRetryDelay = thingCacheConfig.getRetryDelay();
@@ -264,7 +271,9 @@ final class EnforcementFlow {
                         if (entry.exists()) {
                             try {
                                 final Pair<Policy, Set<PolicyTag>> pair = entry.getValueOrThrow();
-                                return EnforcedThingMapper.toWriteModel(thing, pair.first(), pair.second(),
+                                final ThingPolicyEvaluator policyEvaluator =
+                                        policyEvaluators.get(pair.first(), ThingPolicyEvaluator::of);
+                                return EnforcedThingMapper.toWriteModel(thing, policyEvaluator, pair.second(),
                                         entry.getRevision(), metadata, maxArraySize);
                             } catch (final JsonRuntimeException e) {
                                 log.error(e.getMessage(), e);
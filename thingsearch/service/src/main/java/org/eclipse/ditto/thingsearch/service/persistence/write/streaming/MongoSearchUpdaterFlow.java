@@ -12,15 +12,27 @@
  */
 package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.thingsearch.service.common.config.PersistenceStreamConfig;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
@@ -32,6 +44,8 @@ import com.mongodb.MongoBulkWriteException;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.DeleteManyModel;
 import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.UpdateManyModel;
 import com.mongodb.client.model.UpdateOneModel;
@@ -39,31 +53,81 @@ import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
+import akka.Done;
 import akka.NotUsed;
+import akka.actor.ActorSystem;
+import akka.actor.CoordinatedShutdown;
 import akka.japi.pf.PFBuilder;
+import akka.stream.BoundedSourceQueue;
+import akka.stream.Materializer;
+import akka.stream.QueueOfferResult;
+import akka.stream.SystemMaterializer;
 import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 
 /**
  * Flow mapping write models to write results via the search persistence.
+ * <p>
+ * The write models of all thing updaters are combined into bulk writes by a single stream. Write models pending
+ * while the bulk writes in progress occupy the parallelism are written together. Bulk size and parallelism adapt to
+ * the bulk write latency by {@link AdaptiveBulkWriteController}.
+ * </p>
+ * <p>
+ * A write model is not written if the stream of its thing updater terminates before its bulk write starts, e.g.
+ * because the thing updater was stopped. The stream of all bulk writes completes during coordinated shutdown after
+ * the write models enqueued so far were written.
+ * </p>
  */
 final class MongoSearchUpdaterFlow {
 
     private static final String TRACE_THING_BULK_UPDATE = "things_wildcard_search_thing_bulkUpdate";
     private static final String COUNT_THING_BULK_UPDATES_PER_BULK = "things_wildcard_search_thing_bulkUpdate_updates_per_bulk";
     private static final String UPDATE_TYPE_TAG = "update_type";
+    private static final Gauge BULK_SIZE = DittoMetrics.gauge("things_wildcard_search_thing_bulkUpdate_bulk_size");
+    private static final Gauge PARALLELISM =
+            DittoMetrics.gauge("things_wildcard_search_thing_bulkUpdate_parallelism");
+
+    /**
+     * Capacity of the queue of pending writes relative to the maximum number of write models of concurrent bulk
+     * writes. Thing updaters retry writes rejected due to a full queue after a back-off.
+     */
+    private static final int QUEUE_SIZE_FACTOR = 4;
 
     private static final ThreadSafeDittoLogger LOGGER =
             DittoLoggerFactory.getThreadSafeLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<BsonDocument> collection;
+    private final Materializer materializer;
+    private final AdaptiveBulkWriteController controller;
+    private final BoundedSourceQueue<PendingWrite> pendingWrites;
 
     private MongoSearchUpdaterFlow(final MongoCollection<BsonDocument> collection,
-            final PersistenceStreamConfig persistenceConfig) {
+            final PersistenceStreamConfig persistenceConfig,
+            final ActorSystem actorSystem) {
 
         final var writeConcern = persistenceConfig.getWithAcknowledgementsWriteConcern();
         LOGGER.info("Update writeConcern=<{}>", writeConcern);
         this.collection = collection.withWriteConcern(writeConcern);
+        materializer = SystemMaterializer.get(actorSystem).materializer();
+        final int maxBulkSize = persistenceConfig.getMaxBulkSize();
+        final int maxParallelism = Math.max(1, persistenceConfig.getParallelism());
+        controller = AdaptiveBulkWriteController.of(maxBulkSize, maxParallelism,
+                persistenceConfig.getTargetBulkWriteLatency());
+        final var queueAndDone = Source.<PendingWrite>queue(QUEUE_SIZE_FACTOR * maxBulkSize * maxParallelism)
+                .conflateWithSeed(MongoSearchUpdaterFlow::newBatch, MongoSearchUpdaterFlow::addToBatch)
+                .mapConcat(this::toBulks)
+                .mapAsync(1, bulk -> controller.acquire().thenApply(permit -> bulk))
+                .mapAsyncUnordered(maxParallelism, this::writeBulk)
+                .toMat(Sink.ignore(), Keep.both())
+                .run(materializer);
+        pendingWrites = queueAndDone.first();
+        CoordinatedShutdown.get(actorSystem)
+                .addTask(CoordinatedShutdown.PhaseServiceRequestsDone(), "complete-search-index-bulk-writes", () -> {
+                    pendingWrites.complete();
+                    return queueAndDone.second();
+                });
     }
 
     /**
@@ -71,26 +135,161 @@ final class MongoSearchUpdaterFlow {
      *
      * @param database the MongoDB database.
      * @param persistenceConfig the persistence configuration for the search updater stream.
+     * @param actorSystem the actor system to run the bulk writes in.
      * @return the MongoSearchUpdaterFlow object.
      */
     public static MongoSearchUpdaterFlow of(final MongoDatabase database,
-            final PersistenceStreamConfig persistenceConfig) {
+            final PersistenceStreamConfig persistenceConfig,
+            final ActorSystem actorSystem) {
 
         return new MongoSearchUpdaterFlow(
                 database.getCollection(PersistenceConstants.THINGS_COLLECTION_NAME, BsonDocument.class),
-                persistenceConfig
+                persistenceConfig,
+                actorSystem
         );
     }
 
     /**
      * Create a flow that performs the database operation described by a MongoWriteModel.
+     * The result of each write model contains only the outcome of that write model, even if it was written together
+     * with write models of other things.
      *
      * @return The flow.
      */
     public Flow<MongoWriteModel, ThingUpdater.Result, NotUsed> create() {
-        return Flow.<MongoWriteModel>create()
-                .flatMapConcat(writeModel -> executeBulkWrite(List.of(writeModel))
-                        .map(resultOrErrors -> new ThingUpdater.Result(writeModel, resultOrErrors)));
+        return Flow.<MongoWriteModel>create().flatMapConcat(this::write);
+    }
+
+    private Source<ThingUpdater.Result, NotUsed> write(final MongoWriteModel writeModel) {
+        final var pendingWrite = new PendingWrite(writeModel, new CompletableFuture<>());
+        final QueueOfferResult offerResult = pendingWrites.offer(pendingWrite);
+        if (QueueOfferResult.enqueued().equals(offerResult)) {
+            return Source.completionStage(pendingWrite.result())
+                    .watchTermination((notUsed, termination) -> {
+                        // cancel the write if the stream of the thing updater terminates without its result
+                        termination.whenComplete((done, error) -> pendingWrite.result().cancel(false));
+                        return notUsed;
+                    });
+        } else {
+            final var error = new IllegalStateException("Search index update was not enqueued: " + offerResult);
+            return Source.single(new ThingUpdater.Result(writeModel,
+                    WriteResultAndErrors.unexpectedError(List.of(writeModel), error, UUID.randomUUID().toString())));
+        }
+    }
+
+    private static List<PendingWrite> newBatch(final PendingWrite pendingWrite) {
+        final List<PendingWrite> batch = new ArrayList<>();
+        batch.add(pendingWrite);
+        return batch;
+    }
+
+    private static List<PendingWrite> addToBatch(final List<PendingWrite> batch, final PendingWrite pendingWrite) {
+        batch.add(pendingWrite);
+        return batch;
+    }
+
+    /**
+     * Split the pending writes into bulks of the current bulk size.
+     */
+    private List<List<PendingWrite>> toBulks(final List<PendingWrite> batch) {
+        final int bulkSize = controller.getBulkSize();
+        final List<List<PendingWrite>> bulks = new ArrayList<>(batch.size() / bulkSize + 1);
+        for (int i = 0; i < batch.size(); i += bulkSize) {
+            bulks.add(batch.subList(i, Math.min(batch.size(), i + bulkSize)));
+        }
+        return bulks;
+    }
+
+    private CompletionStage<Done> writeBulk(final List<PendingWrite> bulk) {
+        // skip write models whose thing updater stopped waiting for the result
+        final List<PendingWrite> pendingWritesToExecute = bulk.stream()
+                .filter(pendingWrite -> !pendingWrite.result().isDone())
+                .toList();
+        if (pendingWritesToExecute.isEmpty()) {
+            controller.releaseUnused();
+            return CompletableFuture.completedFuture(Done.getInstance());
+        }
+        final List<MongoWriteModel> writeModels =
+                pendingWritesToExecute.stream().map(PendingWrite::writeModel).toList();
+        final long startNanos = System.nanoTime();
+        return executeBulkWrite(writeModels)
+                .runWith(Sink.head(), materializer)
+                .exceptionally(error -> WriteResultAndErrors.unexpectedError(writeModels, error,
+                        UUID.randomUUID().toString()))
+                .thenCompose(resultAndErrors -> {
+                    final var latency = Duration.ofNanos(System.nanoTime() - startNanos);
+                    controller.release(writeModels.size(), latency, resultAndErrors.getUnexpectedError().isPresent());
+                    BULK_SIZE.set((long) controller.getBulkSize());
+                    PARALLELISM.set((long) controller.getParallelism());
+                    return checkPatchUpdates(resultAndErrors).thenApply(matchedPatchUpdates -> {
+                        for (int i = 0; i < pendingWritesToExecute.size(); ++i) {
+                            final var pendingWrite = pendingWritesToExecute.get(i);
+                            pendingWrite.result().complete(new ThingUpdater.Result(pendingWrite.writeModel(),
+                                    resultAndErrors.forWriteModelAt(i, matchedPatchUpdates.contains(i))));
+                        }
+                        return Done.getInstance();
+                    });
+                });
+    }
+
+    /**
+     * Find the patch updates of a bulk write which matched their document. The matched count of a bulk write does not
+     * tell which of its patch updates did not match. If it falls short, the documents of the patch updates are read in
+     * order to check which of them have the revision written by their patch update, so that only the patch updates
+     * which did not match are answered as incorrect patches.
+     */
+    private CompletionStage<Set<Integer>> checkPatchUpdates(final WriteResultAndErrors resultAndErrors) {
+        final List<MongoWriteModel> writeModels = resultAndErrors.getWriteModels();
+        final List<BsonString> patchedThingIds = writeModels.stream()
+                .filter(MongoWriteModel::isPatchUpdate)
+                .map(writeModel -> new BsonString(writeModel.getDitto().getMetadata().getThingId().toString()))
+                .toList();
+        if (!resultAndErrors.areUpdatesMissing()) {
+            return CompletableFuture.completedFuture(allIndexes(writeModels));
+        } else if (resultAndErrors.getUnexpectedError().isPresent() || writeModels.size() == 1 ||
+                patchedThingIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Set.of());
+        }
+        final var filter = Filters.in(PersistenceConstants.FIELD_ID, patchedThingIds);
+        final var projection = Projections.include(PersistenceConstants.FIELD_REVISION);
+        return Source.fromPublisher(collection.find(filter).projection(projection))
+                .runWith(Sink.seq(), materializer)
+                .thenApply(documents -> getMatchedPatchUpdates(writeModels, documents))
+                .exceptionally(error -> {
+                    LOGGER.warn("Failed to check patch updates of a bulk write, reporting all as not matched: {}",
+                            error.toString());
+                    return Set.of();
+                });
+    }
+
+    /**
+     * Find the patch updates whose documents have the revision written by the patch update.
+     *
+     * @param writeModels the write models of a bulk write.
+     * @param documents the documents of the patched things with their revision.
+     * @return the indexes of the matched patch updates.
+     */
+    static Set<Integer> getMatchedPatchUpdates(final List<MongoWriteModel> writeModels,
+            final List<BsonDocument> documents) {
+
+        final Map<BsonValue, BsonValue> revisions = new HashMap<>();
+        documents.forEach(document -> revisions.put(document.get(PersistenceConstants.FIELD_ID),
+                document.get(PersistenceConstants.FIELD_REVISION)));
+        final Set<Integer> matched = new HashSet<>();
+        for (int i = 0; i < writeModels.size(); ++i) {
+            final var writeModel = writeModels.get(i);
+            final var metadata = writeModel.getDitto().getMetadata();
+            final BsonValue revision = revisions.get(new BsonString(metadata.getThingId().toString()));
+            if (writeModel.isPatchUpdate() && revision != null && revision.isNumber() &&
+                    revision.asNumber().longValue() == metadata.getThingRevision()) {
+                matched.add(i);
+            }
+        }
+        return matched;
+    }
+
+    private static Set<Integer> allIndexes(final List<?> list) {
+        return IntStream.range(0, list.size()).boxed().collect(Collectors.toSet());
     }
 
     private Source<WriteResultAndErrors, NotUsed> executeBulkWrite(final Collection<MongoWriteModel> writeModels) {
@@ -170,4 +369,6 @@ final class MongoSearchUpdaterFlow {
         }
     }
 
+    private record PendingWrite(MongoWriteModel writeModel, CompletableFuture<ThingUpdater.Result> result) {}
+
 }
@@ -29,6 +29,7 @@ import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.signals.Signal;
 import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.base.service.config.limits.DefaultLimitsConfig;
 import org.eclipse.ditto.base.service.signaltransformer.SignalTransformer;
 import org.eclipse.ditto.base.service.signaltransformer.SignalTransformers;
 import org.eclipse.ditto.internal.utils.akka.actors.AbstractActorWithShutdownBehaviorAndRequestCounting;
@@ -57,7 +58,10 @@ import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoRetrieveNamespaceReport;
 import org.eclipse.ditto.thingsearch.model.SearchModelFactory;
 import org.eclipse.ditto.thingsearch.model.signals.commands.ThingSearchCommand;
+import org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.InvalidOptionException;
 import org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.SubscriptionAbortedException;
+import org.eclipse.ditto.thingsearch.model.signals.commands.query.AggregateThings;
+import org.eclipse.ditto.thingsearch.model.signals.commands.query.AggregateThingsResponse;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThingsResponse;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
@@ -67,6 +71,8 @@ import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
 import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
 import org.eclipse.ditto.thingsearch.service.persistence.read.ThingsSearchPersistence;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.SearchResultCache;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.SearchResultInvalidation;
 
 import com.typesafe.config.Config;
 
@@ -92,8 +98,8 @@ import akka.stream.javadsl.Source;
 import akka.stream.javadsl.StreamRefs;
 
 /**
- * Actor handling all supported {@link ThingSearchCommand}s. Currently, those are {@link CountThings} and {@link
- * QueryThings}.
+ * Actor handling all supported {@link ThingSearchCommand}s. Currently, those are {@link CountThings}, {@link
+ * QueryThings} and {@link AggregateThings}.
  * <p>
  * Passes the commands to the appropriate query actor which is determined by the API version of each received command
  * (see {@link DittoHeaders#getSchemaVersion()}).
@@ -131,14 +137,17 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
     private final PreEnforcerProvider preEnforcer;
     private final SignalTransformer signalTransformer;
     private final ActorRef pubSubMediator;
+    private final SearchResultCache searchResultCache;
+    private final int maxAggregationGroups;
 
     @SuppressWarnings("unused")
     private SearchActor(final QueryParser queryParser, final ThingsSearchPersistence searchPersistence,
-            final ActorRef pubSubMediator) {
+            final ActorRef pubSubMediator, final SearchResultCache searchResultCache) {
 
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
         this.pubSubMediator = pubSubMediator;
+        this.searchResultCache = searchResultCache;
         final var system = getSystem();
         final Config config = system.settings().config();
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(config);
@@ -146,6 +155,8 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         signalTransformer = SignalTransformers.get(system, dittoExtensionsConfig);
         final var dittoScopedConfig = DefaultScopedConfig.dittoScoped(getSystem().settings().config());
 
+        maxAggregationGroups = DefaultLimitsConfig.of(dittoScopedConfig).getThingsSearchMaxPageSize();
+
         final EnforcementConfig enforcementConfig = DefaultEnforcementConfig.of(dittoScopedConfig);
         enforcementConfig.getSpecialLoggingInspectedNamespaces()
                 .forEach(loggedNamespace -> NAMESPACE_INSPECTION_LOGGERS.put(
@@ -166,7 +177,23 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
     static Props props(final QueryParser queryFactory, final ThingsSearchPersistence searchPersistence,
             final ActorRef pubSubMediator) {
 
-        return Props.create(SearchActor.class, queryFactory, searchPersistence, pubSubMediator)
+        return props(queryFactory, searchPersistence, pubSubMediator, SearchResultCache.disabled());
+    }
+
+    /**
+     * Creates Akka configuration object Props for this SearchActor which caches query results.
+     *
+     * @param queryFactory factory of query objects.
+     * @param searchPersistence the {@link org.eclipse.ditto.thingsearch.service.persistence.read.ThingsSearchPersistence}
+     * to use in order to execute queries.
+     * @param pubSubMediator the Akka pub-sub mediator.
+     * @param searchResultCache the cache of query results.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final QueryParser queryFactory, final ThingsSearchPersistence searchPersistence,
+            final ActorRef pubSubMediator, final SearchResultCache searchResultCache) {
+
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, pubSubMediator, searchResultCache)
                 .withDispatcher(SEARCH_DISPATCHER_ID);
     }
 
@@ -175,9 +202,11 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         return ReceiveBuilder.create()
                 .match(CountThings.class, this::count)
                 .match(SudoCountThings.class, this::sudoCount)
+                .match(AggregateThings.class, this::aggregate)
                 .match(QueryThings.class, this::query)
                 .match(SudoRetrieveNamespaceReport.class, this::namespaceReport)
                 .match(StreamThings.class, this::stream)
+                .match(SearchResultInvalidation.class, searchResultCache::invalidate)
                 .match(DistributedPubSubMediator.SubscribeAck.class, ack -> log.info("Got <{}>", ack))
                 .matchAny(any -> log.warning("Got unknown message '{}'", any))
                 .build();
@@ -188,6 +217,10 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         final var subscribe =
                 DistPubSubAccess.subscribeViaGroup(ThingSearchCommand.TYPE_PREFIX, ACTOR_NAME, getSelf());
         pubSubMediator.tell(subscribe, getSelf());
+        if (searchResultCache.isEnabled()) {
+            // every search actor caches results independently and must receive all invalidations
+            pubSubMediator.tell(DistPubSubAccess.subscribe(SearchResultInvalidation.TOPIC, getSelf()), getSelf());
+        }
 
         final var coordinatedShutdown = CoordinatedShutdown.get(getSystem());
         final var serviceUnbindTask = "service-unbind-" + ACTOR_NAME;
@@ -280,6 +313,22 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         );
     }
 
+    private void aggregate(final AggregateThings aggregateThings) {
+        final var sender = getSender();
+        performLogging(aggregateThings);
+
+        final ThreadSafeDittoLoggingAdapter l = log.withCorrelationId(aggregateThings);
+        l.info("Processing AggregateThings command with namespaces <{}>, filter <{}>, groupBy <{}> and " +
+                        "aggregations <{}>", aggregateThings.getNamespaces(), aggregateThings.getFilter(),
+                aggregateThings.getGroupBy(), aggregateThings.getAggregations());
+
+        withRequestCounting(
+                applySignalTransformation(aggregateThings, sender)
+                        .thenCompose(preEnforcer::apply)
+                        .thenCompose(signal -> executeAggregation((AggregateThings) signal, sender))
+        );
+    }
+
     private void stream(final StreamThings streamThings) {
         final var sender = getSender();
         final ThreadSafeDittoLoggingAdapter l = log.withCorrelationId(streamThings);
@@ -332,6 +381,49 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         return Patterns.pipe(replyFuture, getContext().dispatcher()).to(sender).future();
     }
 
+    private CompletionStage<Object> executeAggregation(final AggregateThings aggregateThings,
+            final ActorRef sender) {
+
+        final var dittoHeaders = aggregateThings.getDittoHeaders();
+        final var queryType = "aggregate";
+        final StartedTimer aggregationTimer =
+                startNewTimer(aggregateThings.getImplementedSchemaVersion(), queryType, aggregateThings);
+        final StartedTimer queryParsingTimer = aggregationTimer.startNewSegment(QUERY_PARSING_SEGMENT_NAME);
+
+        final Source<AggregateThingsResponse, ?> aggregateThingsResponseSource =
+                createQuerySource(queryParser::parseAggregation, aggregateThings)
+                        .flatMapConcat(aggregation -> {
+                            stopTimer(queryParsingTimer);
+                            final StartedTimer databaseAccessTimer =
+                                    aggregationTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
+
+                            final Source<JsonArray, NotUsed> aggregationResultSource =
+                                    searchPersistence.aggregate(aggregation,
+                                                    dittoHeaders.getAuthorizationContext()
+                                                            .getAuthorizationSubjectIds(),
+                                                    maxAggregationGroups)
+                                            .mapError(new PFBuilder<Throwable, Throwable>()
+                                                    .match(InvalidOptionException.class,
+                                                            error -> error.setDittoHeaders(dittoHeaders))
+                                                    .build());
+
+                            return processSearchPersistenceResult(aggregationResultSource, dittoHeaders)
+                                    .via(Flow.fromFunction(result -> {
+                                        stopTimer(databaseAccessTimer);
+                                        return result;
+                                    }))
+                                    .map(groups -> AggregateThingsResponse.of(groups, dittoHeaders));
+                        });
+
+        final Source<Object, ?> replySourceWithErrorHandling =
+                aggregateThingsResponseSource.via(stopTimerAndHandleError(aggregationTimer, aggregateThings));
+
+        final var replyFuture =
+                replySourceWithErrorHandling.runWith(Sink.head(), SystemMaterializer.get(getSystem()).materializer());
+
+        return Patterns.pipe(replyFuture, getContext().dispatcher()).to(sender).future();
+    }
+
     private CompletionStage<Object> performStream(final StreamThings streamThings, final ActorRef sender,
             final ThreadSafeDittoLoggingAdapter l) {
 
@@ -458,8 +550,13 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                             queryThings.getNamespaces(), queryThings.getFilter());
                     l.debug("Processing QueryThings command: <{}>", queryThings);
 
+                    final boolean keyset = ThingsSearchCursor.isKeysetPagination(cursor, command);
+
                     return createQuerySource(queryParser::parse, command)
                             .flatMapConcat(parsedQuery -> {
+                                if (keyset && !searchPersistence.supportsKeysetPagination(parsedQuery)) {
+                                    return Source.failed(ThingsSearchCursor.keysetPaginationNotSupported(command));
+                                }
                                 final var query =
                                         ThingsSearchCursor.adjust(cursor, parsedQuery,
                                                 queryParser.getCriteriaFactory());
@@ -473,7 +570,7 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                                                 .getAuthorizationContext()
                                                 .getAuthorizationSubjectIds();
                                 final Source<ResultList<TimestampedThingId>, NotUsed> findAllResult =
-                                        searchPersistence.findAll(query, subjectIds, namespaces);
+                                        findAllCached(query, subjectIds, namespaces, keyset);
 
                                 return processSearchPersistenceResult(findAllResult, dittoHeaders)
                                         .via(Flow.fromFunction(result -> {
@@ -493,6 +590,34 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         return Patterns.pipe(replyFuture, getContext().dispatcher()).to(sender).future();
     }
 
+    private Source<ResultList<TimestampedThingId>, NotUsed> findAllCached(final Query query,
+            final List<String> subjectIds,
+            @Nullable final Set<String> namespaces,
+            final boolean keyset) {
+
+        if (!searchResultCache.isEnabled()) {
+            return findAll(query, subjectIds, namespaces, keyset);
+        }
+        final var cacheKey = searchResultCache.newKey(query, subjectIds, namespaces, keyset);
+        return Source.completionStage(searchResultCache.get(cacheKey))
+                .flatMapConcat(cachedResult -> cachedResult.map(Source::single)
+                        .orElseGet(() -> findAll(query, subjectIds, namespaces, keyset)
+                                .map(result -> {
+                                    searchResultCache.put(cacheKey, result);
+                                    return result;
+                                })));
+    }
+
+    private Source<ResultList<TimestampedThingId>, NotUsed> findAll(final Query query,
+            final List<String> subjectIds,
+            @Nullable final Set<String> namespaces,
+            final boolean keyset) {
+
+        return keyset
+                ? searchPersistence.findAllByKeyset(query, subjectIds, namespaces)
+                : searchPersistence.findAll(query, subjectIds, namespaces);
+    }
+
     private QueryThingsResponse toQueryThingsResponse(final QueryThings queryThings,
             @Nullable ThingsSearchCursor cursor,
             final ResultList<TimestampedThingId> thingIds) {
@@ -535,11 +660,11 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         });
     }
 
-    private static <T> Source<Query, NotUsed> createQuerySource(final Function<T, CompletionStage<Query>> parser,
+    private static <T, Q> Source<Q, NotUsed> createQuerySource(final Function<T, CompletionStage<Q>> parser,
             final T command) {
         try {
             return Source.completionStage(parser.apply(command))
-                    .recoverWithRetries(1, new PFBuilder<Throwable, Source<Query, NotUsed>>()
+                    .recoverWithRetries(1, new PFBuilder<Throwable, Source<Q, NotUsed>>()
                             .match(CompletionException.class, e -> Source.failed(e.getCause()))
                             .build());
         } catch (final Throwable e) {
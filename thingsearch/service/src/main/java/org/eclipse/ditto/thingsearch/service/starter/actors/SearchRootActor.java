@@ -25,10 +25,13 @@ import org.eclipse.ditto.rql.query.QueryBuilderFactory;
 import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.thingsearch.api.ThingsSearchConstants;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.count.MongoSearchCounts;
+import org.eclipse.ditto.thingsearch.service.persistence.count.SearchCounts;
 import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
 import org.eclipse.ditto.thingsearch.service.persistence.query.validation.QueryCriteriaValidator;
 import org.eclipse.ditto.thingsearch.service.persistence.read.MongoThingsSearchPersistence;
 import org.eclipse.ditto.thingsearch.service.persistence.read.ThingsSearchPersistence;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.SearchResultCache;
 import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQueryBuilderFactory;
 import org.eclipse.ditto.thingsearch.service.updater.actors.SearchUpdaterRootActor;
 
@@ -66,7 +69,13 @@ public final class SearchRootActor extends DittoRootActor {
 
         final var thingsSearchPersistence =
                 getThingsSearchPersistence(searchConfig, mongoDbClient);
-        final ActorRef searchActor = initializeSearchActor(searchConfig, thingsSearchPersistence, pubSubMediator);
+        final var countsConfig = searchConfig.getCountsConfig();
+        final var searchCounts = SearchCounts.of(countsConfig, getQueryParser(searchConfig, actorSystem));
+        final var queriedPersistence = searchCounts.isEnabled()
+                ? thingsSearchPersistence.withMaterializedCounts(searchCounts,
+                MongoSearchCounts.of(mongoDbClient.getDefaultDatabase()), countsConfig.getMaxStaleness())
+                : thingsSearchPersistence;
+        final ActorRef searchActor = initializeSearchActor(searchConfig, queriedPersistence, pubSubMediator);
         pubSubMediator.tell(DistPubSubAccess.put(searchActor), getSelf());
 
         final TimestampPersistence backgroundSyncPersistence =
@@ -75,7 +84,7 @@ public final class SearchRootActor extends DittoRootActor {
 
         final ActorRef searchUpdaterRootActor = startChildActor(SearchUpdaterRootActor.ACTOR_NAME,
                 SearchUpdaterRootActor.props(searchConfig, pubSubMediator, thingsSearchPersistence,
-                        backgroundSyncPersistence));
+                        backgroundSyncPersistence, searchCounts));
         final ActorRef healthCheckingActor = initializeHealthCheckActor(searchConfig, searchUpdaterRootActor);
 
         bindHttpStatusRoute(searchConfig.getHttpConfig(), healthCheckingActor);
@@ -136,7 +145,9 @@ public final class SearchRootActor extends DittoRootActor {
     private ActorRef initializeSearchActor(final SearchConfig searchConfig,
             final ThingsSearchPersistence thingsSearchPersistence, final ActorRef pubSubMediator) {
         final var queryParser = getQueryParser(searchConfig, getContext().getSystem());
-        final var props = SearchActor.props(queryParser, thingsSearchPersistence, pubSubMediator);
+        final var searchResultCache =
+                SearchResultCache.of(searchConfig.getResultCacheConfig(), getContext().getSystem().dispatcher());
+        final var props = SearchActor.props(queryParser, thingsSearchPersistence, pubSubMediator, searchResultCache);
         return startChildActor(SearchActor.ACTOR_NAME, props);
     }
 
@@ -32,6 +32,7 @@ import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
+import org.bson.BsonValue;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException;
@@ -55,6 +56,7 @@ import org.eclipse.ditto.rql.query.criteria.CriteriaFactory;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.StreamThings;
 import org.eclipse.ditto.thingsearch.model.CursorOption;
+import org.eclipse.ditto.thingsearch.model.KeysetOption;
 import org.eclipse.ditto.thingsearch.model.LimitOption;
 import org.eclipse.ditto.thingsearch.model.Option;
 import org.eclipse.ditto.thingsearch.model.SearchResult;
@@ -92,6 +94,9 @@ import scala.PartialFunction;
  * <li>{@code adjust(Optional<ThingsSearchCursor>, Query, CriteriaFactory)}:
  * Adjust a {@code Query} so that its results start from the location marked by the cursor.
  * </li>
+ * <li>{@code isKeysetPagination(Optional<ThingsSearchCursor>, QueryThings)}:
+ * Decide whether the results are to be read by seeking an index to the location marked by the cursor.
+ * </li>
  * <li>{@code processSearchResult(QueryThings, ThingsSearchCursor, SearchResult, ResultList)}:
  * Compute a cursor pointing at the end of the search result if there are more results.
  * </li>
@@ -105,6 +110,8 @@ final class ThingsSearchCursor {
             SortOptionEntry.asc(Thing.JsonFields.ID.getPointer());
 
     private static final String LIMIT_OPTION_FORBIDDEN = "The options 'cursor' and 'limit' must not be used together.";
+    private static final String KEYSET_LIMIT_OPTION_FORBIDDEN =
+            "The options 'keyset' and 'limit' must not be used together.";
 
     private static final Base64.Encoder BASE64_URL_ENCODER_WITHOUT_PADDING = Base64.getUrlEncoder().withoutPadding();
     private static final PartialFunction<Throwable, Throwable> DECODE_ERROR_MAPPER = createDecodeErrorMapper();
@@ -118,6 +125,7 @@ final class ThingsSearchCursor {
     private static final JsonFieldDefinition<String> CORRELATION_ID = JsonFactory.newStringFieldDefinition("C");
     private static final JsonFieldDefinition<JsonArray> VALUES = JsonFactory.newJsonArrayFieldDefinition("V");
     private static final JsonFieldDefinition<String> SORT_OPTION = JsonFactory.newStringFieldDefinition("S");
+    private static final JsonFieldDefinition<Boolean> KEYSET = JsonFactory.newBooleanFieldDefinition("K");
 
     /*
      * Data encoded in a cursor.
@@ -128,15 +136,24 @@ final class ThingsSearchCursor {
     @Nullable final String correlationId;
     private final SortOption sortOption;
     private final JsonArray values;
+    private final boolean keyset;
 
     ThingsSearchCursor(@Nullable final Set<String> namespaces, @Nullable final String correlationId,
             final SortOption sortOption, @Nullable final String filter, final JsonArray values) {
+
+        this(namespaces, correlationId, sortOption, filter, values, false);
+    }
+
+    ThingsSearchCursor(@Nullable final Set<String> namespaces, @Nullable final String correlationId,
+            final SortOption sortOption, @Nullable final String filter, final JsonArray values,
+            final boolean keyset) {
         this.namespaces = namespaces;
         this.filter = filter;
 
         this.correlationId = correlationId;
         this.sortOption = sortOption;
         this.values = values;
+        this.keyset = keyset;
 
         if (sortOption.getSize() != values.getSize()) {
             // Cursor corrupted. Offer no more information.
@@ -151,14 +168,14 @@ final class ThingsSearchCursor {
 
     @Override
     public int hashCode() {
-        return Objects.hash(filter, namespaces, correlationId, sortOption, values);
+        return Objects.hash(filter, namespaces, correlationId, sortOption, values, keyset);
     }
 
     @Override
     public boolean equals(final Object that) {
         if (that instanceof ThingsSearchCursor c) {
-            return Arrays.asList(filter, namespaces, correlationId, sortOption, values)
-                    .equals(Arrays.asList(c.filter, c.namespaces, c.correlationId, c.sortOption, c.values));
+            return Arrays.asList(filter, namespaces, correlationId, sortOption, values, keyset)
+                    .equals(Arrays.asList(c.filter, c.namespaces, c.correlationId, c.sortOption, c.values, c.keyset));
         } else {
             return false;
         }
@@ -178,7 +195,8 @@ final class ThingsSearchCursor {
      * A cursor is compatible with a command if
      * <ul>
      * <li>their filter strings are identical,</li>
-     * <li>their sort options are compatible, and</li>
+     * <li>their sort options are compatible,</li>
+     * <li>the command has no keyset option unless the cursor is for keyset pagination, and</li>
      * <li>the command has no limit option.</li>
      * </ul>
      *
@@ -201,6 +219,8 @@ final class ThingsSearchCursor {
             description = LIMIT_OPTION_FORBIDDEN;
         } else if (hasIncompatibleSortOption(commandOptions)) {
             description = "The option 'sort' must not differ from the original query of the cursor.";
+        } else if (!keyset && hasKeysetOption(commandOptions)) {
+            description = "The option 'keyset' must not differ from the original query of the cursor.";
         } else {
             description = null;
         }
@@ -237,7 +257,7 @@ final class ThingsSearchCursor {
         final Optional<JsonArray> newValues = resultList.lastResultSortValues();
         if (newValues.isPresent()) {
             final ThingsSearchCursor newCursor =
-                    new ThingsSearchCursor(namespaces, correlationId, sortOption, filter, newValues.get());
+                    new ThingsSearchCursor(namespaces, correlationId, sortOption, filter, newValues.get(), keyset);
             return searchResult.toBuilder()
                     .cursor(newCursor.encode())
                     .nextPageOffset(null)
@@ -251,17 +271,7 @@ final class ThingsSearchCursor {
      * @return Compute a {@code QueryThings} using content of this cursor.
      */
     private QueryThings adjustQueryThings(final QueryThings queryThings) {
-        final List<String> adjustedOptions =
-                Stream.concat(
-                        Stream.of(RqlOptionParser.unparse(Collections.singletonList(sortOption))),
-                        queryThings.getOptions()
-                                .stream()
-                                .flatMap(Collection::stream)
-                                .filter(option -> !option.startsWith("sort")))
-                        .collect(Collectors.toList());
-        // leave correlation ID alone
-        final DittoHeaders headers = queryThings.getDittoHeaders();
-        return QueryThings.of(filter, adjustedOptions, queryThings.getFields().orElse(null), namespaces, headers);
+        return withSortOption(queryThings, sortOption, filter, namespaces);
     }
 
     /**
@@ -272,8 +282,10 @@ final class ThingsSearchCursor {
      * @return a new query object starting at the location of this cursor.
      */
     private Query adjustQuery(final Query query, final CriteriaFactory cf) {
-        return query.withCriteria(cf.and(Arrays.asList(query.getCriteria(),
-                getNextPageFilter(query.getSortOptions(), values, cf))));
+        final Criteria nextPageFilter = keyset
+                ? getKeysetPageFilter(query.getSortOptions(), values, cf)
+                : getNextPageFilter(query.getSortOptions(), values, cf);
+        return query.withCriteria(cf.and(Arrays.asList(query.getCriteria(), nextPageFilter)));
     }
 
     /**
@@ -287,6 +299,7 @@ final class ThingsSearchCursor {
                 .set(CORRELATION_ID, correlationId, notNull)
                 .set(SORT_OPTION, RqlOptionParser.unparse(Collections.singletonList(sortOption)))
                 .set(VALUES, values)
+                .set(KEYSET, keyset, field -> field.getValue().asBoolean())
                 .build();
     }
 
@@ -351,7 +364,45 @@ final class ThingsSearchCursor {
      */
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     static QueryThings adjust(final Optional<ThingsSearchCursor> cursor, final QueryThings queryThings) {
-        return cursor.map(c -> c.adjustQueryThings(queryThings)).orElse(queryThings);
+        return cursor.map(c -> c.adjustQueryThings(queryThings)).orElseGet(() -> {
+            if (hasKeysetOption(getOptions(queryThings))) {
+                // the first page of keyset pagination is read in the order of the cursors of subsequent pages
+                return withSortOption(queryThings, sortOptionForNewCursor(queryThings),
+                        queryThings.getFilter().orElse(null), queryThings.getNamespaces().orElse(null));
+            } else {
+                return queryThings;
+            }
+        });
+    }
+
+    /**
+     * Decide whether the results of a {@code QueryThings} command are to be read by keyset pagination, i.e. by
+     * seeking an index to the position of the cursor and scanning it in the order of the sort option.
+     *
+     * @param cursor an optional cursor.
+     * @param queryThings the command.
+     * @return whether the cursor is for keyset pagination if it exists; whether the command has a keyset option if
+     * the cursor does not exist.
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    static boolean isKeysetPagination(final Optional<ThingsSearchCursor> cursor, final QueryThings queryThings) {
+        return cursor.map(c -> c.keyset).orElseGet(() -> hasKeysetOption(getOptions(queryThings)));
+    }
+
+    /**
+     * Create an exception for a {@code QueryThings} command with keyset option whose sort option is not supported by
+     * any index.
+     *
+     * @param queryThings the command.
+     * @return the exception.
+     */
+    static InvalidOptionException keysetPaginationNotSupported(final QueryThings queryThings) {
+        return InvalidOptionException.newBuilder()
+                .message("The option 'keyset' is not supported for the option 'sort' of the search request.")
+                .description("Keyset pagination requires sorting by properties covered by a single index in the " +
+                        "same direction, e.g. 'sort(+thingId)' or 'sort(-namespace,-thingId)'.")
+                .dittoHeaders(queryThings.getDittoHeaders())
+                .build();
     }
 
     /**
@@ -386,6 +437,11 @@ final class ThingsSearchCursor {
             final Optional<InvalidOptionException> sizeOptionError = checkSizeOption(options, queryThings);
             if (sizeOptionError.isPresent()) {
                 return Source.failed(sizeOptionError.get());
+            } else if (hasKeysetOption(options) && !limitOptions.isEmpty()) {
+                return Source.failed(InvalidOptionException.newBuilder()
+                        .message(KEYSET_LIMIT_OPTION_FORBIDDEN)
+                        .dittoHeaders(queryThings.getDittoHeaders())
+                        .build());
             } else if (cursorOptions.isEmpty()) {
                 return Source.single(Optional.empty());
             } else if (cursorOptions.size() > 1) {
@@ -550,7 +606,8 @@ final class ThingsSearchCursor {
                 json.getValue(CORRELATION_ID).orElse(null),
                 findUniqueSortOption(RqlOptionParser.parseOptions(json.getValueOrThrow(SORT_OPTION))),
                 json.getValue(FILTER).orElse(null),
-                json.getValueOrThrow(VALUES));
+                json.getValueOrThrow(VALUES),
+                json.getValue(KEYSET).orElse(false));
     }
 
     /**
@@ -563,6 +620,41 @@ final class ThingsSearchCursor {
         return array.stream().map(JsonValue::asString).collect(Collectors.toSet());
     }
 
+    /**
+     * Replace the sort option of a {@code QueryThings} command.
+     *
+     * @param queryThings the command.
+     * @param sortOption the new sort option.
+     * @param filter filter of the new command.
+     * @param namespaces namespaces of the new command.
+     * @return the new command.
+     */
+    private static QueryThings withSortOption(final QueryThings queryThings, final SortOption sortOption,
+            @Nullable final String filter, @Nullable final Set<String> namespaces) {
+
+        final List<String> adjustedOptions =
+                Stream.concat(
+                        Stream.of(RqlOptionParser.unparse(Collections.singletonList(sortOption))),
+                        queryThings.getOptions()
+                                .stream()
+                                .flatMap(Collection::stream)
+                                .filter(option -> !option.startsWith("sort")))
+                        .collect(Collectors.toList());
+        // leave correlation ID alone
+        final DittoHeaders headers = queryThings.getDittoHeaders();
+        return QueryThings.of(filter, adjustedOptions, queryThings.getFields().orElse(null), namespaces, headers);
+    }
+
+    /**
+     * Check whether parsed options contain a keyset option.
+     *
+     * @param options the options.
+     * @return whether keyset pagination is requested.
+     */
+    private static boolean hasKeysetOption(final List<Option> options) {
+        return options.stream().anyMatch(KeysetOption.class::isInstance);
+    }
+
     /**
      * Parse options of a {@code QueryThings} command.
      *
@@ -632,7 +724,8 @@ final class ThingsSearchCursor {
                 queryThings.getDittoHeaders().getCorrelationId().orElse(null),
                 sortOptionForNewCursor(queryThings),
                 queryThings.getFilter().orElse(null),
-                resultList.lastResultSortValues().orElse(JsonArray.empty()));
+                resultList.lastResultSortValues().orElse(JsonArray.empty()),
+                hasKeysetOption(getOptions(queryThings)));
     }
 
     /**
@@ -687,6 +780,44 @@ final class ThingsSearchCursor {
         return getNextPageFilterImpl(sortOptions, previousValues, cf, 0);
     }
 
+    /**
+     * Filter out results before the position of a keyset pagination cursor.
+     * The sort keys of keyset pagination are present in all search index documents. Therefore each dimension is
+     * compared without the special handling of null values, so that the criteria translate into bounds of the index
+     * to scan. Should a value be null nevertheless, the null-safe filter is used.
+     *
+     * @param sortOptions sort options of the parsed query.
+     * @param previousValues values of the fields in the sort options of a cursor marking its position.
+     * @param cf a criteria factory.
+     * @return criteria to filter out results before a cursor's position.
+     */
+    private static Criteria getKeysetPageFilter(final List<org.eclipse.ditto.rql.query.SortOption> sortOptions,
+            final JsonArray previousValues,
+            final CriteriaFactory cf) {
+
+        if (sortOptions.isEmpty() || sortOptions.size() != previousValues.getSize()) {
+            // this should not happen.
+            throw invalidCursorBuilder().build();
+        } else if (previousValues.stream().anyMatch(JsonValue::isNull)) {
+            return getNextPageFilter(sortOptions, previousValues, cf);
+        }
+        // seek filter: x1 > v1 OR (x1 = v1 AND (x2 > v2 OR (x2 = v2 AND ...)))
+        Criteria result = null;
+        for (int i = sortOptions.size() - 1; i >= 0; i--) {
+            final org.eclipse.ditto.rql.query.SortOption sortOption = sortOptions.get(i);
+            final BsonValue previousValue = JsonToBson.convert(previousValues.get(i).orElseThrow());
+            final Criteria thisDimensionAfter = cf.fieldCriteria(sortOption.getSortExpression(),
+                    sortOption.getSortDirection() == SortDirection.ASC ? cf.gt(previousValue) : cf.lt(previousValue));
+            if (result == null) {
+                result = thisDimensionAfter;
+            } else {
+                final Criteria thisDimensionEq = cf.fieldCriteria(sortOption.getSortExpression(), cf.eq(previousValue));
+                result = cf.or(Arrays.asList(thisDimensionAfter, cf.and(Arrays.asList(thisDimensionEq, result))));
+            }
+        }
+        return result;
+    }
+
     /**
      * Recursive implementation of {@code getNextPageFilter}.
      *
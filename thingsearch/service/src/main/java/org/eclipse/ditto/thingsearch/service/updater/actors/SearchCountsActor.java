@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.thingsearch.service.persistence.count.MongoSearchCounts;
+import org.eclipse.ditto.thingsearch.service.persistence.count.SearchCounts;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.Props;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.Materializer;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Sink;
+
+/**
+ * Actor that periodically adds the count changes recorded by the thing updaters of this node to the materialized
+ * counts. Changes which could not be written are kept for the next flush.
+ */
+final class SearchCountsActor extends AbstractActorWithTimers {
+
+    static final String ACTOR_NAME = "searchCounts";
+
+    private final DiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final SearchCounts searchCounts;
+    private final MongoSearchCounts materializedCounts;
+    private final Materializer materializer;
+
+    private boolean flushing = false;
+
+    @SuppressWarnings("unused")
+    private SearchCountsActor(final SearchCounts searchCounts, final MongoSearchCounts materializedCounts,
+            final Duration flushInterval) {
+
+        this.searchCounts = searchCounts;
+        this.materializedCounts = materializedCounts;
+        // not bound to this actor to write the last changes after it stopped
+        materializer = SystemMaterializer.get(getContext().getSystem()).materializer();
+        getTimers().startTimerWithFixedDelay(Control.FLUSH, Control.FLUSH, flushInterval);
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param searchCounts the count changes recorded by the thing updaters.
+     * @param materializedCounts the materialized counts.
+     * @param flushInterval how often to write the recorded count changes.
+     * @return the Props object.
+     */
+    static Props props(final SearchCounts searchCounts, final MongoSearchCounts materializedCounts,
+            final Duration flushInterval) {
+
+        return Props.create(SearchCountsActor.class, searchCounts, materializedCounts, flushInterval);
+    }
+
+    @Override
+    public void postStop() {
+        // last attempt to write changes recorded since the last flush
+        final Map<String, Long> deltas = searchCounts.drainDeltas();
+        if (!deltas.isEmpty()) {
+            materializedCounts.increment(deltas).runWith(Sink.ignore(), materializer);
+        }
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.FLUSH, this::flush)
+                .match(Flushed.class, this::flushed)
+                .build();
+    }
+
+    @SuppressWarnings("unused")
+    private void flush(final Control flush) {
+        if (flushing) {
+            return;
+        }
+        final Map<String, Long> deltas = searchCounts.drainDeltas();
+        if (!deltas.isEmpty()) {
+            flushing = true;
+            final var result = materializedCounts.increment(deltas)
+                    .runWith(Sink.head(), materializer)
+                    .handle((done, error) -> new Flushed(deltas, error));
+            Patterns.pipe(result, getContext().getDispatcher()).to(getSelf());
+        }
+    }
+
+    private void flushed(final Flushed flushed) {
+        flushing = false;
+        if (flushed.error() != null) {
+            log.warning("Failed to write <{}> count changes, retrying with next flush: <{}>",
+                    flushed.deltas().size(), flushed.error());
+            searchCounts.add(flushed.deltas());
+        } else {
+            log.debug("Wrote count changes <{}>", flushed.deltas());
+        }
+    }
+
+    private enum Control {
+        FLUSH
+    }
+
+    private record Flushed(Map<String, Long> deltas, @Nullable Throwable error) {}
+
+}
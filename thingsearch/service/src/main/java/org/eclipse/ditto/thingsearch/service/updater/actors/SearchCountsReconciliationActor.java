@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.thingsearch.service.persistence.count.MongoSearchCounts;
+import org.eclipse.ditto.thingsearch.service.persistence.count.SearchCounts;
+import org.eclipse.ditto.thingsearch.service.persistence.read.MongoThingsSearchPersistence;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Pair;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Cluster singleton that periodically recomputes all materialized counts from the search index. This removes drift
+ * accumulated e.g. by lost count changes of crashed nodes and marks the counts as fresh for the query side.
+ */
+final class SearchCountsReconciliationActor extends AbstractActorWithTimers {
+
+    static final String ACTOR_NAME = "searchCountsReconciliation";
+
+    private final DiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final SearchCounts searchCounts;
+    private final MongoThingsSearchPersistence searchPersistence;
+    private final MongoSearchCounts materializedCounts;
+    private final Materializer materializer;
+
+    private boolean reconciling = false;
+
+    @SuppressWarnings("unused")
+    private SearchCountsReconciliationActor(final SearchCounts searchCounts,
+            final MongoThingsSearchPersistence searchPersistence,
+            final MongoSearchCounts materializedCounts,
+            final Duration reconciliationInterval) {
+
+        this.searchCounts = searchCounts;
+        this.searchPersistence = searchPersistence;
+        this.materializedCounts = materializedCounts;
+        materializer = Materializer.createMaterializer(getContext());
+        getSelf().tell(Control.RECONCILE, getSelf());
+        getTimers().startTimerWithFixedDelay(Control.RECONCILE, Control.RECONCILE, reconciliationInterval);
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param searchCounts the registered filters.
+     * @param searchPersistence the search index to count things in.
+     * @param materializedCounts the materialized counts.
+     * @param reconciliationInterval how often to recompute the materialized counts.
+     * @return the Props object.
+     */
+    static Props props(final SearchCounts searchCounts,
+            final MongoThingsSearchPersistence searchPersistence,
+            final MongoSearchCounts materializedCounts,
+            final Duration reconciliationInterval) {
+
+        return Props.create(SearchCountsReconciliationActor.class, searchCounts, searchPersistence,
+                materializedCounts, reconciliationInterval);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.RECONCILE, this::reconcile)
+                .match(Done.class, this::reconciled)
+                .match(Status.Failure.class, this::reconciliationFailed)
+                .build();
+    }
+
+    @SuppressWarnings("unused")
+    private void reconcile(final Control reconcile) {
+        if (reconciling) {
+            log.info("Skipping reconciliation because the previous one is still running");
+            return;
+        }
+        reconciling = true;
+        final Instant reconciledAt = Instant.now();
+        final var result = countFromIndex()
+                .flatMapConcat(counts -> materializedCounts.replaceAll(counts, reconciledAt))
+                .runWith(Sink.head(), materializer);
+        Patterns.pipe(result, getContext().getDispatcher()).to(getSelf());
+    }
+
+    private Source<Map<String, Long>, NotUsed> countFromIndex() {
+        final Source<Map<String, Long>, NotUsed> filterCounts =
+                Source.from(searchCounts.getFilterCriteria().entrySet())
+                        .flatMapConcat(entry -> searchPersistence.sudoCountFromIndex(entry.getValue())
+                                .map(count -> Pair.create(entry.getKey(), count)))
+                        .<Map<String, Long>>fold(new HashMap<>(), (map, pair) -> {
+                            map.put(pair.first(), pair.second());
+                            return map;
+                        });
+
+        return searchPersistence.countNamespacesFromIndex()
+                .zipWith(filterCounts, (namespaceCounts, countsByFilter) -> {
+                    final Map<String, Long> counts = new HashMap<>(countsByFilter);
+                    namespaceCounts.forEach((namespace, count) ->
+                            counts.put(SearchCounts.namespaceKey(namespace), count));
+                    return counts;
+                });
+    }
+
+    @SuppressWarnings("unused")
+    private void reconciled(final Done done) {
+        reconciling = false;
+        log.info("Reconciled materialized counts");
+    }
+
+    private void reconciliationFailed(final Status.Failure failure) {
+        reconciling = false;
+        log.error(failure.cause(), "Failed to reconcile materialized counts");
+    }
+
+    private enum Control {
+        RECONCILE
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.updater.actors;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.SearchResultInvalidation;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.WrittenNamespaces;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor that periodically publishes the namespaces of the things written by the thing updaters of this node to
+ * invalidate cached query results of all nodes.
+ */
+final class SearchResultInvalidationActor extends AbstractActorWithTimers {
+
+    static final String ACTOR_NAME = "searchResultInvalidation";
+
+    private final WrittenNamespaces writtenNamespaces;
+    private final ActorRef pubSubMediator;
+
+    @SuppressWarnings("unused")
+    private SearchResultInvalidationActor(final WrittenNamespaces writtenNamespaces, final ActorRef pubSubMediator,
+            final Duration invalidationInterval) {
+
+        this.writtenNamespaces = writtenNamespaces;
+        this.pubSubMediator = pubSubMediator;
+        getTimers().startTimerWithFixedDelay(Control.PUBLISH, Control.PUBLISH, invalidationInterval);
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param writtenNamespaces the namespaces recorded by the thing updaters.
+     * @param pubSubMediator the pub-sub mediator.
+     * @param invalidationInterval how often to publish the recorded namespaces.
+     * @return the Props object.
+     */
+    static Props props(final WrittenNamespaces writtenNamespaces, final ActorRef pubSubMediator,
+            final Duration invalidationInterval) {
+
+        return Props.create(SearchResultInvalidationActor.class, writtenNamespaces, pubSubMediator,
+                invalidationInterval);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.PUBLISH, this::publish)
+                .build();
+    }
+
+    @SuppressWarnings("unused")
+    private void publish(final Control publish) {
+        final Set<String> namespaces = writtenNamespaces.drain();
+        if (!namespaces.isEmpty()) {
+            pubSubMediator.tell(DistPubSubAccess.publish(SearchResultInvalidation.TOPIC,
+                    new SearchResultInvalidation(namespaces)), getSelf());
+        }
+    }
+
+    private enum Control {
+        PUBLISH
+    }
+
+}
@@ -23,6 +23,10 @@ import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.thingsearch.api.ThingsSearchConstants;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.SearchCountsConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.count.MongoSearchCounts;
+import org.eclipse.ditto.thingsearch.service.persistence.count.SearchCounts;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.WrittenNamespaces;
 import org.eclipse.ditto.thingsearch.service.common.util.RootSupervisorStrategyFactory;
 import org.eclipse.ditto.thingsearch.service.persistence.read.MongoThingsSearchPersistence;
 import org.eclipse.ditto.thingsearch.service.persistence.write.impl.MongoThingsSearchUpdaterPersistence;
@@ -70,7 +74,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
     private SearchUpdaterRootActor(final SearchConfig searchConfig,
             final ActorRef pubSubMediator,
             final MongoThingsSearchPersistence thingsSearchPersistence,
-            final TimestampPersistence backgroundSyncPersistence) {
+            final TimestampPersistence backgroundSyncPersistence,
+            final SearchCounts searchCounts) {
 
         final var clusterConfig = searchConfig.getClusterConfig();
         final int numberOfShards = clusterConfig.getNumberOfShards();
@@ -96,9 +101,13 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                         dittoMongoClient.getDefaultDatabase(), blockedNamespaces,
                         searchUpdateMapper);
 
+        final var resultCacheConfig = searchConfig.getResultCacheConfig();
+        final var writtenNamespaces = resultCacheConfig.isEnabled()
+                ? WrittenNamespaces.newInstance()
+                : WrittenNamespaces.disabled();
         final var thingUpdaterProps =
                 ThingUpdater.props(searchUpdaterStream.flow(), thingsSearchPersistence::recoverLastWriteModel,
-                        searchConfig, pubSubMediator);
+                        searchConfig, pubSubMediator, searchCounts, writtenNamespaces);
         final ActorRef updaterShard =
                 shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps, CLUSTER_ROLE);
 
@@ -134,6 +143,15 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         startChildActor(ThingsSearchPersistenceOperationsActor.ACTOR_NAME,
                 ThingsSearchPersistenceOperationsActor.props(pubSubMediator, searchUpdaterPersistence,
                         searchConfig.getPersistenceOperationsConfig()));
+
+        if (searchCounts.isEnabled()) {
+            startSearchCountsActors(searchConfig.getCountsConfig(), searchCounts, thingsSearchPersistence);
+        }
+        if (resultCacheConfig.isEnabled()) {
+            startChildActor(SearchResultInvalidationActor.ACTOR_NAME,
+                    SearchResultInvalidationActor.props(writtenNamespaces, pubSubMediator,
+                            resultCacheConfig.getInvalidationInterval()));
+        }
     }
 
     /**
@@ -149,8 +167,28 @@ public final class SearchUpdaterRootActor extends AbstractActor {
             final ActorRef pubSubMediator,
             final MongoThingsSearchPersistence thingsSearchPersistence,
             final TimestampPersistence backgroundSyncPersistence) {
+        return props(searchConfig, pubSubMediator, thingsSearchPersistence, backgroundSyncPersistence,
+                SearchCounts.disabled());
+    }
+
+    /**
+     * Creates Akka configuration object Props for this SearchUpdaterRootActor which maintains materialized counts.
+     *
+     * @param searchConfig the configuration settings of the Things-Search service.
+     * @param pubSubMediator the PubSub mediator Actor.
+     * @param thingsSearchPersistence persistence to access the search index in read-only mode.
+     * @param backgroundSyncPersistence persistence for background synchronization.
+     * @param searchCounts the registered filters and the recorder of count changes.
+     * @return a Props object to create this actor.
+     * @since 3.2.0
+     */
+    public static Props props(final SearchConfig searchConfig,
+            final ActorRef pubSubMediator,
+            final MongoThingsSearchPersistence thingsSearchPersistence,
+            final TimestampPersistence backgroundSyncPersistence,
+            final SearchCounts searchCounts) {
         return Props.create(SearchUpdaterRootActor.class, searchConfig, pubSubMediator, thingsSearchPersistence,
-                backgroundSyncPersistence);
+                backgroundSyncPersistence, searchCounts);
     }
 
     /**
@@ -164,6 +202,19 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                 String.format("user/%s/%s/%s", SearchRootActor.ACTOR_NAME, ACTOR_NAME, ThingsUpdater.ACTOR_NAME));
     }
 
+    private void startSearchCountsActors(final SearchCountsConfig countsConfig, final SearchCounts searchCounts,
+            final MongoThingsSearchPersistence thingsSearchPersistence) {
+
+        final var materializedCounts = MongoSearchCounts.of(dittoMongoClient.getDefaultDatabase());
+        startChildActor(SearchCountsActor.ACTOR_NAME,
+                SearchCountsActor.props(searchCounts, materializedCounts, countsConfig.getFlushInterval()));
+
+        // reconcile once for the cluster
+        final var reconciliationActorProps = SearchCountsReconciliationActor.props(searchCounts,
+                thingsSearchPersistence, materializedCounts, countsConfig.getReconciliationInterval());
+        startClusterSingletonActor(SearchCountsReconciliationActor.ACTOR_NAME, reconciliationActorProps);
+    }
+
     @Override
     public void postStop() throws Exception {
         dittoMongoClient.close();
@@ -50,6 +50,8 @@ import org.eclipse.ditto.thingsearch.api.PolicyReferenceTag;
 import org.eclipse.ditto.thingsearch.api.UpdateReason;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoUpdateThing;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.count.SearchCounts;
+import org.eclipse.ditto.thingsearch.service.persistence.read.cache.WrittenNamespaces;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingDeleteModel;
@@ -108,10 +110,18 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
     private final Duration writeInterval;
     private final Duration thingDeletionTimeout;
     private final Duration maxIdleTime;
+    private final SearchCounts searchCounts;
+    private final WrittenNamespaces writtenNamespaces;
     private ExponentialBackOff backOff;
     private boolean shuttingDown = false;
     @Nullable private UniqueKillSwitch killSwitch;
 
+    /*
+     * The write model last confirmed to be in the persistence, to compute count changes. Unlike the last write model
+     * of the data, it is not reset to force updates or retries.
+     */
+    @Nullable private AbstractWriteModel countedWriteModel;
+
     /**
      * Data of the thing-updater.
      *
@@ -157,7 +167,8 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
     @SuppressWarnings("unused")
     private ThingUpdater(final Flow<Data, Result, NotUsed> flow,
             final Function<ThingId, Source<AbstractWriteModel, NotUsed>> recoveryFunction,
-            final SearchConfig config, final ActorRef pubSubMediator) {
+            final SearchConfig config, final ActorRef pubSubMediator, final SearchCounts searchCounts,
+            final WrittenNamespaces writtenNamespaces) {
 
         log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
         thingId = tryToGetThingId();
@@ -168,6 +179,8 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
                 config.getUpdaterConfig().getStreamConfig().getPersistenceConfig().getExponentialBackOffConfig());
         thingDeletionTimeout = config.getUpdaterConfig().getStreamConfig().getThingDeletionTimeout();
         maxIdleTime = config.getUpdaterConfig().getMaxIdleTime();
+        this.searchCounts = searchCounts;
+        this.writtenNamespaces = writtenNamespaces;
 
         startWith(State.RECOVERING, getInitialData(thingId));
         when(State.RECOVERING, recovering());
@@ -200,7 +213,31 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
             final SearchConfig config,
             final ActorRef pubSubMediator) {
 
-        return Props.create(ThingUpdater.class, flow, recoveryFunction, config, pubSubMediator);
+        return props(flow, recoveryFunction, config, pubSubMediator, SearchCounts.disabled(),
+                WrittenNamespaces.disabled());
+    }
+
+    /**
+     * Create props of this actor which records the count changes and the namespace of its confirmed writes.
+     *
+     * @param flow Flow to perform persistence operations.
+     * @param recoveryFunction The function to recover the previous write model on start up.
+     * @param config Configuration of search service.
+     * @param pubSubMediator The pubsub mediator.
+     * @param searchCounts Recorder of count changes.
+     * @param writtenNamespaces Recorder of the namespaces of written things to invalidate cached query results.
+     * @return The Props object.
+     * @since 3.2.0
+     */
+    public static Props props(final Flow<Data, Result, NotUsed> flow,
+            final Function<ThingId, Source<AbstractWriteModel, NotUsed>> recoveryFunction,
+            final SearchConfig config,
+            final ActorRef pubSubMediator,
+            final SearchCounts searchCounts,
+            final WrittenNamespaces writtenNamespaces) {
+
+        return Props.create(ThingUpdater.class, flow, recoveryFunction, config, pubSubMediator, searchCounts,
+                writtenNamespaces);
     }
 
     @Override
@@ -312,6 +349,12 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
         final var writeResultAndErrors = result.resultAndErrors();
         final var pair = BulkWriteResultAckFlow.checkBulkWriteResult(writeResultAndErrors);
         pair.second().forEach(log::debug);
+        if (pair.first() == BulkWriteResultAckFlow.Status.OK) {
+            final var writeModel = result.mongoWriteModel().getDitto();
+            searchCounts.recordWrite(countedWriteModel, writeModel);
+            countedWriteModel = writeModel;
+            writtenNamespaces.record(thingId.getNamespace());
+        }
 
         if (shuttingDown) {
             log.info("Shutting down after completing persistence operation");
@@ -564,6 +607,7 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
         log.debug("Recovered: <{}>", lastWriteModel.getClass().getSimpleName());
         LOGGER.trace("Recovered: <{}>", lastWriteModel);
         killSwitch = null;
+        countedWriteModel = lastWriteModel;
 
         return goTo(State.READY).using(new Data(lastWriteModel.getMetadata(), lastWriteModel));
     }
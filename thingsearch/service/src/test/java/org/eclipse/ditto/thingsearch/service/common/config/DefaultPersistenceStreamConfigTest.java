@@ -80,6 +80,14 @@ public final class DefaultPersistenceStreamConfigTest {
                 .as(PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getConfigPath())
                 .isEqualTo(WriteConcern.valueOf(
                         (String) PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getDefaultValue()));
+
+        softly.assertThat(underTest.getMaxBulkSize())
+                .as(PersistenceStreamConfigValue.MAX_BULK_SIZE.getConfigPath())
+                .isEqualTo(PersistenceStreamConfigValue.MAX_BULK_SIZE.getDefaultValue());
+
+        softly.assertThat(underTest.getTargetBulkWriteLatency())
+                .as(PersistenceStreamConfigValue.TARGET_BULK_WRITE_LATENCY.getConfigPath())
+                .isEqualTo(PersistenceStreamConfigValue.TARGET_BULK_WRITE_LATENCY.getDefaultValue());
     }
 
     @Test
@@ -102,6 +110,14 @@ public final class DefaultPersistenceStreamConfigTest {
         softly.assertThat(underTest.getWithAcknowledgementsWriteConcern())
                 .as(PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getConfigPath())
                 .isEqualTo(WriteConcern.MAJORITY);
+
+        softly.assertThat(underTest.getMaxBulkSize())
+                .as(PersistenceStreamConfigValue.MAX_BULK_SIZE.getConfigPath())
+                .isEqualTo(70);
+
+        softly.assertThat(underTest.getTargetBulkWriteLatency())
+                .as(PersistenceStreamConfigValue.TARGET_BULK_WRITE_LATENCY.getConfigPath())
+                .isEqualTo(Duration.ofMillis(71L));
     }
 
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit tests for {@link DefaultSearchCountsConfig}.
+ */
+public final class DefaultSearchCountsConfigTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultSearchCountsConfig.class,
+                areImmutable(),
+                assumingFields("filters").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultSearchCountsConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final SearchCountsConfig underTest = DefaultSearchCountsConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(SearchCountsConfig.ConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(SearchCountsConfig.ConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getFilters())
+                .as(SearchCountsConfig.ConfigValue.FILTERS.getConfigPath())
+                .isEqualTo(SearchCountsConfig.ConfigValue.FILTERS.getDefaultValue());
+        softly.assertThat(underTest.getFlushInterval())
+                .as(SearchCountsConfig.ConfigValue.FLUSH_INTERVAL.getConfigPath())
+                .isEqualTo(SearchCountsConfig.ConfigValue.FLUSH_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getReconciliationInterval())
+                .as(SearchCountsConfig.ConfigValue.RECONCILIATION_INTERVAL.getConfigPath())
+                .isEqualTo(SearchCountsConfig.ConfigValue.RECONCILIATION_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getMaxStaleness())
+                .as(SearchCountsConfig.ConfigValue.MAX_STALENESS.getConfigPath())
+                .isEqualTo(SearchCountsConfig.ConfigValue.MAX_STALENESS.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final SearchCountsConfig underTest = DefaultSearchCountsConfig.of(ConfigFactory.load("search-counts-test"));
+
+        softly.assertThat(underTest.isEnabled()).as("enabled").isTrue();
+        softly.assertThat(underTest.getFilters()).as("filters")
+                .isEqualTo(List.of("eq(attributes/manufacturer,\"ACME\")", "exists(features/lamp)"));
+        softly.assertThat(underTest.getFlushInterval()).as("flush-interval").isEqualTo(Duration.ofMillis(500L));
+        softly.assertThat(underTest.getReconciliationInterval()).as("reconciliation-interval")
+                .isEqualTo(Duration.ofMinutes(1L));
+        softly.assertThat(underTest.getMaxStaleness()).as("max-staleness").isEqualTo(Duration.ofMinutes(3L));
+    }
+
+    @Test
+    public void maxStalenessMustExceedReconciliationInterval() {
+        assertThatExceptionOfType(DittoConfigError.class).isThrownBy(() -> DefaultSearchCountsConfig.of(
+                ConfigFactory.parseString("counts { reconciliation-interval = 10m, max-staleness = 10m }")));
+    }
+
+}
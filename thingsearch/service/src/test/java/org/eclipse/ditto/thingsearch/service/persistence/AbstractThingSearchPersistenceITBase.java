@@ -121,7 +121,7 @@ public abstract class AbstractThingSearchPersistenceITBase {
     private TestSearchUpdaterStream provideWritePersistence() {
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(actorSystem.settings().config());
         return TestSearchUpdaterStream.of(mongoClient.getDefaultDatabase(),
-                SearchUpdateMapper.get(actorSystem, dittoExtensionsConfig));
+                SearchUpdateMapper.get(actorSystem, dittoExtensionsConfig), actorSystem);
     }
 
     private static DittoMongoClient provideClientWrapper() {
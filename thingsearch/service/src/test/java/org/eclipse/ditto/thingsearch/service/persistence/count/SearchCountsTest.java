@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.count;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.service.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoCountThings;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultSearchCountsConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
+import org.eclipse.ditto.thingsearch.service.persistence.query.validation.QueryCriteriaValidator;
+import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQueryBuilderFactory;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit tests for {@link SearchCounts}.
+ */
+public final class SearchCountsTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing:id");
+    private static final String FILTER = "eq(attributes/manufacturer,\"ACME\")";
+    private static final String FILTER_KEY = "filter:" + FILTER;
+    private static final String NAMESPACE_KEY = SearchCounts.namespaceKey(THING_ID.getNamespace());
+
+    private QueryParser queryParser;
+    private SearchCounts underTest;
+
+    @Before
+    public void setUp() {
+        queryParser = QueryParser.of(ThingsFieldExpressionFactory.of(Map.of("thingId", "_id")),
+                new MongoQueryBuilderFactory(DefaultLimitsConfig.of(ConfigFactory.empty())),
+                mock(QueryCriteriaValidator.class));
+        final var config = DefaultSearchCountsConfig.of(ConfigFactory.parseString(
+                "counts { enabled = true, filters = [\"" + FILTER.replace("\"", "\\\"") + "\"] }"));
+        underTest = SearchCounts.of(config, queryParser);
+    }
+
+    @Test
+    public void recordsNamespaceAndFilterChangesOfCreationAndDeletion() {
+        underTest.recordWrite(deleted(1), written(2, "ACME"));
+        assertThat(underTest.drainDeltas()).isEqualTo(Map.of(NAMESPACE_KEY, 1L, FILTER_KEY, 1L));
+
+        underTest.recordWrite(written(2, "ACME"), deleted(3));
+        assertThat(underTest.drainDeltas()).isEqualTo(Map.of(NAMESPACE_KEY, -1L, FILTER_KEY, -1L));
+    }
+
+    @Test
+    public void recordsFilterChangesOfModification() {
+        underTest.recordWrite(written(1, "ACME"), written(2, "other"));
+        underTest.recordWrite(written(2, "other"), written(3, "other"));
+
+        assertThat(underTest.drainDeltas()).isEqualTo(Map.of(FILTER_KEY, -1L));
+        assertThat(underTest.drainDeltas()).isEmpty();
+    }
+
+    @Test
+    public void changesCancellingEachOtherOutAreNotDrained() {
+        underTest.recordWrite(deleted(1), written(2, "other"));
+        underTest.recordWrite(written(2, "other"), deleted(3));
+
+        assertThat(underTest.drainDeltas()).isEmpty();
+    }
+
+    @Test
+    public void ignoresWritesWithUnknownPreviousState() {
+        underTest.recordWrite(null, written(1, "ACME"));
+
+        assertThat(underTest.drainDeltas()).isEmpty();
+    }
+
+    @Test
+    public void disabledSearchCountsRecordNothing() {
+        final var disabled = SearchCounts.of(DefaultSearchCountsConfig.of(ConfigFactory.empty()), queryParser);
+        disabled.recordWrite(deleted(1), written(2, "ACME"));
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.drainDeltas()).isEmpty();
+    }
+
+    @Test
+    public void recognizesQueriesWithRegisteredFilters() {
+        final Query registered = parseSudoCount(FILTER);
+        final Query other = parseSudoCount("eq(attributes/manufacturer,\"other\")");
+
+        assertThat(underTest.getFilterKey(registered.getCriteria())).contains(FILTER_KEY);
+        assertThat(underTest.getFilterKey(other.getCriteria())).isEmpty();
+        assertThat(underTest.getFilterCriteria()).containsOnlyKeys(FILTER_KEY);
+    }
+
+    @Test
+    public void namespaceKeysRoundTrip() {
+        assertThat(SearchCounts.getNamespace(NAMESPACE_KEY)).contains(THING_ID.getNamespace());
+        assertThat(SearchCounts.getNamespace(FILTER_KEY)).isEmpty();
+    }
+
+    private Query parseSudoCount(final String filter) {
+        return queryParser.parseSudoCountThings(SudoCountThings.of(filter, DittoHeaders.empty()))
+                .toCompletableFuture()
+                .join();
+    }
+
+    private static AbstractWriteModel deleted(final long revision) {
+        return ThingDeleteModel.of(Metadata.of(THING_ID, revision, null, Set.of(), null));
+    }
+
+    private static AbstractWriteModel written(final long revision, final String manufacturer) {
+        final var document = new BsonDocument()
+                .append("_id", new BsonString(THING_ID.toString()))
+                .append("_revision", new BsonInt64(revision))
+                .append("f", new BsonArray())
+                .append("t", new BsonDocument()
+                        .append("thingId", new BsonString(THING_ID.toString()))
+                        .append("attributes", new BsonDocument()
+                                .append("manufacturer", new BsonString(manufacturer))));
+        return ThingWriteModel.of(Metadata.of(THING_ID, revision, null, Set.of(), null), document);
+    }
+
+}
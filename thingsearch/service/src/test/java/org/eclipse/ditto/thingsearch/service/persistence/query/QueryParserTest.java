@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.service.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.InvalidOptionException;
+import org.eclipse.ditto.thingsearch.model.signals.commands.query.AggregateThings;
+import org.eclipse.ditto.thingsearch.service.persistence.query.validation.DefaultQueryCriteriaValidator;
+import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQueryBuilderFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit tests for parsing aggregations with {@link QueryParser}.
+ */
+public final class QueryParserTest {
+
+    private QueryParser underTest;
+
+    @Before
+    public void setUp() {
+        underTest = QueryParser.of(ThingsFieldExpressionFactory.of(Map.of("thingId", "_id")),
+                new MongoQueryBuilderFactory(DefaultLimitsConfig.of(ConfigFactory.empty())),
+                new DefaultQueryCriteriaValidator(null, ConfigFactory.empty()));
+    }
+
+    @Test
+    public void parsesGroupingsAndAccumulators() {
+        final Aggregation aggregation = parse(List.of("attributes/location"),
+                aggregations("things", "count()", "maxLevel", " max( attributes/level ) "));
+
+        assertThat(aggregation.groupings()).extracting(Aggregation.Field::path)
+                .containsExactly("attributes/location");
+        assertThat(aggregation.accumulators())
+                .extracting(Aggregation.Accumulator::name, Aggregation.Accumulator::operator)
+                .containsExactly(tuple("things", Aggregation.Operator.COUNT),
+                        tuple("maxLevel", Aggregation.Operator.MAX));
+        assertThat(aggregation.fields()).extracting(Aggregation.Field::path)
+                .containsExactly("attributes/location", "attributes/level");
+    }
+
+    @Test
+    public void rejectsUnknownOperators() {
+        assertThatExceptionOfType(InvalidOptionException.class)
+                .isThrownBy(() -> parse(List.of(), Map.of("x", "median(attributes/level)")));
+    }
+
+    @Test
+    public void rejectsCountWithField() {
+        assertThatExceptionOfType(InvalidOptionException.class)
+                .isThrownBy(() -> parse(List.of(), Map.of("x", "count(attributes/level)")));
+    }
+
+    @Test
+    public void rejectsWildcardFields() {
+        assertThatExceptionOfType(InvalidOptionException.class)
+                .isThrownBy(() -> parse(List.of("features/*/properties/level"), Map.of("x", "count()")));
+    }
+
+    @Test
+    public void rejectsAggregationWithoutAccumulators() {
+        assertThatExceptionOfType(InvalidOptionException.class)
+                .isThrownBy(() -> parse(List.of("attributes/location"), Map.of()));
+    }
+
+    private static Map<String, String> aggregations(final String... namesAndExpressions) {
+        final Map<String, String> aggregations = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndExpressions.length; i += 2) {
+            aggregations.put(namesAndExpressions[i], namesAndExpressions[i + 1]);
+        }
+        return aggregations;
+    }
+
+    private Aggregation parse(final List<String> groupBy, final Map<String, String> aggregations) {
+        return underTest.parseAggregation(AggregateThings.of(null, null, groupBy, aggregations, DittoHeaders.empty()))
+                .toCompletableFuture()
+                .join();
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.model.EffectedPermissions;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.Resource;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.InvalidOptionException;
+import org.eclipse.ditto.thingsearch.service.persistence.TestConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.query.Aggregation;
+import org.junit.Test;
+
+/**
+ * Tests aggregations on the persistence.
+ */
+public final class AggregationIT extends AbstractReadPersistenceITBase {
+
+    private static final String LOCATION = "location";
+    private static final String LEVEL = "level";
+    private static final String RESTRICTED_NAMESPACE = "restricted";
+
+    private final Policy restrictedPolicy = createRestrictedPolicy();
+
+    @Test
+    public void groupsAndAccumulatesVisibleValues() {
+        insertThing(TestConstants.thingId("aggregate", "thing1"), "berlin", 1);
+        insertThing(TestConstants.thingId("aggregate", "thing2"), "berlin", 3);
+        insertThing(TestConstants.thingId("aggregate", "thing3"), "paris", 5);
+
+        final JsonArray groups = aggregate(new Aggregation(cf.any(),
+                List.of(field("attributes/" + LOCATION)),
+                List.of(new Aggregation.Accumulator("things", Aggregation.Operator.COUNT, null),
+                        new Aggregation.Accumulator("maxLevel", Aggregation.Operator.MAX,
+                                field("attributes/" + LEVEL)))));
+
+        assertThat(groups).containsExactly(
+                group("berlin", 2, 3),
+                group("paris", 1, 5));
+    }
+
+    @Test
+    public void excludesThingsWithFieldsHiddenByPolicy() {
+        insertThing(TestConstants.thingId("aggregate", "thing1"), "berlin", 1);
+        insertThing(TestConstants.thingId(RESTRICTED_NAMESPACE, "thing2"), "berlin", 3);
+
+        final JsonArray groups = aggregate(new Aggregation(cf.any(),
+                List.of(field("attributes/" + LOCATION)),
+                List.of(new Aggregation.Accumulator("things", Aggregation.Operator.COUNT, null),
+                        new Aggregation.Accumulator("maxLevel", Aggregation.Operator.MAX,
+                                field("attributes/" + LEVEL)))));
+
+        assertThat(groups).containsExactly(group("berlin", 1, 1));
+    }
+
+    @Test
+    public void aggregatesAllThingsWithoutGrouping() {
+        insertThing(TestConstants.thingId("aggregate", "thing1"), "berlin", 1);
+        insertThing(TestConstants.thingId("aggregate", "thing2"), "paris", 5);
+
+        final JsonArray groups = aggregate(new Aggregation(cf.any(), List.of(),
+                List.of(new Aggregation.Accumulator("total", Aggregation.Operator.SUM,
+                        field("attributes/" + LEVEL)))));
+
+        assertThat(groups).containsExactly(JsonObject.newBuilder()
+                .set("groupBy", JsonObject.empty())
+                .set("aggregations", JsonObject.newBuilder().set("total", 6).build())
+                .build());
+    }
+
+    @Test
+    public void rejectsAggregationWithMoreGroupsThanAllowed() {
+        insertThing(TestConstants.thingId("aggregate", "thing1"), "berlin", 1);
+        insertThing(TestConstants.thingId("aggregate", "thing2"), "paris", 5);
+        insertThing(TestConstants.thingId("aggregate", "thing3"), "rome", 3);
+
+        final Aggregation aggregation = new Aggregation(cf.any(),
+                List.of(field("attributes/" + LOCATION)),
+                List.of(new Aggregation.Accumulator("things", Aggregation.Operator.COUNT, null)));
+
+        assertThat(runBlockingWithReturn(readPersistence.aggregate(aggregation, KNOWN_SUBJECTS, 3))).hasSize(3);
+        assertThatExceptionOfType(CompletionException.class)
+                .isThrownBy(() -> runBlockingWithReturn(readPersistence.aggregate(aggregation, KNOWN_SUBJECTS, 2)))
+                .withCauseInstanceOf(InvalidOptionException.class);
+    }
+
+    private JsonArray aggregate(final Aggregation aggregation) {
+        return runBlockingWithReturn(readPersistence.aggregate(aggregation, KNOWN_SUBJECTS, 10));
+    }
+
+    private void insertThing(final ThingId thingId, final String location, final int level) {
+        persistThing(createThingV2(thingId)
+                .setAttribute(JsonPointer.of(LOCATION), JsonValue.of(location))
+                .setAttribute(JsonPointer.of(LEVEL), JsonValue.of(level)));
+    }
+
+    private static Aggregation.Field field(final String path) {
+        return new Aggregation.Field(path, fef.sortBy(path), fef.existsBy(path));
+    }
+
+    private static JsonObject group(final String location, final int count, final int maxLevel) {
+        return JsonObject.newBuilder()
+                .set("groupBy", JsonObject.newBuilder()
+                        .set(JsonPointer.of("attributes/" + LOCATION), location)
+                        .build())
+                .set("aggregations", JsonObject.newBuilder()
+                        .set("things", count)
+                        .set("maxLevel", maxLevel)
+                        .build())
+                .build();
+    }
+
+    @Override
+    Policy getPolicy(final ThingId thingId) {
+        if (thingId.getNamespace().equals(RESTRICTED_NAMESPACE)) {
+            return restrictedPolicy;
+        } else {
+            return super.getPolicy(thingId);
+        }
+    }
+
+    private static Policy createRestrictedPolicy() {
+        final List<Subject> subjects = KNOWN_SUBJECTS.stream()
+                .map(subjectId -> Subject.newInstance(subjectId, SubjectType.GENERATED))
+                .toList();
+        final List<Resource> resources = List.of(
+                Resource.newInstance(ResourceKey.newInstance("thing:/"),
+                        EffectedPermissions.newInstance(List.of("READ"), List.of())),
+                Resource.newInstance(ResourceKey.newInstance("thing:/attributes/" + LEVEL),
+                        EffectedPermissions.newInstance(List.of(), List.of("READ"))));
+        return PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .set(PolicyEntry.newInstance("restricted", subjects, resources))
+                .setRevision(1L)
+                .build();
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.rql.query.SortDirection;
+import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.rql.query.expression.FieldExpressionUtil;
+import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link KeysetHints}.
+ */
+public final class KeysetHintsTest {
+
+    private static final ThingsFieldExpressionFactory EFT = ThingsFieldExpressionFactory.of(Map.of(
+            FieldExpressionUtil.FIELD_NAME_THING_ID, FieldExpressionUtil.FIELD_ID,
+            FieldExpressionUtil.FIELD_NAME_NAMESPACE, FieldExpressionUtil.FIELD_NAMESPACE));
+
+    @Test
+    public void sortByThingIdScansIdIndex() {
+        assertThat(KeysetHints.getHint(List.of(sortByThingId(SortDirection.ASC))))
+                .contains(BsonDocument.parse("{\"_id\":1}"));
+        assertThat(KeysetHints.getHint(List.of(sortByThingId(SortDirection.DESC))))
+                .contains(BsonDocument.parse("{\"_id\":1}"));
+    }
+
+    @Test
+    public void sortByNamespaceAndThingIdScansNamespaceIndex() {
+        assertThat(KeysetHints.getHint(List.of(sortByNamespace(SortDirection.DESC), sortByThingId(SortDirection.DESC))))
+                .contains(BsonDocument.parse("{\"_namespace\":1,\"_id\":1}"));
+    }
+
+    @Test
+    public void unsupportedSortOptionsHaveNoHint() {
+        assertThat(KeysetHints.getHint(List.of())).isEmpty();
+        assertThat(KeysetHints.getHint(List.of(sortByNamespace(SortDirection.ASC)))).isEmpty();
+        assertThat(KeysetHints.getHint(List.of(sortByNamespace(SortDirection.ASC), sortByThingId(SortDirection.DESC))))
+                .isEmpty();
+        assertThat(KeysetHints.getHint(List.of(sortByThingId(SortDirection.ASC), sortByNamespace(SortDirection.ASC))))
+                .isEmpty();
+        assertThat(KeysetHints.getHint(List.of(new SortOption(EFT.sortByAttribute("a"), SortDirection.ASC),
+                sortByThingId(SortDirection.ASC))))
+                .isEmpty();
+    }
+
+    private static SortOption sortByThingId(final SortDirection sortDirection) {
+        return new SortOption(EFT.sortByThingId(), sortDirection);
+    }
+
+    private static SortOption sortByNamespace(final SortDirection sortDirection) {
+        return new SortOption(EFT.sortBy(FieldExpressionUtil.FIELD_NAME_NAMESPACE), sortDirection);
+    }
+
+}
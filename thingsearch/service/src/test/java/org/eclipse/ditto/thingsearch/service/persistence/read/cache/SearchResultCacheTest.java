@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.service.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.rql.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultSearchResultCacheConfig;
+import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
+import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
+import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
+import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
+import org.eclipse.ditto.thingsearch.service.persistence.query.validation.QueryCriteriaValidator;
+import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQuery;
+import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQueryBuilderFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit tests for {@link SearchResultCache}.
+ */
+public final class SearchResultCacheTest {
+
+    private static final Query QUERY = new MongoQuery(CriteriaFactory.getInstance().any(), List.of(), 25, 0);
+    private static final List<String> SUBJECTS = List.of("integration:a", "integration:b");
+    private static final ResultList<TimestampedThingId> RESULT = new ResultListImpl<>(
+            List.of(new TimestampedThingId(ThingId.of("ns:thing"), Optional.of(Instant.EPOCH))), -1L);
+
+    private SearchResultCache underTest;
+
+    @Before
+    public void setUp() {
+        underTest = SearchResultCache.of(DefaultSearchResultCacheConfig.of(
+                ConfigFactory.parseString("result-cache { enabled = true }")), Runnable::run);
+    }
+
+    @Test
+    public void returnsCachedResultsOfEqualQuery() {
+        underTest.put(underTest.newKey(QUERY, SUBJECTS, Set.of("ns"), false), RESULT);
+
+        assertThat(get(underTest.newKey(QUERY, List.of("integration:b", "integration:a"), Set.of("ns"), false)))
+                .contains(RESULT);
+        assertThat(get(underTest.newKey(QUERY, List.of("integration:a"), Set.of("ns"), false))).isEmpty();
+        assertThat(get(underTest.newKey(QUERY, SUBJECTS, null, false))).isEmpty();
+        assertThat(get(underTest.newKey(QUERY, SUBJECTS, Set.of("ns"), true))).isEmpty();
+    }
+
+    @Test
+    public void returnsCachedResultsOfSeparatelyParsedEqualQueries() {
+        final String filter = "and(eq(attributes/manufacturer,\"ACME\"),or(exists(features/lamp),gt(attributes/count,3)))";
+        final Query query = parse(filter);
+        final Query sameQuery = parse(filter);
+        underTest.put(underTest.newKey(query, SUBJECTS, Set.of("ns"), false), RESULT);
+
+        assertThat(sameQuery).isNotSameAs(query);
+        assertThat(get(underTest.newKey(sameQuery, SUBJECTS, Set.of("ns"), false))).contains(RESULT);
+        assertThat(get(underTest.newKey(parse("eq(attributes/manufacturer,\"other\")"), SUBJECTS, Set.of("ns"),
+                false))).isEmpty();
+    }
+
+    @Test
+    public void invalidatesResultsWhichMayContainInvalidatedNamespaces() {
+        final var otherNamespace = underTest.newKey(QUERY, SUBJECTS, Set.of("other"), false);
+        final var sameNamespace = underTest.newKey(QUERY, SUBJECTS, Set.of("ns", "other"), false);
+        final var allNamespaces = underTest.newKey(QUERY, SUBJECTS, null, false);
+        underTest.put(otherNamespace, RESULT);
+        underTest.put(sameNamespace, RESULT);
+        underTest.put(allNamespaces, RESULT);
+
+        underTest.invalidate(new SearchResultInvalidation(Set.of("ns")));
+
+        assertThat(get(otherNamespace)).contains(RESULT);
+        assertThat(get(sameNamespace)).isEmpty();
+        assertThat(get(allNamespaces)).isEmpty();
+    }
+
+    @Test
+    public void doesNotCacheResultsOfQueriesRunningDuringInvalidation() {
+        final var key = underTest.newKey(QUERY, SUBJECTS, Set.of("other"), false);
+        underTest.invalidate(new SearchResultInvalidation(Set.of("ns")));
+        underTest.put(key, RESULT);
+
+        assertThat(get(key)).isEmpty();
+        assertThat(get(underTest.newKey(QUERY, SUBJECTS, Set.of("other"), false))).isEmpty();
+    }
+
+    @Test
+    public void disabledCacheCachesNothing() {
+        final var disabled = SearchResultCache.of(DefaultSearchResultCacheConfig.of(ConfigFactory.empty()),
+                Runnable::run);
+        final var key = disabled.newKey(QUERY, SUBJECTS, null, false);
+        disabled.put(key, RESULT);
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.get(key).toCompletableFuture().join()).isEmpty();
+    }
+
+    private static Query parse(final String filter) {
+        final QueryCriteriaValidator validator = mock(QueryCriteriaValidator.class);
+        when(validator.validateQuery(any(), any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(1)));
+        final QueryParser queryParser = QueryParser.of(ThingsFieldExpressionFactory.of(Map.of()),
+                new MongoQueryBuilderFactory(DefaultLimitsConfig.of(ConfigFactory.empty())), validator);
+        return queryParser.parse(QueryThings.of(filter, null, null, null, DittoHeaders.empty()))
+                .toCompletableFuture()
+                .join();
+    }
+
+    private Optional<ResultList<TimestampedThingId>> get(final SearchResultCache.Key key) {
+        return underTest.get(key).toCompletableFuture().join();
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.policies.model.PoliciesResourceType.THING;
+
+import java.util.List;
+import java.util.Set;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.api.Permission;
+import org.eclipse.ditto.policies.api.PolicyTag;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.junit.Test;
+
+/**
+ * Tests the size and shape of incremental updates computed by {@link BsonDiff}. The results of applying them are
+ * verified by {@link BsonDiffVisitorIT}.
+ */
+public final class BsonDiffTest {
+
+    private static final int WIRE_VERSION_4_4 = 9;
+    private static final int WIRE_VERSION_5_0 = 13;
+
+    private static final Metadata METADATA = Metadata.of(ThingId.of("solar.system:pluto"), 23L,
+            PolicyTag.of(PolicyId.of("solar.system:pluto"), 45L), Set.of(), null, null);
+
+    private static final Policy POLICY = PoliciesModelFactory.newPolicyBuilder(PolicyId.of("policy", "id"))
+            .forLabel("grant-root")
+            .setSubject("grant:" + "root".repeat(20), SubjectType.GENERATED)
+            .setGrantedPermissions(THING, "/", Permission.READ)
+            .build();
+
+    @Test
+    public void featurePropertyChangeOnlySetsTheChangedProperty() {
+        final BsonDocument prevThingDoc = toBsonDocument(getThing("lorem ipsum dolor sit amet", true), POLICY);
+        final BsonDocument nextThingDoc = toBsonDocument(getThing("consectetur adipiscing elit", true), POLICY);
+
+        final BsonDiff diff = BsonDiff.minusThingDocs(nextThingDoc, prevThingDoc, WIRE_VERSION_4_4);
+        final List<BsonDocument> updateDoc = diff.consumeAndExport();
+
+        assertThat(updateDoc.toString())
+                .contains("$mergeObjects", "consectetur adipiscing elit")
+                .doesNotContain("lorem ipsum", "ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+        assertThat(updateDoc.toString().length()).isLessThan(nextThingDoc.toString().length() / 4);
+    }
+
+    @Test
+    public void featurePropertyDeletionUnsetsTheFieldIfSupported() {
+        final BsonDocument prevThingDoc = toBsonDocument(getThing("lorem ipsum dolor sit amet", true), POLICY);
+        final BsonDocument nextThingDoc = toBsonDocument(getThing("lorem ipsum dolor sit amet", false), POLICY);
+
+        final var updateDoc = BsonDiff.minusThingDocs(nextThingDoc, prevThingDoc, WIRE_VERSION_5_0)
+                .consumeAndExport()
+                .toString();
+        final var updateDocWithoutUnsetField = BsonDiff.minusThingDocs(nextThingDoc, prevThingDoc, WIRE_VERSION_4_4)
+                .consumeAndExport()
+                .toString();
+
+        assertThat(updateDoc).contains("$unsetField").doesNotContain("ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+        assertThat(updateDoc.length()).isLessThan(nextThingDoc.toString().length() / 2);
+        assertThat(updateDocWithoutUnsetField).doesNotContain("$unsetField");
+    }
+
+    @Test
+    public void policyChangeOnlySetsTheChangedGrants() {
+        final JsonObject thing = getThing("lorem ipsum dolor sit amet", true);
+        final Policy nextPolicy = POLICY.toBuilder()
+                .forLabel("feature")
+                .setSubject("grant:" + "feature".repeat(20), SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/features/sensor/properties/status", Permission.READ)
+                .build();
+        final BsonDocument prevThingDoc = toBsonDocument(thing, POLICY);
+        final BsonDocument nextThingDoc = toBsonDocument(thing, nextPolicy);
+
+        final BsonDiff diff = BsonDiff.minusThingDocs(nextThingDoc, prevThingDoc, WIRE_VERSION_4_4);
+        final var updateDoc = diff.consumeAndExport().toString();
+
+        assertThat(diff.getDiffSizePercentage()).isLessThan(50L);
+        assertThat(updateDoc).contains("feature".repeat(20)).doesNotContain("ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+        assertThat(updateDoc.length()).isLessThan(nextThingDoc.toString().length() / 2);
+    }
+
+    @Test
+    public void dollarStringsInNewArrayElementsAreLiterals() {
+        final BsonDocument prevThingDoc = toBsonDocument(getThing("lorem ipsum dolor sit amet", false), POLICY);
+        final BsonDocument nextThingDoc = toBsonDocument(getThing("$lorem.", false), POLICY);
+
+        final var updateDoc = BsonDiff.minusThingDocs(nextThingDoc, prevThingDoc, WIRE_VERSION_4_4)
+                .consumeAndExport()
+                .toString();
+
+        assertThat(updateDoc).contains("{\"$literal\": \"$lorem.\"}");
+    }
+
+    private static BsonDocument toBsonDocument(final JsonObject thing, final Policy policy) {
+        return EnforcedThingMapper.toBsonDocument(thing, policy, METADATA);
+    }
+
+    private static JsonObject getThing(final String description, final boolean withLocation) {
+        final String location = withLocation ? """
+                "location": { "latitude": 52.52, "longitude": 13.40, "name": "Berlin" },""" : "";
+        return JsonFactory.newObject("""
+                {
+                  "thingId":"solar.system:pluto",
+                  "_namespace":"solar.system",
+                  "features": {
+                    "sensor": {
+                      "definition": [ "org.eclipse.ditto:sensor:1.0.0" ],
+                      "properties": {%s
+                        "description": "%s",
+                        "status": { "battery": 87, "connected": true, "errors": [ "none" ] },
+                        "reading": "ABCDEFGHIJKLMNOPQRSTUVWXYZABCDEFGHIJKLMNOPQRSTUVWXYZABCDEFGHIJKLMNOPQRSTUVWXYZ"
+                      }
+                    },
+                    "lamp": {
+                      "properties": {
+                        "on": true,
+                        "color": "ABCDEFGHIJKLMNOPQRSTUVWXYZABCDEFGHIJKLMNOPQRSTUVWXYZABCDEFGHIJKLMNOPQRSTUVWXYZ"
+                      }
+                    }
+                  }
+                }""".formatted(location, description));
+    }
+
+}
@@ -313,6 +313,62 @@ abstract class BsonDiffVisitorIT {
                 .isEqualTo(nextThingDoc);
     }
 
+    @Test
+    public void testFeaturePropertyChange() {
+        final JsonObject prevThing = getThingWithFeatures("lorem ipsum dolor sit amet", true);
+        final JsonObject nextThing = getThingWithFeatures("consectetur adipiscing elit", true);
+
+        assertFeaturesUpdate(prevThing, nextThing, policy, 4);
+    }
+
+    @Test
+    public void testFeaturePropertyDeleted() {
+        final JsonObject prevThing = getThingWithFeatures("lorem ipsum dolor sit amet", true);
+        final JsonObject nextThing = getThingWithFeatures("lorem ipsum dolor sit amet", false);
+
+        assertFeaturesUpdate(prevThing, nextThing, policy, 2);
+    }
+
+    @Test
+    public void testFeaturesEnforcerChange() {
+        final JsonObject thing = getThingWithFeatures("lorem ipsum dolor sit amet", true);
+        final Policy featurePolicy = policy.toBuilder()
+                .forLabel("feature")
+                .setSubject("grant:" + "feature".repeat(20), SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/features/sensor/properties/status", Permission.READ)
+                .build();
+
+        assertFeaturesUpdate(thing, thing, featurePolicy, 2);
+    }
+
+    private void assertFeaturesUpdate(final JsonObject prevThing, final JsonObject nextThing,
+            final Policy nextPolicy, final int sizeFactor) {
+
+        final Metadata metadata =
+                Metadata.of(ThingId.of("solar.system:pluto"), 23L,
+                        PolicyTag.of(PolicyId.of("solar.system:pluto"), 45L), Set.of(), null, null);
+
+        final BsonDocument prevThingDoc = EnforcedThingMapper.toBsonDocument(prevThing, policy, metadata);
+        final BsonDocument nextThingDoc = EnforcedThingMapper.toBsonDocument(nextThing, nextPolicy, metadata);
+
+        final BsonDiff diff = BsonDiff.minusThingDocs(nextThingDoc, prevThingDoc, client.getMaxWireVersion());
+
+        final List<BsonDocument> updateDoc = diff.consumeAndExport();
+
+        assertThat(updateDoc.toString().length())
+                .describedAs("Incremental update should be less than 1/" + sizeFactor + " as large as replacement")
+                .isLessThan(nextThingDoc.toString().length() / sizeFactor);
+
+        run(collection.insertOne(toDocument(prevThingDoc)));
+        run(collection.updateOne(new Document(), updateDoc));
+
+        final BsonDocument incrementalUpdateResult = toBsonDocument(run(collection.find()).get(0));
+
+        assertThat(incrementalUpdateResult)
+                .describedAs("Incremental update result")
+                .isEqualTo(nextThingDoc);
+    }
+
     private <T> List<T> run(final Publisher<T> publisher) {
         return Source.fromPublisher(publisher).runWith(Sink.seq(), system).toCompletableFuture().join();
     }
@@ -445,4 +501,31 @@ abstract class BsonDiffVisitorIT {
                 }""");
     }
 
+
+    private static JsonObject getThingWithFeatures(final String description, final boolean withLocation) {
+        final String location = withLocation ? """
+                "location": { "latitude": 52.52, "longitude": 13.40, "name": "$Berlin." },""" : "";
+        return JsonFactory.newObject("""
+                {
+                  "thingId":"solar.system:pluto",
+                  "_namespace":"solar.system",
+                  "features": {
+                    "sensor": {
+                      "definition": [ "org.eclipse.ditto:sensor:1.0.0" ],
+                      "properties": {%s
+                        "description": "%s",
+                        "status": { "battery": 87, "connected": true, "errors": [ "none" ] },
+                        "reading": "ABCDEFGHIJKLMNOPQRSTUVWXYZABCDEFGHIJKLMNOPQRSTUVWXYZABCDEFGHIJKLMNOPQRSTUVWXYZ"
+                      }
+                    },
+                    "lamp": {
+                      "properties": {
+                        "on": true,
+                        "color": "ABCDEFGHIJKLMNOPQRSTUVWXYZABCDEFGHIJKLMNOPQRSTUVWXYZABCDEFGHIJKLMNOPQRSTUVWXYZ"
+                      }
+                    }
+                  }
+                }""".formatted(location, description));
+    }
+
 }
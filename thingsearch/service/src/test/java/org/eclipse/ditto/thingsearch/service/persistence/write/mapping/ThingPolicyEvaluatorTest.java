@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.junit.Test;
+
+/**
+ * Tests {@link ThingPolicyEvaluator}.
+ */
+public final class ThingPolicyEvaluatorTest {
+
+    private static final Policy POLICY = PoliciesModelFactory.newPolicy("""
+            {
+              "policyId": "ditto:policy",
+              "entries": {
+                "OWNER": {
+                  "subjects": { "nginx:admin": { "type": "admin" } },
+                  "resources": { "thing:/": { "grant": ["READ", "WRITE"], "revoke": [] } }
+                },
+                "LOCATION": {
+                  "subjects": { "nginx:location": { "type": "user" } },
+                  "resources": { "thing:/features/featureX/properties/location": { "grant": ["READ"], "revoke": [] } }
+                },
+                "REVOKED": {
+                  "subjects": { "nginx:revoked": { "type": "user" } },
+                  "resources": {
+                    "thing:/": { "grant": ["READ"], "revoke": [] },
+                    "thing:/attributes/secret": { "grant": [], "revoke": ["READ"] }
+                  }
+                }
+              }
+            }
+            """);
+
+    private static final JsonObject THING_1 = JsonObject.of("""
+            {
+              "thingId": "ditto:thing1",
+              "attributes": { "secret": 1 },
+              "features": { "featureX": { "properties": { "location": "Berlin" } } }
+            }
+            """);
+
+    private static final JsonObject THING_2 = JsonObject.of("""
+            {
+              "thingId": "ditto:thing2",
+              "attributes": { "secret": 2, "other": true },
+              "features": { "featureX": { "properties": { "location": "Paris", "connected": true } } }
+            }
+            """);
+
+    private static final JsonObject THING_WITHOUT_SECRET = JsonObject.of("""
+            {
+              "thingId": "ditto:thing3",
+              "features": { "featureX": { "properties": { "location": "Rome" } } }
+            }
+            """);
+
+    @Test
+    public void thingsWithTheSameExistingPathsShareTheEvaluation() {
+        final ThingPolicyEvaluator underTest = ThingPolicyEvaluator.of(POLICY);
+
+        assertThat(underTest.evaluate(THING_2)).isSameAs(underTest.evaluate(THING_1));
+    }
+
+    @Test
+    public void thingsWithDifferentExistingPathsAreEvaluatedSeparately() {
+        final ThingPolicyEvaluator underTest = ThingPolicyEvaluator.of(POLICY);
+
+        final EvaluatedPolicy withSecret = underTest.evaluate(THING_1);
+        final EvaluatedPolicy withoutSecret = underTest.evaluate(THING_WITHOUT_SECRET);
+
+        assertThat(withoutSecret).isNotSameAs(withSecret);
+        assertThat(withoutSecret.forThing()).isNotEqualTo(withSecret.forThing());
+    }
+
+    @Test
+    public void evaluationEqualsEvaluationOfASingleThing() {
+        final ThingPolicyEvaluator underTest = ThingPolicyEvaluator.of(POLICY);
+        underTest.evaluate(THING_1);
+
+        for (final JsonObject thing : new JsonObject[]{THING_1, THING_2, THING_WITHOUT_SECRET}) {
+            final EvaluatedPolicy expected = ThingPolicyEvaluator.of(POLICY).evaluate(thing);
+            final EvaluatedPolicy actual = underTest.evaluate(thing);
+
+            assertThat(actual.forThing()).isEqualTo(expected.forThing());
+            assertThat(actual.forFeature("featureX")).isEqualTo(expected.forFeature("featureX"));
+            assertThat(actual.getGlobalRead()).isEqualTo(expected.getGlobalRead());
+        }
+    }
+
+}
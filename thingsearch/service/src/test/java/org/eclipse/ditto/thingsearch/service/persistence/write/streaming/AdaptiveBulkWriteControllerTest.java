@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link AdaptiveBulkWriteController}.
+ */
+public final class AdaptiveBulkWriteControllerTest {
+
+    private static final Duration TARGET_LATENCY = Duration.ofMillis(100L);
+    private static final Duration FAST = Duration.ofMillis(10L);
+    private static final Duration SLOW = Duration.ofSeconds(1L);
+
+    @Test
+    public void permitsAreLimitedByParallelism() {
+        final var underTest = AdaptiveBulkWriteController.of(100, 2, TARGET_LATENCY);
+
+        final CompletionStage<Void> first = underTest.acquire();
+        final CompletionStage<Void> second = underTest.acquire();
+        final CompletionStage<Void> third = underTest.acquire();
+
+        assertThat(first.toCompletableFuture()).isDone();
+        assertThat(second.toCompletableFuture()).isDone();
+        assertThat(third.toCompletableFuture()).isNotDone();
+
+        underTest.release(1, FAST, false);
+        assertThat(third.toCompletableFuture()).isDone();
+    }
+
+    @Test
+    public void slowOrFailedBulkWritesHalveBulkSizeAndParallelism() {
+        final var underTest = AdaptiveBulkWriteController.of(100, 8, TARGET_LATENCY);
+
+        underTest.acquire();
+        underTest.release(100, SLOW, false);
+        assertThat(underTest.getBulkSize()).isEqualTo(50);
+        assertThat(underTest.getParallelism()).isEqualTo(4);
+
+        underTest.acquire();
+        underTest.release(50, FAST, true);
+        assertThat(underTest.getBulkSize()).isEqualTo(25);
+        assertThat(underTest.getParallelism()).isEqualTo(2);
+    }
+
+    @Test
+    public void fastBulkWritesUnderLoadGrowBulkSizeAndParallelismUpToTheMaximum() {
+        final var underTest = AdaptiveBulkWriteController.of(20, 2, TARGET_LATENCY);
+        underTest.acquire();
+        underTest.release(20, SLOW, false);
+        assertThat(underTest.getBulkSize()).isEqualTo(10);
+        assertThat(underTest.getParallelism()).isEqualTo(1);
+
+        // a bulk that is not full does not grow the bulk size
+        underTest.acquire();
+        underTest.release(5, FAST, false);
+        assertThat(underTest.getBulkSize()).isEqualTo(10);
+        assertThat(underTest.getParallelism()).isEqualTo(1);
+
+        // full bulks with other bulk writes waiting grow both
+        for (int i = 0; i < 20; i++) {
+            underTest.acquire();
+            final CompletionStage<Void> waiting = underTest.acquire();
+            underTest.release(underTest.getBulkSize(), FAST, false);
+            assertThat(waiting.toCompletableFuture()).isDone();
+            underTest.release(1, FAST, false);
+        }
+        assertThat(underTest.getBulkSize()).isEqualTo(20);
+        assertThat(underTest.getParallelism()).isEqualTo(2);
+    }
+
+    @Test
+    public void unusedPermitsAreHandedOutWithoutAdapting() {
+        final var underTest = AdaptiveBulkWriteController.of(100, 1, TARGET_LATENCY);
+
+        underTest.acquire();
+        final CompletionStage<Void> waiting = underTest.acquire();
+        assertThat(waiting.toCompletableFuture()).isNotDone();
+
+        underTest.releaseUnused();
+        assertThat(waiting.toCompletableFuture()).isDone();
+        assertThat(underTest.getBulkSize()).isEqualTo(100);
+        assertThat(underTest.getParallelism()).isEqualTo(1);
+    }
+
+}
@@ -172,6 +172,39 @@ public final class BulkWriteResultAckFlowTest {
                 .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @Test
+    public void resultsOfSingleWriteModels() {
+        final List<TestProbe> probes =
+                IntStream.range(0, 5).mapToObj(i -> TestProbe.apply(actorSystem)).toList();
+        final List<MongoWriteModel> writeModels = generateWriteModels(probes);
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 1, 2, 1, List.of(), List.of());
+        final List<BulkWriteError> updateFailure =
+                List.of(new BulkWriteError(50, "E50 operation timed out", new BsonDocument(), 3));
+
+        // WHEN: the result of a bulk write is split into the results of its write models
+        final WriteResultAndErrors resultAndErrors = WriteResultAndErrors.failure(writeModels,
+                new MongoBulkWriteException(result, updateFailure, null, new ServerAddress(), Set.of()), "correlation");
+        final var deleteResult = BulkWriteResultAckFlow.checkBulkWriteResult(
+                resultAndErrors.forWriteModelAt(0));
+        final var updateResult = BulkWriteResultAckFlow.checkBulkWriteResult(
+                resultAndErrors.forWriteModelAt(1));
+        final var failedUpdateResult = resultAndErrors.forWriteModelAt(3);
+        BulkWriteResultAckFlow.checkBulkWriteResult(failedUpdateResult);
+
+        // THEN: each write model is acknowledged according to its own outcome
+        assertThat(deleteResult.first()).isEqualTo(BulkWriteResultAckFlow.Status.OK);
+        assertThat(updateResult.first()).isEqualTo(BulkWriteResultAckFlow.Status.OK);
+        assertThat(failedUpdateResult.getWriteModels()).containsExactly(writeModels.get(3));
+        assertThat(failedUpdateResult.getBulkWriteErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getIndex()).isZero());
+        assertThat(probes.get(0).expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(probes.get(1).expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(probes.get(3).expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     private List<String> getMessages(final List<Pair<BulkWriteResultAckFlow.Status, List<String>>> report) {
         final var messages = report.stream().flatMap(pair -> pair.second().stream()).toList();
         assertThat(messages).isNotEmpty();
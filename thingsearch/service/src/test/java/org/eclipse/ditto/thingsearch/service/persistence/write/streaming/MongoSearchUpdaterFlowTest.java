@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.WriteResultAndErrors;
+import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
+import org.junit.Test;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Tests {@link MongoSearchUpdaterFlow}.
+ */
+public final class MongoSearchUpdaterFlowTest {
+
+    @Test
+    public void onlyUnmatchedPatchUpdateOfBulkIsReportedAsIncorrectPatch() {
+        final List<MongoWriteModel> writeModels = IntStream.range(0, 4)
+                .mapToObj(i -> patchUpdate(ThingId.of("thing", String.valueOf(i)), 10L + i))
+                .toList();
+        // the bulk write matched 3 of 4 patch updates; the document of thing:2 has a different revision
+        final var resultAndErrors = WriteResultAndErrors.success(writeModels,
+                BulkWriteResult.acknowledged(0, 3, 0, 3, List.of(), List.of()), "correlation");
+        final List<BsonDocument> documents = List.of(
+                document("thing:0", 10L),
+                document("thing:1", 11L),
+                document("thing:2", 5L),
+                document("thing:3", 13L));
+
+        final Set<Integer> matched = MongoSearchUpdaterFlow.getMatchedPatchUpdates(writeModels, documents);
+
+        assertThat(resultAndErrors.areUpdatesMissing()).isTrue();
+        assertThat(matched).containsExactlyInAnyOrder(0, 1, 3);
+        final List<BulkWriteResultAckFlow.Status> statuses = IntStream.range(0, writeModels.size())
+                .mapToObj(i -> resultAndErrors.forWriteModelAt(i, matched.contains(i)))
+                .map(result -> BulkWriteResultAckFlow.checkBulkWriteResult(result).first())
+                .toList();
+        assertThat(statuses).containsExactly(
+                BulkWriteResultAckFlow.Status.OK,
+                BulkWriteResultAckFlow.Status.OK,
+                BulkWriteResultAckFlow.Status.INCORRECT_PATCH,
+                BulkWriteResultAckFlow.Status.OK);
+    }
+
+    @Test
+    public void patchUpdatesWithoutDocumentAreNotMatched() {
+        final List<MongoWriteModel> writeModels = List.of(patchUpdate(ThingId.of("thing", "0"), 10L),
+                patchUpdate(ThingId.of("thing", "1"), 11L));
+
+        final Set<Integer> matched =
+                MongoSearchUpdaterFlow.getMatchedPatchUpdates(writeModels, List.of(document("thing:1", 11L)));
+
+        assertThat(matched).containsExactly(1);
+    }
+
+    private static MongoWriteModel patchUpdate(final ThingId thingId, final long revision) {
+        final var writeModel = ThingWriteModel.of(Metadata.of(thingId, revision, null, Set.of(), null),
+                new BsonDocument());
+        return MongoWriteModel.of(writeModel, writeModel.toMongo(), true);
+    }
+
+    private static BsonDocument document(final String thingId, final long revision) {
+        return new BsonDocument()
+                .append(PersistenceConstants.FIELD_ID, new BsonString(thingId))
+                .append(PersistenceConstants.FIELD_REVISION, new BsonInt64(revision));
+    }
+
+}
@@ -35,6 +35,7 @@ import com.mongodb.reactivestreams.client.MongoDatabase;
 import com.typesafe.config.ConfigFactory;
 
 import akka.NotUsed;
+import akka.actor.ActorSystem;
 import akka.stream.javadsl.Source;
 
 /**
@@ -52,13 +53,16 @@ public final class TestSearchUpdaterStream {
      * Create a test stream.
      *
      * @param database the MongoDB database.
+     * @param actorSystem the actor system to run the bulk writes in.
      * @return the test stream.
      */
     public static TestSearchUpdaterStream of(final MongoDatabase database,
-            final SearchUpdateMapper searchUpdateMapper) {
+            final SearchUpdateMapper searchUpdateMapper,
+            final ActorSystem actorSystem) {
 
         final var mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database,
-                DefaultPersistenceStreamConfig.of(ConfigFactory.empty())
+                DefaultPersistenceStreamConfig.of(ConfigFactory.empty()),
+                actorSystem
         );
         return new TestSearchUpdaterStream(mongoSearchUpdaterFlow);
     }
@@ -146,6 +146,94 @@ public final class ThingsSearchCursorTest {
         }
     }
 
+    @Test
+    public void keysetPaginationIsEncoded() {
+        final ThingsSearchCursor input = new ThingsSearchCursor(null, null,
+                SortOption.of(Collections.singletonList(ThingsSearchCursor.DEFAULT_SORT_OPTION_ENTRY)), null,
+                JsonArray.of(JsonValue.of("x:1")), true);
+        final ThingsSearchCursor decoded =
+                ThingsSearchCursor.decode(input.encode(), actorSystem)
+                        .runWith(Sink.head(), actorSystem)
+                        .toCompletableFuture().join();
+
+        assertThat(decoded).isEqualTo(input)
+                .isNotEqualTo(ThingsSearchCursor.fromJson(JsonObject.of("{\"S\":\"sort(+thingId)\",\"V\":[\"x:1\"]}")));
+        assertThat(ThingsSearchCursor.isKeysetPagination(Optional.of(decoded), QueryThings.of(DittoHeaders.empty())))
+                .isTrue();
+    }
+
+    @Test
+    public void firstKeysetPageIsSortedByCursorSortOption() {
+        final QueryThings queryThings = QueryThings.of(null, List.of("sort(+namespace)", "size(5)", "keyset()"),
+                null, null, DittoHeaders.empty());
+
+        final QueryThings adjusted = ThingsSearchCursor.adjust(Optional.empty(), queryThings);
+
+        assertThat(ThingsSearchCursor.isKeysetPagination(Optional.empty(), adjusted)).isTrue();
+        assertThat(adjusted.getOptions().orElseThrow())
+                .containsExactly("sort(+/namespace,+/thingId)", "size(5)", "keyset()");
+    }
+
+    @Test
+    public void keysetPaginationForbidsLimitOption() {
+        final QueryThings queryThings =
+                QueryThings.of(null, List.of("limit(0,5)", "keyset()"), null, null, DittoHeaders.empty());
+
+        assertThat(extractCursorError(queryThings)).isInstanceOf(InvalidOptionException.class);
+    }
+
+    @Test
+    public void keysetOptionMustNotDifferFromCursor() {
+        final ThingsSearchCursor cursor = new ThingsSearchCursor(null, null,
+                SortOption.of(Collections.singletonList(ThingsSearchCursor.DEFAULT_SORT_OPTION_ENTRY)), null,
+                JsonArray.of(JsonValue.of("x:1")));
+        final QueryThings queryThings = QueryThings.of(null, List.of("cursor(" + cursor.encode() + ")", "keyset()"),
+                null, null, DittoHeaders.empty());
+
+        assertThat(extractCursorError(queryThings)).isInstanceOf(InvalidOptionException.class);
+    }
+
+    @Test
+    public void keysetCursorSeeksWithoutNullHandling() {
+        final var config = ConfigFactory.load("actors-test");
+        final ActorSystem actorSystem = ActorSystem.create("keysetCursorSeeksWithoutNullHandling", config);
+        try {
+            final var json = JsonObject.of("{\n" +
+                    "  \"S\": \"sort(-namespace,-thingId)\",\n" +
+                    "  \"V\": [\"x\",\"x:1\"],\n" +
+                    "  \"K\": true\n" +
+                    "}");
+
+            final var underTest = ThingsSearchCursor.fromJson(json);
+
+            final var command =
+                    ThingsSearchCursor.adjust(Optional.of(underTest), QueryThings.of(DittoHeaders.empty()));
+            final var searchConfig = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(config));
+            final var parser = SearchRootActor.getQueryParser(searchConfig, actorSystem);
+            final Query query = parser.parse(command).toCompletableFuture().join();
+            final Query result = ThingsSearchCursor.adjust(Optional.of(underTest), query, parser.getCriteriaFactory());
+            final var bson = CreateBsonVisitor.sudoApply(result.getCriteria())
+                    .toBsonDocument(Document.class, MongoClient.DEFAULT_CODEC_REGISTRY())
+                    .toJson()
+                    .replaceAll("\\s", "");
+            assertThat(bson)
+                    .contains("{\"$or\":[{\"_namespace\":{\"$lt\":\"x\"}},{\"$and\":[{\"_namespace\":\"x\"}," +
+                            "{\"_id\":{\"$lt\":\"x:1\"}}]}]}")
+                    .doesNotContain("$exists");
+        } finally {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    private Object extractCursorError(final QueryThings queryThings) {
+        return ThingsSearchCursor.extractCursor(queryThings, actorSystem)
+                .<Object>map(x -> x)
+                .recover(new PFBuilder<Throwable, Object>().matchAny(x -> x).build())
+                .runWith(Sink.head(), actorSystem)
+                .toCompletableFuture()
+                .join();
+    }
+
     private static ThingsSearchCursor randomCursor() {
         return new ThingsSearchCursor(
                 new HashSet<>(Arrays.asList(UUID.randomUUID().toString(), UUID.randomUUID().toString())),
@@ -24,7 +24,9 @@ import org.eclipse.ditto.internal.utils.health.config.DefaultHealthCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultMongoDbConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ReadConcern;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ReadPreference;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultSearchCountsConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DefaultSearchPersistenceConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultSearchResultCacheConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DefaultUpdaterConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
 import org.junit.Test;
@@ -43,7 +45,8 @@ public final class DittoSearchConfigTest {
         assertInstancesOf(DittoSearchConfig.class,
                 areImmutable(),
                 provided(DefaultHealthCheckConfig.class, DittoServiceConfig.class, DefaultUpdaterConfig.class,
-                        DefaultMongoDbConfig.class, DefaultSearchPersistenceConfig.class)
+                        DefaultMongoDbConfig.class, DefaultSearchPersistenceConfig.class,
+                        DefaultSearchCountsConfig.class, DefaultSearchResultCacheConfig.class)
                         .areAlsoImmutable(),
                 assumingFields("simpleFieldMappings").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
     }
@@ -63,6 +63,7 @@ import org.eclipse.ditto.thingsearch.service.common.config.BackgroundSyncConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DefaultBackgroundSyncConfig;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
+import org.eclipse.ditto.thingsearch.service.persistence.query.Aggregation;
 import org.eclipse.ditto.thingsearch.service.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
 import org.junit.After;
@@ -484,12 +485,30 @@ public final class BackgroundSyncActorTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public boolean supportsKeysetPagination(final Query query) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Source<ResultList<TimestampedThingId>, NotUsed> findAllByKeyset(final Query query,
+                final List<String> authorizationSubjectIds,
+                @Nullable final Set<String> namespaces) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public Source<ThingId, NotUsed> findAllUnlimited(final Query query, final List<String> authorizationSubjectIds,
                 @Nullable final Set<String> namespaces) {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public Source<JsonArray, NotUsed> aggregate(final Aggregation aggregation,
+                final List<String> authorizationSubjectIds, final int maxGroups) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public Source<Metadata, NotUsed> sudoStreamMetadata(final EntityId lowerBound) {
             checkNotNull(this.metadata,